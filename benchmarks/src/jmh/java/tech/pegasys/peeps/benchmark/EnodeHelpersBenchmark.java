@@ -0,0 +1,44 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.benchmark;
+
+import tech.pegasys.peeps.node.model.EnodeHelpers;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/** Public keys taken from the enode addresses of connected peers, as when awaiting connectivity. */
+@State(Scope.Benchmark)
+public class EnodeHelpersBenchmark {
+
+  @Param({"10", "100", "500"})
+  private int nodes;
+
+  private Set<String> enodeAddresses;
+
+  @Setup
+  public void setUp() {
+    enodeAddresses = new HashSet<>(NodeKeys.enodeAddresses(nodes));
+  }
+
+  @Benchmark
+  public Set<String> extractPubKeysFromEnodes() {
+    return EnodeHelpers.extractPubKeysFromEnodes(enodeAddresses);
+  }
+}
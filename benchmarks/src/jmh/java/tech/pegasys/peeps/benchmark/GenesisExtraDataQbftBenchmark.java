@@ -0,0 +1,44 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.benchmark;
+
+import tech.pegasys.peeps.node.genesis.qbft.GenesisExtraDataQbft;
+
+import java.util.List;
+
+import org.apache.tuweni.bytes.Bytes;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/** Genesis extra data of QBFT networks with large validator sets. */
+@State(Scope.Benchmark)
+public class GenesisExtraDataQbftBenchmark {
+
+  @Param({"4", "100", "500"})
+  private int validators;
+
+  private List<String> publicKeys;
+
+  @Setup
+  public void setUp() {
+    publicKeys = NodeKeys.publicKeys(validators);
+  }
+
+  @Benchmark
+  public Bytes encode() {
+    return GenesisExtraDataQbft.encode(publicKeys);
+  }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.benchmark;
+
+import tech.pegasys.peeps.json.Json;
+import tech.pegasys.peeps.json.rpc.JsonRpcRequest;
+import tech.pegasys.peeps.json.rpc.JsonRpcRequestId;
+import tech.pegasys.peeps.node.rpc.eth.GetTransactionReceiptResponse;
+
+import io.netty.buffer.ByteBuf;
+import io.vertx.core.buffer.Buffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/** JSON encoding and decoding done for every RPC request and response. */
+@State(Scope.Benchmark)
+public class JsonBenchmark {
+
+  private static final String TRANSACTION_HASH =
+      "0x5d3b8b8f6bb3ee7ec5e4d7c7f1a8a9b6f8a2a0d0d3c0d0e4b2f9a6e9a3b0c1d2";
+
+  private static final String RECEIPT_RESPONSE =
+      "{\"jsonrpc\":\"2.0\",\"id\":1,\"result\":{"
+          + "\"blockHash\":\"0x9b55b3c4d7d0d1a2c8e0b1a2e3f4a5b6c7d8e9f0a1b2c3d4e5f6a7b8c9d0e1f2\","
+          + "\"blockNumber\":\"0x1b4\","
+          + "\"contractAddress\":null,"
+          + "\"cumulativeGasUsed\":\"0x5208\","
+          + "\"from\":\"0xfe3b557e8fb62b89f4916b721be55ceb828dbd73\","
+          + "\"gasUsed\":\"0x5208\","
+          + "\"logs\":[],"
+          + "\"logsBloom\":\"0x"
+          + "0".repeat(512)
+          + "\","
+          + "\"status\":\"0x1\","
+          + "\"to\":\"0x627306090abab3a6e1400e9345bc60c78a8bef57\","
+          + "\"transactionHash\":\""
+          + TRANSACTION_HASH
+          + "\","
+          + "\"transactionIndex\":\"0x0\"}}";
+
+  private JsonRpcRequest request;
+  private Buffer encodedRequest;
+  private Buffer receiptResponse;
+
+  @Setup
+  public void setUp() {
+    request =
+        new JsonRpcRequest(
+            "2.0",
+            "eth_getTransactionReceipt",
+            new Object[] {TRANSACTION_HASH},
+            new JsonRpcRequestId(1));
+    encodedRequest = Buffer.buffer(Json.encode(request));
+    receiptResponse = Buffer.buffer(RECEIPT_RESPONSE);
+  }
+
+  @Benchmark
+  public String encodeRequest() {
+    return Json.encode(request);
+  }
+
+  @Benchmark
+  public int encodeRequestPooled() {
+    final ByteBuf encoded = Json.encodePooled(request);
+    try {
+      return encoded.readableBytes();
+    } finally {
+      encoded.release();
+    }
+  }
+
+  @Benchmark
+  public JsonRpcRequest decodeRequest() {
+    return Json.decode(encodedRequest, JsonRpcRequest.class);
+  }
+
+  @Benchmark
+  public GetTransactionReceiptResponse decodeTransactionReceipt() {
+    return Json.decode(receiptResponse, GetTransactionReceiptResponse.class);
+  }
+}
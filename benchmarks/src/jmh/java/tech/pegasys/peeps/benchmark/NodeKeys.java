@@ -0,0 +1,47 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.benchmark;
+
+import java.math.BigInteger;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.web3j.crypto.ECKeyPair;
+import org.web3j.utils.Numeric;
+
+/** Node keys derived from their index, so every run and every commit benchmarks the same input. */
+final class NodeKeys {
+
+  private static final int PUBLIC_KEY_HEX_LENGTH = 128;
+
+  private NodeKeys() {}
+
+  static List<String> publicKeys(final int count) {
+    return IntStream.rangeClosed(1, count)
+        .mapToObj(index -> ECKeyPair.create(BigInteger.valueOf(index)).getPublicKey())
+        .map(key -> Numeric.toHexStringWithPrefixZeroPadded(key, PUBLIC_KEY_HEX_LENGTH))
+        .collect(Collectors.toList());
+  }
+
+  static List<String> enodeAddresses(final int count) {
+    final List<String> publicKeys = publicKeys(count);
+    return IntStream.range(0, count)
+        .mapToObj(
+            index ->
+                String.format(
+                    "enode://%s@172.16.%s.%s:30303",
+                    Numeric.cleanHexPrefix(publicKeys.get(index)), index / 256, index % 256))
+        .collect(Collectors.toList());
+  }
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.benchmark;
+
+import tech.pegasys.peeps.node.StaticNodesFile;
+
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Static nodes file generation, done for every node of a network as it starts; in memory, leaving
+ * out the file write and logging.
+ */
+@State(Scope.Benchmark)
+public class StaticNodesFileBenchmark {
+
+  @Param({"10", "100", "500"})
+  private int nodes;
+
+  private List<String> enodeAddresses;
+
+  @Setup
+  public void setUp() {
+    enodeAddresses = NodeKeys.enodeAddresses(nodes);
+  }
+
+  @Benchmark
+  public byte[] contents() {
+    return StaticNodesFile.contents(enodeAddresses.get(0), enodeAddresses);
+  }
+}
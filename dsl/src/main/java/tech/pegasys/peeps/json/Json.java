@@ -13,12 +13,17 @@
 package tech.pegasys.peeps.json;
 
 import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.PooledByteBufAllocator;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.json.DecodeException;
 
 public class Json {
 
+  private static final ByteBufAllocator ALLOCATOR = PooledByteBufAllocator.DEFAULT;
   private static final JsonEncoder ENCODER;
   private static final JsonDecoder DECODER;
 
@@ -36,7 +41,40 @@ public class Json {
     return ENCODER.convert(pojo);
   }
 
+  /**
+   * Encodes into a buffer taken from the pool, rather than a String.
+   *
+   * @return buffer owned by the caller, who must release it once the content is written.
+   */
+  public static ByteBuf encodePooled(final Object pojo) {
+    final ByteBuf buf = pooledBuffer(0);
+    try {
+      ENCODER.write(pojo, buf);
+      return buf;
+    } catch (final RuntimeException e) {
+      buf.release();
+      throw e;
+    }
+  }
+
+  /**
+   * Heap buffer taken from the pool, which the caller must release.
+   *
+   * @param expectedSize initial capacity, when the size of the content is known.
+   */
+  public static ByteBuf pooledBuffer(final int expectedSize) {
+    return expectedSize > 0 ? ALLOCATOR.heapBuffer(expectedSize) : ALLOCATOR.heapBuffer();
+  }
+
   public static <T> T decode(final Buffer buf, final Class<T> clazz) throws DecodeException {
     return DECODER.read(buf, clazz);
   }
+
+  public static <T> T decode(final ByteBuf buf, final Class<T> clazz) throws DecodeException {
+    return DECODER.read(buf, clazz);
+  }
+
+  public static <T> T convert(final JsonNode node, final Class<T> clazz) throws DecodeException {
+    return DECODER.convert(node, clazz);
+  }
 }
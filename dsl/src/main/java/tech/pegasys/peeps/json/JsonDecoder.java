@@ -15,7 +15,10 @@ package tech.pegasys.peeps.json;
 import java.io.IOException;
 import java.io.InputStream;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufInputStream;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.json.DecodeException;
@@ -29,10 +32,27 @@ public class JsonDecoder {
   }
 
   public <T> T read(final Buffer buf, final Class<T> clazz) throws DecodeException {
+    return read(buf.getByteBuf(), clazz);
+  }
+
+  /** Parses directly over the bytes of a heap buffer, streaming from any other buffer. */
+  public <T> T read(final ByteBuf buf, final Class<T> clazz) throws DecodeException {
     try {
-      return mapper.readValue((InputStream) new ByteBufInputStream(buf.getByteBuf()), clazz);
+      if (buf.hasArray()) {
+        return mapper.readValue(
+            buf.array(), buf.arrayOffset() + buf.readerIndex(), buf.readableBytes(), clazz);
+      }
+      return mapper.readValue((InputStream) new ByteBufInputStream(buf), clazz);
     } catch (final IOException e) {
       throw new DecodeException("Failed to decode: " + e.getMessage(), e);
     }
   }
+
+  public <T> T convert(final JsonNode node, final Class<T> clazz) throws DecodeException {
+    try {
+      return mapper.treeToValue(node, clazz);
+    } catch (final JsonProcessingException e) {
+      throw new DecodeException("Failed to decode: " + e.getMessage(), e);
+    }
+  }
 }
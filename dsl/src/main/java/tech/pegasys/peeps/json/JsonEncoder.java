@@ -12,8 +12,13 @@
  */
 package tech.pegasys.peeps.json;
 
+import java.io.IOException;
+import java.io.OutputStream;
+
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufOutputStream;
 
 public class JsonEncoder {
 
@@ -31,4 +36,13 @@ public class JsonEncoder {
       throw new IllegalArgumentException("Failed encoding JSON from POJO: " + pojo, e);
     }
   }
+
+  /** Writes the JSON straight into the buffer, without an intermediate String. */
+  public void write(final Object pojo, final ByteBuf destination) {
+    try {
+      mapper.writeValue((OutputStream) new ByteBufOutputStream(destination), pojo);
+    } catch (final IOException e) {
+      throw new IllegalArgumentException("Failed encoding JSON from POJO: " + pojo, e);
+    }
+  }
 }
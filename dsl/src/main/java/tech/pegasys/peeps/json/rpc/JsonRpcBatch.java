@@ -0,0 +1,192 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.json.rpc;
+
+import static com.google.common.base.Preconditions.checkState;
+
+import tech.pegasys.peeps.json.Json;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.vertx.core.json.DecodeException;
+
+/**
+ * Collection of JSON-RPC requests sent to the node in a single HTTP round trip.
+ *
+ * <p>Each request is given a unique id when executed, with the responses matched back by id, as
+ * the JSON-RPC specification allows the node to return them in any order.
+ *
+ * <p>A batch may be executed multiple times, with every execution replacing the previous results.
+ * Not thread safe.
+ */
+public class JsonRpcBatch {
+
+  private final JsonRpcClient rpcClient;
+  private final List<Entry<?>> entries;
+
+  JsonRpcBatch(final JsonRpcClient rpcClient) {
+    this.rpcClient = rpcClient;
+    this.entries = new ArrayList<>();
+  }
+
+  public <T> Entry<T> add(final String method, final Class<T> clazz, final Object... params) {
+    final Entry<T> entry = new Entry<>(method, clazz, params);
+    entries.add(entry);
+    return entry;
+  }
+
+  public int size() {
+    return entries.size();
+  }
+
+  public void execute() {
+    if (entries.isEmpty()) {
+      return;
+    }
+
+    final Map<Object, Entry<?>> pending = new HashMap<>();
+    complete(pending, rpcClient.postBatch(prepare(pending)));
+  }
+
+  /**
+   * Non-blocking execution, the future completes after every entry of the batch has either a result
+   * or a failure.
+   */
+  public CompletableFuture<Void> executeAsync(final Duration deadline) {
+    if (entries.isEmpty()) {
+      return CompletableFuture.completedFuture(null);
+    }
+
+    final Map<Object, Entry<?>> pending = new HashMap<>();
+    return rpcClient
+        .postBatchAsync(prepare(pending), deadline)
+        .thenAccept(responses -> complete(pending, responses));
+  }
+
+  private List<JsonRpcRequest> prepare(final Map<Object, Entry<?>> pending) {
+    final List<JsonRpcRequest> requests = new ArrayList<>(entries.size());
+
+    for (final Entry<?> entry : entries) {
+      final JsonRpcRequest request = rpcClient.request(entry.method, entry.params);
+      entry.reset();
+      pending.put(request.getId(), entry);
+      requests.add(request);
+    }
+
+    return requests;
+  }
+
+  static void complete(final Map<Object, Entry<?>> pending, final JsonNode responses) {
+    checkState(
+        responses != null && responses.isArray(),
+        "Expecting an array of JSON-RPC responses, received: %s",
+        responses);
+
+    for (final JsonNode response : responses) {
+      final Entry<?> entry = pending.remove(id(response));
+      checkState(entry != null, "JSON-RPC response does not match any request: %s", response);
+      entry.complete(response);
+    }
+
+    pending
+        .values()
+        .forEach(
+            entry ->
+                entry.fail(
+                    new IllegalStateException(
+                        String.format("No JSON-RPC response for method: %s", entry.method))));
+  }
+
+  /** Request ids are issued as longs, but the node is free to echo them back as any number. */
+  private static Object id(final JsonNode response) {
+    final JsonNode id = response.get("id");
+
+    if (id == null || id.isNull()) {
+      return null;
+    }
+
+    return id.isNumber() ? (Object) id.asLong() : id.asText();
+  }
+
+  public static class Entry<T> {
+
+    private final String method;
+    private final Class<T> clazz;
+    private final Object[] params;
+
+    private T result;
+    private RuntimeException failure;
+    private boolean completed;
+
+    private Entry(final String method, final Class<T> clazz, final Object... params) {
+      this.method = method;
+      this.clazz = clazz;
+      this.params = params;
+    }
+
+    public String getMethod() {
+      return method;
+    }
+
+    public boolean isSuccess() {
+      return completed && failure == null;
+    }
+
+    public T get() {
+      checkState(completed, "Batch has not been executed for method: %s", method);
+
+      if (failure != null) {
+        throw failure;
+      }
+
+      return result;
+    }
+
+    private void reset() {
+      result = null;
+      failure = null;
+      completed = false;
+    }
+
+    private void complete(final JsonNode response) {
+      final JsonNode error = response.get("error");
+
+      if (error != null && !error.isNull()) {
+        fail(
+            new IllegalStateException(
+                String.format("JSON-RPC method: %s, failed: %s", method, error)));
+        return;
+      }
+
+      try {
+        result = Json.convert(response, clazz);
+        completed = true;
+      } catch (final DecodeException | IllegalArgumentException e) {
+        fail(
+            new IllegalStateException(
+                String.format("Failed decoding JSON-RPC response %s", response), e));
+      }
+    }
+
+    private void fail(final RuntimeException cause) {
+      failure = cause;
+      completed = true;
+    }
+  }
+}
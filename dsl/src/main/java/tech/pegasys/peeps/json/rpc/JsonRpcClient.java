@@ -13,9 +13,13 @@
 package tech.pegasys.peeps.json.rpc;
 
 import java.time.Duration;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Supplier;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import io.vertx.core.Vertx;
 import org.apache.logging.log4j.Logger;
 
@@ -23,6 +27,9 @@ public class JsonRpcClient extends RpcClient {
 
   private static final String JSON_RPC_VERSION = "2.0";
   private static final String JSON_RPC_CONTEXT_PATH = "/";
+  private static final String BATCH_OPERATION = "batch";
+
+  private final AtomicLong requestIds = new AtomicLong();
 
   public JsonRpcClient(
       final Vertx vertx,
@@ -32,14 +39,50 @@ public class JsonRpcClient extends RpcClient {
     super(vertx, timeout, log, dockerLogs);
   }
 
+  public JsonRpcClient(
+      final Vertx vertx,
+      final Duration connectionTimeout,
+      final Duration requestTimeout,
+      final Logger log,
+      final Set<Supplier<String>> dockerLogs) {
+    super(vertx, connectionTimeout, requestTimeout, log, dockerLogs);
+  }
+
   public <T> T post(final String method, final Class<T> clazz) {
     return this.post(method, clazz, new Object[0]);
   }
 
   public <T> T post(final String method, final Class<T> clazz, final Object... params) {
-    return super.post(
-        JSON_RPC_CONTEXT_PATH,
-        new JsonRpcRequest(JSON_RPC_VERSION, method, params, new JsonRpcRequestId(1)),
-        clazz);
+    return super.post(JSON_RPC_CONTEXT_PATH, request(method, params), clazz);
+  }
+
+  public <T> CompletableFuture<T> postAsync(
+      final Duration deadline, final String method, final Class<T> clazz, final Object... params) {
+    return super.postAsync(JSON_RPC_CONTEXT_PATH, request(method, params), clazz, deadline);
+  }
+
+  public JsonRpcBatch batch() {
+    return new JsonRpcBatch(this);
+  }
+
+  JsonNode postBatch(final List<JsonRpcRequest> batch) {
+    return super.post(JSON_RPC_CONTEXT_PATH, batch, JsonNode.class);
+  }
+
+  CompletableFuture<JsonNode> postBatchAsync(
+      final List<JsonRpcRequest> batch, final Duration deadline) {
+    return super.postAsync(JSON_RPC_CONTEXT_PATH, batch, JsonNode.class, deadline);
+  }
+
+  @Override
+  protected String operation(final String relativeUri, final Object requestPojo) {
+    return requestPojo instanceof JsonRpcRequest
+        ? ((JsonRpcRequest) requestPojo).getMethod()
+        : BATCH_OPERATION;
+  }
+
+  JsonRpcRequest request(final String method, final Object... params) {
+    return new JsonRpcRequest(
+        JSON_RPC_VERSION, method, params, new JsonRpcRequestId(requestIds.incrementAndGet()));
   }
 }
@@ -48,7 +48,7 @@ public class JsonRpcRequest {
       @JsonProperty("jsonrpc") final String version,
       @JsonProperty("method") final String method,
       @JsonProperty("params") final Object[] params,
-      @JsonProperty("params") final JsonRpcRequestId id) {
+      @JsonProperty("id") final JsonRpcRequestId id) {
     this.version = version;
     this.method = method;
     this.params = params;
@@ -0,0 +1,387 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.json.rpc;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+
+import tech.pegasys.peeps.json.Json;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpClient;
+import io.vertx.core.http.HttpClientOptions;
+import io.vertx.core.http.WebSocket;
+import io.vertx.core.http.WebSocketConnectOptions;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Persistent JSON-RPC connection over a WebSocket, supporting both requests and the push
+ * notifications of eth_subscribe.
+ *
+ * <p>Should the connection drop, it is re-established with backoff and every subscription made
+ * again, with notifications continuing to the same listeners. Requests in flight at the drop fail.
+ *
+ * <p>Subscription listeners are invoked on the Vert.x event loop, so must return promptly.
+ */
+public class JsonRpcWebSocketClient {
+
+  private static final String JSON_RPC_VERSION = "2.0";
+  private static final String JSON_RPC_CONTEXT_PATH = "/";
+  private static final String SUBSCRIPTION_NOTIFICATION = "eth_subscription";
+  private static final Duration INITIAL_RECONNECT_DELAY = Duration.ofMillis(100);
+  private static final Duration MAXIMUM_RECONNECT_DELAY = Duration.ofSeconds(5);
+  private static final long NO_TIMER = -1;
+
+  private final Vertx vertx;
+  private final Logger log;
+  private final Duration connectionTimeout;
+  private final AtomicLong requestIds;
+  private final Map<Long, CompletableFuture<JsonNode>> pending;
+  /* By the id the subscription was first given, which callers hold on to across reconnects. */
+  private final Map<String, Subscription> subscriptions;
+  /* By the id of the subscription on the current connection. */
+  private final Map<String, Consumer<JsonNode>> listeners;
+  private final Set<Consumer<Boolean>> connectionListeners;
+
+  private HttpClient client;
+  private WebSocketConnectOptions endpoint;
+  private volatile WebSocket webSocket;
+  private volatile boolean closed;
+  private volatile long reconnectTimer = NO_TIMER;
+
+  public JsonRpcWebSocketClient(
+      final Vertx vertx, final Duration connectionTimeout, final Logger log) {
+    this.vertx = vertx;
+    this.log = log;
+    this.connectionTimeout = connectionTimeout;
+    this.requestIds = new AtomicLong();
+    this.pending = new ConcurrentHashMap<>();
+    this.subscriptions = new ConcurrentHashMap<>();
+    this.listeners = new ConcurrentHashMap<>();
+    this.connectionListeners = ConcurrentHashMap.newKeySet();
+  }
+
+  public void bind(final String ipAddress, final int webSocketJsonRpcPort) {
+    checkNotNull(ipAddress, "Container IP address must be set");
+    checkState(webSocketJsonRpcPort > 0, "Container WebSocket RPC port must be set");
+    checkState(
+        client == null,
+        "The underlying HttpClient is still open. Perform close() before a creating new binding.");
+
+    log.info("Binding WebSocket on {}:{}", ipAddress, webSocketJsonRpcPort);
+
+    closed = false;
+    client =
+        vertx.createHttpClient(
+            new HttpClientOptions().setConnectTimeout((int) connectionTimeout.toMillis()));
+    endpoint =
+        new WebSocketConnectOptions()
+            .setHost(ipAddress)
+            .setPort(webSocketJsonRpcPort)
+            .setURI(JSON_RPC_CONTEXT_PATH);
+
+    final CompletableFuture<WebSocket> connected = new CompletableFuture<>();
+    client.webSocket(
+        endpoint,
+        result -> {
+          if (result.succeeded()) {
+            connected.complete(result.result());
+          } else {
+            connected.completeExceptionally(result.cause());
+          }
+        });
+
+    try {
+      attach(connected.get(connectionTimeout.toMillis(), TimeUnit.MILLISECONDS));
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted connecting the WebSocket", e);
+    } catch (final ExecutionException | TimeoutException e) {
+      throw new IllegalStateException(
+          String.format("Failed to connect WebSocket on %s:%s", ipAddress, webSocketJsonRpcPort),
+          e);
+    }
+  }
+
+  public void close() {
+    closed = true;
+    if (reconnectTimer != NO_TIMER) {
+      vertx.cancelTimer(reconnectTimer);
+      reconnectTimer = NO_TIMER;
+    }
+
+    // Cleared first, so the close handler of the connection knows the close was deliberate
+    final WebSocket connection = webSocket;
+    webSocket = null;
+    if (connection != null) {
+      connection.close();
+    }
+    if (client != null) {
+      client.close();
+      client = null;
+    }
+
+    subscriptions.clear();
+    listeners.clear();
+    failPending();
+  }
+
+  /**
+   * Listener told of the connection dropping, with <code>false</code>, and of it being
+   * re-established, with <code>true</code>; invoked on the Vert.x event loop.
+   */
+  public void addConnectionListener(final Consumer<Boolean> listener) {
+    connectionListeners.add(listener);
+  }
+
+  public boolean isConnected() {
+    return webSocket != null;
+  }
+
+  public <T> CompletableFuture<T> post(
+      final Duration deadline, final String method, final Class<T> clazz, final Object... params) {
+    return send(deadline, method, params).thenApply(result -> Json.convert(result, clazz));
+  }
+
+  /**
+   * Creates a subscription, with the listener receiving the result of every notification.
+   *
+   * @return future completing with the subscription id, for use when unsubscribing.
+   */
+  public CompletableFuture<String> subscribe(
+      final Duration deadline, final Consumer<JsonNode> listener, final Object... params) {
+    // Registration happens on the event loop, before any notification for the id is handled
+    return send(deadline, "eth_subscribe", params)
+        .thenApply(
+            result -> {
+              final String subscription = result.asText();
+              subscriptions.put(subscription, new Subscription(subscription, listener, params));
+              listeners.put(subscription, listener);
+              return subscription;
+            });
+  }
+
+  /** @param subscription id the subscription was created with, even if since re-established. */
+  public CompletableFuture<Boolean> unsubscribe(
+      final Duration deadline, final String subscription) {
+    final Subscription removed = subscriptions.remove(subscription);
+    final String current = removed == null ? subscription : removed.id;
+    listeners.remove(current);
+    return send(deadline, "eth_unsubscribe", current).thenApply(JsonNode::asBoolean);
+  }
+
+  private CompletableFuture<JsonNode> send(
+      final Duration deadline, final String method, final Object... params) {
+    final CompletableFuture<JsonNode> response = new CompletableFuture<>();
+    final WebSocket connection = webSocket;
+
+    if (connection == null) {
+      response.completeExceptionally(
+          new IllegalStateException("WebSocket is not bound, perform bind() before sending"));
+      return response;
+    }
+
+    final long id = requestIds.incrementAndGet();
+    pending.put(id, response);
+
+    final long timer =
+        vertx.setTimer(
+            deadline.toMillis(),
+            expired -> {
+              if (pending.remove(id) != null) {
+                response.completeExceptionally(
+                    new TimeoutException(
+                        String.format("No WebSocket response for method: %s", method)));
+              }
+            });
+    response.whenComplete((result, error) -> vertx.cancelTimer(timer));
+
+    connection.writeTextMessage(
+        Json.encode(
+            new JsonRpcRequest(JSON_RPC_VERSION, method, params, new JsonRpcRequestId(id))));
+
+    return response;
+  }
+
+  private void onMessage(final String message) {
+    final JsonNode json;
+    try {
+      json = Json.decode(Buffer.buffer(message), JsonNode.class);
+    } catch (final RuntimeException e) {
+      log.error("Failed decoding WebSocket message: {}", message, e);
+      return;
+    }
+
+    if (SUBSCRIPTION_NOTIFICATION.equals(json.path("method").asText())) {
+      onNotification(json.path("params"));
+    } else {
+      onResponse(json);
+    }
+  }
+
+  private void onNotification(final JsonNode params) {
+    final Consumer<JsonNode> listener = listeners.get(params.path("subscription").asText());
+
+    if (listener == null) {
+      log.debug("Notification for unknown subscription: {}", params);
+      return;
+    }
+
+    try {
+      listener.accept(params.path("result"));
+    } catch (final RuntimeException e) {
+      log.error("Subscription listener failed on: {}", params, e);
+    }
+  }
+
+  private void onResponse(final JsonNode json) {
+    final CompletableFuture<JsonNode> response = pending.remove(json.path("id").asLong());
+
+    if (response == null) {
+      log.debug("WebSocket response does not match any request: {}", json);
+      return;
+    }
+
+    final JsonNode error = json.get("error");
+    if (error != null && !error.isNull()) {
+      response.completeExceptionally(
+          new IllegalStateException(String.format("JSON-RPC request failed: %s", error)));
+    } else {
+      response.complete(json.path("result"));
+    }
+  }
+
+  private void attach(final WebSocket connection) {
+    connection.textMessageHandler(this::onMessage);
+    connection.exceptionHandler(error -> log.error("WebSocket failure", error));
+    connection.closeHandler(ignored -> onDisconnect(connection));
+    webSocket = connection;
+  }
+
+  private void onDisconnect(final WebSocket connection) {
+    if (webSocket != connection) {
+      return;
+    }
+
+    log.warn("WebSocket to {}:{} closed, reconnecting", endpoint.getHost(), endpoint.getPort());
+    webSocket = null;
+    listeners.clear();
+    failPending();
+    notifyConnection(false);
+    reconnect(INITIAL_RECONNECT_DELAY);
+  }
+
+  private void reconnect(final Duration delay) {
+    reconnectTimer =
+        vertx.setTimer(
+            delay.toMillis(),
+            fired -> {
+              if (closed) {
+                return;
+              }
+
+              client.webSocket(
+                  endpoint,
+                  result -> {
+                    if (closed) {
+                      if (result.succeeded()) {
+                        result.result().close();
+                      }
+                    } else if (result.succeeded()) {
+                      log.info(
+                          "WebSocket to {}:{} reconnected", endpoint.getHost(), endpoint.getPort());
+                      attach(result.result());
+                      resubscribe();
+                      notifyConnection(true);
+                    } else {
+                      final Duration next = delay.multipliedBy(2);
+                      log.debug("WebSocket reconnect failed, retrying in {}", next, result.cause());
+                      reconnect(
+                          next.compareTo(MAXIMUM_RECONNECT_DELAY) > 0
+                              ? MAXIMUM_RECONNECT_DELAY
+                              : next);
+                    }
+                  });
+            });
+  }
+
+  private void resubscribe() {
+    subscriptions
+        .values()
+        .forEach(
+            subscription ->
+                send(connectionTimeout, "eth_subscribe", subscription.params)
+                    .whenComplete(
+                        (result, error) -> {
+                          if (error == null) {
+                            subscription.id = result.asText();
+                            listeners.put(subscription.id, subscription.listener);
+                          } else {
+                            log.error(
+                                "Failed to resubscribe: {}",
+                                Arrays.toString(subscription.params),
+                                error);
+                          }
+                        }));
+  }
+
+  private void notifyConnection(final boolean connected) {
+    connectionListeners.forEach(
+        listener -> {
+          try {
+            listener.accept(connected);
+          } catch (final RuntimeException e) {
+            log.error("WebSocket connection listener failed", e);
+          }
+        });
+  }
+
+  private void failPending() {
+    pending
+        .keySet()
+        .forEach(
+            id -> {
+              final CompletableFuture<JsonNode> response = pending.remove(id);
+              if (response != null) {
+                response.completeExceptionally(new IllegalStateException("WebSocket closed"));
+              }
+            });
+  }
+
+  /** Subscription as made by the caller, for making again on a new connection. */
+  private static class Subscription {
+    private final Consumer<JsonNode> listener;
+    private final Object[] params;
+    private volatile String id;
+
+    Subscription(final String id, final Consumer<JsonNode> listener, final Object... params) {
+      this.id = id;
+      this.listener = listener;
+      this.params = params;
+    }
+  }
+}
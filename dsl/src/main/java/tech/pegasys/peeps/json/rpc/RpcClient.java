@@ -12,9 +12,12 @@
  */
 package tech.pegasys.peeps.json.rpc;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 import static com.google.common.base.Preconditions.checkState;
+import static io.vertx.core.http.HttpHeaders.CONTENT_LENGTH;
 import static io.vertx.core.http.HttpHeaders.CONTENT_TYPE;
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.testcontainers.shaded.com.github.dockerjava.core.MediaType.APPLICATION_JSON;
 
 import tech.pegasys.peeps.json.Json;
@@ -24,22 +27,33 @@ import java.util.List;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Supplier;
 
+import com.google.common.primitives.Ints;
+import io.netty.buffer.ByteBuf;
 import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.HttpClient;
 import io.vertx.core.http.HttpClientRequest;
+import io.vertx.core.http.HttpClientResponse;
 import io.vertx.ext.web.client.WebClientOptions;
 import org.apache.logging.log4j.Logger;
 
 public abstract class RpcClient {
 
   private static final List<Integer> HTTP_OK_STATUSES = List.of(200, 201);
+  private static final Duration NO_REQUEST_TIMEOUT = Duration.ZERO;
+
+  /** Bounds blocking posts, so a hung or paused container fails the post rather than the test. */
+  public static final Duration DEFAULT_REQUEST_TIMEOUT = Duration.ofSeconds(10);
 
   private final Vertx vertx;
   private final Logger log;
   private final Duration connectionTimeout;
+  private final Duration requestTimeout;
   private final Set<Supplier<String>> dockerLogs;
+  private final RpcStatistics statistics;
 
   private HttpClient rpc;
   private String containerId;
@@ -49,10 +63,26 @@ public abstract class RpcClient {
       final Duration connectionTimeout,
       final Logger log,
       final Set<Supplier<String>> dockerLogs) {
+    this(vertx, connectionTimeout, NO_REQUEST_TIMEOUT, log, dockerLogs);
+  }
+
+  /**
+   * Client whose blocking posts fail when no response arrives within the request timeout, or wait
+   * indefinitely when it is zero.
+   */
+  public RpcClient(
+      final Vertx vertx,
+      final Duration connectionTimeout,
+      final Duration requestTimeout,
+      final Logger log,
+      final Set<Supplier<String>> dockerLogs) {
+    checkArgument(!requestTimeout.isNegative(), "Request timeout must not be negative");
     this.connectionTimeout = connectionTimeout;
+    this.requestTimeout = requestTimeout;
     this.vertx = vertx;
     this.log = log;
     this.dockerLogs = dockerLogs;
+    this.statistics = new RpcStatistics();
   }
 
   public void bind(final String containerId, final String ipAddress, final int httpJsonRpcPort) {
@@ -83,61 +113,200 @@ public abstract class RpcClient {
 
   protected <T> T post(final String relativeUri, final Object requestPojo, final Class<T> clazz) {
     try {
-      return performPost(relativeUri, requestPojo, clazz);
+      return await(performPost(relativeUri, requestPojo, clazz, requestTimeout), relativeUri);
 
     } catch (final RuntimeException e) {
-      dockerLogs.forEach(dockerLog -> log.error(dockerLog.get()));
-      log.error("Post request failed", e);
+      logFailure(e);
       throw e;
     }
   }
 
-  private <T> T performPost(
-      final String relativeUri, final Object requestPojo, final Class<T> clazz) {
+  /**
+   * Non-blocking post, with the returned future completing exceptionally when no response arrives
+   * within the deadline. Cancelling the future resets the HTTP request.
+   */
+  protected <T> CompletableFuture<T> postAsync(
+      final String relativeUri,
+      final Object requestPojo,
+      final Class<T> clazz,
+      final Duration deadline) {
+    checkArgument(!deadline.isNegative() && !deadline.isZero(), "Deadline must be positive");
+    final CompletableFuture<T> future = performPost(relativeUri, requestPojo, clazz, deadline);
+    future.whenComplete(
+        (result, error) -> {
+          if (error != null && !future.isCancelled()) {
+            // Container logs are fetched from Docker, which must not block the event loop
+            vertx.executeBlocking(
+                logged -> {
+                  logFailure(error);
+                  logged.complete();
+                },
+                false,
+                null);
+          }
+        });
+    return future;
+  }
+
+  /** Latencies and failures of every post made, by operation. */
+  public RpcStatistics statistics() {
+    return statistics;
+  }
+
+  /** Name the statistics of the request are recorded under, by default the relative URI. */
+  protected String operation(final String relativeUri, final Object requestPojo) {
+    return relativeUri;
+  }
+
+  private void logFailure(final Throwable error) {
+    dockerLogs.forEach(dockerLog -> log.error(dockerLog.get()));
+    log.error("Post request failed", error);
+  }
+
+  private <T> T await(final CompletableFuture<T> future, final String relativeUri) {
+    try {
+      return future.get();
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new RuntimeException("Interrupted awaiting response from: " + relativeUri, e);
+    } catch (final ExecutionException e) {
+      throw new RuntimeException("No response receive from: " + relativeUri, e.getCause());
+    }
+  }
+
+  private <T> CompletableFuture<T> performPost(
+      final String relativeUri,
+      final Object requestPojo,
+      final Class<T> clazz,
+      final Duration deadline) {
     final CompletableFuture<T> future = new CompletableFuture<>();
-    final String json = Json.encode(requestPojo);
+
+    if (rpc == null) {
+      future.completeExceptionally(
+          new IllegalStateException("HttpClient is not bound, perform bind() before posting"));
+      return future;
+    }
+
+    final String operation = operation(relativeUri, requestPojo);
+    final long start = System.nanoTime();
+    future.whenComplete(
+        (result, error) -> statistics.record(operation, System.nanoTime() - start, error));
+
+    // Netty reads the pooled request body until the write completes, which may be after the future
+    final ByteBuf requestBody = Json.encodePooled(requestPojo);
+    final Runnable releaseRequest = releaseOnce(requestBody);
 
     @SuppressWarnings("deprecation")
     final HttpClientRequest request =
         rpc.post(
             relativeUri,
             result -> {
+              // Released once the response ends or fails, as the future may complete before then
+              final ByteBuf responseBody = Json.pooledBuffer(contentLength(result));
+              final Runnable releaseResponse = releaseOnce(responseBody);
+              result.handler(
+                  chunk -> {
+                    if (!future.isDone()) {
+                      responseBody.writeBytes(chunk.getByteBuf());
+                    }
+                  });
+              result.exceptionHandler(
+                  error -> {
+                    releaseResponse.run();
+                    future.completeExceptionally(error);
+                  });
+
               if (HTTP_OK_STATUSES.contains(result.statusCode())) {
-                result.bodyHandler(
-                    body -> {
-                      log.trace(
-                          "Container {}, relative URL: {}, request: {}, response: {}",
-                          containerId,
-                          relativeUri,
-                          json,
-                          body);
+                result.endHandler(
+                    end -> {
                       try {
-                        future.complete(Json.decode(body, clazz));
-                      } catch (Exception e) {
-                        future.completeExceptionally(
-                            new IllegalStateException(
-                                String.format("Failed decoding json rpc response %s", body), e));
+                        if (!future.isDone()) {
+                          complete(future, relativeUri, requestPojo, responseBody, clazz);
+                        }
+                      } finally {
+                        releaseResponse.run();
                       }
                     });
               } else {
                 final String errorMessage =
                     String.format(
                         "Post request: %s, to '%s' failed: %s, %s",
-                        json, relativeUri, result.statusCode(), result.statusMessage());
-                result.bodyHandler(body -> log.error("{}, {}", errorMessage, body));
-                future.completeExceptionally(new IllegalStateException(errorMessage));
+                        Json.encode(requestPojo),
+                        relativeUri,
+                        result.statusCode(),
+                        result.statusMessage());
+                result.endHandler(
+                    end -> {
+                      try {
+                        log.error("{}, {}", errorMessage, responseBody.toString(UTF_8));
+                      } finally {
+                        releaseResponse.run();
+                      }
+                      future.completeExceptionally(new IllegalStateException(errorMessage));
+                    });
               }
             });
 
+    future.whenComplete(
+        (result, error) -> {
+          if (future.isCancelled()) {
+            request.reset();
+          }
+        });
+    request.exceptionHandler(
+        error -> {
+          // A failed request may never complete its write
+          releaseRequest.run();
+          future.completeExceptionally(error);
+        });
+    if (!deadline.isZero()) {
+      request.setTimeout(deadline.toMillis());
+    }
     request.putHeader(CONTENT_TYPE, APPLICATION_JSON.getMediaType());
+    request.putHeader(CONTENT_LENGTH, String.valueOf(requestBody.readableBytes()));
+    request.end(Buffer.buffer(requestBody), written -> releaseRequest.run());
 
-    request.setChunked(true);
-    request.end(json);
+    return future;
+  }
 
+  private <T> void complete(
+      final CompletableFuture<T> future,
+      final String relativeUri,
+      final Object requestPojo,
+      final ByteBuf responseBody,
+      final Class<T> clazz) {
+    if (log.isTraceEnabled()) {
+      log.trace(
+          "Container {}, relative URL: {}, request: {}, response: {}",
+          containerId,
+          relativeUri,
+          Json.encode(requestPojo),
+          responseBody.toString(UTF_8));
+    }
     try {
-      return future.get();
-    } catch (final InterruptedException | ExecutionException e) {
-      throw new RuntimeException("No response receive from: " + relativeUri, e);
+      future.complete(Json.decode(responseBody, clazz));
+    } catch (Exception e) {
+      future.completeExceptionally(
+          new IllegalStateException(
+              String.format("Failed decoding json rpc response %s", responseBody.toString(UTF_8)),
+              e));
     }
   }
+
+  /** Releases the pooled buffer on the first run only, whichever handler finishes with it. */
+  private static Runnable releaseOnce(final ByteBuf buffer) {
+    final AtomicBoolean released = new AtomicBoolean();
+    return () -> {
+      if (released.compareAndSet(false, true)) {
+        buffer.release();
+      }
+    };
+  }
+
+  /** Declared length of the response body, or zero when it is not declared. */
+  private static int contentLength(final HttpClientResponse response) {
+    final String contentLength = response.getHeader(CONTENT_LENGTH);
+    final Integer length = contentLength == null ? null : Ints.tryParse(contentLength);
+    return length == null ? 0 : length;
+  }
 }
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.json.rpc;
+
+import java.time.Duration;
+
+/** Point in time view of the calls made of a single RPC method, or of all of them. */
+public class RpcMethodSnapshot {
+
+  private final String method;
+  private final long calls;
+  private final long errors;
+  private final long timeouts;
+  private final Duration p50;
+  private final Duration p99;
+  private final Duration max;
+
+  RpcMethodSnapshot(
+      final String method, final long errors, final long timeouts, final LatencyHistogram latency) {
+    this.method = method;
+    this.calls = latency.count();
+    this.errors = errors;
+    this.timeouts = timeouts;
+    this.p50 = latency.percentile(50);
+    this.p99 = latency.percentile(99);
+    this.max = latency.max();
+  }
+
+  public String getMethod() {
+    return method;
+  }
+
+  public long getCalls() {
+    return calls;
+  }
+
+  /** Calls failing other than by timing out. */
+  public long getErrors() {
+    return errors;
+  }
+
+  public long getTimeouts() {
+    return timeouts;
+  }
+
+  public Duration getP50() {
+    return p50;
+  }
+
+  public Duration getP99() {
+    return p99;
+  }
+
+  public Duration getMax() {
+    return max;
+  }
+
+  @Override
+  public String toString() {
+    return String.format(
+        "%s: calls=%s, errors=%s, timeouts=%s, p50=%sms, p99=%sms, max=%sms",
+        method, calls, errors, timeouts, p50.toMillis(), p99.toMillis(), max.toMillis());
+  }
+}
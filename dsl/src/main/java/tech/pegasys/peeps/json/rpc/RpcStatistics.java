@@ -0,0 +1,157 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.json.rpc;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/** Latency, error and timeout counts of the calls an RPC client has made, by method. */
+public class RpcStatistics {
+
+  private static final Logger LOG = LogManager.getLogger();
+
+  private static final String TOTAL = "total";
+
+  private final Map<String, MethodStatistics> methods;
+
+  public RpcStatistics() {
+    this.methods = new ConcurrentHashMap<>();
+  }
+
+  /**
+   * Records a completed call.
+   *
+   * @param error cause of the call failing, <code>null</code> when it succeeded.
+   */
+  public void record(final String method, final long nanos, final Throwable error) {
+    MethodStatistics statistics = methods.get(method);
+    if (statistics == null) {
+      statistics = methods.computeIfAbsent(method, name -> new MethodStatistics());
+    }
+    statistics.record(nanos, error);
+  }
+
+  /** Discards every call recorded so far. */
+  public void clear() {
+    methods.clear();
+  }
+
+  public Optional<RpcMethodSnapshot> snapshot(final String method) {
+    return Optional.ofNullable(methods.get(method)).map(statistics -> statistics.snapshot(method));
+  }
+
+  /** Snapshot of every method called, ordered by method. */
+  public List<RpcMethodSnapshot> snapshots() {
+    return methods.entrySet().stream()
+        .sorted(Map.Entry.comparingByKey())
+        .map(entry -> entry.getValue().snapshot(entry.getKey()))
+        .collect(Collectors.toList());
+  }
+
+  /** Snapshot across every method called. */
+  public RpcMethodSnapshot total() {
+    final MethodStatistics total = new MethodStatistics();
+    methods.values().forEach(total::add);
+    return total.snapshot(TOTAL);
+  }
+
+  /** Writes the snapshots of every node as CSV, one row per method and a total for each node. */
+  public static void export(final Map<String, RpcStatistics> nodes, final Path file) {
+    if (nodes.values().stream().allMatch(statistics -> statistics.methods.isEmpty())) {
+      return;
+    }
+
+    try {
+      Files.createDirectories(file.toAbsolutePath().getParent());
+      try (final Writer writer = Files.newBufferedWriter(file, UTF_8)) {
+        writer.write("node,method,calls,errors,timeouts,p50_ms,p99_ms,max_ms\n");
+        for (final Map.Entry<String, RpcStatistics> node : nodes.entrySet()) {
+          for (final RpcMethodSnapshot method : node.getValue().snapshots()) {
+            write(writer, node.getKey(), method);
+          }
+          write(writer, node.getKey(), node.getValue().total());
+        }
+      }
+      LOG.info("Exported RPC statistics to: {}", file);
+    } catch (final IOException e) {
+      LOG.warn("Failed exporting RPC statistics to: {}", file, e);
+    }
+  }
+
+  private static void write(final Writer writer, final String node, final RpcMethodSnapshot method)
+      throws IOException {
+    writer.write(
+        String.format(
+            "%s,%s,%s,%s,%s,%s,%s,%s\n",
+            node,
+            method.getMethod(),
+            method.getCalls(),
+            method.getErrors(),
+            method.getTimeouts(),
+            method.getP50().toNanos() / 1e6,
+            method.getP99().toNanos() / 1e6,
+            method.getMax().toNanos() / 1e6));
+  }
+
+  private static class MethodStatistics {
+    private final LatencyHistogram latency = new LatencyHistogram();
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder timeouts = new LongAdder();
+
+    void record(final long nanos, final Throwable error) {
+      latency.record(nanos);
+      if (error == null) {
+        return;
+      }
+
+      if (isTimeout(error)) {
+        timeouts.increment();
+      } else {
+        errors.increment();
+      }
+    }
+
+    void add(final MethodStatistics other) {
+      latency.add(other.latency);
+      errors.add(other.errors.sum());
+      timeouts.add(other.timeouts.sum());
+    }
+
+    RpcMethodSnapshot snapshot(final String method) {
+      return new RpcMethodSnapshot(method, errors.sum(), timeouts.sum(), latency);
+    }
+
+    private static boolean isTimeout(final Throwable error) {
+      for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+        if (cause instanceof TimeoutException) {
+          return true;
+        }
+      }
+      return false;
+    }
+  }
+}
@@ -0,0 +1,240 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.network;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.io.Closeable;
+import java.lang.management.ManagementFactory;
+import java.lang.management.OperatingSystemMXBean;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Caps the containers, memory and CPU that Networks started in this JVM may occupy, queueing the
+ * start of any Network that would oversubscribe the host until enough capacity is released.
+ *
+ * <p>Capacity defaults to the host, with every container assumed to need a fixed share of memory
+ * and CPU; each may be overridden with the peeps.admission system properties. Admission is first
+ * come, first served, and a Network larger than the whole capacity is admitted once it is alone.
+ */
+public class AdmissionController {
+
+  public static final String MAX_CONTAINERS_PROPERTY = "peeps.admission.maxContainers";
+  public static final String MAX_MEMORY_MB_PROPERTY = "peeps.admission.maxMemoryMb";
+  public static final String MAX_CPUS_PROPERTY = "peeps.admission.maxCpus";
+  public static final String CONTAINER_MEMORY_MB_PROPERTY = "peeps.admission.containerMemoryMb";
+  public static final String CONTAINER_MILLI_CPUS_PROPERTY = "peeps.admission.containerMilliCpus";
+
+  private static final Logger LOG = LogManager.getLogger();
+
+  private static final long DEFAULT_CONTAINER_MEMORY_MB = 768;
+  private static final long DEFAULT_CONTAINER_MILLI_CPUS = 500;
+  private static final double HOST_MEMORY_SHARE = 0.75;
+  private static final long RECHECK_INTERVAL_MILLIS = 1000;
+  private static final AdmissionController SHARED = fromHost();
+
+  private final Resources capacity;
+  private final Resources perContainer;
+  private final Queue<Object> waiting;
+  private final List<BooleanSupplier> relievers;
+  private Resources inUse;
+
+  public static AdmissionController shared() {
+    return SHARED;
+  }
+
+  AdmissionController(final Resources capacity, final Resources perContainer) {
+    checkArgument(capacity.containers > 0, "Capacity must allow at least one container");
+    this.capacity = capacity;
+    this.perContainer = perContainer;
+    this.waiting = new ArrayDeque<>();
+    this.relievers = new CopyOnWriteArrayList<>();
+    this.inUse = Resources.NONE;
+  }
+
+  /**
+   * Registers a means of releasing capacity held without being used, e.g. idle pooled Networks,
+   * invoked whilst an admission is queued.
+   *
+   * @param reliever returns whether any capacity was released.
+   */
+  public void addReliever(final BooleanSupplier reliever) {
+    relievers.add(reliever);
+  }
+
+  /**
+   * Blocks until the containers can run without oversubscribing the host.
+   *
+   * @return to be closed once the containers are stopped.
+   */
+  public Admission admit(final int containers) {
+    final Resources demand = perContainer.times(containers).atMost(capacity);
+    final Object ticket = new Object();
+
+    synchronized (this) {
+      waiting.add(ticket);
+    }
+
+    try {
+      boolean queued = false;
+      while (!tryAdmit(ticket, demand)) {
+        if (!queued) {
+          LOG.info("Queued admission of {}, in use: {}, capacity: {}", demand, inUse(), capacity);
+          queued = true;
+        }
+
+        if (!relieve()) {
+          awaitRelease();
+        }
+      }
+    } catch (final InterruptedException e) {
+      withdraw(ticket);
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted whilst queued for admission", e);
+    }
+
+    LOG.debug("Admitted {}, in use: {}", demand, inUse());
+    return new Admission(demand);
+  }
+
+  synchronized Resources inUse() {
+    return inUse;
+  }
+
+  private synchronized boolean tryAdmit(final Object ticket, final Resources demand) {
+    if (waiting.peek() != ticket || !inUse.plus(demand).fitsWithin(capacity)) {
+      return false;
+    }
+
+    waiting.remove();
+    inUse = inUse.plus(demand);
+    notifyAll();
+    return true;
+  }
+
+  private synchronized void withdraw(final Object ticket) {
+    waiting.remove(ticket);
+    notifyAll();
+  }
+
+  private synchronized void release(final Resources demand) {
+    inUse = inUse.minus(demand);
+    notifyAll();
+  }
+
+  /** Relievers are run without holding the monitor, as releasing capacity needs it. */
+  private boolean relieve() {
+    return relievers.stream().anyMatch(BooleanSupplier::getAsBoolean);
+  }
+
+  private synchronized void awaitRelease() throws InterruptedException {
+    wait(RECHECK_INTERVAL_MILLIS);
+  }
+
+  private static AdmissionController fromHost() {
+    final OperatingSystemMXBean os = ManagementFactory.getOperatingSystemMXBean();
+    final long hostMemoryMb =
+        os instanceof com.sun.management.OperatingSystemMXBean
+            ? ((com.sun.management.OperatingSystemMXBean) os).getTotalPhysicalMemorySize()
+                / (1024 * 1024)
+            : Runtime.getRuntime().maxMemory() / (1024 * 1024);
+    final int hostCpus = Runtime.getRuntime().availableProcessors();
+
+    final Resources perContainer =
+        new Resources(
+            1,
+            Long.getLong(CONTAINER_MEMORY_MB_PROPERTY, DEFAULT_CONTAINER_MEMORY_MB),
+            Long.getLong(CONTAINER_MILLI_CPUS_PROPERTY, DEFAULT_CONTAINER_MILLI_CPUS));
+    final Resources capacity =
+        new Resources(
+            Long.getLong(MAX_CONTAINERS_PROPERTY, Math.max(4, hostCpus * 2L)),
+            Long.getLong(MAX_MEMORY_MB_PROPERTY, (long) (hostMemoryMb * HOST_MEMORY_SHARE)),
+            Long.getLong(MAX_CPUS_PROPERTY, hostCpus) * TimeUnit.SECONDS.toMillis(1));
+
+    LOG.info("Admission capacity: {}, per container: {}", capacity, perContainer);
+
+    return new AdmissionController(capacity, perContainer);
+  }
+
+  /** Capacity held by a started Network, released once. */
+  public class Admission implements Closeable {
+    private final Resources demand;
+    private final AtomicBoolean released = new AtomicBoolean();
+
+    private Admission(final Resources demand) {
+      this.demand = demand;
+    }
+
+    @Override
+    public void close() {
+      if (released.compareAndSet(false, true)) {
+        release(demand);
+      }
+    }
+  }
+
+  static class Resources {
+    static final Resources NONE = new Resources(0, 0, 0);
+
+    private final long containers;
+    private final long memoryMb;
+    private final long milliCpus;
+
+    Resources(final long containers, final long memoryMb, final long milliCpus) {
+      this.containers = containers;
+      this.memoryMb = memoryMb;
+      this.milliCpus = milliCpus;
+    }
+
+    Resources times(final int count) {
+      return new Resources(containers * count, memoryMb * count, milliCpus * count);
+    }
+
+    Resources plus(final Resources other) {
+      return new Resources(
+          containers + other.containers, memoryMb + other.memoryMb, milliCpus + other.milliCpus);
+    }
+
+    Resources minus(final Resources other) {
+      return new Resources(
+          containers - other.containers, memoryMb - other.memoryMb, milliCpus - other.milliCpus);
+    }
+
+    Resources atMost(final Resources limit) {
+      return new Resources(
+          Math.min(containers, limit.containers),
+          Math.min(memoryMb, limit.memoryMb),
+          Math.min(milliCpus, limit.milliCpus));
+    }
+
+    boolean fitsWithin(final Resources limit) {
+      return containers <= limit.containers
+          && memoryMb <= limit.memoryMb
+          && milliCpus <= limit.milliCpus;
+    }
+
+    @Override
+    public String toString() {
+      return String.format("%d containers, %d MB, %d milli-CPUs", containers, memoryMb, milliCpus);
+    }
+  }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.network;
+
+import tech.pegasys.peeps.node.model.BlockHeader;
+import tech.pegasys.peeps.node.model.Hash;
+
+import java.time.Instant;
+
+/** Head of a node's chain, as last observed. */
+public class ChainHead {
+
+  private final long number;
+  private final Hash hash;
+  private final Instant timestamp;
+  private final long observedNanos;
+
+  ChainHead(final BlockHeader header, final long observedNanos) {
+    this.number = header.getNumber();
+    this.hash = header.getHash();
+    this.timestamp = Instant.ofEpochSecond(header.getTimestamp());
+    this.observedNanos = observedNanos;
+  }
+
+  public long getNumber() {
+    return number;
+  }
+
+  public Hash getHash() {
+    return hash;
+  }
+
+  /** When the block was produced, according to its header. */
+  public Instant getTimestamp() {
+    return timestamp;
+  }
+
+  long getObservedNanos() {
+    return observedNanos;
+  }
+
+  @Override
+  public String toString() {
+    return String.format("ChainHead{number=%s, hash=%s, timestamp=%s}", number, hash, timestamp);
+  }
+}
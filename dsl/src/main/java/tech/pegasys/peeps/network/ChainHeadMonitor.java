@@ -0,0 +1,220 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.network;
+
+import static tech.pegasys.peeps.util.Await.awaitPresence;
+
+import tech.pegasys.peeps.node.Web3Provider;
+import tech.pegasys.peeps.node.model.BlockHeader;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Live view of the chain head of every tracked node, kept current by the newHeads subscription of
+ * each node, making block height and stall checks local lookups instead of RPC polls.
+ *
+ * <p>Nodes are tracked from their first lookup onwards.
+ */
+public class ChainHeadMonitor {
+
+  private static final int HISTORY_SIZE = 16;
+
+  private final Map<Web3Provider, NodeHead> heads;
+  private final LongSupplier nanoTime;
+
+  public ChainHeadMonitor() {
+    this(System::nanoTime);
+  }
+
+  ChainHeadMonitor(final LongSupplier nanoTime) {
+    this.heads = new ConcurrentHashMap<>();
+    this.nanoTime = nanoTime;
+  }
+
+  public Optional<ChainHead> head(final Web3Provider node) {
+    return nodeHead(node).latest();
+  }
+
+  public long blockNumber(final Web3Provider node) {
+    return head(node)
+        .map(ChainHead::getNumber)
+        .orElseThrow(() -> new IllegalStateException("No chain head observed for: " + node));
+  }
+
+  /** Completes once the node has a head at or beyond the block number. */
+  public CompletableFuture<ChainHead> awaitBlockNumber(
+      final Web3Provider node, final long blockNumber) {
+    return nodeHead(node).await(blockNumber);
+  }
+
+  /** Time since the last new head, or since tracking began when there is none. */
+  public Duration timeSinceLastHead(final Web3Provider node) {
+    return Duration.ofNanos(nanoTime.getAsLong() - nodeHead(node).lastObservedNanos());
+  }
+
+  /** Rate of block production over the recent heads, from their block timestamps. */
+  public double blocksPerSecond(final Web3Provider node) {
+    return nodeHead(node).blocksPerSecond();
+  }
+
+  /**
+   * Tracking begins on the first lookup for a node, by listening for its new heads and seeding with
+   * its latest head.
+   */
+  private NodeHead nodeHead(final Web3Provider node) {
+    final NodeHead head = heads.get(node);
+    if (head != null) {
+      return head;
+    }
+
+    final NodeHead created = new NodeHead(nanoTime.getAsLong());
+    final NodeHead existing = heads.putIfAbsent(node, created);
+    if (existing != null) {
+      return existing;
+    }
+
+    node.addNewHeadListener(header -> created.push(header, nanoTime.getAsLong()));
+
+    final BlockHeader latest =
+        awaitPresence(
+                () -> node.asyncRpc().getLatestBlockHeader().join(),
+                "Failed to retrieve the chain head of node: %s",
+                node.getNodeId())
+            .get();
+    created.seed(latest, nanoTime.getAsLong());
+
+    return created;
+  }
+
+  private static class NodeHead {
+
+    private final Deque<ChainHead> history;
+    private final List<Waiter> waiters;
+    private final long trackedNanos;
+
+    private NodeHead(final long trackedNanos) {
+      this.history = new ArrayDeque<>();
+      this.waiters = new ArrayList<>();
+      this.trackedNanos = trackedNanos;
+    }
+
+    /** Pushed heads are authoritative, with a lower or equal number being a re-org. */
+    private void push(final BlockHeader header, final long observedNanos) {
+      final List<Waiter> satisfied;
+
+      synchronized (this) {
+        while (!history.isEmpty() && history.peekLast().getNumber() >= header.getNumber()) {
+          history.removeLast();
+        }
+        satisfied = append(new ChainHead(header, observedNanos));
+      }
+
+      satisfied.forEach(Waiter::complete);
+    }
+
+    /** Queried heads may be overtaken by a push, so only apply when they are newer. */
+    private void seed(final BlockHeader header, final long observedNanos) {
+      final List<Waiter> satisfied;
+
+      synchronized (this) {
+        if (!history.isEmpty() && history.peekLast().getNumber() >= header.getNumber()) {
+          return;
+        }
+        satisfied = append(new ChainHead(header, observedNanos));
+      }
+
+      satisfied.forEach(Waiter::complete);
+    }
+
+    private List<Waiter> append(final ChainHead head) {
+      history.addLast(head);
+      if (history.size() > HISTORY_SIZE) {
+        history.removeFirst();
+      }
+
+      final List<Waiter> satisfied = new ArrayList<>();
+      final Iterator<Waiter> pending = waiters.iterator();
+      while (pending.hasNext()) {
+        final Waiter waiter = pending.next();
+        if (waiter.result.isDone()) {
+          pending.remove();
+        } else if (head.getNumber() >= waiter.blockNumber) {
+          waiter.head = head;
+          satisfied.add(waiter);
+          pending.remove();
+        }
+      }
+
+      return satisfied;
+    }
+
+    private CompletableFuture<ChainHead> await(final long blockNumber) {
+      synchronized (this) {
+        final ChainHead latest = history.peekLast();
+        if (latest == null || latest.getNumber() < blockNumber) {
+          final Waiter waiter = new Waiter(blockNumber);
+          waiters.add(waiter);
+          return waiter.result;
+        }
+        return CompletableFuture.completedFuture(latest);
+      }
+    }
+
+    private synchronized Optional<ChainHead> latest() {
+      return Optional.ofNullable(history.peekLast());
+    }
+
+    private synchronized long lastObservedNanos() {
+      return history.isEmpty() ? trackedNanos : history.peekLast().getObservedNanos();
+    }
+
+    private synchronized double blocksPerSecond() {
+      if (history.size() < 2) {
+        return 0;
+      }
+
+      final ChainHead first = history.peekFirst();
+      final ChainHead last = history.peekLast();
+      final long seconds =
+          last.getTimestamp().getEpochSecond() - first.getTimestamp().getEpochSecond();
+
+      return seconds > 0 ? (double) (last.getNumber() - first.getNumber()) / seconds : 0;
+    }
+  }
+
+  private static class Waiter {
+
+    private final long blockNumber;
+    private final CompletableFuture<ChainHead> result;
+    private ChainHead head;
+
+    private Waiter(final long blockNumber) {
+      this.blockNumber = blockNumber;
+      this.result = new CompletableFuture<>();
+    }
+
+    private void complete() {
+      result.complete(head);
+    }
+  }
+}
@@ -16,8 +16,17 @@ import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 import static com.google.common.base.Preconditions.checkState;
 import static org.assertj.core.api.Assertions.assertThat;
+import static tech.pegasys.peeps.util.Await.DEFAULT_TIMEOUT_IN_SECONDS;
 import static tech.pegasys.peeps.util.Await.await;
-
+import static tech.pegasys.peeps.util.Await.awaitAll;
+import static tech.pegasys.peeps.util.Await.awaitData;
+
+import tech.pegasys.peeps.json.rpc.RpcStatistics;
+import tech.pegasys.peeps.network.events.BlockImported;
+import tech.pegasys.peeps.network.events.NetworkEventBus;
+import tech.pegasys.peeps.network.events.RoundChange;
+import tech.pegasys.peeps.network.metrics.NetworkMetrics;
+import tech.pegasys.peeps.network.resources.NetworkResources;
 import tech.pegasys.peeps.network.subnet.Subnet;
 import tech.pegasys.peeps.node.Account;
 import tech.pegasys.peeps.node.Besu;
@@ -25,6 +34,7 @@ import tech.pegasys.peeps.node.GoQuorum;
 import tech.pegasys.peeps.node.NodeVerify;
 import tech.pegasys.peeps.node.StaticNodesFile;
 import tech.pegasys.peeps.node.Web3Provider;
+import tech.pegasys.peeps.node.Web3ProviderConfiguration;
 import tech.pegasys.peeps.node.Web3ProviderConfigurationBuilder;
 import tech.pegasys.peeps.node.Web3ProviderType;
 import tech.pegasys.peeps.node.genesis.Genesis;
@@ -53,6 +63,7 @@ import tech.pegasys.peeps.node.model.Hash;
 import tech.pegasys.peeps.node.model.PrivacyTransactionReceipt;
 import tech.pegasys.peeps.node.model.Transaction;
 import tech.pegasys.peeps.node.model.TransactionReceipt;
+import tech.pegasys.peeps.node.rpc.NodeRpcBatch;
 import tech.pegasys.peeps.node.verification.AccountValue;
 import tech.pegasys.peeps.privacy.Orion;
 import tech.pegasys.peeps.privacy.OrionConfigurationFile;
@@ -69,43 +80,78 @@ import tech.pegasys.peeps.privacy.model.PrivacyManagerIdentifier;
 import tech.pegasys.peeps.privacy.model.PrivacyPublicKeyResource;
 import tech.pegasys.peeps.signer.EthSigner;
 import tech.pegasys.peeps.signer.EthSignerConfigurationBuilder;
+import tech.pegasys.peeps.signer.LocalSigner;
+import tech.pegasys.peeps.signer.NonceManager;
 import tech.pegasys.peeps.signer.SignerConfiguration;
 import tech.pegasys.peeps.signer.model.WalletFileResources;
 import tech.pegasys.peeps.signer.rpc.SignerRpcSenderKnown;
+import tech.pegasys.peeps.util.ContainerLog;
+import tech.pegasys.peeps.util.ImageRegistry;
 import tech.pegasys.peeps.util.PathGenerator;
 
 import java.io.Closeable;
 import java.math.BigInteger;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import com.google.common.annotations.VisibleForTesting;
 import io.vertx.core.Vertx;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 import org.apache.tuweni.crypto.SECP256K1.KeyPair;
 import org.apache.tuweni.eth.Address;
 import org.apache.tuweni.units.ethereum.Wei;
 
 public class Network implements Closeable {
 
+  private static final Logger LOG = LogManager.getLogger();
+
+  private static final String METRICS_FILE = "metrics.csv";
+  private static final String RESOURCES_FILE = "resources";
+  private static final String RPC_FILE = "rpc.csv";
+
   private final Map<PrivacyManagerIdentifier, PrivateTransactionManager> privacyManagers;
   private final Map<String, EthSigner> signers;
   private final List<Web3Provider> nodes;
   private final List<NetworkMember> members;
+  private final Map<NetworkMember, Set<NetworkMember>> startupDependencies;
+  private final Map<NetworkMember, String> logNames;
+  private final Map<Address, NonceManager> nonces;
 
   private final Map<Web3ProviderType, GenesisFile> genesisFiles;
   private final Map<Web3Provider, StaticNodesFile> staticNodesFiles;
   private final PathGenerator pathGenerator;
   private final Subnet subnet;
   private final Vertx vertx;
+  private final NetworkExecutor executor;
 
   private final NetworkState state;
+  private AdmissionController.Admission admission;
+  private Map<Integer, Duration> startupTimings = Map.of();
+  private Path logDirectory;
+  private final ChainHeadMonitor chainHeads;
+  private final NetworkEventBus events;
+  private final NetworkMetrics metrics;
+  private final NetworkResources resources;
+  private final NetworkTopologyBuilder topology;
+  private ConsensusMechanism consensus;
+  private List<String> validators = List.of();
   private final Map<Web3ProviderType, Genesis> genesisConfigurations = new HashMap<>();
   private Wei minGasPrice = Wei.valueOf(0);
   private long blockRewardTransitionBlock;
@@ -114,14 +160,30 @@ public class Network implements Closeable {
   private Address miningBeneficiary;
 
   public Network(final Path configurationDirectory, final Subnet subnet) {
+    this(configurationDirectory, subnet, new ThreadPoolNetworkExecutor());
+  }
+
+  /**
+   * @param executor runs the calls the Network fans out across its members, closed along with the
+   *     Network.
+   */
+  public Network(
+      final Path configurationDirectory, final Subnet subnet, final NetworkExecutor executor) {
     checkArgument(configurationDirectory != null, "Path to configuration directory is mandatory");
+    checkArgument(executor != null, "Network executor is mandatory");
 
     this.privacyManagers = new HashMap<>();
     this.members = new ArrayList<>();
+    this.startupDependencies = new HashMap<>();
+    this.logNames = new HashMap<>();
+    this.nonces = new ConcurrentHashMap<>();
+    this.logDirectory =
+        ContainerLog.directory().resolve(configurationDirectory.getFileName().toString());
     this.signers = new HashMap<>();
     this.nodes = new ArrayList<>();
     this.pathGenerator = new PathGenerator(configurationDirectory);
     this.vertx = Vertx.vertx();
+    this.executor = executor;
     this.subnet = subnet;
     this.genesisFiles =
         Map.of(
@@ -132,6 +194,11 @@ public class Network implements Closeable {
 
     this.state = new NetworkState();
     this.staticNodesFiles = new HashMap<>();
+    this.chainHeads = new ChainHeadMonitor();
+    this.events = new NetworkEventBus();
+    this.metrics = new NetworkMetrics(vertx);
+    this.resources = new NetworkResources();
+    this.topology = new NetworkTopologyBuilder();
 
     set(ConsensusMechanism.ETH_HASH);
   }
@@ -140,24 +207,130 @@ public class Network implements Closeable {
     state.start();
     genesisFiles.forEach((k, v) -> v.ensureExists(genesisConfigurations.get(k)));
     staticNodesFiles.forEach((k, v) -> v.ensureExists(k, nodes));
-    if (members.size() != 0) {
-      members.stream().parallel().forEach(NetworkMember::start);
-    }
+    admission = AdmissionController.shared().admit(members.size());
+    ImageRegistry.shared()
+        .resolve(
+            members.stream().map(NetworkMember::dockerImageName).collect(Collectors.toList()),
+            executor);
+    members.forEach(this::persistLogs);
+    startMembers();
+    startSampling();
     awaitConnectivity();
   }
 
+  /**
+   * Stops every member, even when sampling or exporting the statistics fails, as those failures
+   * are only logged.
+   */
   public void stop() {
     state.stop();
-    everyMember(NetworkMember::stop);
+
+    try {
+      attempt("resume paused members", this::resumePaused);
+      attempt("stop sampling", this::stopSampling);
+      attempt("export metrics", () -> metrics.export(logDirectory.resolve(METRICS_FILE)));
+      attempt("export resource usage", this::exportResources);
+      attempt("export RPC statistics", this::exportRpcStatistics);
+      everyMember(NetworkMember::stop);
+    } finally {
+      if (admission != null) {
+        admission.close();
+        admission = null;
+      }
+    }
   }
 
   @Override
   public void close() {
-    if (state.isStarted()) {
-      everyMember(NetworkMember::stop);
+    try {
+      if (state.isStarted()) {
+        stop();
+      }
+    } finally {
+      try {
+        vertx.close();
+      } finally {
+        try {
+          executor.close();
+        } finally {
+          subnet.close();
+        }
+      }
     }
-    vertx.close();
-    subnet.close();
+  }
+
+  /**
+   * Persists the container output of every member into the directory, one file per member, e.g. to
+   * keep the logs of each test apart when a started network is shared between tests.
+   */
+  public void captureLogs(final Path directory) {
+    checkArgument(directory != null, "Log directory is mandatory");
+    logDirectory = directory;
+    members.forEach(this::persistLogs);
+  }
+
+  /**
+   * Whether every member is running and not paused, with nodes connected to their peers and signers
+   * to their downstream node.
+   */
+  public boolean isHealthy() {
+    if (!state.isStarted()
+        || !members.stream().allMatch(member -> member.isRunning() && !member.isPaused())) {
+      return false;
+    }
+
+    try {
+      awaitConnectivity();
+      return true;
+    } catch (final AssertionError | RuntimeException e) {
+      LOG.warn("Network is not healthy", e);
+      return false;
+    }
+  }
+
+  /**
+   * Time taken by each stage of the last start or restart, keyed by stage, e.g. privacy managers at
+   * stage zero and the nodes depending on them at stage one.
+   */
+  public Map<Integer, Duration> startupTimings() {
+    return startupTimings;
+  }
+
+  /** Composition of the network, as it has been set up so far. */
+  public NetworkTopology topology() {
+    return topology.build();
+  }
+
+  /**
+   * Readies the started network for another test, resuming any paused members. The metrics,
+   * resource usage and RPC statistics of the previous test are exported to its log directory and
+   * then cleared, with sampling stopped until startSampling(). Nonces are assigned afresh from the
+   * chain.
+   */
+  public void reset() {
+    checkState(state.isStarted(), "Only a started network can be reset");
+    resumePaused();
+    stopSampling();
+    exportStatistics();
+    metrics.clear();
+    resources.clear();
+    rpcStatistics().values().forEach(RpcStatistics::clear);
+    nonces.clear();
+  }
+
+  /** Samples the metrics and resource usage of the members, as on start or after a reset. */
+  public void startSampling() {
+    trackResources();
+    metrics.start();
+  }
+
+  public Web3Provider node(final String identity) {
+    return nodes.stream()
+        .filter(node -> node.identity().equals(identity))
+        .findFirst()
+        .orElseThrow(
+            () ->
+                new IllegalArgumentException("No node in the Network with identity: " + identity));
   }
 
   // TODO temporary hack to support overloading of set with varargs
@@ -172,6 +345,13 @@ public class Network implements Closeable {
         "Cannot set consensus mechanism while the Network is already started");
     checkState(signers.isEmpty(), "Cannot change consensus mechanism after creating signers");
 
+    this.consensus = consensus;
+    this.validators =
+        Stream.of(validators)
+            .filter(Objects::nonNull)
+            .map(Web3Provider::identity)
+            .collect(Collectors.toList());
+    topology.withConsensus(consensus, this.validators.toArray(new String[0]));
     this.genesisConfigurations.putAll(
         createGenesis(
             consensus,
@@ -199,6 +379,7 @@ public class Network implements Closeable {
       final Web3ProviderType providerType,
       final Wei minGasPrice) {
     this.minGasPrice = minGasPrice;
+    topology.withMinGasPrice(minGasPrice);
     return addNode(
         new Web3ProviderConfigurationBuilder()
             .withIdentity(nodeIdentifier)
@@ -233,6 +414,21 @@ public class Network implements Closeable {
         nodeType);
   }
 
+  /**
+   * Adds a GoQuorum node that starts from a captured data directory, rather than from genesis.
+   *
+   * @param dataDirectorySnapshot image returned by GoQuorum#snapshotDataDirectory.
+   */
+  public Web3Provider addNodeFromDataDirectory(
+      final String nodeIdentifier, final KeyPair nodeKeys, final String dataDirectorySnapshot) {
+    return addNode(
+        new Web3ProviderConfigurationBuilder()
+            .withIdentity(nodeIdentifier)
+            .withNodeKey(nodeKeys)
+            .withDataDirectorySnapshot(dataDirectorySnapshot),
+        Web3ProviderType.GOQUORUM);
+  }
+
   public Web3Provider addNode(
       final String identity,
       final KeyPair nodeKeys,
@@ -243,13 +439,18 @@ public class Network implements Closeable {
         "Privacy Manager: {}, is not a member of the Network",
         privacyManager);
 
-    return addNode(
-        new Web3ProviderConfigurationBuilder()
-            .withIdentity(identity)
-            .withNodeKey(nodeKeys)
-            .withPrivacyUrl(privacyManagers.get(privacyManager))
-            .withPrivacyManagerPublicKey(privacyAddressResource.get()),
-        Web3ProviderType.BESU);
+    final PrivateTransactionManager manager = privacyManagers.get(privacyManager);
+    final Web3Provider node =
+        addNode(
+            new Web3ProviderConfigurationBuilder()
+                .withIdentity(identity)
+                .withNodeKey(nodeKeys)
+                .withPrivacyUrl(manager)
+                .withPrivacyManagerPublicKey(privacyAddressResource.get()),
+            Web3ProviderType.BESU);
+    startupDependencies.put(node, Set.of(manager));
+
+    return node;
   }
 
   private Web3Provider addNode(
@@ -258,16 +459,22 @@ public class Network implements Closeable {
     final StaticNodesFile staticNodesFile = new StaticNodesFile(pathGenerator.uniqueFile());
     config
         .withVertx(vertx)
+        .withExecutor(executor)
+        .withEventBus(events)
+        .withMetrics(metrics)
         .withContainerNetwork(subnet.network())
         .withIpAddress(subnet.getAddressAndIncrement())
         .withGenesisFile(genesisFiles.get(providerType))
         .withStaticNodesFile(staticNodesFile)
         .withBootnodeEnodeAddress(bootnodeEnodeAddresses());
+    final Web3ProviderConfiguration configuration = config.build();
     if (providerType.equals(Web3ProviderType.BESU)) {
-      web3Provider = new Besu(config.build());
+      web3Provider = new Besu(configuration);
     } else {
-      web3Provider = new GoQuorum(config.build());
+      web3Provider = new GoQuorum(configuration);
     }
+    topology.withNode(
+        configuration.getIdentity(), providerType, configuration.getImageVersion());
 
     staticNodesFiles.put(web3Provider, staticNodesFile);
     return addNode(web3Provider);
@@ -296,7 +503,8 @@ public class Network implements Closeable {
     }
 
     privacyManagers.put(identity, manager);
-    members.add(manager);
+    addMember(manager, "privacy-" + identity);
+    topology.withPrivacyManager(identity, privateTransactionManagerType);
 
     return manager;
   }
@@ -319,7 +527,9 @@ public class Network implements Closeable {
                 .build());
 
     signers.put(wallet, signer);
-    members.add(signer);
+    addMember(signer, "signer-" + wallet);
+    startupDependencies.put(signer, Set.of(downstream));
+    topology.withSigner(wallet, downstream.identity());
 
     return signer;
   }
@@ -346,7 +556,9 @@ public class Network implements Closeable {
                 .build());
 
     signers.put(wallet, signer);
-    members.add(signer);
+    addMember(signer, "signer-" + wallet);
+    startupDependencies.put(signer, Set.of(downstream));
+    topology.withSigner(wallet, downstream.identity());
 
     return signer;
   }
@@ -361,19 +573,23 @@ public class Network implements Closeable {
   public void awaitConsensusOnTransactionReceipt(final Hash transaction, final int timeout) {
     checkState(nodes.size() > 1, "There must be two or more nodes to be able to wait on consensus");
 
+    final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(timeout);
+
+    // Nodes on either side of a transient fork disagree until it resolves, so compare again
     await(
         () -> {
           final List<TransactionReceipt> receipts =
-              nodes
-                  .parallelStream()
-                  .map(node -> node.rpc().getTransactionReceipt(transaction))
-                  .collect(Collectors.toList());
+              awaitAll(
+                  nodes.stream()
+                      .map(node -> node.awaitTransactionReceipt(transaction))
+                      .collect(Collectors.toList()),
+                  secondsUntil(deadline),
+                  "Consensus was not reached in time for Transaction Receipt with hash: %s",
+                  transaction);
 
-          assertThat(receipts.size()).isEqualTo(nodes.size());
           final TransactionReceipt firstReceipt = receipts.get(0);
 
           for (final TransactionReceipt receipt : receipts) {
-            assertThat(receipt).isNotNull();
             assertThat(receipt.isSuccess()).isTrue();
             assertThat(receipt).usingRecursiveComparison().isEqualTo(firstReceipt);
           }
@@ -383,29 +599,58 @@ public class Network implements Closeable {
         transaction);
   }
 
+  /** Whole seconds remaining until the deadline, at least one. */
+  private static int secondsUntil(final long deadlineNanos) {
+    return (int) Math.max(1, TimeUnit.NANOSECONDS.toSeconds(deadlineNanos - System.nanoTime()));
+  }
+
+  /**
+   * Waits for the node to report a change of BFT round, as read from its output rather than polled
+   * over RPC.
+   */
+  public RoundChange awaitRoundChange(final Web3Provider node, final int timeout) {
+    return events.await(
+        RoundChange.class,
+        event -> event.getNode().equals(node.identity()),
+        Duration.ofSeconds(timeout));
+  }
+
   public void verifyConsensusOnValue(final Address... accounts) {
     checkState(
         nodes.size() > 1, "There must be two or more nodes to be able to verify on consensus");
 
     final Web3Provider firstNode = nodes.iterator().next();
-    final Set<AccountValue> values =
+    final NodeRpcBatch batch = firstNode.rpc().batch();
+    final Map<Address, Supplier<Wei>> balances =
         Stream.of(accounts)
-            .parallel()
-            .map(account -> new AccountValue(account, firstNode.rpc().getBalance(account)))
+            .distinct()
+            .collect(Collectors.toMap(Function.identity(), batch::getBalance));
+    firstNode.rpc().execute(batch);
+
+    final Set<AccountValue> values =
+        balances.entrySet().stream()
+            .map(balance -> new AccountValue(balance.getKey(), balance.getValue().get()))
             .collect(Collectors.toSet());
 
-    nodes.parallelStream().forEach(node -> node.verifyValue(values));
+    executor.forEach(nodes, node -> node.verifyValue(values));
   }
 
   public void verifyConsensusOnTransaction(final Hash transaction) {
     checkState(
         nodes.size() > 1, "There must be two or more nodes to be able to verify on consensus");
 
+    final List<Optional<Transaction>> responses =
+        awaitData(
+            () -> {
+              final List<Optional<Transaction>> results =
+                  joinAll(node -> node.asyncRpc().getTransactionByHash(transaction));
+              return results.stream().allMatch(Optional::isPresent) ? results : null;
+            },
+            "Failed to retrieve the transaction with hash: %s from every node",
+            transaction);
+
     final Set<Transaction> transactions =
-        nodes
-            .parallelStream()
-            .map(node -> node.rpc().getTransactionByHash(transaction))
-            .collect(Collectors.toSet());
+        responses.stream().map(Optional::get).collect(Collectors.toSet());
 
     assertThat(transactions).isNotEmpty();
     final Transaction firstTx = transactions.iterator().next();
@@ -421,11 +666,18 @@ public class Network implements Closeable {
     checkState(
         nodes.size() > 1, "There must be two or more nodes to be able to verify on consensus");
 
+    final List<Optional<PrivacyTransactionReceipt>> responses =
+        awaitData(
+            () -> {
+              final List<Optional<PrivacyTransactionReceipt>> results =
+                  joinAll(node -> node.asyncRpc().getPrivacyTransactionReceipt(transaction));
+              return results.stream().allMatch(Optional::isPresent) ? results : null;
+            },
+            "Failed to retrieve the privacy transaction receipt with hash: %s from every node",
+            transaction);
+
     final Set<PrivacyTransactionReceipt> transactions =
-        nodes
-            .parallelStream()
-            .map(node -> node.rpc().getPrivacyTransactionReceipt(transaction))
-            .collect(Collectors.toSet());
+        responses.stream().map(Optional::get).collect(Collectors.toSet());
 
     assertThat(transactions).isNotEmpty();
     final PrivacyTransactionReceipt firstTx = transactions.iterator().next();
@@ -440,19 +692,56 @@ public class Network implements Closeable {
     checkState(
         nodes.size() > 1, "There must be two or more nodes to be able to verify on consensus");
 
-    await(
-        () ->
-            assertThat(
-                    nodes
-                        .parallelStream()
-                        .map(node -> node.rpc().getBlockNumber())
-                        .allMatch(block -> block >= blockNumber))
-                .isTrue(),
+    awaitAll(
+        nodes.stream()
+            .map(node -> chainHeads.awaitBlockNumber(node, blockNumber))
+            .collect(Collectors.toList()),
         120,
         "Failed to achieve consensus on block number being at least %s",
         blockNumber);
   }
 
+  /** Waits for the node to report no block imports in its output for the quiet period. */
+  public void verifyChainStalled(final Web3Provider node, final Duration quietPeriod) {
+    try {
+      events.awaitQuiet(
+          BlockImported.class,
+          event -> event.getNode().equals(node.identity()),
+          quietPeriod,
+          Duration.ofSeconds(DEFAULT_TIMEOUT_IN_SECONDS).plus(quietPeriod));
+    } catch (final IllegalStateException e) {
+      throw new AssertionError(String.format("Node %s has not stalled", node.getNodeId()), e);
+    }
+  }
+
+  /** Prometheus metrics scraped from the nodes, e.g. peer counts and block import times. */
+  public NetworkMetrics metrics() {
+    return metrics;
+  }
+
+  /** CPU, memory and I/O usage of the member containers, sampled through Docker stats. */
+  public NetworkResources resources() {
+    return resources;
+  }
+
+  /** Latencies and failures of the RPC calls made of each member, by the name of its logs. */
+  public Map<String, RpcStatistics> rpcStatistics() {
+    final Map<String, RpcStatistics> statistics = new TreeMap<>();
+    members.forEach(
+        member ->
+            member.rpcStatistics().ifPresent(rpc -> statistics.put(logNames.get(member), rpc)));
+    return statistics;
+  }
+
+  /** Events the members report in their output, e.g. block imports and round changes. */
+  public NetworkEventBus events() {
+    return events;
+  }
+
+  public ChainHeadMonitor chainHeads() {
+    return chainHeads;
+  }
+
   public void verifyConsensusOnValidators(final List<Address> expectedValidators) {
     checkState(
         nodes.size() > 1, "There must be two or more nodes to be able to verify on consensus");
@@ -460,17 +749,27 @@ public class Network implements Closeable {
     await(
         () ->
             assertThat(
-                    nodes
-                        .parallelStream()
-                        .map(node -> node.rpc().qbftGetValidatorsByBlockBlockNumber("latest"))
-                        .allMatch(validators -> validators.containsAll(expectedValidators)))
+                    executor.allMatch(
+                        nodes,
+                        node -> node.rpc().qbftGetValidatorsByBlockBlockNumber("latest"),
+                        validators -> validators.containsAll(expectedValidators)))
                 .isTrue(),
         "Failed to achieve consensus on validators %s",
         expectedValidators);
   }
 
+  /** Issues the query to every node at once, then waits on all of the responses. */
+  private <T> List<T> joinAll(final Function<Web3Provider, CompletableFuture<T>> query) {
+    final List<CompletableFuture<T>> responses =
+        nodes.stream().map(query).collect(Collectors.toList());
+
+    CompletableFuture.allOf(responses.toArray(new CompletableFuture<?>[0])).join();
+
+    return responses.stream().map(CompletableFuture::join).collect(Collectors.toList());
+  }
+
   public void verifyGasRewardsAreTransferredToValidator(final Hash receipt) {
-    nodes.forEach(node -> node.verifyGasRewardsAreTransferredToValidator(receipt));
+    executor.forEach(nodes, node -> node.verifyGasRewardsAreTransferredToValidator(receipt));
   }
 
   // TODO these Mediator method could be refactored elsewhere?
@@ -478,6 +777,16 @@ public class Network implements Closeable {
     return new NodeVerify(node);
   }
 
+  /** Signs in-process for the account, at the minimum gas price of the network. */
+  public LocalSigner localSigner(final Account account) {
+    return new LocalSigner(account, minGasPrice, nonces(account.address()));
+  }
+
+  /** Nonces of the account, shared by everything submitting for it through this network. */
+  public NonceManager nonces(final Address account) {
+    return nonces.computeIfAbsent(account, NonceManager::new);
+  }
+
   public SignerRpcSenderKnown rpc(final String signerName, final Address sender) {
     checkNotNull(signerName, "Signer Identifier is mandatory");
     checkState(
@@ -497,7 +806,7 @@ public class Network implements Closeable {
   @VisibleForTesting
   Web3Provider addNode(final Web3Provider web3Provider) {
     nodes.add(web3Provider);
-    members.add(web3Provider);
+    addMember(web3Provider, "node-" + web3Provider.identity());
 
     return web3Provider;
   }
@@ -506,8 +815,65 @@ public class Network implements Closeable {
     return nodes.parallelStream().map(Web3Provider::enodeAddress).collect(Collectors.joining(","));
   }
 
+  private void addMember(final NetworkMember member, final String logName) {
+    members.add(member);
+    logNames.put(member, logName);
+  }
+
+  private void trackResources() {
+    members.forEach(
+        member -> member.containerId().ifPresent(id -> resources.track(logNames.get(member), id)));
+  }
+
+  /** Thaws any member a test left paused, so it neither stops frozen nor is reused frozen. */
+  private void resumePaused() {
+    members.stream().filter(NetworkMember::isPaused).forEach(NetworkMember::resume);
+  }
+
+  private void stopSampling() {
+    metrics.stop();
+    resources.untrackAll();
+  }
+
+  private void exportStatistics() {
+    metrics.export(logDirectory.resolve(METRICS_FILE));
+    exportResources();
+    exportRpcStatistics();
+  }
+
+  private void attempt(final String action, final Runnable step) {
+    try {
+      step.run();
+    } catch (final RuntimeException e) {
+      LOG.warn("Failed to {} of the network", action, e);
+    }
+  }
+
+  private void exportResources() {
+    resources
+        .summary()
+        .forEach((member, usage) -> LOG.info("Resource usage of {}: {}", member, usage));
+    resources.exportCsv(logDirectory.resolve(RESOURCES_FILE + ".csv"));
+    resources.exportJson(logDirectory.resolve(RESOURCES_FILE + ".json"));
+  }
+
+  private void exportRpcStatistics() {
+    final Map<String, RpcStatistics> statistics = rpcStatistics();
+    statistics.forEach((member, rpc) -> LOG.info("RPC calls of {}: {}", member, rpc.total()));
+    RpcStatistics.export(statistics, logDirectory.resolve(RPC_FILE));
+  }
+
+  private void persistLogs(final NetworkMember member) {
+    member.logTo(logDirectory.resolve(logNames.get(member) + ".log"));
+  }
+
+  /** Starts each member once the members it depends upon, e.g. its privacy manager, are up. */
+  private void startMembers() {
+    startupTimings = new StartupScheduler().start(members, startupDependencies::get);
+  }
+
   private void everyMember(final Consumer<NetworkMember> action) {
-    members.parallelStream().forEach(action);
+    executor.forEach(members, action);
   }
 
   private Map<Web3ProviderType, Genesis> createGenesis(
@@ -579,15 +945,17 @@ public class Network implements Closeable {
   }
 
   private void awaitConnectivity() {
-    nodes.parallelStream().forEach(node -> node.awaitConnectivity(nodes));
+    executor.forEach(nodes, node -> node.awaitConnectivity(nodes));
 
-    privacyManagers
-        .values()
-        .parallelStream()
-        .distinct()
-        .forEach(privacyManger -> privacyManger.awaitConnectivity(privacyManagers.values()));
+    final List<PrivateTransactionManager> managers =
+        privacyManagers.values().stream().distinct().collect(Collectors.toList());
+    final List<Map.Entry<PrivateTransactionManager, PrivateTransactionManager>> managerPairs =
+        managers.stream()
+            .flatMap(manager -> managers.stream().map(peer -> Map.entry(manager, peer)))
+            .collect(Collectors.toList());
+    executor.forEach(managerPairs, pair -> pair.getKey().awaitConnectivity(pair.getValue()));
 
-    signers.values().parallelStream().forEach(EthSigner::awaitConnectivityToDownstream);
+    executor.forEach(signers.values(), EthSigner::awaitConnectivityToDownstream);
   }
 
   private List<String> privacyManagerBootnodeUrls() {
@@ -607,18 +975,21 @@ public class Network implements Closeable {
 
   public void restart() {
     everyMember(NetworkMember::stop);
-    everyMember(NetworkMember::start);
+    startMembers();
+    trackResources();
   }
 
   public void addBlockRewardTransition(
       final long blockRewardTransitionBlock, final Wei blockReward) {
     this.blockRewardTransitionBlock = blockRewardTransitionBlock;
     this.blockReward = blockReward;
+    topology.withBlockReward(blockRewardTransitionBlock, blockReward);
   }
 
   public void addMiningBeneficiaryTransition(
       final long miningBeneficiaryBlock, final Address miningBeneficiary) {
     this.miningBeneficiaryBlock = miningBeneficiaryBlock;
     this.miningBeneficiary = miningBeneficiary;
+    topology.withMiningBeneficiary(miningBeneficiaryBlock, miningBeneficiary);
   }
 }
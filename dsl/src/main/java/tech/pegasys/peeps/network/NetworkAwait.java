@@ -14,6 +14,8 @@ package tech.pegasys.peeps.network;
 
 import static tech.pegasys.peeps.util.Await.DEFAULT_TIMEOUT_IN_SECONDS;
 
+import tech.pegasys.peeps.network.events.RoundChange;
+import tech.pegasys.peeps.node.Web3Provider;
 import tech.pegasys.peeps.node.model.Hash;
 
 public class NetworkAwait {
@@ -31,4 +33,8 @@ public class NetworkAwait {
   public void consensusOnTransactionReceipt(final Hash receipt, final int timeout) {
     network.awaitConsensusOnTransactionReceipt(receipt, timeout);
   }
+
+  public RoundChange roundChange(final Web3Provider node) {
+    return network.awaitRoundChange(node, DEFAULT_TIMEOUT_IN_SECONDS);
+  }
 }
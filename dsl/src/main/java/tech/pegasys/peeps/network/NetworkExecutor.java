@@ -0,0 +1,67 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.network;
+
+import java.io.Closeable;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Fans out blocking calls, one per Network member, returning once every call has completed or the
+ * outcome is already known.
+ *
+ * <p>Failures thrown by a call are rethrown unchanged, after any calls still outstanding have been
+ * cancelled. Exceeding the deadline is an IllegalStateException naming the outstanding targets.
+ */
+public interface NetworkExecutor extends Closeable {
+
+  /** Generous enough to cover the timeouts of the awaits that verifications perform. */
+  Duration DEFAULT_DEADLINE = Duration.ofMinutes(2);
+
+  /** Results are in the iteration order of the targets. */
+  <T, R> List<R> map(
+      Collection<? extends T> targets, Function<? super T, ? extends R> call, Duration deadline);
+
+  <T> void forEach(Collection<? extends T> targets, Consumer<? super T> call, Duration deadline);
+
+  /** Outstanding calls are cancelled as soon as any result fails the condition. */
+  <T, R> boolean allMatch(
+      Collection<? extends T> targets,
+      Function<? super T, ? extends R> call,
+      Predicate<? super R> condition,
+      Duration deadline);
+
+  default <T, R> List<R> map(
+      final Collection<? extends T> targets, final Function<? super T, ? extends R> call) {
+    return map(targets, call, DEFAULT_DEADLINE);
+  }
+
+  default <T> void forEach(
+      final Collection<? extends T> targets, final Consumer<? super T> call) {
+    forEach(targets, call, DEFAULT_DEADLINE);
+  }
+
+  default <T, R> boolean allMatch(
+      final Collection<? extends T> targets,
+      final Function<? super T, ? extends R> call,
+      final Predicate<? super R> condition) {
+    return allMatch(targets, call, condition, DEFAULT_DEADLINE);
+  }
+
+  @Override
+  void close();
+}
@@ -12,10 +12,40 @@
  */
 package tech.pegasys.peeps.network;
 
+import tech.pegasys.peeps.json.rpc.RpcStatistics;
+
+import java.nio.file.Path;
+import java.util.Optional;
+
 /** Life-cycle for a Network member. */
 public interface NetworkMember {
 
   void start();
 
   void stop();
+
+  /**
+   * Freezes the member, as an outage that keeps its container, data and RPC bindings, unlike stop.
+   */
+  void pause();
+
+  /** Thaws a paused member, which carries on from where it was frozen. */
+  void resume();
+
+  boolean isRunning();
+
+  /** Whether the member is frozen by pause, which a running check alone does not tell apart. */
+  boolean isPaused();
+
+  /** Persists the container output from now on to the file, replacing any earlier destination. */
+  void logTo(Path file);
+
+  /** Identifier of the member's container, empty unless started. */
+  Optional<String> containerId();
+
+  /** Statistics of the RPC calls made of the member, empty when it serves none. */
+  Optional<RpcStatistics> rpcStatistics();
+
+  /** Name of the Docker image the member runs. */
+  String dockerImageName();
 }
@@ -0,0 +1,302 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.network;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkState;
+
+import tech.pegasys.peeps.network.subnet.Subnet;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Started networks kept running between tests, handed out to those with the same topology.
+ *
+ * <p>A pooled network is not recreated for each test, so tests must look up members by identity
+ * (rather than retaining those created during set up) and must not depend on the chain state at
+ * the beginning of the test. On release the network is reset, exporting what was gathered during
+ * the test into its log directory.
+ *
+ * <p>Idle networks hold on to their containers, so only a few are kept and only for a while.
+ */
+public class NetworkPool {
+
+  private static final Logger LOG = LogManager.getLogger();
+
+  /** Most idle networks kept at any time, with zero disabling reuse. */
+  public static final String MAX_IDLE_PROPERTY = "peeps.pool.maxIdle";
+
+  /** Seconds an idle network is kept before being closed. */
+  public static final String IDLE_TIMEOUT_PROPERTY = "peeps.pool.idleTimeout";
+
+  private static final int DEFAULT_MAX_IDLE = 2;
+  private static final long DEFAULT_IDLE_TIMEOUT_SECONDS = 120;
+
+  private static final NetworkPool SHARED =
+      new NetworkPool(
+          Integer.getInteger(MAX_IDLE_PROPERTY, DEFAULT_MAX_IDLE),
+          Duration.ofSeconds(Long.getLong(IDLE_TIMEOUT_PROPERTY, DEFAULT_IDLE_TIMEOUT_SECONDS)));
+
+  private final int maxIdle;
+  private final Duration idleTimeout;
+  private final ScheduledExecutorService expiry;
+  private final Map<NetworkTopology, Deque<Idle>> idle;
+  private final Map<Network, Path> directories;
+  private boolean closed;
+
+  @VisibleForTesting
+  NetworkPool(final int maxIdle, final Duration idleTimeout) {
+    checkArgument(maxIdle >= 0, "Maximum idle networks must not be negative");
+    checkArgument(!idleTimeout.isNegative(), "Idle timeout must not be negative");
+    this.maxIdle = maxIdle;
+    this.idleTimeout = idleTimeout;
+    this.expiry =
+        Executors.newSingleThreadScheduledExecutor(
+            new ThreadFactoryBuilder().setNameFormat("network-pool-%d").setDaemon(true).build());
+    this.idle = new HashMap<>();
+    this.directories = new IdentityHashMap<>();
+    Runtime.getRuntime().addShutdownHook(new Thread(this::close));
+    AdmissionController.shared().addReliever(this::evictIdle);
+  }
+
+  public static NetworkPool shared() {
+    return SHARED;
+  }
+
+  /**
+   * Provides a started network of the topology, reset by its last release when reused.
+   *
+   * <p>The set up is only run when the pool holds no idle match, with the network it creates
+   * having to match the topology.
+   */
+  public Network acquire(final NetworkTopology topology, final Consumer<Network> setUp) {
+    final Optional<Network> pooled = take(topology);
+
+    if (pooled.isPresent()) {
+      LOG.info("Reusing pooled network: {}", topology);
+      pooled.get().startSampling();
+      return pooled.get();
+    }
+
+    LOG.info("Starting network for pool: {}", topology);
+    final Path directory = createDirectory();
+    final Network network = new Network(directory, new Subnet());
+    track(network, directory);
+
+    try {
+      setUp.accept(network);
+      checkState(
+          network.topology().equals(topology),
+          "Network set up as: %s, rather than the topology: %s",
+          network.topology(),
+          topology);
+      network.start();
+    } catch (final RuntimeException | Error e) {
+      discard(network, untrack(network));
+      throw e;
+    }
+
+    return network;
+  }
+
+  /**
+   * Resets the network, exporting what was gathered during the test, then keeps it for reuse when
+   * still healthy, otherwise it is closed.
+   */
+  public void release(final Network network) {
+    try {
+      network.reset();
+    } catch (final RuntimeException e) {
+      LOG.warn("Failed resetting network, closing it", e);
+      discard(network, untrack(network));
+      return;
+    }
+
+    if (maxIdle > 0 && network.isHealthy() && keepIdle(network)) {
+      boolean evicted = true;
+      while (evicted && idleCount() > maxIdle) {
+        evicted = evictIdle();
+      }
+      return;
+    }
+
+    discard(network, untrack(network));
+  }
+
+  public void close() {
+    final Map<Network, Path> remaining;
+
+    synchronized (this) {
+      closed = true;
+      remaining = new IdentityHashMap<>(directories);
+      directories.clear();
+      idle.clear();
+    }
+
+    expiry.shutdownNow();
+    remaining.forEach(this::discard);
+  }
+
+  /**
+   * Closes the eldest idle network, freeing capacity for networks waiting to start.
+   *
+   * @return whether there was an idle network to close.
+   */
+  boolean evictIdle() {
+    final Network eldest;
+
+    synchronized (this) {
+      eldest = takeEldest(Duration.ZERO);
+    }
+
+    if (eldest == null) {
+      return false;
+    }
+
+    LOG.info("Evicting idle network to free capacity: {}", eldest.topology());
+    discard(eldest, untrack(eldest));
+    return true;
+  }
+
+  @VisibleForTesting
+  synchronized int idleCount() {
+    return idle.values().stream().mapToInt(Deque::size).sum();
+  }
+
+  /** Closes the networks that have been idle for longer than the timeout. */
+  private void evictExpired() {
+    Network expired;
+
+    do {
+      synchronized (this) {
+        expired = takeEldest(idleTimeout);
+      }
+
+      if (expired != null) {
+        LOG.info("Closing network idle for over {}: {}", idleTimeout, expired.topology());
+        discard(expired, untrack(expired));
+      }
+    } while (expired != null);
+  }
+
+  /** Removes the eldest idle network, when it has been idle for at least the given duration. */
+  private Network takeEldest(final Duration idleFor) {
+    final Optional<Deque<Idle>> eldest =
+        idle.values().stream()
+            .filter(networks -> !networks.isEmpty())
+            .min(Comparator.comparingLong(networks -> networks.peekLast().since));
+
+    if (eldest.isEmpty() || System.nanoTime() - eldest.get().peekLast().since < idleFor.toNanos()) {
+      return null;
+    }
+
+    return eldest.get().pollLast().network;
+  }
+
+  /** Takes an idle network of the topology, closing any found to be no longer healthy. */
+  private Optional<Network> take(final NetworkTopology topology) {
+    while (true) {
+      final Network candidate;
+
+      synchronized (this) {
+        final Deque<Idle> matches = idle.get(topology);
+        final Idle match = matches == null ? null : matches.poll();
+        if (match == null) {
+          return Optional.empty();
+        }
+        candidate = match.network;
+      }
+
+      if (candidate.isHealthy()) {
+        return Optional.of(candidate);
+      }
+
+      discard(candidate, untrack(candidate));
+    }
+  }
+
+  private synchronized boolean keepIdle(final Network network) {
+    if (closed) {
+      return false;
+    }
+
+    idle.computeIfAbsent(network.topology(), key -> new ArrayDeque<>()).push(new Idle(network));
+    expiry.schedule(this::evictExpired, idleTimeout.toMillis(), TimeUnit.MILLISECONDS);
+    return true;
+  }
+
+  private synchronized void track(final Network network, final Path directory) {
+    directories.put(network, directory);
+  }
+
+  private synchronized Path untrack(final Network network) {
+    return directories.remove(network);
+  }
+
+  private void discard(final Network network, final Path directory) {
+    try {
+      network.close();
+    } finally {
+      if (directory != null) {
+        deleteDirectory(directory);
+      }
+    }
+  }
+
+  private Path createDirectory() {
+    try {
+      return Files.createTempDirectory("peeps-network");
+    } catch (final IOException e) {
+      throw new UncheckedIOException("Failed to create the network configuration directory", e);
+    }
+  }
+
+  private void deleteDirectory(final Path directory) {
+    try (final Stream<Path> paths = Files.walk(directory)) {
+      paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+    } catch (final IOException e) {
+      LOG.warn("Failed to delete network configuration directory: {}", directory, e);
+    }
+  }
+
+  private static class Idle {
+    private final Network network;
+    private final long since;
+
+    Idle(final Network network) {
+      this.network = network;
+      this.since = System.nanoTime();
+    }
+  }
+}
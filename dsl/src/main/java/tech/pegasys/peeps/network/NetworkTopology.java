@@ -0,0 +1,81 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.network;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.apache.tuweni.eth.Address;
+import org.apache.tuweni.units.ethereum.Wei;
+
+/**
+ * Composition of a network, without any keys, with networks of the same topology being
+ * interchangeable for tests that look up their members by identity.
+ *
+ * <p>Being a plain description, a topology is known without creating any network resources.
+ */
+public class NetworkTopology {
+
+  private final String signature;
+
+  NetworkTopology(
+      final ConsensusMechanism consensus,
+      final List<String> validators,
+      final Map<String, String> nodes,
+      final Map<String, String> privacyManagers,
+      final Map<String, String> signers,
+      final Wei minGasPrice,
+      final long blockRewardTransitionBlock,
+      final Wei blockReward,
+      final long miningBeneficiaryBlock,
+      final Address miningBeneficiary) {
+    this.signature =
+        String.format(
+            "consensus=%s;validators=%s;nodes=[%s];privacyManagers=[%s];signers=[%s];"
+                + "minGasPrice=%s;blockReward=%s@%s;miningBeneficiary=%s@%s",
+            consensus,
+            validators,
+            signature(nodes),
+            signature(privacyManagers),
+            signature(signers),
+            minGasPrice,
+            blockReward,
+            blockRewardTransitionBlock,
+            miningBeneficiary,
+            miningBeneficiaryBlock);
+  }
+
+  @Override
+  public boolean equals(final Object other) {
+    return other instanceof NetworkTopology
+        && signature.equals(((NetworkTopology) other).signature);
+  }
+
+  @Override
+  public int hashCode() {
+    return signature.hashCode();
+  }
+
+  @Override
+  public String toString() {
+    return signature;
+  }
+
+  private static String signature(final Map<String, String> entries) {
+    return entries.entrySet().stream()
+        .sorted(Map.Entry.comparingByKey())
+        .map(entry -> entry.getKey() + "=" + entry.getValue())
+        .collect(Collectors.joining(","));
+  }
+}
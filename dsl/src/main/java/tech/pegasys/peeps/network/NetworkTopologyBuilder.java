@@ -0,0 +1,111 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.network;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import tech.pegasys.peeps.node.Web3ProviderConfigurationBuilder;
+import tech.pegasys.peeps.node.Web3ProviderType;
+import tech.pegasys.peeps.privacy.PrivateTransactionManagerType;
+import tech.pegasys.peeps.privacy.model.PrivacyManagerIdentifier;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.tuweni.eth.Address;
+import org.apache.tuweni.units.ethereum.Wei;
+
+/**
+ * Describes a network in the same terms as it is set up, defaulting to those of a new Network,
+ * e.g. EthHash consensus.
+ */
+public class NetworkTopologyBuilder {
+
+  private final Map<String, String> nodes = new HashMap<>();
+  private final Map<String, String> privacyManagers = new HashMap<>();
+  private final Map<String, String> signers = new HashMap<>();
+
+  private ConsensusMechanism consensus = ConsensusMechanism.ETH_HASH;
+  private List<String> validators = List.of();
+  private Wei minGasPrice = Wei.valueOf(0);
+  private long blockRewardTransitionBlock;
+  private Wei blockReward = Wei.valueOf(0);
+  private long miningBeneficiaryBlock;
+  private Address miningBeneficiary;
+
+  public NetworkTopologyBuilder withConsensus(
+      final ConsensusMechanism consensus, final String... validators) {
+    checkArgument(consensus != null, "Consensus mechanism is mandatory");
+    this.consensus = consensus;
+    this.validators = List.of(validators);
+    return this;
+  }
+
+  public NetworkTopologyBuilder withNode(final String identity, final Web3ProviderType type) {
+    return withNode(identity, type, Web3ProviderConfigurationBuilder.DEFAULT_IMAGE_VERSION);
+  }
+
+  public NetworkTopologyBuilder withNode(
+      final String identity, final Web3ProviderType type, final String imageVersion) {
+    checkArgument(identity != null, "Node identity is mandatory");
+    nodes.put(identity, type + ":" + imageVersion);
+    return this;
+  }
+
+  public NetworkTopologyBuilder withPrivacyManager(
+      final PrivacyManagerIdentifier identity, final PrivateTransactionManagerType type) {
+    checkArgument(identity != null, "Privacy manager identity is mandatory");
+    privacyManagers.put(identity.toString(), type.toString());
+    return this;
+  }
+
+  public NetworkTopologyBuilder withSigner(final String wallet, final String downstream) {
+    checkArgument(wallet != null, "Signer wallet is mandatory");
+    signers.put(wallet, downstream);
+    return this;
+  }
+
+  public NetworkTopologyBuilder withMinGasPrice(final Wei minGasPrice) {
+    this.minGasPrice = minGasPrice;
+    return this;
+  }
+
+  public NetworkTopologyBuilder withBlockReward(
+      final long blockRewardTransitionBlock, final Wei blockReward) {
+    this.blockRewardTransitionBlock = blockRewardTransitionBlock;
+    this.blockReward = blockReward;
+    return this;
+  }
+
+  public NetworkTopologyBuilder withMiningBeneficiary(
+      final long miningBeneficiaryBlock, final Address miningBeneficiary) {
+    this.miningBeneficiaryBlock = miningBeneficiaryBlock;
+    this.miningBeneficiary = miningBeneficiary;
+    return this;
+  }
+
+  public NetworkTopology build() {
+    return new NetworkTopology(
+        consensus,
+        validators,
+        nodes,
+        privacyManagers,
+        signers,
+        minGasPrice,
+        blockRewardTransitionBlock,
+        blockReward,
+        miningBeneficiaryBlock,
+        miningBeneficiary);
+  }
+}
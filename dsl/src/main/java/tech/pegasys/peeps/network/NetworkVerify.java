@@ -12,10 +12,12 @@
  */
 package tech.pegasys.peeps.network;
 
+import tech.pegasys.peeps.node.Web3Provider;
 import tech.pegasys.peeps.node.model.Hash;
 import tech.pegasys.peeps.privacy.PrivacyGroupVerify;
 import tech.pegasys.peeps.privacy.model.PrivacyGroup;
 
+import java.time.Duration;
 import java.util.List;
 
 import org.apache.tuweni.eth.Address;
@@ -39,6 +41,10 @@ public class NetworkVerify {
     network.verifyConsensusOnBlockNumberIsAtLeast(blockNumber);
   }
 
+  public void chainStalled(final Web3Provider node, final Duration quietPeriod) {
+    network.verifyChainStalled(node, quietPeriod);
+  }
+
   // TODO perhaps a separate specialisation - privacy?
   public void consensusOnPrivacyTransactionReceipt(final Hash transaction) {
     network.verifyConsensusOnPrivacyTransactionReceipt(transaction);
@@ -0,0 +1,221 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.network;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkState;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Starts Network members on a dedicated I/O executor, each member as soon as every member it
+ * depends upon has started.
+ *
+ * <p>Members are grouped into stages by their depth in the dependency graph, e.g. privacy managers
+ * at stage zero, the nodes using them at stage one and the signers in front of those nodes at stage
+ * two. The elapsed time of each stage is logged once startup completes.
+ */
+public class StartupScheduler {
+
+  /** System property overriding the number of members that may be starting at once. */
+  public static final String CONCURRENCY_PROPERTY = "peeps.startup.concurrency";
+
+  private static final Logger LOG = LogManager.getLogger();
+
+  private final int concurrency;
+
+  /** Concurrency taken from the system property, otherwise every member may start at once. */
+  public StartupScheduler() {
+    this(Integer.getInteger(CONCURRENCY_PROPERTY, 0));
+  }
+
+  /**
+   * @param concurrency maximum number of members starting at once, with zero or less meaning no
+   *     limit beyond the number of members.
+   */
+  public StartupScheduler(final int concurrency) {
+    this.concurrency = concurrency;
+  }
+
+  /**
+   * Starts every member, returning only after all have started.
+   *
+   * @param members to start, in any order.
+   * @param dependencies the members that must have started before the given member is started,
+   *     all of which must also be present in members.
+   * @return elapsed time of each stage, keyed by stage.
+   * @throws IllegalStateException when the dependencies contain a cycle, or a member fails to
+   *     start; dependents of a member that fails to start are not started.
+   */
+  public Map<Integer, Duration> start(
+      final List<? extends NetworkMember> members,
+      final Function<NetworkMember, Set<NetworkMember>> dependencies) {
+
+    if (members.isEmpty()) {
+      return Map.of();
+    }
+
+    final Map<NetworkMember, Integer> stages = new HashMap<>();
+    members.forEach(member -> stage(member, members, dependencies, stages, new HashSet<>()));
+
+    final int threads = concurrency > 0 ? Math.min(concurrency, members.size()) : members.size();
+    final ExecutorService executor =
+        Executors.newFixedThreadPool(
+            threads,
+            new ThreadFactoryBuilder().setNameFormat("peeps-startup-%d").setDaemon(true).build());
+
+    final Map<Integer, StageTiming> timings = new TreeMap<>();
+    stages.values().forEach(stage -> timings.put(stage, new StageTiming()));
+
+    try {
+      final Map<NetworkMember, CompletableFuture<Void>> started = new HashMap<>();
+      members.forEach(
+          member ->
+              schedule(
+                  member,
+                  dependencies,
+                  started,
+                  executor,
+                  scheduled -> timings.get(stages.get(scheduled))));
+
+      join(started.values());
+    } finally {
+      executor.shutdownNow();
+    }
+
+    final Map<Integer, Duration> elapsed = new TreeMap<>();
+    timings.forEach((stage, timing) -> elapsed.put(stage, timing.elapsed()));
+    elapsed.forEach(
+        (stage, duration) ->
+            LOG.info(
+                "Startup stage {} of {} members took {} ms",
+                stage,
+                stages.values().stream().filter(s -> s.equals(stage)).count(),
+                duration.toMillis()));
+
+    return elapsed;
+  }
+
+  private CompletableFuture<Void> schedule(
+      final NetworkMember member,
+      final Function<NetworkMember, Set<NetworkMember>> dependencies,
+      final Map<NetworkMember, CompletableFuture<Void>> started,
+      final ExecutorService executor,
+      final Function<NetworkMember, StageTiming> timings) {
+
+    final CompletableFuture<Void> existing = started.get(member);
+    if (existing != null) {
+      return existing;
+    }
+
+    final CompletableFuture<?>[] prerequisites =
+        dependenciesOf(member, dependencies).stream()
+            .map(dependency -> schedule(dependency, dependencies, started, executor, timings))
+            .toArray(CompletableFuture<?>[]::new);
+    final StageTiming timing = timings.apply(member);
+
+    final CompletableFuture<Void> future =
+        CompletableFuture.allOf(prerequisites)
+            .thenRunAsync(
+                () -> {
+                  final long begin = System.nanoTime();
+                  timing.begin(begin);
+                  member.start();
+                  final long end = System.nanoTime();
+                  timing.end(end);
+                  LOG.debug(
+                      "Started {} in {} ms", member, Duration.ofNanos(end - begin).toMillis());
+                },
+                executor);
+
+    started.put(member, future);
+    return future;
+  }
+
+  private int stage(
+      final NetworkMember member,
+      final Collection<? extends NetworkMember> members,
+      final Function<NetworkMember, Set<NetworkMember>> dependencies,
+      final Map<NetworkMember, Integer> stages,
+      final Set<NetworkMember> visiting) {
+
+    final Integer known = stages.get(member);
+    if (known != null) {
+      return known;
+    }
+
+    checkState(visiting.add(member), "Cyclic startup dependency involving %s", member);
+
+    int stage = 0;
+    for (final NetworkMember dependency : dependenciesOf(member, dependencies)) {
+      checkArgument(
+          members.contains(dependency),
+          "Dependency %s of %s is not a member of the Network",
+          dependency,
+          member);
+      stage = Math.max(stage, stage(dependency, members, dependencies, stages, visiting) + 1);
+    }
+
+    visiting.remove(member);
+    stages.put(member, stage);
+    return stage;
+  }
+
+  private Set<NetworkMember> dependenciesOf(
+      final NetworkMember member, final Function<NetworkMember, Set<NetworkMember>> dependencies) {
+    final Set<NetworkMember> result = dependencies.apply(member);
+    return result == null ? Set.of() : result;
+  }
+
+  private void join(final Collection<CompletableFuture<Void>> futures) {
+    try {
+      CompletableFuture.allOf(futures.toArray(CompletableFuture<?>[]::new)).join();
+    } catch (final CompletionException e) {
+      throw new IllegalStateException("Failed to start the Network members", e.getCause());
+    }
+  }
+
+  /** Earliest start and latest finish of the members in a stage. */
+  private static class StageTiming {
+    private long begin = Long.MAX_VALUE;
+    private long end = Long.MIN_VALUE;
+
+    private synchronized void begin(final long nanos) {
+      begin = Math.min(begin, nanos);
+    }
+
+    private synchronized void end(final long nanos) {
+      end = Math.max(end, nanos);
+    }
+
+    private synchronized Duration elapsed() {
+      return end < begin ? Duration.ZERO : Duration.ofNanos(end - begin);
+    }
+  }
+}
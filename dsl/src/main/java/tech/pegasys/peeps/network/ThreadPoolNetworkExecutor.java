@@ -0,0 +1,180 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.network;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+/**
+ * Executes the calls on a pool sized for blocking I/O, rather than the processor count, so a
+ * fan-out across every node takes about as long as the slowest node.
+ */
+public class ThreadPoolNetworkExecutor implements NetworkExecutor {
+
+  /** System property overriding the maximum number of calls in flight at once. */
+  public static final String THREADS_PROPERTY = "peeps.executor.threads";
+
+  private static final int DEFAULT_THREADS = 256;
+
+  private final ThreadPoolExecutor pool;
+
+  public ThreadPoolNetworkExecutor() {
+    this(Integer.getInteger(THREADS_PROPERTY, DEFAULT_THREADS));
+  }
+
+  public ThreadPoolNetworkExecutor(final int threads) {
+    checkArgument(threads > 0, "At least one thread is required, requested: %s", threads);
+
+    // Idle threads expire, so a large ceiling costs nothing between verifications
+    this.pool =
+        new ThreadPoolExecutor(
+            threads,
+            threads,
+            30,
+            TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(),
+            new ThreadFactoryBuilder().setNameFormat("peeps-network-%d").setDaemon(true).build());
+    this.pool.allowCoreThreadTimeOut(true);
+  }
+
+  @Override
+  public <T, R> List<R> map(
+      final Collection<? extends T> targets,
+      final Function<? super T, ? extends R> call,
+      final Duration deadline) {
+    return this.<T, R>fanOut(targets, call::apply, result -> true, deadline).orElseThrow();
+  }
+
+  @Override
+  public <T> void forEach(
+      final Collection<? extends T> targets,
+      final Consumer<? super T> call,
+      final Duration deadline) {
+    fanOut(
+        targets,
+        target -> {
+          call.accept(target);
+          return Boolean.TRUE;
+        },
+        result -> true,
+        deadline);
+  }
+
+  @Override
+  public <T, R> boolean allMatch(
+      final Collection<? extends T> targets,
+      final Function<? super T, ? extends R> call,
+      final Predicate<? super R> condition,
+      final Duration deadline) {
+    return fanOut(targets, call::apply, condition, deadline).isPresent();
+  }
+
+  @Override
+  public void close() {
+    pool.shutdownNow();
+  }
+
+  /**
+   * @return every result, or empty when a result failed the condition and the remaining calls were
+   *     cancelled.
+   */
+  private <T, R> Optional<List<R>> fanOut(
+      final Collection<? extends T> targets,
+      final Function<? super T, R> call,
+      final Predicate<? super R> proceed,
+      final Duration deadline) {
+
+    final long expiry = System.nanoTime() + deadline.toNanos();
+    final CompletionService<R> completion = new ExecutorCompletionService<>(pool);
+    final Map<Future<R>, Integer> positions = new HashMap<>();
+    final Map<Future<R>, T> submitted = new HashMap<>();
+    final List<R> results = new ArrayList<>();
+
+    for (final T target : targets) {
+      final Future<R> future = completion.submit(() -> call.apply(target));
+      positions.put(future, results.size());
+      submitted.put(future, target);
+      results.add(null);
+    }
+
+    try {
+      for (int remaining = results.size(); remaining > 0; remaining--) {
+        final Future<R> done = completion.poll(expiry - System.nanoTime(), TimeUnit.NANOSECONDS);
+
+        if (done == null) {
+          throw new IllegalStateException(
+              String.format(
+                  "Calls still outstanding after %s ms: %s",
+                  deadline.toMillis(), outstanding(submitted)));
+        }
+
+        final R result = result(done);
+        if (!proceed.test(result)) {
+          return Optional.empty();
+        }
+        results.set(positions.get(done), result);
+      }
+
+      return Optional.of(results);
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while awaiting the Network members", e);
+    } finally {
+      submitted.keySet().forEach(future -> future.cancel(true));
+    }
+  }
+
+  private <R> R result(final Future<R> done) throws InterruptedException {
+    try {
+      return done.get();
+    } catch (final ExecutionException e) {
+      final Throwable cause = e.getCause();
+
+      if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      }
+      if (cause instanceof Error) {
+        throw (Error) cause;
+      }
+
+      throw new IllegalStateException(cause);
+    }
+  }
+
+  private <T, R> List<T> outstanding(final Map<Future<R>, T> submitted) {
+    return submitted.entrySet().stream()
+        .filter(entry -> !entry.getKey().isDone())
+        .map(Map.Entry::getValue)
+        .collect(Collectors.toList());
+  }
+}
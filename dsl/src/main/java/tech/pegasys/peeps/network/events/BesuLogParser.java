@@ -0,0 +1,61 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.network.events;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Events from the Besu log layout, e.g.
+ *
+ * <pre>
+ * Imported #12 / 0 tx / 0 om / 0 (0.0%) gas / (0x5bf4...) in 0.001s. Peers: 3
+ * Round has expired ... round=ConsensusRoundIdentifier{Sequence=12, Round=0}
+ * </pre>
+ *
+ * <p>No PeerAdded or PeerRemoved events are parsed, as Besu at the INFO level PEEPS runs it with
+ * logs only the peer count of each import, never which peer connected or disconnected.
+ */
+public class BesuLogParser implements NodeLogParser {
+
+  private static final Pattern BLOCK =
+      Pattern.compile("\\b(?:Imported|Produced) #([\\d,]+) / .*?\\((0x[0-9a-fA-F]+)\\)");
+  private static final Pattern ROUND_EXPIRED =
+      Pattern.compile(
+          "(?i)round has expired.*ConsensusRoundIdentifier\\{Sequence=(\\d+), Round=(\\d+)\\}");
+
+  @Override
+  public Optional<NodeEvent> parse(final String node, final String line, final Instant observed) {
+    final Matcher block = BLOCK.matcher(line);
+    if (block.find()) {
+      return Optional.of(
+          new BlockImported(
+              node, observed, Long.parseLong(block.group(1).replace(",", "")), block.group(2)));
+    }
+
+    // The expired round is reported, with the node moving on to the next
+    final Matcher round = ROUND_EXPIRED.matcher(line);
+    if (round.find()) {
+      return Optional.of(
+          new RoundChange(
+              node,
+              observed,
+              Long.parseLong(round.group(1)),
+              Integer.parseInt(round.group(2)) + 1));
+    }
+
+    return Optional.empty();
+  }
+}
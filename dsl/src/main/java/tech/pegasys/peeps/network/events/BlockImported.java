@@ -0,0 +1,45 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.network.events;
+
+import java.time.Instant;
+
+/** Block added to the node's chain, whether produced locally or received from a peer. */
+public class BlockImported extends NodeEvent {
+
+  private final long number;
+  private final String hash;
+
+  public BlockImported(
+      final String node, final Instant timestamp, final long number, final String hash) {
+    super(node, timestamp);
+    this.number = number;
+    this.hash = hash;
+  }
+
+  public long getNumber() {
+    return number;
+  }
+
+  /** Hash as printed by the node, which may be abbreviated. */
+  public String getHash() {
+    return hash;
+  }
+
+  @Override
+  public String toString() {
+    return String.format(
+        "BlockImported{node=%s, number=%s, hash=%s, timestamp=%s}",
+        getNode(), number, hash, getTimestamp());
+  }
+}
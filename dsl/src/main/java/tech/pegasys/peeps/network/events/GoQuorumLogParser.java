@@ -0,0 +1,91 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.network.events;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Events from the Geth log layout of a message followed by key=value context, e.g.
+ *
+ * <pre>
+ * INFO [10-18|12:00:00.000] Imported new chain segment  blocks=1 txs=0 number=12 hash=5bf4..a1c2
+ * INFO [10-18|12:00:05.000] QBFT: start new round  next.round=1 next.seq=13
+ * </pre>
+ */
+public class GoQuorumLogParser implements NodeLogParser {
+
+  private static final Pattern CONTEXT =
+      Pattern.compile("([\\w.]+)=(\"(?:[^\"\\\\]|\\\\.)*\"|\\S*)");
+  private static final Pattern NUMBER = Pattern.compile("\\d+");
+
+  private static final List<String> BLOCK_MESSAGES =
+      List.of("Imported new chain segment", "Successfully sealed new block");
+  private static final List<String> ROUND_KEYS =
+      List.of("next.round", "new.round", "new_round", "round");
+  private static final List<String> HEIGHT_KEYS =
+      List.of("next.seq", "new.seq", "new_seq", "sequence", "seq", "number");
+
+  @Override
+  public Optional<NodeEvent> parse(final String node, final String line, final Instant observed) {
+    if (BLOCK_MESSAGES.stream().anyMatch(line::contains)) {
+      final Map<String, String> context = context(line);
+      if (context.containsKey("number") && context.containsKey("hash")) {
+        return Optional.of(
+            new BlockImported(
+                node, observed, Long.parseLong(context.get("number")), context.get("hash")));
+      }
+    } else if (line.toLowerCase(Locale.ROOT).contains("new round")) {
+      // Round zero is the first round at a new height, rather than a change of round
+      final Map<String, String> context = context(line);
+      final Optional<String> round = first(context, ROUND_KEYS, NUMBER);
+      final Optional<String> height = first(context, HEIGHT_KEYS, NUMBER);
+      if (round.isPresent() && height.isPresent() && Integer.parseInt(round.get()) > 0) {
+        return Optional.of(
+            new RoundChange(
+                node, observed, Long.parseLong(height.get()), Integer.parseInt(round.get())));
+      }
+    } else if (line.contains("Adding p2p peer")) {
+      return Optional.ofNullable(context(line).get("id"))
+          .map(peer -> new PeerAdded(node, observed, peer));
+    } else if (line.contains("Removing p2p peer")) {
+      return Optional.ofNullable(context(line).get("id"))
+          .map(peer -> new PeerRemoved(node, observed, peer));
+    }
+
+    return Optional.empty();
+  }
+
+  private Map<String, String> context(final String line) {
+    final Map<String, String> context = new HashMap<>();
+    final Matcher matcher = CONTEXT.matcher(line);
+    while (matcher.find()) {
+      context.putIfAbsent(matcher.group(1), matcher.group(2).replace("\"", ""));
+    }
+    return context;
+  }
+
+  private Optional<String> first(
+      final Map<String, String> context, final List<String> keys, final Pattern format) {
+    return keys.stream()
+        .map(context::get)
+        .filter(value -> value != null && format.matcher(value).matches())
+        .findFirst();
+  }
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.network.events;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Events reported by the members of a Network, delivered to subscribers on the thread that read
+ * the output, so subscribers must be quick and must not block.
+ */
+public class NetworkEventBus {
+
+  private static final Logger LOG = LogManager.getLogger();
+
+  private final List<Subscription<?>> subscriptions = new CopyOnWriteArrayList<>();
+
+  public void publish(final NodeEvent event) {
+    LOG.debug("Event: {}", event);
+    subscriptions.forEach(subscription -> subscription.deliver(event));
+  }
+
+  /** Receives every event of the type, until the returned subscription is closed. */
+  public <T extends NodeEvent> Subscription<T> subscribe(
+      final Class<T> type, final Consumer<? super T> subscriber) {
+    final Subscription<T> subscription = new Subscription<>(type, subscriber);
+    subscriptions.add(subscription);
+    return subscription;
+  }
+
+  /** Completes with the next event of the type that matches, published after the call. */
+  public <T extends NodeEvent> CompletableFuture<T> next(
+      final Class<T> type, final Predicate<? super T> matching) {
+    final CompletableFuture<T> next = new CompletableFuture<>();
+    final Subscription<T> subscription =
+        subscribe(
+            type,
+            event -> {
+              if (matching.test(event)) {
+                next.complete(event);
+              }
+            });
+    next.whenComplete((event, error) -> subscription.close());
+    return next;
+  }
+
+  /** Blocks until the next matching event is published, up to the timeout. */
+  public <T extends NodeEvent> T await(
+      final Class<T> type, final Predicate<? super T> matching, final Duration timeout) {
+    final CompletableFuture<T> next = next(type, matching);
+    try {
+      return next.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+    } catch (final TimeoutException e) {
+      throw new IllegalStateException(
+          String.format("No %s event within %s", type.getSimpleName(), timeout), e);
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted awaiting " + type.getSimpleName(), e);
+    } catch (final ExecutionException e) {
+      throw new IllegalStateException("Failed awaiting " + type.getSimpleName(), e.getCause());
+    } finally {
+      next.cancel(false);
+    }
+  }
+
+  /**
+   * Blocks until no matching event is published for the whole quiet period, e.g. a node importing
+   * no blocks, failing when no such period fits within the timeout.
+   */
+  public <T extends NodeEvent> void awaitQuiet(
+      final Class<T> type,
+      final Predicate<? super T> matching,
+      final Duration quietPeriod,
+      final Duration timeout) {
+    final long deadline = System.nanoTime() + timeout.toNanos();
+
+    while (deadline - System.nanoTime() >= quietPeriod.toNanos()) {
+      final CompletableFuture<T> next = next(type, matching);
+      try {
+        final T event = next.get(quietPeriod.toMillis(), TimeUnit.MILLISECONDS);
+        LOG.debug("Quiet period of {} broken by: {}", quietPeriod, event);
+      } catch (final TimeoutException e) {
+        return;
+      } catch (final InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new IllegalStateException("Interrupted awaiting quiet " + type.getSimpleName(), e);
+      } catch (final ExecutionException e) {
+        throw new IllegalStateException(
+            "Failed awaiting quiet " + type.getSimpleName(), e.getCause());
+      } finally {
+        next.cancel(false);
+      }
+    }
+
+    throw new IllegalStateException(
+        String.format(
+            "No quiet period of %s without %s events within %s",
+            quietPeriod, type.getSimpleName(), timeout));
+  }
+
+  public class Subscription<T extends NodeEvent> implements AutoCloseable {
+
+    private final Class<T> type;
+    private final Consumer<? super T> subscriber;
+
+    private Subscription(final Class<T> type, final Consumer<? super T> subscriber) {
+      this.type = type;
+      this.subscriber = subscriber;
+    }
+
+    private void deliver(final NodeEvent event) {
+      if (!type.isInstance(event)) {
+        return;
+      }
+
+      try {
+        subscriber.accept(type.cast(event));
+      } catch (final RuntimeException e) {
+        LOG.warn("Subscriber to {} failed on: {}", type.getSimpleName(), event, e);
+      }
+    }
+
+    @Override
+    public void close() {
+      subscriptions.remove(this);
+    }
+  }
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.network.events;
+
+import java.time.Instant;
+
+/** Something a node reported in its container output. */
+public abstract class NodeEvent {
+
+  private final String node;
+  private final Instant timestamp;
+
+  protected NodeEvent(final String node, final Instant timestamp) {
+    this.node = node;
+    this.timestamp = timestamp;
+  }
+
+  /** Identity of the node reporting the event. */
+  public String getNode() {
+    return node;
+  }
+
+  /** When the line reporting the event was observed. */
+  public Instant getTimestamp() {
+    return timestamp;
+  }
+}
@@ -0,0 +1,28 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.network.events;
+
+import java.time.Instant;
+import java.util.Optional;
+
+/** Recognises the lines of a node's output that report an event. */
+public interface NodeLogParser {
+
+  /**
+   * @param node identity of the node that printed the line.
+   * @param line single line of output, without the line terminator.
+   * @param observed when the line was read from the container.
+   * @return the event the line reports, empty for any other line.
+   */
+  Optional<NodeEvent> parse(String node, String line, Instant observed);
+}
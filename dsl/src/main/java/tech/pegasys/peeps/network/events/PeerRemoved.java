@@ -0,0 +1,36 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.network.events;
+
+import java.time.Instant;
+
+public class PeerRemoved extends NodeEvent {
+
+  private final String peer;
+
+  public PeerRemoved(final String node, final Instant timestamp, final String peer) {
+    super(node, timestamp);
+    this.peer = peer;
+  }
+
+  /** Peer identifier as printed by the node, which may be abbreviated. */
+  public String getPeer() {
+    return peer;
+  }
+
+  @Override
+  public String toString() {
+    return String.format(
+        "PeerRemoved{node=%s, peer=%s, timestamp=%s}", getNode(), peer, getTimestamp());
+  }
+}
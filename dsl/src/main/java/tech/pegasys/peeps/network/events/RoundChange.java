@@ -0,0 +1,44 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.network.events;
+
+import java.time.Instant;
+
+/** BFT round moving on without a block, at the given height. */
+public class RoundChange extends NodeEvent {
+
+  private final long height;
+  private final int round;
+
+  public RoundChange(
+      final String node, final Instant timestamp, final long height, final int round) {
+    super(node, timestamp);
+    this.height = height;
+    this.round = round;
+  }
+
+  public long getHeight() {
+    return height;
+  }
+
+  public int getRound() {
+    return round;
+  }
+
+  @Override
+  public String toString() {
+    return String.format(
+        "RoundChange{node=%s, height=%s, round=%s, timestamp=%s}",
+        getNode(), height, round, getTimestamp());
+  }
+}
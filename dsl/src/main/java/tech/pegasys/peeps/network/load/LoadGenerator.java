@@ -0,0 +1,364 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.network.load;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkState;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import tech.pegasys.peeps.json.rpc.LatencyHistogram;
+import tech.pegasys.peeps.network.load.LoadProfile.Mode;
+import tech.pegasys.peeps.node.Web3Provider;
+import tech.pegasys.peeps.node.model.BlockHeader;
+import tech.pegasys.peeps.node.model.Hash;
+import tech.pegasys.peeps.signer.EthSigner;
+import tech.pegasys.peeps.signer.rpc.SignerRpcAsyncClient;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Drives a workload at the nodes or signers given, measuring how long transactions take to be
+ * included.
+ *
+ * <p>Targets are used in turn, one per submission. Inclusion is the first observing node importing
+ * a block with the transaction and finality every observing node having done so, which for the BFT
+ * consensus mechanisms is when the block is final. Each new block of an observer is fetched once
+ * for its transaction hashes, rather than querying receipts of every outstanding transaction.
+ * Observers default to the nodes submitted to, and are required when only submitting through
+ * signers.
+ *
+ * <p>After the submission window the run waits for outstanding transactions to reach every
+ * observer, for at most the drain timeout, before reporting.
+ */
+public class LoadGenerator {
+
+  private static final Logger LOG = LogManager.getLogger();
+
+  private static final Duration TICK = Duration.ofMillis(10);
+  private static final Duration DEFAULT_DRAIN_TIMEOUT = Duration.ofMinutes(1);
+
+  private final LoadProfile profile;
+  private final Workload workload;
+  private final List<SignerRpcAsyncClient> targets;
+  private final Set<Web3Provider> targetNodes;
+  private final Set<Web3Provider> observers;
+  private Duration drainTimeout;
+
+  public LoadGenerator(final LoadProfile profile, final Workload workload) {
+    this.profile = profile;
+    this.workload = workload;
+    this.targets = new ArrayList<>();
+    this.targetNodes = new LinkedHashSet<>();
+    this.observers = new LinkedHashSet<>();
+    this.drainTimeout = DEFAULT_DRAIN_TIMEOUT;
+  }
+
+  public LoadGenerator submitTo(final Web3Provider... nodes) {
+    for (final Web3Provider node : nodes) {
+      targets.add(node.asyncRpc());
+      targetNodes.add(node);
+    }
+    return this;
+  }
+
+  public LoadGenerator submitTo(final EthSigner... signers) {
+    for (final EthSigner signer : signers) {
+      targets.add(signer.asyncRpc());
+    }
+    return this;
+  }
+
+  public LoadGenerator observeWith(final Web3Provider... nodes) {
+    observers.addAll(List.of(nodes));
+    return this;
+  }
+
+  public LoadGenerator drainFor(final Duration timeout) {
+    this.drainTimeout = timeout;
+    return this;
+  }
+
+  /** Submits for the given duration, then drains and reports; blocking throughout. */
+  public LoadReport run(final Duration duration) {
+    checkArgument(!duration.isNegative() && !duration.isZero(), "Duration must be positive");
+    checkState(!targets.isEmpty(), "No nodes or signers to submit transactions to");
+    final List<Web3Provider> observing =
+        new ArrayList<>(observers.isEmpty() ? targetNodes : observers);
+    checkState(!observing.isEmpty(), "No nodes to observe transaction inclusion with");
+
+    LOG.info(
+        "Starting load {} for {}s against {} targets",
+        profile,
+        duration.toSeconds(),
+        targets.size());
+
+    final ScheduledExecutorService scheduler =
+        Executors.newSingleThreadScheduledExecutor(
+            new ThreadFactoryBuilder().setNameFormat("peeps-load-%d").setDaemon(true).build());
+    try {
+      final Run run = new Run(observing, duration, scheduler);
+      run.observe();
+      try {
+        run.submit();
+        run.drain(drainTimeout);
+      } finally {
+        run.stopObserving();
+      }
+
+      final LoadReport report = run.report();
+      LOG.info(report);
+      return report;
+    } finally {
+      scheduler.shutdownNow();
+    }
+  }
+
+  private class Run {
+    private final List<Web3Provider> observing;
+    private final Duration duration;
+    private final ScheduledExecutorService scheduler;
+    private final long start;
+    private final long end;
+
+    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicLong submitted = new AtomicLong();
+    private final AtomicLong errors = new AtomicLong();
+    private final AtomicLong included = new AtomicLong();
+    private final AtomicLong finalized = new AtomicLong();
+    private final AtomicLong lastInclusion;
+    private final LatencyHistogram inclusionLatency = new LatencyHistogram();
+    private final LatencyHistogram finalityLatency = new LatencyHistogram();
+
+    /* Transactions from submission until they are final or have failed. */
+    private final Set<CompletableFuture<Void>> unsettled = ConcurrentHashMap.newKeySet();
+    /* Transactions submitted or seen in a block, until included by every observer. */
+    private final Map<Hash, Tracked> tracked = new HashMap<>();
+    private final Map<Web3Provider, Consumer<BlockHeader>> scanners = new HashMap<>();
+
+    Run(
+        final List<Web3Provider> observing,
+        final Duration duration,
+        final ScheduledExecutorService scheduler) {
+      this.observing = observing;
+      this.duration = duration;
+      this.scheduler = scheduler;
+      this.start = System.nanoTime();
+      this.end = start + duration.toNanos();
+      this.lastInclusion = new AtomicLong(start);
+    }
+
+    /** Scans each new block of every observer for the transactions it includes. */
+    void observe() {
+      for (final Web3Provider observer : observing) {
+        final Consumer<BlockHeader> scanner = header -> scan(observer, header);
+        scanners.put(observer, scanner);
+        observer.addNewHeadListener(scanner);
+      }
+    }
+
+    /* Also forgets the transactions never final, and those of others seen in the blocks. */
+    synchronized void stopObserving() {
+      scanners.forEach(Web3Provider::removeNewHeadListener);
+      scanners.clear();
+      tracked.clear();
+    }
+
+    void submit() {
+      final CompletableFuture<Void> window = new CompletableFuture<>();
+      scheduler.schedule(() -> window.complete(null), duration.toNanos(), NANOSECONDS);
+
+      if (profile.getMode() == Mode.OPEN_LOOP) {
+        final SubmissionSchedule schedule =
+            new SubmissionSchedule(profile.getTransactionsPerSecond());
+        scheduler.scheduleAtFixedRate(() -> tick(schedule), 0, TICK.toMillis(), MILLISECONDS);
+      } else {
+        for (int slot = 0; slot < profile.getConcurrency(); slot++) {
+          resubmitOnInclusion();
+        }
+      }
+
+      window.join();
+    }
+
+    private void tick(final SubmissionSchedule schedule) {
+      final long elapsed = Math.min(System.nanoTime(), end) - start;
+      for (long due = schedule.due(elapsed); due > 0; due--) {
+        submitOne();
+      }
+    }
+
+    /* Hops onto the scheduler between submissions, so failing fast cannot grow the stack. */
+    private CompletableFuture<Void> resubmitOnInclusion() {
+      if (System.nanoTime() >= end) {
+        return CompletableFuture.completedFuture(null);
+      }
+      return submitOne().thenComposeAsync(ignored -> resubmitOnInclusion(), scheduler);
+    }
+
+    /** Completes on inclusion, or once the submission has failed. */
+    private CompletableFuture<Void> submitOne() {
+      final long number = sequence.getAndIncrement();
+      final SignerRpcAsyncClient target = targets.get((int) (number % targets.size()));
+      final long submittedAt = System.nanoTime();
+      final CompletableFuture<Void> settled = new CompletableFuture<>();
+      final CompletableFuture<Void> inclusion = new CompletableFuture<>();
+      unsettled.add(settled);
+      settled.whenComplete((result, error) -> unsettled.remove(settled));
+
+      submit(target, number)
+          .whenComplete(
+              (hash, error) -> {
+                if (error == null) {
+                  submitted.incrementAndGet();
+                  track(hash, submittedAt, inclusion, settled);
+                } else {
+                  errors.incrementAndGet();
+                  LOG.debug("Submission {} failed: {}", number, error.getMessage());
+                  inclusion.complete(null);
+                  settled.complete(null);
+                }
+              });
+
+      return inclusion;
+    }
+
+    private CompletableFuture<Hash> submit(final SignerRpcAsyncClient target, final long number) {
+      try {
+        return workload.submit(target, number);
+      } catch (final RuntimeException e) {
+        return CompletableFuture.failedFuture(e);
+      }
+    }
+
+    private void scan(final Web3Provider observer, final BlockHeader header) {
+      final long seenAt = System.nanoTime();
+      observer
+          .asyncRpc()
+          .getBlockTransactionHashes(header.getHash())
+          .whenComplete(
+              (hashes, error) -> {
+                if (error != null) {
+                  LOG.debug("Failed scanning block {} of {}", header, observer.identity(), error);
+                } else if (hashes.isEmpty()) {
+                  LOG.debug("Block {} missing from {}", header, observer.identity());
+                } else {
+                  hashes.get().forEach(hash -> included(hash, observer, seenAt));
+                }
+              });
+    }
+
+    /* A block may arrive before the submission returns its hash, so either may come first. */
+    private synchronized void track(
+        final Hash hash,
+        final long submittedAt,
+        final CompletableFuture<Void> inclusion,
+        final CompletableFuture<Void> settled) {
+      final Tracked transaction = tracked.computeIfAbsent(hash, ignored -> new Tracked());
+      transaction.submittedAt = submittedAt;
+      transaction.inclusion = inclusion;
+      transaction.settled = settled;
+      progress(hash, transaction);
+    }
+
+    private synchronized void included(
+        final Hash hash, final Web3Provider observer, final long seenAt) {
+      final Tracked transaction = tracked.computeIfAbsent(hash, ignored -> new Tracked());
+      if (transaction.includedBy.add(observer)) {
+        transaction.firstIncludedAt = Math.min(transaction.firstIncludedAt, seenAt);
+        transaction.lastIncludedAt = Math.max(transaction.lastIncludedAt, seenAt);
+        progress(hash, transaction);
+      }
+    }
+
+    private void progress(final Hash hash, final Tracked transaction) {
+      if (transaction.settled == null || transaction.includedBy.isEmpty()) {
+        return;
+      }
+
+      if (!transaction.inclusion.isDone()) {
+        final long at = Math.max(transaction.firstIncludedAt, transaction.submittedAt);
+        included.incrementAndGet();
+        lastInclusion.accumulateAndGet(at, Math::max);
+        inclusionLatency.record(at - transaction.submittedAt);
+        transaction.inclusion.complete(null);
+      }
+
+      if (transaction.includedBy.size() == observing.size()) {
+        final long at = Math.max(transaction.lastIncludedAt, transaction.submittedAt);
+        finalized.incrementAndGet();
+        finalityLatency.record(at - transaction.submittedAt);
+        tracked.remove(hash);
+        transaction.settled.complete(null);
+      }
+    }
+
+    void drain(final Duration timeout) {
+      final CompletableFuture<?>[] remaining = unsettled.toArray(CompletableFuture[]::new);
+      try {
+        CompletableFuture.allOf(remaining).get(timeout.toMillis(), MILLISECONDS);
+      } catch (final TimeoutException e) {
+        LOG.warn(
+            "{} transactions not final on every observer after draining for {}",
+            unsettled.size(),
+            timeout);
+      } catch (final InterruptedException e) {
+        Thread.currentThread().interrupt();
+      } catch (final ExecutionException e) {
+        LOG.warn("Draining outstanding transactions failed", e);
+      }
+    }
+
+    LoadReport report() {
+      return new LoadReport(
+          profile,
+          duration,
+          Duration.ofNanos(lastInclusion.get() - start),
+          submitted.get(),
+          errors.get(),
+          included.get(),
+          finalized.get(),
+          inclusionLatency,
+          finalityLatency);
+    }
+  }
+
+  /** Inclusion of a transaction by the observers, with its submission once the hash is known. */
+  private static class Tracked {
+    private final Set<Web3Provider> includedBy = new HashSet<>();
+    private long firstIncludedAt = Long.MAX_VALUE;
+    private long lastIncludedAt = Long.MIN_VALUE;
+    private long submittedAt;
+    private CompletableFuture<Void> inclusion;
+    private CompletableFuture<Void> settled;
+  }
+}
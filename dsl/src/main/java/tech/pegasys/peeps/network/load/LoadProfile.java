@@ -0,0 +1,72 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.network.load;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * How submissions are paced.
+ *
+ * <p>Open-loop submits at a fixed rate regardless of how the network keeps up, exposing queueing
+ * in the transaction pool. Closed-loop keeps a fixed number of transactions outstanding, each
+ * replaced once included, finding the throughput the network sustains.
+ */
+public class LoadProfile {
+
+  public enum Mode {
+    OPEN_LOOP,
+    CLOSED_LOOP
+  }
+
+  private final Mode mode;
+  private final double transactionsPerSecond;
+  private final int concurrency;
+
+  private LoadProfile(final Mode mode, final double transactionsPerSecond, final int concurrency) {
+    this.mode = mode;
+    this.transactionsPerSecond = transactionsPerSecond;
+    this.concurrency = concurrency;
+  }
+
+  public static LoadProfile openLoop(final double transactionsPerSecond) {
+    checkArgument(
+        transactionsPerSecond > 0,
+        "Target rate must be positive, given: %s",
+        transactionsPerSecond);
+    return new LoadProfile(Mode.OPEN_LOOP, transactionsPerSecond, 0);
+  }
+
+  public static LoadProfile closedLoop(final int concurrency) {
+    checkArgument(concurrency > 0, "Concurrency must be positive, given: %s", concurrency);
+    return new LoadProfile(Mode.CLOSED_LOOP, 0, concurrency);
+  }
+
+  public Mode getMode() {
+    return mode;
+  }
+
+  public double getTransactionsPerSecond() {
+    return transactionsPerSecond;
+  }
+
+  public int getConcurrency() {
+    return concurrency;
+  }
+
+  @Override
+  public String toString() {
+    return mode == Mode.OPEN_LOOP
+        ? String.format("open-loop at %s tx/s", transactionsPerSecond)
+        : String.format("closed-loop with %s outstanding", concurrency);
+  }
+}
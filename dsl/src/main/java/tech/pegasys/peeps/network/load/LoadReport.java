@@ -0,0 +1,136 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.network.load;
+
+import tech.pegasys.peeps.json.rpc.LatencyHistogram;
+
+import java.time.Duration;
+
+/** Outcome of a load run. */
+public class LoadReport {
+
+  private final LoadProfile profile;
+  private final Duration window;
+  private final Duration inclusionWindow;
+  private final long submitted;
+  private final long errors;
+  private final long included;
+  private final long finalized;
+  private final LatencyHistogram inclusionLatency;
+  private final LatencyHistogram finalityLatency;
+
+  LoadReport(
+      final LoadProfile profile,
+      final Duration window,
+      final Duration inclusionWindow,
+      final long submitted,
+      final long errors,
+      final long included,
+      final long finalized,
+      final LatencyHistogram inclusionLatency,
+      final LatencyHistogram finalityLatency) {
+    this.profile = profile;
+    this.window = window;
+    this.inclusionWindow = inclusionWindow;
+    this.submitted = submitted;
+    this.errors = errors;
+    this.included = included;
+    this.finalized = finalized;
+    this.inclusionLatency = inclusionLatency;
+    this.finalityLatency = finalityLatency;
+  }
+
+  public LoadProfile getProfile() {
+    return profile;
+  }
+
+  /** Period over which transactions were submitted. */
+  public Duration getWindow() {
+    return window;
+  }
+
+  /** Transactions accepted by their target. */
+  public long getSubmitted() {
+    return submitted;
+  }
+
+  /** Submissions rejected by their target or that failed to reach it. */
+  public long getErrors() {
+    return errors;
+  }
+
+  /** Submitted transactions in a block imported by at least one observing node. */
+  public long getIncluded() {
+    return included;
+  }
+
+  /** Submitted transactions in a block imported by every observing node. */
+  public long getFinalized() {
+    return finalized;
+  }
+
+  /** Submitted transactions not yet imported by every observing node. */
+  public long getUnconfirmed() {
+    return submitted - finalized;
+  }
+
+  /** Rate at which the targets accepted transactions. */
+  public double getSubmittedTps() {
+    return rate(submitted, window);
+  }
+
+  /** Rate at which transactions were included, from the start of the run to the last inclusion. */
+  public double getIncludedTps() {
+    return rate(included, inclusionWindow);
+  }
+
+  /** Time from submission to the first observing node importing a block with the transaction. */
+  public LatencyHistogram getInclusionLatency() {
+    return inclusionLatency;
+  }
+
+  /** Time from submission to every observing node having imported a block with the transaction. */
+  public LatencyHistogram getFinalityLatency() {
+    return finalityLatency;
+  }
+
+  private static double rate(final long count, final Duration period) {
+    return period.isZero() ? 0 : count * 1e9 / period.toNanos();
+  }
+
+  @Override
+  public String toString() {
+    return String.format(
+        "Load %s for %ss: submitted=%s (%.1f tx/s), errors=%s, included=%s (%.1f tx/s), "
+            + "finalized=%s, inclusion latency {%s}, finality latency {%s}",
+        profile,
+        window.toSeconds(),
+        submitted,
+        getSubmittedTps(),
+        errors,
+        included,
+        getIncludedTps(),
+        finalized,
+        percentiles(inclusionLatency),
+        percentiles(finalityLatency));
+  }
+
+  private static String percentiles(final LatencyHistogram latency) {
+    return String.format(
+        "p50=%sms, p95=%sms, p99=%sms, max=%sms",
+        latency.percentile(50).toMillis(),
+        latency.percentile(95).toMillis(),
+        latency.percentile(99).toMillis(),
+        latency.max().toMillis());
+  }
+}
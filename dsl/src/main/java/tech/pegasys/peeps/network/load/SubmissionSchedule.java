@@ -0,0 +1,43 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.network.load;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Open-loop pacing: the submissions due by an elapsed time, less those already issued.
+ *
+ * <p>Working from the elapsed time rather than the tick count means a late tick catches up with a
+ * burst instead of the run silently falling below its target rate.
+ */
+class SubmissionSchedule {
+
+  private final double transactionsPerSecond;
+  private long issued;
+
+  SubmissionSchedule(final double transactionsPerSecond) {
+    this.transactionsPerSecond = transactionsPerSecond;
+  }
+
+  /** Number of submissions to make now, counting them as issued. */
+  synchronized long due(final long elapsedNanos) {
+    final long total = (long) (elapsedNanos * transactionsPerSecond / TimeUnit.SECONDS.toNanos(1));
+    final long due = Math.max(0, total - issued);
+    issued += due;
+    return due;
+  }
+
+  synchronized long issued() {
+    return issued;
+  }
+}
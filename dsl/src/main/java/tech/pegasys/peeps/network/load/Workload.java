@@ -0,0 +1,66 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.network.load;
+
+import tech.pegasys.peeps.node.model.Hash;
+import tech.pegasys.peeps.signer.LocalSigner;
+import tech.pegasys.peeps.signer.NonceManager;
+import tech.pegasys.peeps.signer.rpc.SignerRpcAsyncClient;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.apache.tuweni.eth.Address;
+import org.apache.tuweni.units.ethereum.Wei;
+
+/** The transaction each submission of a load run sends. */
+@FunctionalInterface
+public interface Workload {
+
+  /**
+   * Submits a single transaction.
+   *
+   * @param target client of the node or signer to submit through.
+   * @param sequence zero based count of the submissions made before this one.
+   * @return hash of the submitted transaction.
+   */
+  CompletableFuture<Hash> submit(SignerRpcAsyncClient target, long sequence);
+
+  /** Value transfers between two accounts, the sender being unlocked on every target. */
+  static Workload transfer(final Address sender, final Address receiver, final Wei amount) {
+    return (target, sequence) -> target.transfer(sender, receiver, amount);
+  }
+
+  /** Calls of a deployed contract with fixed call data, the sender unlocked on every target. */
+  static Workload contractCall(final Address sender, final Address contract, final String data) {
+    return (target, sequence) -> target.call(sender, contract, data);
+  }
+
+  /** Value transfers with nonces assigned locally, so many are in flight from the one sender. */
+  static Workload pipelinedTransfer(
+      final NonceManager nonces, final Address receiver, final Wei amount) {
+    return (target, sequence) ->
+        nonces.submit(target, nonce -> target.transfer(nonces.account(), receiver, amount, nonce));
+  }
+
+  /** Value transfers signed in-process, submitted raw to each target. */
+  static Workload signedTransfer(
+      final LocalSigner signer, final Address receiver, final Wei amount) {
+    return (target, sequence) -> signer.transfer(target, receiver, amount);
+  }
+
+  /** Contract calls signed in-process, submitted raw to each target. */
+  static Workload signedContractCall(
+      final LocalSigner signer, final Address contract, final String data) {
+    return (target, sequence) -> signer.call(target, contract, data);
+  }
+}
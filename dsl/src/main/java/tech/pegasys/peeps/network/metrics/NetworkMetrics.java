@@ -0,0 +1,202 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.network.metrics;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+import io.vertx.core.Vertx;
+import io.vertx.ext.web.client.WebClient;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Periodically scrapes the Prometheus endpoint of every registered node, keeping the samples in
+ * memory as a time series per node and metric.
+ *
+ * <p>Nodes register their endpoint once started and unregister on stopping, with scrapes of a node
+ * that is paused or slow to respond skipped until the next interval.
+ */
+public class NetworkMetrics {
+
+  private static final Logger LOG = LogManager.getLogger();
+
+  /** Seconds between scrapes, with zero disabling scraping. */
+  public static final String INTERVAL_PROPERTY = "peeps.metrics.interval";
+
+  private static final long DEFAULT_INTERVAL_SECONDS = 5;
+  private static final int SERIES_CAPACITY = 4_096;
+
+  private final Vertx vertx;
+  private final Duration interval;
+  private final Map<String, Endpoint> endpoints;
+  private final Map<String, Map<String, TimeSeries>> series;
+
+  private WebClient webClient;
+  private Long timer;
+
+  public NetworkMetrics(final Vertx vertx) {
+    this(vertx, Duration.ofSeconds(Long.getLong(INTERVAL_PROPERTY, DEFAULT_INTERVAL_SECONDS)));
+  }
+
+  public NetworkMetrics(final Vertx vertx, final Duration interval) {
+    this.vertx = vertx;
+    this.interval = interval;
+    this.endpoints = new ConcurrentHashMap<>();
+    this.series = new ConcurrentHashMap<>();
+  }
+
+  /** Begins scraping the registered nodes on the interval. */
+  public synchronized void start() {
+    if (timer != null || interval.isZero() || interval.isNegative()) {
+      return;
+    }
+
+    webClient = WebClient.create(vertx);
+    timer = vertx.setPeriodic(interval.toMillis(), id -> scrape());
+  }
+
+  /** Stops scraping, keeping the samples already taken. */
+  public synchronized void stop() {
+    if (timer != null) {
+      vertx.cancelTimer(timer);
+      webClient.close();
+      timer = null;
+      webClient = null;
+    }
+  }
+
+  /** Discards the samples taken so far. */
+  public void clear() {
+    series.clear();
+  }
+
+  public void register(final String node, final String host, final int port, final String path) {
+    endpoints.put(node, new Endpoint(host, port, path));
+  }
+
+  public void unregister(final String node) {
+    endpoints.remove(node);
+  }
+
+  /** Nodes with at least one sample. */
+  public Set<String> nodes() {
+    return new TreeSet<>(series.keySet());
+  }
+
+  /** Metrics sampled from the node, keyed by name with any labels. */
+  public Set<String> metrics(final String node) {
+    return new TreeSet<>(series.getOrDefault(node, Map.of()).keySet());
+  }
+
+  public Optional<TimeSeries> series(final String node, final String metric) {
+    return Optional.ofNullable(series.getOrDefault(node, Map.of()).get(metric));
+  }
+
+  /** Most recent value of the metric, empty when the node has never reported it. */
+  public Optional<Double> latest(final String node, final String metric) {
+    return series(node, metric).flatMap(TimeSeries::latest).map(TimeSeries.Sample::getValue);
+  }
+
+  /**
+   * Writes every sample as CSV, with columns: timestamp, node, metric and value. Nothing is written
+   * when there are no samples, with a failure to write being logged rather than thrown.
+   */
+  public void export(final Path file) {
+    if (series.isEmpty()) {
+      return;
+    }
+
+    try {
+      Files.createDirectories(file.toAbsolutePath().getParent());
+      try (final Writer writer = Files.newBufferedWriter(file, UTF_8)) {
+        writer.write("timestamp,node,metric,value\n");
+        for (final String node : nodes()) {
+          for (final String metric : metrics(node)) {
+            for (final TimeSeries.Sample sample : series.get(node).get(metric).samples()) {
+              writer.write(
+                  String.format(
+                      "%s,%s,%s,%s\n",
+                      sample.getTimestamp(), csv(node), csv(metric), sample.getValue()));
+            }
+          }
+        }
+      }
+      LOG.info("Exported metrics to: {}", file);
+    } catch (final IOException e) {
+      LOG.warn("Failed exporting metrics to: {}", file, e);
+    }
+  }
+
+  void record(final String node, final Map<String, Double> samples, final Instant timestamp) {
+    final Map<String, TimeSeries> nodeSeries =
+        series.computeIfAbsent(node, name -> new ConcurrentHashMap<>());
+    samples.forEach(
+        (metric, value) ->
+            nodeSeries
+                .computeIfAbsent(metric, name -> new TimeSeries(name, SERIES_CAPACITY))
+                .add(timestamp, value));
+  }
+
+  private synchronized void scrape() {
+    if (webClient == null) {
+      return;
+    }
+
+    endpoints.forEach(
+        (node, endpoint) ->
+            webClient
+                .get(endpoint.port, endpoint.host, endpoint.path)
+                .timeout(interval.toMillis())
+                .send(
+                    result -> {
+                      if (result.succeeded()
+                          && result.result().statusCode() == 200
+                          && result.result().body() != null) {
+                        record(
+                            node,
+                            PrometheusText.parse(result.result().bodyAsString()),
+                            Instant.now());
+                      } else {
+                        LOG.debug("Skipped metrics scrape of: {}", node, result.cause());
+                      }
+                    }));
+  }
+
+  private static String csv(final String value) {
+    return "\"" + value.replace("\"", "\"\"") + "\"";
+  }
+
+  private static class Endpoint {
+    private final String host;
+    private final int port;
+    private final String path;
+
+    Endpoint(final String host, final int port, final String path) {
+      this.host = host;
+      this.port = port;
+      this.path = path;
+    }
+  }
+}
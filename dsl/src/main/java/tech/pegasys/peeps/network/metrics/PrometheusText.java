@@ -0,0 +1,67 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.network.metrics;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/** Parser for the Prometheus text exposition format, as served by Besu and GoQuorum. */
+public class PrometheusText {
+
+  private PrometheusText() {}
+
+  /**
+   * @return value of each sample, keyed by the metric name with any labels, e.g.
+   *     <code>ethereum_peer_count</code> or <code>jvm_memory_bytes_used{area="heap",}</code>.
+   */
+  public static Map<String, Double> parse(final String exposition) {
+    final Map<String, Double> samples = new LinkedHashMap<>();
+
+    for (final String line : exposition.split("\n")) {
+      final String sample = line.strip();
+      if (sample.isEmpty() || sample.startsWith("#")) {
+        continue;
+      }
+
+      // Label values may contain spaces, so any labels end the key
+      final int labelsEnd = sample.lastIndexOf('}');
+      final int keyEnd = labelsEnd >= 0 ? labelsEnd + 1 : sample.indexOf(' ');
+      if (keyEnd <= 0) {
+        continue;
+      }
+
+      // The value may be followed by a timestamp, which is not kept
+      final String key = sample.substring(0, keyEnd);
+      final String value = sample.substring(keyEnd).strip().split("\\s+")[0];
+      parseValue(value).ifPresent(parsed -> samples.put(key, parsed));
+    }
+
+    return samples;
+  }
+
+  private static Optional<Double> parseValue(final String value) {
+    switch (value) {
+      case "+Inf":
+        return Optional.of(Double.POSITIVE_INFINITY);
+      case "-Inf":
+        return Optional.of(Double.NEGATIVE_INFINITY);
+      default:
+        try {
+          return Optional.of(Double.parseDouble(value));
+        } catch (final NumberFormatException e) {
+          return Optional.empty();
+        }
+    }
+  }
+}
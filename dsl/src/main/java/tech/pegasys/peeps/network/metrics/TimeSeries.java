@@ -0,0 +1,76 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.network.metrics;
+
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Optional;
+
+/** Samples of a single metric of a node, oldest first, bounded to the most recent. */
+public class TimeSeries {
+
+  private final String metric;
+  private final int capacity;
+  private final Deque<Sample> samples;
+
+  TimeSeries(final String metric, final int capacity) {
+    this.metric = metric;
+    this.capacity = capacity;
+    this.samples = new ArrayDeque<>();
+  }
+
+  public String getMetric() {
+    return metric;
+  }
+
+  public synchronized List<Sample> samples() {
+    return new ArrayList<>(samples);
+  }
+
+  public synchronized Optional<Sample> latest() {
+    return Optional.ofNullable(samples.peekLast());
+  }
+
+  synchronized void add(final Instant timestamp, final double value) {
+    samples.addLast(new Sample(timestamp, value));
+    if (samples.size() > capacity) {
+      samples.removeFirst();
+    }
+  }
+
+  public static class Sample {
+    private final Instant timestamp;
+    private final double value;
+
+    Sample(final Instant timestamp, final double value) {
+      this.timestamp = timestamp;
+      this.value = value;
+    }
+
+    public Instant getTimestamp() {
+      return timestamp;
+    }
+
+    public double getValue() {
+      return value;
+    }
+
+    @Override
+    public String toString() {
+      return String.format("Sample{timestamp=%s, value=%s}", timestamp, value);
+    }
+  }
+}
@@ -0,0 +1,280 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.network.resources;
+
+import static com.google.common.base.Preconditions.checkState;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import tech.pegasys.peeps.json.Json;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import com.github.dockerjava.api.async.ResultCallback;
+import com.github.dockerjava.api.model.BlkioStatEntry;
+import com.github.dockerjava.api.model.CpuStatsConfig;
+import com.github.dockerjava.api.model.Statistics;
+import com.github.dockerjava.api.model.StatisticNetworksConfig;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testcontainers.DockerClientFactory;
+
+/**
+ * Resource usage of the containers of a Network, sampled from the Docker stats stream of each
+ * container, which reports about once a second.
+ */
+public class NetworkResources {
+
+  private static final Logger LOG = LogManager.getLogger();
+
+  // An hour of samples at the rate of the Docker stats stream
+  private static final int SERIES_CAPACITY = 3_600;
+
+  private final Map<String, ResourceSeries> series;
+  private final Map<String, Closeable> streams;
+
+  public NetworkResources() {
+    this.series = new ConcurrentHashMap<>();
+    this.streams = new ConcurrentHashMap<>();
+  }
+
+  /** Samples the container until the member is untracked, adding to any earlier samples. */
+  public void track(final String member, final String containerId) {
+    untrack(member);
+
+    final ResourceSeries memberSeries =
+        series.computeIfAbsent(member, name -> new ResourceSeries(SERIES_CAPACITY));
+
+    streams.put(
+        member,
+        DockerClientFactory.lazyClient()
+            .statsCmd(containerId)
+            .exec(
+                new ResultCallback.Adapter<Statistics>() {
+                  @Override
+                  public void onNext(final Statistics statistics) {
+                    sample(statistics).ifPresent(memberSeries::add);
+                  }
+
+                  @Override
+                  public void onError(final Throwable throwable) {
+                    LOG.debug("Stats stream of {} ended", member, throwable);
+                  }
+                }));
+  }
+
+  public void untrack(final String member) {
+    final Closeable stream = streams.remove(member);
+    if (stream != null) {
+      try {
+        stream.close();
+      } catch (final IOException e) {
+        LOG.debug("Failed closing stats stream of {}", member, e);
+      }
+    }
+  }
+
+  public void untrackAll() {
+    List.copyOf(streams.keySet()).forEach(this::untrack);
+  }
+
+  /** Discards the samples of every member, which must no longer be tracked. */
+  public void clear() {
+    checkState(streams.isEmpty(), "Samples cannot be cleared while members are tracked");
+    series.clear();
+  }
+
+  public Optional<ResourceSeries> series(final String member) {
+    return Optional.ofNullable(series.get(member));
+  }
+
+  /** Peak and average usage of each member with samples. */
+  public Map<String, ResourceSummary> summary() {
+    final Map<String, ResourceSummary> summary = new TreeMap<>();
+    series.forEach(
+        (member, memberSeries) ->
+            memberSeries.summary().ifPresent(usage -> summary.put(member, usage)));
+    return summary;
+  }
+
+  /** Writes the samples of every member as CSV, nothing written without samples. */
+  public void exportCsv(final Path file) {
+    if (series.isEmpty()) {
+      return;
+    }
+
+    write(
+        file,
+        writer -> {
+          writer.write(
+              "timestamp,member,cpu_percent,memory_bytes,block_read_bytes,block_write_bytes,"
+                  + "network_rx_bytes,network_tx_bytes\n");
+          for (final Map.Entry<String, ResourceSeries> entry : new TreeMap<>(series).entrySet()) {
+            for (final ResourceSample sample : entry.getValue().samples()) {
+              writer.write(
+                  String.format(
+                      Locale.ROOT,
+                      "%s,%s,%.2f,%d,%d,%d,%d,%d\n",
+                      sample.getTimestamp(),
+                      entry.getKey(),
+                      sample.getCpuPercent(),
+                      sample.getMemoryBytes(),
+                      sample.getBlockReadBytes(),
+                      sample.getBlockWriteBytes(),
+                      sample.getNetworkReceivedBytes(),
+                      sample.getNetworkTransmittedBytes()));
+            }
+          }
+        });
+  }
+
+  /** Writes the summary and samples of every member as JSON, nothing written without samples. */
+  public void exportJson(final Path file) {
+    if (series.isEmpty()) {
+      return;
+    }
+
+    final Map<String, Object> samples = new TreeMap<>();
+    series.forEach(
+        (member, memberSeries) ->
+            samples.put(
+                member,
+                memberSeries.samples().stream().map(this::row).collect(Collectors.toList())));
+
+    final Map<String, Object> document = new LinkedHashMap<>();
+    document.put("summary", summary());
+    document.put("samples", samples);
+
+    write(file, writer -> writer.write(Json.encode(document)));
+  }
+
+  /**
+   * Converts a stats reading, with the CPU usage being relative to the previous reading the stats
+   * carry, empty when the stats lack the memory or CPU usage, e.g. after the container stopped.
+   */
+  static Optional<ResourceSample> sample(final Statistics statistics) {
+    if (statistics.getMemoryStats() == null
+        || statistics.getMemoryStats().getUsage() == null
+        || statistics.getCpuStats() == null
+        || statistics.getCpuStats().getCpuUsage() == null) {
+      return Optional.empty();
+    }
+
+    final Long rss =
+        statistics.getMemoryStats().getStats() == null
+            ? null
+            : statistics.getMemoryStats().getStats().getRss();
+    final long memory = rss != null ? rss : statistics.getMemoryStats().getUsage();
+
+    return Optional.of(
+        new ResourceSample(
+            Instant.now(),
+            cpuPercent(statistics.getCpuStats(), statistics.getPreCpuStats()),
+            memory,
+            blockBytes(statistics, "read"),
+            blockBytes(statistics, "write"),
+            networkBytes(statistics, StatisticNetworksConfig::getRxBytes),
+            networkBytes(statistics, StatisticNetworksConfig::getTxBytes)));
+  }
+
+  private static double cpuPercent(final CpuStatsConfig current, final CpuStatsConfig previous) {
+    if (previous == null
+        || previous.getCpuUsage() == null
+        || previous.getCpuUsage().getTotalUsage() == null
+        || previous.getSystemCpuUsage() == null
+        || current.getCpuUsage().getTotalUsage() == null
+        || current.getSystemCpuUsage() == null) {
+      return 0;
+    }
+
+    final long cpuDelta =
+        current.getCpuUsage().getTotalUsage() - previous.getCpuUsage().getTotalUsage();
+    final long systemDelta = current.getSystemCpuUsage() - previous.getSystemCpuUsage();
+    if (cpuDelta <= 0 || systemDelta <= 0) {
+      return 0;
+    }
+
+    final long cpus = current.getOnlineCpus() == null ? 1 : current.getOnlineCpus();
+    return 100.0 * cpuDelta / systemDelta * cpus;
+  }
+
+  private static long blockBytes(final Statistics statistics, final String operation) {
+    if (statistics.getBlkioStats() == null
+        || statistics.getBlkioStats().getIoServiceBytesRecursive() == null) {
+      return 0;
+    }
+
+    return statistics.getBlkioStats().getIoServiceBytesRecursive().stream()
+        .filter(entry -> operation.equalsIgnoreCase(entry.getOp()))
+        .map(BlkioStatEntry::getValue)
+        .filter(Objects::nonNull)
+        .mapToLong(Long::longValue)
+        .sum();
+  }
+
+  private static long networkBytes(
+      final Statistics statistics,
+      final Function<StatisticNetworksConfig, Long> counter) {
+    if (statistics.getNetworks() == null) {
+      return 0;
+    }
+
+    return statistics.getNetworks().values().stream()
+        .map(counter)
+        .filter(Objects::nonNull)
+        .mapToLong(Long::longValue)
+        .sum();
+  }
+
+  private Map<String, Object> row(final ResourceSample sample) {
+    final Map<String, Object> row = new LinkedHashMap<>();
+    row.put("timestamp", sample.getTimestamp().toString());
+    row.put("cpuPercent", sample.getCpuPercent());
+    row.put("memoryBytes", sample.getMemoryBytes());
+    row.put("blockReadBytes", sample.getBlockReadBytes());
+    row.put("blockWriteBytes", sample.getBlockWriteBytes());
+    row.put("networkReceivedBytes", sample.getNetworkReceivedBytes());
+    row.put("networkTransmittedBytes", sample.getNetworkTransmittedBytes());
+    return row;
+  }
+
+  private void write(final Path file, final Export export) {
+    try {
+      Files.createDirectories(file.toAbsolutePath().getParent());
+      try (final Writer writer = Files.newBufferedWriter(file, UTF_8)) {
+        export.to(writer);
+      }
+    } catch (final IOException e) {
+      LOG.warn("Failed exporting resource usage to: {}", file, e);
+    }
+  }
+
+  @FunctionalInterface
+  private interface Export {
+    void to(Writer writer) throws IOException;
+  }
+}
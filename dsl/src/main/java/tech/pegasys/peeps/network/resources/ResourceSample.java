@@ -0,0 +1,74 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.network.resources;
+
+import java.time.Instant;
+
+/** Resource usage of a container at a point in time, with I/O as totals since it started. */
+public class ResourceSample {
+
+  private final Instant timestamp;
+  private final double cpuPercent;
+  private final long memoryBytes;
+  private final long blockReadBytes;
+  private final long blockWriteBytes;
+  private final long networkReceivedBytes;
+  private final long networkTransmittedBytes;
+
+  public ResourceSample(
+      final Instant timestamp,
+      final double cpuPercent,
+      final long memoryBytes,
+      final long blockReadBytes,
+      final long blockWriteBytes,
+      final long networkReceivedBytes,
+      final long networkTransmittedBytes) {
+    this.timestamp = timestamp;
+    this.cpuPercent = cpuPercent;
+    this.memoryBytes = memoryBytes;
+    this.blockReadBytes = blockReadBytes;
+    this.blockWriteBytes = blockWriteBytes;
+    this.networkReceivedBytes = networkReceivedBytes;
+    this.networkTransmittedBytes = networkTransmittedBytes;
+  }
+
+  public Instant getTimestamp() {
+    return timestamp;
+  }
+
+  /** Share of a single CPU, i.e. 200 is two CPUs fully used. */
+  public double getCpuPercent() {
+    return cpuPercent;
+  }
+
+  /** Resident set size, or the total memory usage when the RSS is not reported. */
+  public long getMemoryBytes() {
+    return memoryBytes;
+  }
+
+  public long getBlockReadBytes() {
+    return blockReadBytes;
+  }
+
+  public long getBlockWriteBytes() {
+    return blockWriteBytes;
+  }
+
+  public long getNetworkReceivedBytes() {
+    return networkReceivedBytes;
+  }
+
+  public long getNetworkTransmittedBytes() {
+    return networkTransmittedBytes;
+  }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.network.resources;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Resource samples of a container, held column-wise in primitive arrays as a ring of the most
+ * recent samples.
+ */
+public class ResourceSeries {
+
+  private final long[] epochMillis;
+  private final double[] cpuPercent;
+  private final long[] memoryBytes;
+  private final long[] blockReadBytes;
+  private final long[] blockWriteBytes;
+  private final long[] networkReceivedBytes;
+  private final long[] networkTransmittedBytes;
+
+  private long added;
+
+  public ResourceSeries(final int capacity) {
+    checkArgument(capacity > 0, "Capacity must be positive");
+    this.epochMillis = new long[capacity];
+    this.cpuPercent = new double[capacity];
+    this.memoryBytes = new long[capacity];
+    this.blockReadBytes = new long[capacity];
+    this.blockWriteBytes = new long[capacity];
+    this.networkReceivedBytes = new long[capacity];
+    this.networkTransmittedBytes = new long[capacity];
+  }
+
+  public synchronized void add(final ResourceSample sample) {
+    final int index = (int) (added % epochMillis.length);
+    epochMillis[index] = sample.getTimestamp().toEpochMilli();
+    cpuPercent[index] = sample.getCpuPercent();
+    memoryBytes[index] = sample.getMemoryBytes();
+    blockReadBytes[index] = sample.getBlockReadBytes();
+    blockWriteBytes[index] = sample.getBlockWriteBytes();
+    networkReceivedBytes[index] = sample.getNetworkReceivedBytes();
+    networkTransmittedBytes[index] = sample.getNetworkTransmittedBytes();
+    added++;
+  }
+
+  /** Samples held, oldest first. */
+  public synchronized List<ResourceSample> samples() {
+    final List<ResourceSample> samples = new ArrayList<>(size());
+    for (long position = added - size(); position < added; position++) {
+      final int index = (int) (position % epochMillis.length);
+      samples.add(
+          new ResourceSample(
+              Instant.ofEpochMilli(epochMillis[index]),
+              cpuPercent[index],
+              memoryBytes[index],
+              blockReadBytes[index],
+              blockWriteBytes[index],
+              networkReceivedBytes[index],
+              networkTransmittedBytes[index]));
+    }
+    return samples;
+  }
+
+  /** Peak and average usage over the samples held, empty when there are none. */
+  public synchronized Optional<ResourceSummary> summary() {
+    final int size = size();
+    if (size == 0) {
+      return Optional.empty();
+    }
+
+    double peakCpu = 0;
+    double totalCpu = 0;
+    long peakMemory = 0;
+    double totalMemory = 0;
+    for (long position = added - size; position < added; position++) {
+      final int index = (int) (position % epochMillis.length);
+      peakCpu = Math.max(peakCpu, cpuPercent[index]);
+      totalCpu += cpuPercent[index];
+      peakMemory = Math.max(peakMemory, memoryBytes[index]);
+      totalMemory += memoryBytes[index];
+    }
+
+    // I/O counters are cumulative since the container started, so the usage over the samples
+    // held is the difference between the latest and the oldest
+    final int oldest = (int) ((added - size) % epochMillis.length);
+    final int latest = (int) ((added - 1) % epochMillis.length);
+    return Optional.of(
+        new ResourceSummary(
+            size,
+            peakCpu,
+            totalCpu / size,
+            peakMemory,
+            Math.round(totalMemory / size),
+            blockReadBytes[latest]
+                - blockReadBytes[oldest]
+                + blockWriteBytes[latest]
+                - blockWriteBytes[oldest],
+            networkReceivedBytes[latest]
+                - networkReceivedBytes[oldest]
+                + networkTransmittedBytes[latest]
+                - networkTransmittedBytes[oldest]));
+  }
+
+  private int size() {
+    return (int) Math.min(added, epochMillis.length);
+  }
+}
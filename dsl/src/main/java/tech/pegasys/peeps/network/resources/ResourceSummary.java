@@ -0,0 +1,89 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.network.resources;
+
+import java.util.Locale;
+
+/** Peak and average resource usage of a container over its samples. */
+public class ResourceSummary {
+
+  private final int samples;
+  private final double peakCpuPercent;
+  private final double averageCpuPercent;
+  private final long peakMemoryBytes;
+  private final long averageMemoryBytes;
+  private final long blockIoBytes;
+  private final long networkBytes;
+
+  public ResourceSummary(
+      final int samples,
+      final double peakCpuPercent,
+      final double averageCpuPercent,
+      final long peakMemoryBytes,
+      final long averageMemoryBytes,
+      final long blockIoBytes,
+      final long networkBytes) {
+    this.samples = samples;
+    this.peakCpuPercent = peakCpuPercent;
+    this.averageCpuPercent = averageCpuPercent;
+    this.peakMemoryBytes = peakMemoryBytes;
+    this.averageMemoryBytes = averageMemoryBytes;
+    this.blockIoBytes = blockIoBytes;
+    this.networkBytes = networkBytes;
+  }
+
+  public int getSamples() {
+    return samples;
+  }
+
+  public double getPeakCpuPercent() {
+    return peakCpuPercent;
+  }
+
+  public double getAverageCpuPercent() {
+    return averageCpuPercent;
+  }
+
+  public long getPeakMemoryBytes() {
+    return peakMemoryBytes;
+  }
+
+  public long getAverageMemoryBytes() {
+    return averageMemoryBytes;
+  }
+
+  /** Bytes read and written to block devices between the oldest and latest samples. */
+  public long getBlockIoBytes() {
+    return blockIoBytes;
+  }
+
+  /** Bytes received and transmitted over the network between the oldest and latest samples. */
+  public long getNetworkBytes() {
+    return networkBytes;
+  }
+
+  @Override
+  public String toString() {
+    return String.format(
+        Locale.ROOT,
+        "cpu peak: %.1f%%, average: %.1f%%, memory peak: %d MiB, average: %d MiB, "
+            + "block I/O: %d MiB, network: %d MiB, samples: %d",
+        peakCpuPercent,
+        averageCpuPercent,
+        peakMemoryBytes >> 20,
+        averageMemoryBytes >> 20,
+        blockIoBytes >> 20,
+        networkBytes >> 20,
+        samples);
+  }
+}
@@ -15,40 +15,59 @@ package tech.pegasys.peeps.network.subnet;
 import static com.google.common.base.Preconditions.checkState;
 
 import java.io.Closeable;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
 
 import com.github.dockerjava.api.exception.DockerException;
 import com.github.dockerjava.api.model.Network.Ipam;
 import com.github.dockerjava.api.model.Network.Ipam.Config;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.testcontainers.DockerClientFactory;
 import org.testcontainers.containers.Network;
 
 public class Subnet implements Closeable {
 
   private static final Logger LOG = LogManager.getLogger();
 
-  private static final int MAXIMUM_ATTEMPTS = 25;
-  private static final int OCTET_MAXIMUM = 255;
-  private static final String SUBNET_FORMAT = "172.20.%d.0/24";
-  private static final AtomicInteger THIRD_OCTET = new AtomicInteger(0);
+  // Leasing avoids collisions with other PEEPS processes, retries are for anyone else
+  private static final int MAXIMUM_ATTEMPTS = 5;
+  private static final String SUBNET_PREFIX = "172.20.";
+  private static final String SUBNET_FORMAT = SUBNET_PREFIX + "%d.0/24";
 
+  private final SubnetLeases leases;
+  private final int thirdOctet;
   private final SubnetAddresses addresses;
   private final Network network;
+  private final AtomicBoolean released = new AtomicBoolean();
 
   public Subnet() {
+    this.leases = SubnetLeases.shared();
 
+    final Set<Integer> taken = octetsInUseByDocker();
     int attempt = 0;
+    int octet = -1;
     String subnet = null;
     Network possibleNetwork = null;
 
     while (attempt < MAXIMUM_ATTEMPTS && possibleNetwork == null) {
-      subnet = getNextSubnetAndIncrement();
+      octet = leases.acquire(taken);
+      subnet = String.format(SUBNET_FORMAT, octet);
 
       try {
         possibleNetwork = createDockerNetwork(attempt, subnet);
       } catch (final DockerException e) {
         logSubnetUnavailable(attempt, subnet);
+        leases.release(octet);
+        taken.add(octet);
+      } catch (final RuntimeException e) {
+        leases.release(octet);
+        throw e;
       }
 
       attempt++;
@@ -61,6 +80,7 @@ public class Subnet implements Closeable {
 
     logNetworkAndSubnet(possibleNetwork, subnet);
 
+    this.thirdOctet = octet;
     this.network = possibleNetwork;
     this.addresses = new SubnetAddresses(subnetAddressFormat(subnet));
   }
@@ -73,13 +93,55 @@ public class Subnet implements Closeable {
     return network;
   }
 
+  /** Only the first close releases the lease, later ones could free another Subnet's octet. */
   @Override
   public void close() {
-    network.close();
+    if (!released.compareAndSet(false, true)) {
+      return;
+    }
+
+    try {
+      network.close();
+    } finally {
+      leases.release(thirdOctet);
+    }
+  }
+
+  /** Third octet of a subnet in the range PEEPS uses, e.g. 7 for 172.20.7.0/24. */
+  static Optional<Integer> thirdOctet(final String subnet) {
+    if (subnet == null || !subnet.startsWith(SUBNET_PREFIX)) {
+      return Optional.empty();
+    }
+
+    final String remainder = subnet.substring(SUBNET_PREFIX.length());
+    final int end = remainder.indexOf('.');
+
+    try {
+      return end > 0
+          ? Optional.of(Integer.parseInt(remainder.substring(0, end)))
+          : Optional.empty();
+    } catch (final NumberFormatException e) {
+      return Optional.empty();
+    }
   }
 
-  private String getNextSubnetAndIncrement() {
-    return String.format(SUBNET_FORMAT, consumeNextThirdOctet());
+  /** Octets of the subnets already in use by any Docker network, leased by PEEPS or not. */
+  private Set<Integer> octetsInUseByDocker() {
+    final Set<Integer> taken =
+        DockerClientFactory.lazyClient().listNetworksCmd().exec().stream()
+            .map(com.github.dockerjava.api.model.Network::getIpam)
+            .filter(Objects::nonNull)
+            .map(Ipam::getConfig)
+            .filter(Objects::nonNull)
+            .flatMap(Collection::stream)
+            .map(Config::getSubnet)
+            .map(Subnet::thirdOctet)
+            .flatMap(Optional::stream)
+            .collect(Collectors.toSet());
+
+    LOG.debug("Subnet octets in use by Docker networks: {}", taken);
+
+    return new HashSet<>(taken);
   }
 
   private void logSubnetUnavailable(final int attempt, final String subnet) {
@@ -90,15 +152,6 @@ public class Subnet implements Closeable {
     LOG.info("Created Network: {}, with subnet: {}", network.getId(), subnet);
   }
 
-  private synchronized int consumeNextThirdOctet() {
-
-    if (THIRD_OCTET.get() > OCTET_MAXIMUM) {
-      THIRD_OCTET.set(0);
-    }
-
-    return THIRD_OCTET.getAndIncrement();
-  }
-
   private String subnetAddressFormat(final String subnet) {
     return subnet.substring(0, subnet.lastIndexOf('.')) + ".%d";
   }
@@ -0,0 +1,181 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.network.subnet;
+
+import static com.google.common.base.Preconditions.checkState;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Leases the third octet of the 172.20.x.0/24 subnets to Networks, coordinating every process on
+ * the host through a file lock on a shared directory.
+ *
+ * <p>Each lease is a file named after its octet and holding the process id of the leaseholder.
+ * Leases left behind by processes that are no longer alive are reclaimed.
+ */
+public class SubnetLeases {
+
+  private static final Logger LOG = LogManager.getLogger();
+
+  static final int OCTET_MAXIMUM = 255;
+  private static final String LOCK_FILE = "leases.lock";
+  private static final String LEASE_SUFFIX = ".lease";
+  private static final SubnetLeases SHARED =
+      new SubnetLeases(Path.of(System.getProperty("java.io.tmpdir"), "peeps-subnets"));
+
+  private final Path directory;
+
+  public static SubnetLeases shared() {
+    return SHARED;
+  }
+
+  SubnetLeases(final Path directory) {
+    this.directory = directory;
+  }
+
+  /**
+   * Leases the lowest octet that is neither leased by a live process nor otherwise taken.
+   *
+   * @param taken octets already in use, e.g. by Docker networks created outside of PEEPS.
+   * @throws IllegalStateException when every octet is unavailable.
+   */
+  public int acquire(final Set<Integer> taken) {
+    return locked(
+        () -> {
+          final Set<Integer> unavailable = new HashSet<>(taken);
+          unavailable.addAll(liveLeases());
+
+          final Optional<Integer> octet = freeOctet(unavailable);
+          checkState(octet.isPresent(), "No free subnet, leased or in use: %s", unavailable);
+
+          write(octet.get());
+          LOG.debug("Leased subnet octet: {}", octet.get());
+          return octet.get();
+        });
+  }
+
+  public void release(final int octet) {
+    locked(
+        () -> {
+          delete(leaseFile(octet));
+          LOG.debug("Released subnet octet: {}", octet);
+          return null;
+        });
+  }
+
+  static Optional<Integer> freeOctet(final Set<Integer> unavailable) {
+    for (int octet = 0; octet <= OCTET_MAXIMUM; octet++) {
+      if (!unavailable.contains(octet)) {
+        return Optional.of(octet);
+      }
+    }
+
+    return Optional.empty();
+  }
+
+  /** Reads the leases, deleting any whose process is no longer alive. */
+  private Set<Integer> liveLeases() {
+    final Set<Integer> live = new HashSet<>();
+
+    try (final DirectoryStream<Path> leases =
+        Files.newDirectoryStream(directory, "*" + LEASE_SUFFIX)) {
+      for (final Path lease : leases) {
+        final String name = lease.getFileName().toString();
+        final int octet =
+            Integer.parseInt(name.substring(0, name.length() - LEASE_SUFFIX.length()));
+
+        if (isAlive(lease)) {
+          live.add(octet);
+        } else {
+          LOG.info("Reclaiming subnet octet: {}, from a process no longer alive", octet);
+          delete(lease);
+        }
+      }
+    } catch (final IOException | NumberFormatException e) {
+      throw new IllegalStateException("Failed reading subnet leases in " + directory, e);
+    }
+
+    return live;
+  }
+
+  private boolean isAlive(final Path lease) throws IOException {
+    final long pid;
+    try {
+      pid = Long.parseLong(Files.readString(lease, StandardCharsets.UTF_8).trim());
+    } catch (final NumberFormatException e) {
+      return false;
+    }
+
+    return ProcessHandle.of(pid).map(ProcessHandle::isAlive).orElse(false);
+  }
+
+  private void write(final int octet) {
+    try {
+      Files.writeString(
+          leaseFile(octet),
+          String.valueOf(ProcessHandle.current().pid()),
+          StandardCharsets.UTF_8);
+    } catch (final IOException e) {
+      throw new IllegalStateException("Failed writing subnet lease for octet " + octet, e);
+    }
+  }
+
+  private void delete(final Path lease) {
+    try {
+      Files.deleteIfExists(lease);
+    } catch (final IOException e) {
+      throw new IllegalStateException("Failed deleting subnet lease " + lease, e);
+    }
+  }
+
+  private Path leaseFile(final int octet) {
+    return directory.resolve(octet + LEASE_SUFFIX);
+  }
+
+  /**
+   * The file lock excludes other processes, while holding the monitor excludes other threads, as
+   * overlapping locks within a single JVM are an error rather than a wait.
+   */
+  private synchronized <T> T locked(final Supplier<T> action) {
+    try {
+      Files.createDirectories(directory);
+
+      try (final FileChannel channel =
+          FileChannel.open(
+              directory.resolve(LOCK_FILE), StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+        final FileLock lock = channel.lock();
+        try {
+          return action.get();
+        } finally {
+          lock.release();
+        }
+      }
+    } catch (final IOException e) {
+      throw new IllegalStateException("Failed locking subnet leases in " + directory, e);
+    }
+  }
+}
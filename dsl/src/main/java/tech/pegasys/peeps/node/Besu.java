@@ -14,6 +14,8 @@ package tech.pegasys.peeps.node;
 
 import static com.google.common.base.Preconditions.checkArgument;
 
+import tech.pegasys.peeps.network.events.BesuLogParser;
+import tech.pegasys.peeps.network.events.NodeLogParser;
 import tech.pegasys.peeps.node.rpc.BesuQbftRpcClient;
 import tech.pegasys.peeps.node.rpc.QbftRpc;
 import tech.pegasys.peeps.util.DockerLogs;
@@ -22,7 +24,6 @@ import java.io.IOException;
 import java.math.BigInteger;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
-import java.time.Duration;
 import java.util.List;
 
 import com.fasterxml.jackson.databind.JsonNode;
@@ -42,11 +43,13 @@ import org.testcontainers.utility.MountableFile;
 public class Besu extends Web3Provider {
 
   private static final Logger LOG = LogManager.getLogger();
+  private static final NodeLogParser LOG_PARSER = new BesuLogParser();
 
   private static final String AM_I_ALIVE_ENDPOINT = "/liveness";
   private static final int ALIVE_STATUS_CODE = 200;
 
   private static final String IMAGE_NAME = "hyperledger/besu:%s";
+  private static final String METRICS_PATH = "/metrics";
   private static final String CONTAINER_GENESIS_FILE = "/etc/besu/genesis.json";
   private static final String CONTAINER_STATIC_NODES_FILE = "/opt/besu/static-nodes.json";
   private static final String CONTAINER_PRIVACY_PUBLIC_KEY_FILE =
@@ -56,10 +59,7 @@ public class Besu extends Web3Provider {
       "/etc/besu/keys/pmt_signing.priv";
 
   public Besu(final Web3ProviderConfiguration config) {
-    super(
-        config,
-        new GenericContainer<>(String.format(IMAGE_NAME, config.getImageVersion()))
-            .withImagePullPolicy(new LocalAgeBasedPullPolicy(Duration.ofHours(1))));
+    super(config, String.format(IMAGE_NAME, config.getImageVersion()));
     final List<String> commandLineOptions = standardCommandLineOptions();
 
     addPeerToPeerHost(config, commandLineOptions);
@@ -91,9 +91,19 @@ public class Besu extends Web3Provider {
     return new BesuQbftRpcClient(jsonRpcClient);
   }
 
+  @Override
+  protected NodeLogParser logParser() {
+    return LOG_PARSER;
+  }
+
+  @Override
+  protected String metricsPath() {
+    return METRICS_PATH;
+  }
+
   @Override
   public String getLogs() {
-    return DockerLogs.format("Besu", container);
+    return DockerLogs.format("Besu", container, containerLog);
   }
 
   @Override
@@ -144,7 +154,12 @@ public class Besu extends Web3Provider {
         "--rpc-http-enabled",
         "--rpc-ws-enabled",
         "--rpc-http-apis",
-        "ADMIN,ETH,NET,WEB3,EEA,PRIV,QBFT");
+        "ADMIN,ETH,NET,WEB3,EEA,PRIV,QBFT",
+        "--metrics-enabled",
+        "--metrics-host",
+        "0.0.0.0",
+        "--metrics-port",
+        String.valueOf(CONTAINER_METRICS_PORT));
   }
 
   private void addPeerToPeerHost(
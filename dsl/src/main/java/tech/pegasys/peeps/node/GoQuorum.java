@@ -12,6 +12,10 @@
  */
 package tech.pegasys.peeps.node;
 
+import static com.google.common.base.Preconditions.checkState;
+
+import tech.pegasys.peeps.network.events.GoQuorumLogParser;
+import tech.pegasys.peeps.network.events.NodeLogParser;
 import tech.pegasys.peeps.node.rpc.QbftRpc;
 import tech.pegasys.peeps.node.rpc.QuorumQbftRpcClient;
 import tech.pegasys.peeps.util.DockerLogs;
@@ -20,8 +24,8 @@ import java.io.IOException;
 import java.math.BigInteger;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
-import java.time.Duration;
 import java.util.List;
+import java.util.Optional;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -40,20 +44,24 @@ import org.testcontainers.utility.MountableFile;
 public class GoQuorum extends Web3Provider {
 
   private static final Logger LOG = LogManager.getLogger();
+  private static final NodeLogParser LOG_PARSER = new GoQuorumLogParser();
 
   private static final String IMAGE_NAME = "quorumengineering/quorum:%s";
-  private static final String CONTAINER_GENESIS_FILE = "/etc/genesis.json";
+  private static final String METRICS_PATH = "/debug/metrics/prometheus";
+  static final String CONTAINER_GENESIS_FILE = "/etc/genesis.json";
   private static final String CONTAINER_STATIC_NODES_FILE = "/eth/geth/static-nodes.json";
   private static final String CONTAINER_NODE_PRIVATE_KEY_FILE = "/etc/keys/node.priv";
   private static final String DATA_DIR = "/eth";
   private static final String KEYSTORE_DIR = "/eth/keystore/";
   private static final String CONTAINER_PASSWORD_FILE = KEYSTORE_DIR + "password";
+  private static final String INIT_DATA_DIR_COMMAND =
+      "geth --datadir \"" + DATA_DIR + "\" init " + CONTAINER_GENESIS_FILE;
+
+  private final Optional<String> dataDirectorySnapshot;
 
   public GoQuorum(final Web3ProviderConfiguration config) {
-    super(
-        config,
-        new GenericContainer<>(String.format(IMAGE_NAME, config.getImageVersion()))
-            .withImagePullPolicy(new LocalAgeBasedPullPolicy(Duration.ofHours(1))));
+    super(config, String.format(IMAGE_NAME, config.getImageVersion()));
+    this.dataDirectorySnapshot = config.getDataDirectorySnapshot();
 
     final List<String> commandLineOptions = standardCommandLineOptions();
     addCorsOrigins(config, commandLineOptions);
@@ -72,6 +80,7 @@ public class GoQuorum extends Web3Provider {
     addMinGasPrice(config, commandLineOptions);
 
     final List<String> entryPoint = Lists.newArrayList("/bin/sh", "-c");
+    // Images with a data directory snapshot already have the chain data, skipping the init
     final String initCmd =
         "mkdir -p '"
             + DATA_DIR
@@ -79,11 +88,11 @@ public class GoQuorum extends Web3Provider {
             + "mkdir -p '"
             + KEYSTORE_DIR
             + "' && "
-            + "geth --datadir \""
+            + "{ [ -d '"
             + DATA_DIR
-            + "\" init "
-            + CONTAINER_GENESIS_FILE
-            + " && "
+            + "/geth/chaindata' ] || "
+            + INIT_DATA_DIR_COMMAND
+            + "; } && "
             + " echo '##### GoQuorum INITIALISED #####\n\n' && ";
 
     addNodePrivateKey(config, commandLineOptions, container);
@@ -103,9 +112,49 @@ public class GoQuorum extends Web3Provider {
         .waitingFor(liveliness());
   }
 
+  /** Starts from an image with the data directory for the genesis already initialised. */
+  @Override
+  public void start() {
+    container.setDockerImageName(
+        dataDirectorySnapshot.orElseGet(
+            () ->
+                GoQuorumDataDirectories.shared()
+                    .initialised(
+                        dockerImageName(),
+                        genesisFile.toPath(),
+                        "mkdir -p '" + DATA_DIR + "/geth' && " + INIT_DATA_DIR_COMMAND)));
+    super.start();
+  }
+
+  /**
+   * Stops the node, keeping its data directory, i.e. the chain as far as it was imported, as an
+   * image that other GoQuorum nodes of the same genesis may start from.
+   *
+   * @return image name for Web3ProviderConfigurationBuilder#withDataDirectorySnapshot.
+   */
+  public String snapshotDataDirectory() {
+    checkState(isRunning(), "Only a running node can have its data directory captured");
+
+    final String image =
+        GoQuorumDataDirectories.shared().capture(container.getContainerId(), identity());
+    stop();
+
+    return image;
+  }
+
+  @Override
+  protected NodeLogParser logParser() {
+    return LOG_PARSER;
+  }
+
+  @Override
+  protected String metricsPath() {
+    return METRICS_PATH;
+  }
+
   @Override
   public String getLogs() {
-    return DockerLogs.format("GoQuorum", container);
+    return DockerLogs.format("GoQuorum", container, containerLog);
   }
 
   @Override
@@ -168,6 +217,19 @@ public class GoQuorum extends Web3Provider {
         "--http.api",
         "admin,debug,web3,eth,txpool,personal,clique,miner,net,istanbul",
         "--ws",
+        "--ws.addr",
+        "\"0.0.0.0\"",
+        "--ws.port",
+        "8546",
+        "--ws.api",
+        "eth,net,web3",
+        "--ws.origins",
+        "\"*\"",
+        "--metrics",
+        "--metrics.addr",
+        "0.0.0.0",
+        "--metrics.port",
+        String.valueOf(CONTAINER_METRICS_PORT),
         // TODO: put back when [Upgrade] Go-Ethereum release v1.10.2 #1391 is merged
         // "--log.debug",
         "--nodiscover",
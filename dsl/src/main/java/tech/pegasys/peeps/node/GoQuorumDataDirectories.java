@@ -0,0 +1,243 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.node;
+
+import tech.pegasys.peeps.util.ImageRegistry;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Consumer;
+
+import com.github.dockerjava.api.DockerClient;
+import com.github.dockerjava.api.exception.DockerException;
+import com.github.dockerjava.api.exception.NotFoundException;
+import com.github.dockerjava.api.model.Container;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.Hashing;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.startupcheck.OneShotStartupCheckStrategy;
+import org.testcontainers.utility.DockerImageName;
+import org.testcontainers.utility.MountableFile;
+
+/**
+ * Docker images holding a GoQuorum data directory, either freshly initialised with a genesis or
+ * captured from a node part way along its chain, that GoQuorum containers start from directly.
+ *
+ * <p>Genesis images are created once per base image and genesis, keyed by a hash of the resolved
+ * image ID and the genesis, so an image name pointing at a newer pull gets a new data directory.
+ * Images created are removed when the JVM exits, unless a container of another test session uses
+ * them.
+ */
+class GoQuorumDataDirectories {
+
+  private static final Logger LOG = LogManager.getLogger();
+
+  static final String REPOSITORY = "peeps/goquorum-datadir";
+  private static final Duration INIT_TIMEOUT = Duration.ofMinutes(2);
+  private static final int STOP_TIMEOUT_IN_SECONDS = 30;
+  private static final GoQuorumDataDirectories SHARED = sharedInstance();
+
+  /** Runs the data directory initialisation, handing the exited container over for committing. */
+  @FunctionalInterface
+  interface Initialiser {
+    void initialise(
+        String baseImage, Path genesisFile, String initCommand, Consumer<String> containerId);
+  }
+
+  private final Cache<String, String> genesisImages;
+  private final Set<String> created;
+  private final DockerClient dockerClient;
+  private final ImageRegistry registry;
+  private final Initialiser initialiser;
+
+  static GoQuorumDataDirectories shared() {
+    return SHARED;
+  }
+
+  @VisibleForTesting
+  GoQuorumDataDirectories(
+      final DockerClient dockerClient,
+      final ImageRegistry registry,
+      final Initialiser initialiser) {
+    this.genesisImages = CacheBuilder.newBuilder().build();
+    this.created = ConcurrentHashMap.newKeySet();
+    this.dockerClient = dockerClient;
+    this.registry = registry;
+    this.initialiser = initialiser;
+  }
+
+  /** @return image with the data directory initialised from the genesis, created when absent. */
+  String initialised(final String baseImage, final Path genesisFile, final String initCommand) {
+    try {
+      final String tag = genesisTag(imageId(baseImage), Files.readAllBytes(genesisFile));
+      return genesisImages.get(tag, () -> initialise(baseImage, genesisFile, initCommand, tag));
+    } catch (final IOException e) {
+      throw new IllegalStateException("Failed reading genesis file " + genesisFile, e);
+    } catch (final ExecutionException | UncheckedExecutionException e) {
+      throw new IllegalStateException(
+          "Failed to initialise GoQuorum data directory for genesis: " + genesisFile, e.getCause());
+    }
+  }
+
+  /**
+   * Stops the container, so geth flushes its database, then commits it as an image holding the
+   * chain as far as the node imported it.
+   *
+   * @return image that GoQuorum nodes of the same genesis may start from.
+   */
+  String capture(final String containerId, final String identity) {
+    dockerClient.stopContainerCmd(containerId).withTimeout(STOP_TIMEOUT_IN_SECONDS).exec();
+
+    final String tag =
+        "chain-" + identity.replaceAll("[^A-Za-z0-9_.-]", "_") + "-" + System.currentTimeMillis();
+    final String image = commit(containerId, tag);
+    LOG.info("Captured data directory of {} as image: {}", identity, image);
+
+    return image;
+  }
+
+  /**
+   * Removes every image this JVM created that is not used by a container of another test session,
+   * which may have found and adopted the image in the meantime.
+   */
+  @VisibleForTesting
+  void removeCreated() {
+    created.forEach(
+        image -> {
+          try {
+            if (usedByAnotherSession(image)) {
+              LOG.info("Keeping data directory image used by another session: {}", image);
+            } else {
+              dockerClient.removeImageCmd(image).withForce(true).exec();
+            }
+          } catch (final DockerException e) {
+            LOG.warn("Failed to remove data directory image: {}", image, e);
+          }
+        });
+  }
+
+  @VisibleForTesting
+  static String genesisTag(final String baseImageId, final byte[] genesis) {
+    return Hashing.sha256()
+        .newHasher()
+        .putString(baseImageId, StandardCharsets.UTF_8)
+        .putBytes(genesis)
+        .hash()
+        .toString()
+        .substring(0, 32);
+  }
+
+  private String initialise(
+      final String baseImage,
+      final Path genesisFile,
+      final String initCommand,
+      final String tag) {
+    final String image = REPOSITORY + ":" + tag;
+
+    try {
+      dockerClient.inspectImageCmd(image).exec();
+      registry.adopt(image);
+      LOG.debug("Adopted existing data directory image: {}", image);
+      return image;
+    } catch (final NotFoundException e) {
+      LOG.debug("No existing data directory image: {}", image);
+    }
+
+    final long begin = System.nanoTime();
+    initialiser.initialise(
+        baseImage, genesisFile, initCommand, containerId -> commit(containerId, tag));
+
+    LOG.info(
+        "Initialised data directory image: {} in {} ms",
+        image,
+        Duration.ofNanos(System.nanoTime() - begin).toMillis());
+
+    return image;
+  }
+
+  /** ID of the local copy of the image, resolving it first, e.g. sha256:... */
+  private String imageId(final String imageName) {
+    final String canonicalName = DockerImageName.parse(imageName).asCanonicalNameString();
+    registry.resolve(canonicalName);
+    return dockerClient.inspectImageCmd(canonicalName).exec().getId();
+  }
+
+  private String commit(final String containerId, final String tag) {
+    dockerClient.commitCmd(containerId).withRepository(REPOSITORY).withTag(tag).exec();
+
+    final String image = REPOSITORY + ":" + tag;
+    created.add(image);
+    registry.adopt(image);
+    return image;
+  }
+
+  private boolean usedByAnotherSession(final String image) {
+    final List<Container> containers =
+        dockerClient
+            .listContainersCmd()
+            .withShowAll(true)
+            .withAncestorFilter(List.of(image))
+            .exec();
+
+    return containers.stream()
+        .map(Container::getLabels)
+        .map(labels -> labels == null ? Map.<String, String>of() : labels)
+        .anyMatch(
+            labels ->
+                !DockerClientFactory.SESSION_ID.equals(
+                    labels.get(DockerClientFactory.TESTCONTAINERS_SESSION_ID_LABEL)));
+  }
+
+  private static GoQuorumDataDirectories sharedInstance() {
+    final GoQuorumDataDirectories directories =
+        new GoQuorumDataDirectories(
+            DockerClientFactory.lazyClient(),
+            ImageRegistry.shared(),
+            GoQuorumDataDirectories::runInitContainer);
+    Runtime.getRuntime().addShutdownHook(new Thread(directories::removeCreated));
+    return directories;
+  }
+
+  private static void runInitContainer(
+      final String baseImage,
+      final Path genesisFile,
+      final String initCommand,
+      final Consumer<String> containerId) {
+    try (final GenericContainer<?> init =
+        new GenericContainer<>(baseImage)
+            .withImagePullPolicy(ImageRegistry.shared().pullPolicy())
+            .withCopyFileToContainer(
+                MountableFile.forHostPath(genesisFile), GoQuorum.CONTAINER_GENESIS_FILE)
+            .withCreateContainerCmdModifier(
+                cmd -> cmd.withEntrypoint("/bin/sh", "-c", initCommand))
+            .withStartupCheckStrategy(
+                new OneShotStartupCheckStrategy().withTimeout(INIT_TIMEOUT))) {
+      init.start();
+      containerId.accept(init.getContainerId());
+    }
+  }
+}
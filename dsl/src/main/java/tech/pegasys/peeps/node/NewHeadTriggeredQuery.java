@@ -0,0 +1,76 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.node;
+
+import tech.pegasys.peeps.node.model.BlockHeader;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Repeats a query on each new head until a value is returned, with at most one query in flight and
+ * heads that arrive meanwhile collapsed into a single re-query.
+ */
+class NewHeadTriggeredQuery<T> implements Consumer<BlockHeader> {
+
+  private final Supplier<CompletableFuture<Optional<T>>> query;
+  private final CompletableFuture<T> result;
+  private final AtomicBoolean inFlight;
+  private final AtomicBoolean stale;
+
+  NewHeadTriggeredQuery(final Supplier<CompletableFuture<Optional<T>>> query) {
+    this.query = query;
+    this.result = new CompletableFuture<>();
+    this.inFlight = new AtomicBoolean();
+    this.stale = new AtomicBoolean();
+  }
+
+  CompletableFuture<T> result() {
+    return result;
+  }
+
+  @Override
+  public void accept(final BlockHeader head) {
+    run();
+  }
+
+  void run() {
+    if (result.isDone()) {
+      return;
+    }
+
+    if (!inFlight.compareAndSet(false, true)) {
+      stale.set(true);
+      return;
+    }
+
+    stale.set(false);
+    query
+        .get()
+        .whenComplete(
+            (value, error) -> {
+              if (error == null && value.isPresent()) {
+                result.complete(value.get());
+              }
+
+              inFlight.set(false);
+
+              if (stale.get()) {
+                run();
+              }
+            });
+  }
+}
@@ -13,11 +13,13 @@
 package tech.pegasys.peeps.node;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.List;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
 import org.apache.logging.log4j.LogManager;
@@ -39,27 +41,58 @@ public class StaticNodesFile {
 
   public void ensureExists(
       final Web3Provider web3Provider, final List<Web3Provider> web3Providers) {
-    write(web3Provider, web3Providers);
+    ensureExists(
+        web3Provider.enodeAddress(),
+        web3Providers.stream().map(Web3Provider::enodeAddress).collect(Collectors.toList()));
+  }
+
+  /**
+   * Writes the enode addresses of the network, less that of the node the file is for.
+   *
+   * @param enodeAddress of the node the file is for.
+   * @param enodeAddresses of every node in the network.
+   */
+  public void ensureExists(final String enodeAddress, final List<String> enodeAddresses) {
+    write(enodeAddress, enodeAddresses);
   }
 
   public Path getStaticNodesFile() {
     return staticNodesFile;
   }
 
-  private void write(final Web3Provider web3Provider, final List<Web3Provider> web3Providers) {
-    final List<String> enodeAddresses =
-        web3Providers.stream()
-            .map(Web3Provider::enodeAddress)
-            .filter(enodeAddress -> !enodeAddress.equals(web3Provider.enodeAddress()))
-            .collect(Collectors.toList());
+  /**
+   * JSON of the static nodes file, generated in memory.
+   *
+   * @param self enode address of the node the file is for.
+   * @param enodeAddresses of every node in the network.
+   */
+  public static byte[] contents(final String self, final List<String> enodeAddresses) {
+    return encode(peers(self, enodeAddresses));
+  }
+
+  private static List<String> peers(final String self, final List<String> enodeAddresses) {
+    return enodeAddresses.stream()
+        .filter(enodeAddress -> !enodeAddress.equals(self))
+        .collect(Collectors.toList());
+  }
+
+  private static byte[] encode(final List<String> peers) {
+    try {
+      return objectMapper.writeValueAsBytes(peers);
+    } catch (final JsonProcessingException e) {
+      throw new IllegalStateException("Failed encoding static nodes", e);
+    }
+  }
+
+  private void write(final String self, final List<String> enodeAddresses) {
+    final List<String> peers = peers(self, enodeAddresses);
     try {
-      objectMapper.writeValue(staticNodesFile.toFile(), enodeAddresses);
-      LOG.info(
-          "Creating static nodes file\n\tLocation: {} \n\tContents: {}",
-          staticNodesFile,
-          enodeAddresses);
+      Files.write(staticNodesFile, encode(peers));
     } catch (final IOException e) {
-      throw new IllegalStateException("Failed creating static nodes file " + staticNodesFile);
+      throw new IllegalStateException("Failed creating static nodes file " + staticNodesFile, e);
     }
+    LOG.info(
+        "Created static nodes file\n\tLocation: {} \n\tPeers: {}", staticNodesFile, peers.size());
+    LOG.debug("Static nodes of {}: {}", staticNodesFile, peers);
   }
 }
@@ -18,18 +18,35 @@ import static tech.pegasys.peeps.util.Await.await;
 import static tech.pegasys.peeps.util.HexFormatter.removeAnyHexPrefix;
 
 import tech.pegasys.peeps.json.rpc.JsonRpcClient;
+import tech.pegasys.peeps.json.rpc.JsonRpcWebSocketClient;
+import tech.pegasys.peeps.json.rpc.RpcClient;
+import tech.pegasys.peeps.json.rpc.RpcStatistics;
+import tech.pegasys.peeps.network.NetworkExecutor;
 import tech.pegasys.peeps.network.NetworkMember;
+import tech.pegasys.peeps.network.events.NetworkEventBus;
+import tech.pegasys.peeps.network.events.NodeLogParser;
+import tech.pegasys.peeps.network.metrics.NetworkMetrics;
 import tech.pegasys.peeps.network.subnet.SubnetAddress;
+import tech.pegasys.peeps.node.model.BlockHeader;
 import tech.pegasys.peeps.node.model.EnodeHelpers;
 import tech.pegasys.peeps.node.model.Hash;
 import tech.pegasys.peeps.node.model.TransactionReceipt;
+import tech.pegasys.peeps.node.rpc.NodeRpcAsyncClient;
+import tech.pegasys.peeps.node.rpc.NodeRpcBatch;
+import tech.pegasys.peeps.node.rpc.NodeRpcCache;
+import tech.pegasys.peeps.node.rpc.NodeRpcSubscriptions;
 import tech.pegasys.peeps.node.rpc.QbftRpc;
 import tech.pegasys.peeps.node.rpc.admin.NodeInfo;
 import tech.pegasys.peeps.node.verification.AccountValue;
 import tech.pegasys.peeps.node.verification.NodeValueTransition;
+import tech.pegasys.peeps.signer.rpc.SignerRpcAsyncClient;
 import tech.pegasys.peeps.signer.rpc.SignerRpcClient;
 import tech.pegasys.peeps.signer.rpc.SignerRpcMandatoryResponse;
 import tech.pegasys.peeps.util.AddressConverter;
+import tech.pegasys.peeps.util.ContainerLog;
+import tech.pegasys.peeps.util.DockerPause;
+import tech.pegasys.peeps.util.ImageRegistry;
+import tech.pegasys.peeps.util.PollBudget;
 
 import java.io.File;
 import java.io.IOException;
@@ -38,13 +55,20 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.attribute.PosixFilePermissions;
 import java.time.Duration;
+import java.time.Instant;
 import java.util.Collection;
-import java.util.Objects;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
+import io.vertx.core.Vertx;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.tuweni.bytes.Bytes;
@@ -52,24 +76,36 @@ import org.apache.tuweni.eth.Address;
 import org.apache.tuweni.units.ethereum.Wei;
 import org.testcontainers.containers.GenericContainer;
 import org.web3j.protocol.Web3j;
-import org.web3j.protocol.core.DefaultBlockParameter;
 import org.web3j.protocol.http.HttpService;
 
 public abstract class Web3Provider implements NetworkMember {
 
   private static final Logger LOG = LogManager.getLogger();
+  private static final Duration DISCONNECTED_POLL_INTERVAL = Duration.ofSeconds(1);
 
   public static final int CONTAINER_HTTP_RPC_PORT = 8545;
   public static final int CONTAINER_WS_RPC_PORT = 8546;
   public static final int CONTAINER_P2P_PORT = 30303;
+  public static final int CONTAINER_METRICS_PORT = 9545;
 
   protected final SignerRpcMandatoryResponse signerRpcResponse;
+  protected final SignerRpcAsyncClient signerRpcAsync;
+  private final PollBudget pollBudget;
+  private final NetworkExecutor executor;
+  private final NetworkMetrics metrics;
   protected final JsonRpcClient jsonRpcClient;
+  protected final JsonRpcWebSocketClient webSocketClient;
+  private final NodeRpcSubscriptions subscriptions;
+  private final Set<Consumer<BlockHeader>> newHeadListeners;
+  private final Vertx vertx;
+  private final NodeRpcCache rpcCache;
   protected final File genesisFile;
 
   protected GenericContainer<?> container;
+  protected final ContainerLog containerLog;
   private final SubnetAddress ipAddress;
   private final String identity;
+  private final String dockerImageName;
   private final String enodeAddress;
   private final String pubKey;
 
@@ -77,13 +113,40 @@ public abstract class Web3Provider implements NetworkMember {
   private String enodeId;
   private Web3j web3j;
 
-  public Web3Provider(final Web3ProviderConfiguration config, final GenericContainer<?> container) {
-    this.container = container.withLabel("name", config.getIdentity());
+  public Web3Provider(final Web3ProviderConfiguration config, final String dockerImageName) {
+    this.dockerImageName = dockerImageName;
+    this.container =
+        new GenericContainer<>(dockerImageName)
+            .withImagePullPolicy(ImageRegistry.shared().pullPolicy())
+            .withLabel("name", config.getIdentity());
+    this.container.addExposedPort(CONTAINER_METRICS_PORT);
+    this.containerLog = new ContainerLog();
+    this.containerLog.addListener(publishEvents(config.getIdentity(), config.getEventBus()));
     this.jsonRpcClient =
-        new JsonRpcClient(config.getVertx(), Duration.ofSeconds(10), LOG, dockerLogs());
+        new JsonRpcClient(
+            config.getVertx(),
+            Duration.ofSeconds(10),
+            RpcClient.DEFAULT_REQUEST_TIMEOUT,
+            LOG,
+            dockerLogs());
+    this.rpcCache = new NodeRpcCache();
     final SignerRpcClient signerRpcClient =
-        new SignerRpcClient(jsonRpcClient, qbftRpc(config), config.getMinGasPrice());
-    this.signerRpcResponse = new SignerRpcMandatoryResponse(signerRpcClient);
+        new SignerRpcClient(jsonRpcClient, qbftRpc(config), config.getMinGasPrice(), rpcCache);
+    this.pollBudget = PollBudget.perTarget();
+    this.executor = config.getExecutor();
+    this.metrics = config.getMetrics();
+    this.signerRpcResponse = new SignerRpcMandatoryResponse(signerRpcClient, pollBudget);
+    this.signerRpcAsync =
+        new SignerRpcAsyncClient(
+            jsonRpcClient, config.getMinGasPrice(), NodeRpcAsyncClient.DEFAULT_DEADLINE, rpcCache);
+    this.webSocketClient =
+        new JsonRpcWebSocketClient(config.getVertx(), Duration.ofSeconds(10), LOG);
+    this.subscriptions = new NodeRpcSubscriptions(webSocketClient);
+    // Heads are missed while the WebSocket reconnects, hiding any re-org in the meantime
+    this.webSocketClient.addConnectionListener(connected -> rpcCache.invalidateAll());
+    this.vertx = config.getVertx();
+    this.newHeadListeners = ConcurrentHashMap.newKeySet();
+    this.newHeadListeners.add(rpcCache::onNewHead);
     this.ipAddress = config.getIpAddress();
 
     this.identity = config.getIdentity();
@@ -94,6 +157,12 @@ public abstract class Web3Provider implements NetworkMember {
 
   protected abstract QbftRpc qbftRpc(final Web3ProviderConfiguration config);
 
+  /** Recognises the events in the output of the node. */
+  protected abstract NodeLogParser logParser();
+
+  /** Path of the Prometheus endpoint served on the metrics port. */
+  protected abstract String metricsPath();
+
   @Override
   public void start() {
     try {
@@ -104,14 +173,25 @@ public abstract class Web3Provider implements NetworkMember {
           container.getDockerImageName(),
           container.getContainerInfo().getImageId());
 
-      container.followOutput(
-          outputFrame -> LOG.info("{}: {}", identity, outputFrame.getUtf8String().stripTrailing()));
+      container.followOutput(containerLog);
 
       jsonRpcClient.bind(
           container.getContainerId(),
           container.getContainerIpAddress(),
           container.getMappedPort(CONTAINER_HTTP_RPC_PORT));
 
+      webSocketClient.bind(
+          container.getContainerIpAddress(), container.getMappedPort(CONTAINER_WS_RPC_PORT));
+
+      metrics.register(
+          identity,
+          container.getContainerIpAddress(),
+          container.getMappedPort(CONTAINER_METRICS_PORT),
+          metricsPath());
+
+      // Listeners outlive the subscription, which is lost whenever the container stops
+      subscriptions.newHeads(this::onNewHead).join();
+
       web3j =
           Web3j.build(
               new HttpService(
@@ -141,12 +221,59 @@ public abstract class Web3Provider implements NetworkMember {
 
   @Override
   public void stop() {
+    LOG.info("RPC cache of {}: {}", identity, rpcCache.stats());
+    metrics.unregister(identity);
     if (container != null) {
       container.stop();
     }
     if (jsonRpcClient != null) {
       jsonRpcClient.close();
     }
+    if (webSocketClient != null) {
+      webSocketClient.close();
+    }
+    // Heads missed while stopped cannot reveal a re-org, so a restart starts afresh
+    rpcCache.invalidateAll();
+  }
+
+  @Override
+  public Optional<String> containerId() {
+    return Optional.ofNullable(container.getContainerId());
+  }
+
+  @Override
+  public Optional<RpcStatistics> rpcStatistics() {
+    return Optional.of(jsonRpcClient.statistics());
+  }
+
+  /** Immutable results of queries made to this node, e.g. receipts and balances at a block. */
+  public NodeRpcCache rpcCache() {
+    return rpcCache;
+  }
+
+  @Override
+  public void logTo(final Path file) {
+    containerLog.persistTo(file);
+  }
+
+  @Override
+  public void pause() {
+    DockerPause.pause(container);
+  }
+
+  @Override
+  public void resume() {
+    DockerPause.resume(container);
+  }
+
+  @Override
+  public boolean isPaused() {
+    return DockerPause.isPaused(container);
+  }
+
+  @Override
+  public boolean isRunning() {
+    return container != null && container.isRunning();
   }
 
   public SubnetAddress ipAddress() {
@@ -171,6 +298,11 @@ public abstract class Web3Provider implements NetworkMember {
     return identity;
   }
 
+  @Override
+  public String dockerImageName() {
+    return dockerImageName;
+  }
+
   public int httpRpcPort() {
     return CONTAINER_HTTP_RPC_PORT;
   }
@@ -193,6 +325,7 @@ public abstract class Web3Provider implements NetworkMember {
 
   private void awaitPeerIdConnections(final Set<String> peerEnodes) {
     await(
+        pollBudget,
         () -> {
           final Set<String> peerPubKeys = EnodeHelpers.extractPubKeysFromEnodes(peerEnodes);
           final Set<String> connectedPeerPubKeys =
@@ -225,7 +358,15 @@ public abstract class Web3Provider implements NetworkMember {
   }
 
   public void verifyValue(final Set<AccountValue> values) {
-    values.parallelStream().forEach(value -> value.verify(signerRpcResponse));
+    final NodeRpcBatch batch = signerRpcResponse.batch();
+    final Map<AccountValue, Supplier<Wei>> balances =
+        values.stream()
+            .collect(
+                Collectors.toMap(
+                    Function.identity(), value -> batch.getBalance(value.getAccount())));
+    signerRpcResponse.execute(batch);
+
+    balances.forEach((value, balance) -> value.verify(balance.get()));
   }
 
   protected Set<Supplier<String>> dockerLogs() {
@@ -238,8 +379,72 @@ public abstract class Web3Provider implements NetworkMember {
     return signerRpcResponse;
   }
 
+  public SignerRpcAsyncClient asyncRpc() {
+    return signerRpcAsync;
+  }
+
+  public NodeRpcSubscriptions subscriptions() {
+    return subscriptions;
+  }
+
+  /** Listener invoked on every new head, on the Vert.x event loop, across any restarts. */
+  public void addNewHeadListener(final Consumer<BlockHeader> listener) {
+    newHeadListeners.add(listener);
+  }
+
+  public void removeNewHeadListener(final Consumer<BlockHeader> listener) {
+    newHeadListeners.remove(listener);
+  }
+
+  /**
+   * Performs the query immediately, then again on each new head until it returns a value. While
+   * the WebSocket is disconnected, and so no heads arrive, the query is polled instead.
+   *
+   * <p>Cancelling the returned future stops any further queries.
+   */
+  public <T> CompletableFuture<T> awaitOnNewHeads(
+      final Supplier<CompletableFuture<Optional<T>>> query) {
+    final NewHeadTriggeredQuery<T> trigger = new NewHeadTriggeredQuery<>(query);
+    addNewHeadListener(trigger);
+    final long poll =
+        vertx.setPeriodic(
+            DISCONNECTED_POLL_INTERVAL.toMillis(),
+            fired -> {
+              if (!subscriptions.isConnected()) {
+                trigger.run();
+              }
+            });
+    trigger
+        .result()
+        .whenComplete(
+            (result, error) -> {
+              removeNewHeadListener(trigger);
+              vertx.cancelTimer(poll);
+            });
+    trigger.run();
+
+    return trigger.result();
+  }
+
+  public CompletableFuture<Long> awaitBlockNumber(final long blockNumber) {
+    return awaitOnNewHeads(
+        () ->
+            signerRpcAsync
+                .getBlockNumber()
+                .thenApply(latest -> Optional.of(latest).filter(block -> block >= blockNumber)));
+  }
+
+  public CompletableFuture<TransactionReceipt> awaitTransactionReceipt(final Hash transaction) {
+    return awaitOnNewHeads(() -> signerRpcAsync.getTransactionReceipt(transaction));
+  }
+
+  private void onNewHead(final BlockHeader header) {
+    LOG.trace("{} imported {}", identity, header);
+    newHeadListeners.forEach(listener -> listener.accept(header));
+  }
+
   public void verifyTransition(final NodeValueTransition... changes) {
-    Stream.of(changes).parallel().forEach(change -> change.verify(signerRpcResponse));
+    executor.forEach(List.of(changes), change -> change.verify(signerRpcResponse));
   }
 
   public void verifySuccessfulTransactionReceipt(final Hash transaction) {
@@ -266,6 +471,10 @@ public abstract class Web3Provider implements NetworkMember {
         container.getMappedPort(CONTAINER_P2P_PORT));
   }
 
+  private Consumer<String> publishEvents(final String identity, final NetworkEventBus eventBus) {
+    return line -> logParser().parse(identity, line, Instant.now()).ifPresent(eventBus::publish);
+  }
+
   private void logContainerNetworkDetails() {
     if (container.getNetwork() == null) {
       LOG.info("Web3Provider Container: {}, has no network", container.getContainerId());
@@ -299,128 +508,51 @@ public abstract class Web3Provider implements NetworkMember {
       final BigInteger blockNumber, final String contractAddress);
 
   public void verifyGasRewardsAreTransferredToValidator(final Hash transaction) {
-    try {
-      var transactionReceipt =
-          web3j
-              .ethGetTransactionReceipt(transaction.toString())
-              .send()
-              .getTransactionReceipt()
-              .get();
-      var validator =
-          web3j
-              .ethGetBlockByHash(transactionReceipt.getBlockHash(), true)
-              .send()
-              .getBlock()
-              .getMiner();
-      var balance =
-          web3j
-              .ethGetBalance(
-                  address().toHexString(),
-                  DefaultBlockParameter.valueOf(transactionReceipt.getBlockNumber()))
-              .send()
-              .getBalance();
-
-      if (Objects.equals(address().toHexString(), validator)) {
-        assertThat(balance.longValue()).isEqualTo(21000);
-      } else {
-        assertThat(balance.longValue()).isEqualTo(0);
-      }
-
-    } catch (IOException e) {
-      throw new AssertionError("Could not verify gas rewards");
+    final TransactionReceipt receipt = signerRpcResponse.getTransactionReceipt(transaction);
+    final Address validator = signerRpcResponse.getBlockByHash(receipt.getBlockHash()).getMiner();
+    final Wei balance = signerRpcResponse.getBalance(address(), receipt.getBlockNumber());
+
+    if (address().equals(validator)) {
+      assertThat(balance).isEqualTo(Wei.valueOf(21000));
+    } else {
+      assertThat(balance).isEqualTo(Wei.valueOf(0));
     }
   }
 
   public void verifyBlockRewardsAreTransferredToValidatorAtBlock(
       final long blockNumber, final Wei blockReward) {
+    final Address validator = signerRpcResponse.getBlockByNumber(blockNumber).getMiner();
 
-    try {
-      var minedBlock = DefaultBlockParameter.valueOf(BigInteger.valueOf(blockNumber));
-
-      var validator = web3j.ethGetBlockByNumber(minedBlock, true).send().getBlock().getMiner();
-
-      var previousBalance =
-          web3j
-              .ethGetBalance(
-                  validator, DefaultBlockParameter.valueOf(BigInteger.valueOf(blockNumber - 1)))
-              .send()
-              .getBalance();
-      var minedBalance = web3j.ethGetBalance(validator, minedBlock).send().getBalance();
+    final Wei previousBalance = signerRpcResponse.getBalance(validator, blockNumber - 1);
+    final Wei minedBalance = signerRpcResponse.getBalance(validator, blockNumber);
 
-      assertThat(minedBalance.subtract(previousBalance).longValue())
-          .isEqualTo(blockReward.toLong());
-
-    } catch (IOException e) {
-      throw new AssertionError("Could not verify block rewards");
-    }
+    assertThat(minedBalance.subtract(previousBalance)).isEqualTo(blockReward);
   }
 
   public void verifyBlockRewardsAreTransferredToMiningBeneficiary(
       final long blockNumber, final Wei blockReward, final Address miningBeneficiary) {
-    try {
-      var minedBlock = DefaultBlockParameter.valueOf(BigInteger.valueOf(blockNumber));
-
-      var validator = web3j.ethGetBlockByNumber(minedBlock, true).send().getBlock().getMiner();
+    final Address validator = signerRpcResponse.getBlockByNumber(blockNumber).getMiner();
 
-      assertThat(validator).isNotEqualTo(miningBeneficiary.toHexString());
+    assertThat(validator).isNotEqualTo(miningBeneficiary);
 
-      var previousBalance =
-          web3j
-              .ethGetBalance(
-                  miningBeneficiary.toHexString(),
-                  DefaultBlockParameter.valueOf(BigInteger.valueOf(blockNumber - 1)))
-              .send()
-              .getBalance();
-      var minedBalance =
-          web3j.ethGetBalance(miningBeneficiary.toHexString(), minedBlock).send().getBalance();
+    final Wei previousBalance = signerRpcResponse.getBalance(miningBeneficiary, blockNumber - 1);
+    final Wei minedBalance = signerRpcResponse.getBalance(miningBeneficiary, blockNumber);
 
-      assertThat(minedBalance.subtract(previousBalance).longValue())
-          .isEqualTo(blockReward.toLong());
-
-    } catch (IOException e) {
-      throw new AssertionError("Could not verify block rewards for mining beneficiary");
-    }
+    assertThat(minedBalance.subtract(previousBalance)).isEqualTo(blockReward);
   }
 
   public void verifyGasRewardsAreTransferredToMiningBeneficiary(
       final Hash transaction, final Address miningBeneficiary, final Wei blockReward) {
-    try {
-      var transactionReceipt =
-          web3j
-              .ethGetTransactionReceipt(transaction.toString())
-              .send()
-              .getTransactionReceipt()
-              .get();
-      var validator =
-          web3j
-              .ethGetBlockByHash(transactionReceipt.getBlockHash(), true)
-              .send()
-              .getBlock()
-              .getMiner();
-
-      assertThat(validator).isNotEqualTo(miningBeneficiary.toHexString());
-
-      var previousBalance =
-          web3j
-              .ethGetBalance(
-                  miningBeneficiary.toHexString(),
-                  DefaultBlockParameter.valueOf(
-                      transactionReceipt.getBlockNumber().subtract(BigInteger.ONE)))
-              .send()
-              .getBalance();
-      var balance =
-          web3j
-              .ethGetBalance(
-                  miningBeneficiary.toHexString(),
-                  DefaultBlockParameter.valueOf(transactionReceipt.getBlockNumber()))
-              .send()
-              .getBalance();
-
-      assertThat(balance.subtract(previousBalance).subtract(blockReward.toBigInteger()))
-          .isEqualTo(21000);
-
-    } catch (IOException e) {
-      throw new AssertionError("Could not verify gas rewards");
-    }
+    final TransactionReceipt receipt = signerRpcResponse.getTransactionReceipt(transaction);
+    final Address validator = signerRpcResponse.getBlockByHash(receipt.getBlockHash()).getMiner();
+
+    assertThat(validator).isNotEqualTo(miningBeneficiary);
+
+    final Wei previousBalance =
+        signerRpcResponse.getBalance(miningBeneficiary, receipt.getBlockNumber() - 1);
+    final Wei balance = signerRpcResponse.getBalance(miningBeneficiary, receipt.getBlockNumber());
+
+    assertThat(balance.subtract(previousBalance).subtract(blockReward))
+        .isEqualTo(Wei.valueOf(21000));
   }
 }
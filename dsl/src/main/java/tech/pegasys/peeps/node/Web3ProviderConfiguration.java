@@ -12,6 +12,9 @@
  */
 package tech.pegasys.peeps.node;
 
+import tech.pegasys.peeps.network.NetworkExecutor;
+import tech.pegasys.peeps.network.events.NetworkEventBus;
+import tech.pegasys.peeps.network.metrics.NetworkMetrics;
 import tech.pegasys.peeps.network.subnet.SubnetAddress;
 import tech.pegasys.peeps.signer.SignerConfiguration;
 
@@ -41,7 +44,11 @@ public class Web3ProviderConfiguration {
   private final Network containerNetwork;
   private final SubnetAddress ipAddress;
   private final Vertx vertx;
+  private final NetworkExecutor executor;
+  private final NetworkEventBus eventBus;
+  private final NetworkMetrics metrics;
   private Wei minGasPrice = Wei.valueOf(0);
+  private final String dataDirectorySnapshot;
 
   public Web3ProviderConfiguration(
       final Path genesisFile,
@@ -51,6 +58,9 @@ public class Web3ProviderConfiguration {
       final String cors,
       final Network containerNetwork,
       final Vertx vertx,
+      final NetworkExecutor executor,
+      final NetworkEventBus eventBus,
+      final NetworkMetrics metrics,
       final SubnetAddress ipAddress,
       final String identity,
       final KeyPair nodeKeys,
@@ -58,7 +68,8 @@ public class Web3ProviderConfiguration {
       final SignerConfiguration wallet,
       final Path staticNodesFile,
       final String imageVersion,
-      final Wei minGasPrice) {
+      final Wei minGasPrice,
+      final String dataDirectorySnapshot) {
     this.genesisFile = genesisFile;
     this.enclavePublicKeyResource = privacyManagerPublicKeyResource;
     this.privacyMarkerSigningPrivateKeyFile = privacyMarkerSigningPrivateKeyFile;
@@ -66,6 +77,9 @@ public class Web3ProviderConfiguration {
     this.cors = cors;
     this.containerNetwork = containerNetwork;
     this.vertx = vertx;
+    this.executor = executor;
+    this.eventBus = eventBus;
+    this.metrics = metrics;
     this.ipAddress = ipAddress;
     this.identity = identity;
     this.nodeKeys = nodeKeys;
@@ -74,6 +88,7 @@ public class Web3ProviderConfiguration {
     this.staticNodesFile = staticNodesFile;
     this.imageVersion = imageVersion;
     this.minGasPrice = minGasPrice;
+    this.dataDirectorySnapshot = dataDirectorySnapshot;
   }
 
   public Path getGenesisFile() {
@@ -108,6 +123,18 @@ public class Web3ProviderConfiguration {
     return vertx;
   }
 
+  public NetworkExecutor getExecutor() {
+    return executor;
+  }
+
+  public NetworkEventBus getEventBus() {
+    return eventBus;
+  }
+
+  public NetworkMetrics getMetrics() {
+    return metrics;
+  }
+
   public KeyPair getNodeKeys() {
     return nodeKeys;
   }
@@ -140,4 +167,8 @@ public class Web3ProviderConfiguration {
   public Wei getMinGasPrice() {
     return this.minGasPrice;
   }
+
+  public Optional<String> getDataDirectorySnapshot() {
+    return Optional.ofNullable(dataDirectorySnapshot);
+  }
 }
@@ -14,6 +14,9 @@ package tech.pegasys.peeps.node;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
+import tech.pegasys.peeps.network.NetworkExecutor;
+import tech.pegasys.peeps.network.events.NetworkEventBus;
+import tech.pegasys.peeps.network.metrics.NetworkMetrics;
 import tech.pegasys.peeps.network.subnet.SubnetAddress;
 import tech.pegasys.peeps.node.genesis.GenesisFile;
 import tech.pegasys.peeps.privacy.PrivateTransactionManager;
@@ -26,6 +29,8 @@ import org.testcontainers.containers.Network;
 
 public class Web3ProviderConfigurationBuilder {
 
+  public static final String DEFAULT_IMAGE_VERSION = "develop";
+
   // TODO move these into the test
   private static final String DEFAULT_PRIVACY_MARKER_SIGNER_PRIVATE_KEY_FILE =
       "node/keys/pmt_signing.priv";
@@ -47,9 +52,13 @@ public class Web3ProviderConfigurationBuilder {
   private Network containerNetwork;
   private SubnetAddress ipAddress;
   private Vertx vertx;
-  private String imageVersion = "develop";
+  private NetworkExecutor executor;
+  private NetworkEventBus eventBus;
+  private NetworkMetrics metrics;
+  private String imageVersion = DEFAULT_IMAGE_VERSION;
 
   private Wei minGasPrice = Wei.valueOf(0);
+  private String dataDirectorySnapshot;
 
   public Web3ProviderConfigurationBuilder() {
     this.privacyMarkerSigningPrivateKeyFile = DEFAULT_PRIVACY_MARKER_SIGNER_PRIVATE_KEY_FILE;
@@ -91,6 +100,21 @@ public class Web3ProviderConfigurationBuilder {
     return this;
   }
 
+  public Web3ProviderConfigurationBuilder withExecutor(final NetworkExecutor executor) {
+    this.executor = executor;
+    return this;
+  }
+
+  public Web3ProviderConfigurationBuilder withEventBus(final NetworkEventBus eventBus) {
+    this.eventBus = eventBus;
+    return this;
+  }
+
+  public Web3ProviderConfigurationBuilder withMetrics(final NetworkMetrics metrics) {
+    this.metrics = metrics;
+    return this;
+  }
+
   public Web3ProviderConfigurationBuilder withPrivacyUrl(
       final PrivateTransactionManager privacyTransactionManager) {
     this.privacyTransactionManagerUrl = privacyTransactionManager.getNetworkRpcAddress();
@@ -129,10 +153,20 @@ public class Web3ProviderConfigurationBuilder {
     return this;
   }
 
+  /** Image with a captured data directory to start from, only supported by GoQuorum. */
+  public Web3ProviderConfigurationBuilder withDataDirectorySnapshot(
+      final String dataDirectorySnapshot) {
+    this.dataDirectorySnapshot = dataDirectorySnapshot;
+    return this;
+  }
+
   public Web3ProviderConfiguration build() {
     checkNotNull(genesisFile, "A genesis file path is mandatory");
     checkNotNull(identity, "An identity is mandatory");
     checkNotNull(vertx, "A Vertx instance is mandatory");
+    checkNotNull(executor, "A Network executor is mandatory");
+    checkNotNull(eventBus, "A Network event bus is mandatory");
+    checkNotNull(metrics, "Network metrics are mandatory");
     checkNotNull(ipAddress, "Container IP address is mandatory");
     checkNotNull(containerNetwork, "Container network is mandatory");
     checkNotNull(nodeKeys, "Node Key is mandatory");
@@ -146,6 +180,9 @@ public class Web3ProviderConfigurationBuilder {
         cors,
         containerNetwork,
         vertx,
+        executor,
+        eventBus,
+        metrics,
         ipAddress,
         identity,
         nodeKeys,
@@ -153,6 +190,7 @@ public class Web3ProviderConfigurationBuilder {
         wallet,
         staticNodesFile.getStaticNodesFile(),
         imageVersion,
-        minGasPrice);
+        minGasPrice,
+        dataDirectorySnapshot);
   }
 }
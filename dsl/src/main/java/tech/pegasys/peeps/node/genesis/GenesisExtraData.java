@@ -33,7 +33,10 @@ public abstract class GenesisExtraData {
   }
 
   protected static Address extractAddress(final Web3Provider validator) {
-    return Address.extract(
-        SECP_256_K_1.createPublicKey(Bytes.fromHexString(validator.nodePublicKey())));
+    return extractAddress(validator.nodePublicKey());
+  }
+
+  protected static Address extractAddress(final String nodePublicKey) {
+    return Address.extract(SECP_256_K_1.createPublicKey(Bytes.fromHexString(nodePublicKey)));
   }
 }
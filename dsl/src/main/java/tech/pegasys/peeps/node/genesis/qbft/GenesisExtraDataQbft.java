@@ -30,9 +30,14 @@ public class GenesisExtraDataQbft extends GenesisExtraData {
   }
 
   static Bytes encode(final Web3Provider... validators) {
+    return encode(
+        Stream.of(validators).map(Web3Provider::nodePublicKey).collect(Collectors.toList()));
+  }
+
+  /** Extra data for the validators with the given node public keys, in hex. */
+  public static Bytes encode(final List<String> validatorPublicKeys) {
     final List<Address> addresses =
-        Stream.of(validators)
-            .parallel()
+        validatorPublicKeys.parallelStream()
             .map(GenesisExtraData::extractAddress)
             .collect(Collectors.toList());
 
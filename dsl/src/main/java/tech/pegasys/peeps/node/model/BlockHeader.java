@@ -0,0 +1,82 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.node.model;
+
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.eth.Address;
+import org.apache.tuweni.units.bigints.UInt64;
+
+/** Subset of the block header, as pushed by the newHeads subscription. */
+@JsonDeserialize(using = BlockHeaderDeserializer.class)
+public class BlockHeader {
+
+  private final long number;
+  private final byte[] hash;
+  private final byte[] parentHash;
+  private final long timestamp;
+  private final byte[] miner;
+
+  public BlockHeader(
+      final String number,
+      final Hash hash,
+      final Hash parentHash,
+      final String timestamp,
+      final String miner) {
+    this(
+        UInt64.fromHexString(number).toLong(),
+        HexChars.bytes(hash.toString()),
+        HexChars.bytes(parentHash.toString()),
+        UInt64.fromHexString(timestamp).toLong(),
+        Address.fromHexString(miner).toArrayUnsafe());
+  }
+
+  BlockHeader(
+      final long number,
+      final byte[] hash,
+      final byte[] parentHash,
+      final long timestamp,
+      final byte[] miner) {
+    this.number = number;
+    this.hash = hash;
+    this.parentHash = parentHash;
+    this.timestamp = timestamp;
+    this.miner = miner;
+  }
+
+  public long getNumber() {
+    return number;
+  }
+
+  public Hash getHash() {
+    return new Hash(HexChars.toHexString(hash));
+  }
+
+  public Hash getParentHash() {
+    return new Hash(HexChars.toHexString(parentHash));
+  }
+
+  /** Seconds since the epoch. */
+  public long getTimestamp() {
+    return timestamp;
+  }
+
+  public Address getMiner() {
+    return Address.fromBytes(Bytes.wrap(miner));
+  }
+
+  @Override
+  public String toString() {
+    return String.format("BlockHeader{number=%s, hash=%s}", number, getHash());
+  }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.node.model;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+
+class BlockHeaderDeserializer extends HexFieldDeserializer<BlockHeader> {
+
+  private static final long serialVersionUID = 1L;
+
+  BlockHeaderDeserializer() {
+    super(BlockHeader.class);
+  }
+
+  @Override
+  public BlockHeader deserialize(final JsonParser parser, final DeserializationContext context)
+      throws IOException {
+    long number = MISSING;
+    byte[] hash = null;
+    byte[] parentHash = null;
+    long timestamp = MISSING;
+    byte[] miner = null;
+
+    for (JsonToken token = firstField(parser, context);
+        token == JsonToken.FIELD_NAME;
+        token = parser.nextToken()) {
+      final String field = parser.getCurrentName();
+      parser.nextToken();
+
+      switch (field) {
+        case "number":
+          number = quantity(parser, context);
+          break;
+        case "hash":
+          hash = bytes(parser, context);
+          break;
+        case "parentHash":
+          parentHash = bytes(parser, context);
+          break;
+        case "timestamp":
+          timestamp = quantity(parser, context);
+          break;
+        case "miner":
+          miner = address(parser, context);
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+
+    return new BlockHeader(
+        required(context, number, "number"),
+        required(context, hash, "hash"),
+        required(context, parentHash, "parentHash"),
+        required(context, timestamp, "timestamp"),
+        required(context, miner, "miner"));
+  }
+}
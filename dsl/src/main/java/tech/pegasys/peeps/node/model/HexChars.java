@@ -0,0 +1,98 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.node.model;
+
+/** Hex conversions of JSON-RPC quantities and data, working on ranges of a character buffer. */
+final class HexChars {
+
+  static final long INVALID = -1;
+
+  private static final char[] DIGITS = "0123456789abcdef".toCharArray();
+  private static final int PREFIX = 2;
+  private static final int MAX_QUANTITY_DIGITS = 16;
+
+  private HexChars() {}
+
+  /**
+   * Quantity that fits in a long, e.g. 0x1b4.
+   *
+   * @return INVALID when not a 0x prefixed hex quantity, or too large to fit in a signed long.
+   */
+  static long quantity(final char[] chars, final int offset, final int length) {
+    if (!isPrefixed(chars, offset, length)
+        || length == PREFIX
+        || length > PREFIX + MAX_QUANTITY_DIGITS) {
+      return INVALID;
+    }
+
+    long value = 0;
+    for (int i = offset + PREFIX; i < offset + length; i++) {
+      final int digit = Character.digit(chars[i], 16);
+      if (digit < 0) {
+        return INVALID;
+      }
+      value = value << 4 | digit;
+    }
+
+    return value < 0 ? INVALID : value;
+  }
+
+  /**
+   * Big endian bytes of hex data, or of a quantity when there are an odd number of digits.
+   *
+   * @return <code>null</code> when not 0x prefixed hex.
+   */
+  static byte[] bytes(final char[] chars, final int offset, final int length) {
+    if (!isPrefixed(chars, offset, length)) {
+      return null;
+    }
+
+    final int first = offset + PREFIX;
+    final byte[] bytes = new byte[(length - PREFIX + 1) / 2];
+    int index = offset + length - 1;
+
+    for (int i = bytes.length - 1; i >= 0; i--) {
+      final int low = Character.digit(chars[index--], 16);
+      final int high = index >= first ? Character.digit(chars[index--], 16) : 0;
+      if (low < 0 || high < 0) {
+        return null;
+      }
+      bytes[i] = (byte) (high << 4 | low);
+    }
+
+    return bytes;
+  }
+
+  static byte[] bytes(final String hex) {
+    return bytes(hex.toCharArray(), 0, hex.length());
+  }
+
+  static String toHexString(final byte[] bytes) {
+    final char[] chars = new char[PREFIX + bytes.length * 2];
+    chars[0] = '0';
+    chars[1] = 'x';
+
+    for (int i = 0; i < bytes.length; i++) {
+      chars[PREFIX + i * 2] = DIGITS[(bytes[i] >> 4) & 0xF];
+      chars[PREFIX + i * 2 + 1] = DIGITS[bytes[i] & 0xF];
+    }
+
+    return new String(chars);
+  }
+
+  private static boolean isPrefixed(final char[] chars, final int offset, final int length) {
+    return length >= PREFIX
+        && chars[offset] == '0'
+        && (chars[offset + 1] == 'x' || chars[offset + 1] == 'X');
+  }
+}
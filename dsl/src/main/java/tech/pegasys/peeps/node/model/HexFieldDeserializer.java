@@ -0,0 +1,135 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.node.model;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+
+/**
+ * Deserializes a JSON-RPC object field by field, parsing the hex values straight from the parser's
+ * character buffer rather than through intermediate Strings.
+ */
+abstract class HexFieldDeserializer<T> extends StdDeserializer<T> {
+
+  static final long MISSING = -1;
+
+  private static final int ADDRESS_LENGTH = 20;
+  private static final long serialVersionUID = 1L;
+
+  HexFieldDeserializer(final Class<T> type) {
+    super(type);
+  }
+
+  /** Moves onto the first field name, from either the start of the object or that field. */
+  protected JsonToken firstField(final JsonParser parser, final DeserializationContext context)
+      throws IOException {
+    final JsonToken token = parser.currentToken();
+
+    if (token == JsonToken.START_OBJECT) {
+      return parser.nextToken();
+    }
+    if (token == JsonToken.FIELD_NAME || token == JsonToken.END_OBJECT) {
+      return token;
+    }
+
+    return (JsonToken) context.handleUnexpectedToken(handledType(), parser);
+  }
+
+  /** Quantity of the current value, or MISSING when it is null. */
+  protected long quantity(final JsonParser parser, final DeserializationContext context)
+      throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return MISSING;
+    }
+
+    final long value =
+        parser.currentToken() == JsonToken.VALUE_STRING
+            ? HexChars.quantity(
+                parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength())
+            : HexChars.INVALID;
+
+    if (value == HexChars.INVALID) {
+      return context.reportInputMismatch(
+          this, "Invalid quantity for '%s': %s", parser.getCurrentName(), parser.getText());
+    }
+
+    return value;
+  }
+
+  /** Hex bytes of the current value, or <code>null</code> when it is null. */
+  protected byte[] bytes(final JsonParser parser, final DeserializationContext context)
+      throws IOException {
+    if (parser.currentToken() == JsonToken.VALUE_NULL) {
+      return null;
+    }
+
+    final byte[] value =
+        parser.currentToken() == JsonToken.VALUE_STRING
+            ? HexChars.bytes(
+                parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength())
+            : null;
+
+    if (value == null) {
+      return context.reportInputMismatch(
+          this, "Invalid hex for '%s': %s", parser.getCurrentName(), parser.getText());
+    }
+
+    return value;
+  }
+
+  /** Address bytes of the current value, or <code>null</code> when it is null. */
+  protected byte[] address(final JsonParser parser, final DeserializationContext context)
+      throws IOException {
+    final byte[] value = bytes(parser, context);
+
+    if (value != null && value.length != ADDRESS_LENGTH) {
+      return context.reportInputMismatch(
+          this, "Invalid address for '%s': %s", parser.getCurrentName(), parser.getText());
+    }
+
+    return value;
+  }
+
+  protected long required(
+      final DeserializationContext context, final long value, final String field)
+      throws IOException {
+    if (value == MISSING) {
+      return context.reportInputMismatch(this, "Missing required field '%s'", field);
+    }
+    return value;
+  }
+
+  /** Required quantity that must fit in an int, as do indexes within a block. */
+  protected int requiredIndex(
+      final DeserializationContext context, final long value, final String field)
+      throws IOException {
+    final long index = required(context, value, field);
+    if (index > Integer.MAX_VALUE) {
+      return context.reportInputMismatch(this, "Out of range index for '%s': %s", field, index);
+    }
+    return (int) index;
+  }
+
+  protected byte[] required(
+      final DeserializationContext context, final byte[] value, final String field)
+      throws IOException {
+    if (value == null) {
+      return context.reportInputMismatch(this, "Missing required field '%s'", field);
+    }
+    return value;
+  }
+}
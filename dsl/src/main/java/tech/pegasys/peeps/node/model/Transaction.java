@@ -12,127 +12,127 @@
  */
 package tech.pegasys.peeps.node.model;
 
-import com.fasterxml.jackson.annotation.JsonCreator;
-import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
-import com.fasterxml.jackson.annotation.JsonProperty;
-import com.fasterxml.jackson.annotation.JsonSetter;
+import java.util.Optional;
+import java.util.OptionalLong;
+
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.eth.Address;
 import org.apache.tuweni.units.bigints.UInt256;
 import org.apache.tuweni.units.ethereum.Gas;
 import org.apache.tuweni.units.ethereum.Wei;
 
-@JsonIgnoreProperties(ignoreUnknown = true)
+/**
+ * Compact form of a transaction: quantities as primitives or their bytes when they may exceed a
+ * long, hashes and addresses as their bytes.
+ */
+@JsonDeserialize(using = TransactionDeserializer.class)
 public class Transaction {
 
-  private final Address sender;
-  private final Gas gas;
-  private final Wei gasPrice;
-  private final Wei value;
-
-  // TODO stricter typing than String
-  private final String blockHash;
-  private final String blockNumber;
-  private final String hash;
-  private final String input;
-  private final String nonce;
-  private final String v;
-  private final String r;
-  private final String s;
-
-  private Address recipient;
-  private String transactionIndex;
-
-  @JsonCreator
-  public Transaction(
-      @JsonProperty("from") final String sender,
-      @JsonProperty("blockHash") final String blockHash,
-      @JsonProperty("blockNumber") final String blockNumber,
-      @JsonProperty("gas") final String gas,
-      @JsonProperty("gasPrice") final String gasPrice,
-      @JsonProperty("hash") final String hash,
-      @JsonProperty("input") final String input,
-      @JsonProperty("nonce") final String nonce,
-      @JsonProperty("value") final String value,
-      @JsonProperty("v") final String v,
-      @JsonProperty("r") final String r,
-      @JsonProperty("s") final String s) {
-    this.sender = Address.fromHexString(sender);
+  private static final long PENDING = -1;
+
+  private final byte[] sender;
+  private final long gas;
+  private final byte[] gasPrice;
+  private final byte[] value;
+  private final byte[] hash;
+  private final byte[] input;
+  private final long nonce;
+  private final long v;
+  private final byte[] r;
+  private final byte[] s;
+
+  private final byte[] blockHash;
+  private final long blockNumber;
+  private final byte[] recipient;
+  private final long transactionIndex;
+
+  Transaction(
+      final byte[] sender,
+      final byte[] blockHash,
+      final long blockNumber,
+      final long gas,
+      final byte[] gasPrice,
+      final byte[] hash,
+      final byte[] input,
+      final long nonce,
+      final byte[] value,
+      final long v,
+      final byte[] r,
+      final byte[] s,
+      final byte[] recipient,
+      final long transactionIndex) {
+    this.sender = sender;
     this.blockHash = blockHash;
     this.blockNumber = blockNumber;
-    this.gas = Gas.valueOf(UInt256.fromHexString(gas));
-    this.gasPrice = Wei.valueOf(UInt256.fromHexString(gasPrice));
+    this.gas = gas;
+    this.gasPrice = gasPrice;
     this.hash = hash;
     this.input = input;
     this.nonce = nonce;
-    this.value = Wei.valueOf(UInt256.fromHexString(value));
+    this.value = value;
     this.v = v;
     this.r = r;
     this.s = s;
-  }
-
-  @JsonSetter("to")
-  public void setRecipient(final String recipient) {
-    this.recipient = recipient == null ? null : Address.fromHexString(recipient);
-  }
-
-  @JsonSetter("transactionIndex")
-  public void setTransactionIndex(final String transactionIndex) {
+    this.recipient = recipient;
     this.transactionIndex = transactionIndex;
   }
 
   public Address getSender() {
-    return sender;
+    return Address.fromBytes(Bytes.wrap(sender));
   }
 
-  public String getBlockHash() {
-    return blockHash;
+  /** Empty while the transaction is pending. */
+  public Optional<Hash> getBlockHash() {
+    return Optional.ofNullable(blockHash).map(bytes -> new Hash(HexChars.toHexString(bytes)));
   }
 
-  public String getBlockNumber() {
-    return blockNumber;
+  /** Empty while the transaction is pending. */
+  public OptionalLong getBlockNumber() {
+    return blockNumber == PENDING ? OptionalLong.empty() : OptionalLong.of(blockNumber);
   }
 
   public Gas getGas() {
-    return gas;
+    return Gas.valueOf(gas);
   }
 
   public Wei getGasPrice() {
-    return gasPrice;
+    return Wei.valueOf(UInt256.fromBytes(Bytes.wrap(gasPrice)));
   }
 
-  public String getHash() {
-    return hash;
+  public Hash getHash() {
+    return new Hash(HexChars.toHexString(hash));
   }
 
   public String getInput() {
-    return input;
+    return HexChars.toHexString(input);
   }
 
-  public String getNonce() {
+  public long getNonce() {
     return nonce;
   }
 
   public Wei getValue() {
-    return value;
+    return Wei.valueOf(UInt256.fromBytes(Bytes.wrap(value)));
   }
 
-  public String getV() {
+  public long getV() {
     return v;
   }
 
-  public String getR() {
-    return r;
+  public Bytes getR() {
+    return Bytes.wrap(r);
   }
 
-  public String getS() {
-    return s;
+  public Bytes getS() {
+    return Bytes.wrap(s);
   }
 
   public Address getRecipient() {
-    return recipient;
+    return recipient == null ? null : Address.fromBytes(Bytes.wrap(recipient));
   }
 
   public boolean isProcessed() {
-    return transactionIndex != null;
+    return transactionIndex != PENDING;
   }
 }
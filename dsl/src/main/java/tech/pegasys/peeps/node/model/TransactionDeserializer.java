@@ -0,0 +1,117 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.node.model;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+
+class TransactionDeserializer extends HexFieldDeserializer<Transaction> {
+
+  private static final long serialVersionUID = 1L;
+
+  TransactionDeserializer() {
+    super(Transaction.class);
+  }
+
+  @Override
+  public Transaction deserialize(final JsonParser parser, final DeserializationContext context)
+      throws IOException {
+    byte[] sender = null;
+    byte[] blockHash = null;
+    long blockNumber = MISSING;
+    long gas = MISSING;
+    byte[] gasPrice = null;
+    byte[] hash = null;
+    byte[] input = null;
+    long nonce = MISSING;
+    byte[] value = null;
+    long v = MISSING;
+    byte[] r = null;
+    byte[] s = null;
+    byte[] recipient = null;
+    long transactionIndex = MISSING;
+
+    for (JsonToken token = firstField(parser, context);
+        token == JsonToken.FIELD_NAME;
+        token = parser.nextToken()) {
+      final String field = parser.getCurrentName();
+      parser.nextToken();
+
+      switch (field) {
+        case "from":
+          sender = address(parser, context);
+          break;
+        case "blockHash":
+          blockHash = bytes(parser, context);
+          break;
+        case "blockNumber":
+          blockNumber = quantity(parser, context);
+          break;
+        case "gas":
+          gas = quantity(parser, context);
+          break;
+        case "gasPrice":
+          gasPrice = bytes(parser, context);
+          break;
+        case "hash":
+          hash = bytes(parser, context);
+          break;
+        case "input":
+          input = bytes(parser, context);
+          break;
+        case "nonce":
+          nonce = quantity(parser, context);
+          break;
+        case "value":
+          value = bytes(parser, context);
+          break;
+        case "v":
+          v = quantity(parser, context);
+          break;
+        case "r":
+          r = bytes(parser, context);
+          break;
+        case "s":
+          s = bytes(parser, context);
+          break;
+        case "to":
+          recipient = address(parser, context);
+          break;
+        case "transactionIndex":
+          transactionIndex = quantity(parser, context);
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+
+    return new Transaction(
+        required(context, sender, "from"),
+        blockHash,
+        blockNumber,
+        required(context, gas, "gas"),
+        required(context, gasPrice, "gasPrice"),
+        required(context, hash, "hash"),
+        required(context, input, "input"),
+        required(context, nonce, "nonce"),
+        required(context, value, "value"),
+        required(context, v, "v"),
+        required(context, r, "r"),
+        required(context, s, "s"),
+        recipient,
+        transactionIndex);
+  }
+}
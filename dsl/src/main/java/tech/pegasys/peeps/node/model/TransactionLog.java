@@ -0,0 +1,54 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.node.model;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+import org.apache.tuweni.eth.Address;
+
+/** Event emitted by a contract, as found in the logs of a transaction receipt. */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class TransactionLog {
+
+  private final Address address;
+  private final List<Bytes32> topics;
+  private final Bytes data;
+
+  @JsonCreator
+  public TransactionLog(
+      @JsonProperty("address") final String address,
+      @JsonProperty("topics") final List<String> topics,
+      @JsonProperty("data") final String data) {
+    this.address = Address.fromHexString(address);
+    this.topics = topics.stream().map(Bytes32::fromHexString).collect(Collectors.toList());
+    this.data = Bytes.fromHexString(data);
+  }
+
+  public Address getAddress() {
+    return address;
+  }
+
+  public List<Bytes32> getTopics() {
+    return topics;
+  }
+
+  public Bytes getData() {
+    return data;
+  }
+}
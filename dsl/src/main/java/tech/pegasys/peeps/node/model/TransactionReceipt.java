@@ -12,107 +12,130 @@
  */
 package tech.pegasys.peeps.node.model;
 
+import tech.pegasys.peeps.json.Json;
+
+import java.util.List;
 import java.util.Optional;
 
-import com.fasterxml.jackson.annotation.JsonCreator;
-import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
-import com.fasterxml.jackson.annotation.JsonProperty;
-import com.fasterxml.jackson.annotation.JsonSetter;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import io.vertx.core.buffer.Buffer;
+import org.apache.tuweni.bytes.Bytes;
 import org.apache.tuweni.eth.Address;
-import org.apache.tuweni.units.bigints.UInt256;
 import org.apache.tuweni.units.ethereum.Gas;
 
-@JsonIgnoreProperties(ignoreUnknown = true)
+/**
+ * Receipts are held by the hundred thousand under load, so are kept compact: quantities as
+ * primitives, hashes and addresses as their bytes, an empty bloom shared and the logs left encoded
+ * until asked for.
+ */
+@JsonDeserialize(using = TransactionReceiptDeserializer.class)
 public class TransactionReceipt {
 
-  private final Address sender;
-  private final Hash blockHash;
-  private final Hash transactionHash;
-  private final Gas gasUsed;
-
-  // TODO stricter typing than String
-  private final String blockNumber;
-  private final String cumulativeGasUsed;
-  private final String logsBloom;
-  private final String transactionIndex;
-  private final String status;
-
-  private Address recipient;
-  private Address contract;
-
-  @JsonCreator
-  public TransactionReceipt(
-      @JsonProperty("blockHash") final Hash blockHash,
-      @JsonProperty("blockNumber") final String blockNumber,
-      @JsonProperty("from") final String sender,
-      @JsonProperty("transactionHash") final Hash transactionHash,
-      @JsonProperty("transactionIndex") final String transactionIndex,
-      @JsonProperty("status") final String status,
-      @JsonProperty("cumulativeGasUsed") final String cumulativeGasUsed,
-      @JsonProperty("gasUsed") final String gasUsed,
-      @JsonProperty("logsBloom") final String logsBloom) {
+  private static final int BLOOM_LENGTH = 256;
+  private static final Bytes EMPTY_BLOOM = Bytes.wrap(new byte[BLOOM_LENGTH]);
+  private static final long SUCCESS = 1;
+
+  private final byte[] sender;
+  private final byte[] blockHash;
+  private final byte[] transactionHash;
+  private final long blockNumber;
+  private final long cumulativeGasUsed;
+  private final long gasUsed;
+  private final int transactionIndex;
+  private final boolean success;
+  private final byte[] recipient;
+  private final byte[] contract;
+  private final byte[] logsBloom;
+  private final byte[] logs;
+
+  TransactionReceipt(
+      final byte[] blockHash,
+      final long blockNumber,
+      final byte[] sender,
+      final byte[] transactionHash,
+      final int transactionIndex,
+      final long status,
+      final long cumulativeGasUsed,
+      final long gasUsed,
+      final byte[] logsBloom,
+      final byte[] recipient,
+      final byte[] contract,
+      final byte[] logs) {
     this.blockHash = blockHash;
     this.blockNumber = blockNumber;
-    this.sender = Address.fromHexString(sender);
+    this.sender = sender;
     this.transactionHash = transactionHash;
     this.transactionIndex = transactionIndex;
-    this.status = status;
+    this.success = status == SUCCESS;
     this.cumulativeGasUsed = cumulativeGasUsed;
-    this.gasUsed = Gas.valueOf(UInt256.fromHexString(gasUsed));
-    this.logsBloom = logsBloom;
-  }
-
-  @JsonSetter("to")
-  public void setRecipient(final String recipient) {
-    this.recipient = recipient == null ? null : Address.fromHexString(recipient);
-  }
-
-  @JsonSetter("contractAddress")
-  public void setContractAddress(final String contract) {
-    this.contract = contract == null ? null : Address.fromHexString(contract);
+    this.gasUsed = gasUsed;
+    this.logsBloom = isEmpty(logsBloom) ? null : logsBloom;
+    this.recipient = recipient;
+    this.contract = contract;
+    this.logs = logs;
   }
 
   public Optional<Address> getContractAddress() {
-    return Optional.ofNullable(contract);
+    return Optional.ofNullable(contract).map(TransactionReceipt::address);
   }
 
   public Address getSender() {
-    return sender;
+    return address(sender);
   }
 
   public Optional<Address> getRecipient() {
-    return Optional.ofNullable(recipient);
+    return Optional.ofNullable(recipient).map(TransactionReceipt::address);
   }
 
   public Hash getBlockHash() {
-    return blockHash;
+    return new Hash(HexChars.toHexString(blockHash));
   }
 
-  public String getBlockNumber() {
+  public long getBlockNumber() {
     return blockNumber;
   }
 
-  public String getTransactionIndex() {
+  public int getTransactionIndex() {
     return transactionIndex;
   }
 
   public Hash getTransactionHash() {
-    return transactionHash;
+    return new Hash(HexChars.toHexString(transactionHash));
   }
 
-  public String getCumulativeGasUsed() {
-    return cumulativeGasUsed;
+  public Gas getCumulativeGasUsed() {
+    return Gas.valueOf(cumulativeGasUsed);
   }
 
   public Gas getGasUsed() {
-    return gasUsed;
+    return Gas.valueOf(gasUsed);
   }
 
-  public String getLogsBloom() {
-    return logsBloom;
+  public Bytes getLogsBloom() {
+    return logsBloom == null ? EMPTY_BLOOM : Bytes.wrap(logsBloom);
+  }
+
+  /** Decoded on each call, as few receipts ever have their logs inspected. */
+  public List<TransactionLog> getLogs() {
+    return logs == null
+        ? List.of()
+        : List.of(Json.decode(Buffer.buffer(logs), TransactionLog[].class));
   }
 
   public boolean isSuccess() {
-    return status.contentEquals("0x1");
+    return success;
+  }
+
+  private static Address address(final byte[] address) {
+    return Address.fromBytes(Bytes.wrap(address));
+  }
+
+  private static boolean isEmpty(final byte[] bloom) {
+    for (final byte b : bloom) {
+      if (b != 0) {
+        return false;
+      }
+    }
+    return true;
   }
 }
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.node.model;
+
+import tech.pegasys.peeps.json.Json;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonNode;
+
+class TransactionReceiptDeserializer extends HexFieldDeserializer<TransactionReceipt> {
+
+  private static final long serialVersionUID = 1L;
+
+  TransactionReceiptDeserializer() {
+    super(TransactionReceipt.class);
+  }
+
+  @Override
+  public TransactionReceipt deserialize(
+      final JsonParser parser, final DeserializationContext context) throws IOException {
+    byte[] blockHash = null;
+    long blockNumber = MISSING;
+    byte[] sender = null;
+    byte[] transactionHash = null;
+    long transactionIndex = MISSING;
+    long status = MISSING;
+    long cumulativeGasUsed = MISSING;
+    long gasUsed = MISSING;
+    byte[] logsBloom = null;
+    byte[] recipient = null;
+    byte[] contract = null;
+    byte[] logs = null;
+
+    for (JsonToken token = firstField(parser, context);
+        token == JsonToken.FIELD_NAME;
+        token = parser.nextToken()) {
+      final String field = parser.getCurrentName();
+      parser.nextToken();
+
+      switch (field) {
+        case "blockHash":
+          blockHash = bytes(parser, context);
+          break;
+        case "blockNumber":
+          blockNumber = quantity(parser, context);
+          break;
+        case "from":
+          sender = address(parser, context);
+          break;
+        case "transactionHash":
+          transactionHash = bytes(parser, context);
+          break;
+        case "transactionIndex":
+          transactionIndex = quantity(parser, context);
+          break;
+        case "status":
+          status = quantity(parser, context);
+          break;
+        case "cumulativeGasUsed":
+          cumulativeGasUsed = quantity(parser, context);
+          break;
+        case "gasUsed":
+          gasUsed = quantity(parser, context);
+          break;
+        case "logsBloom":
+          logsBloom = bytes(parser, context);
+          break;
+        case "to":
+          recipient = address(parser, context);
+          break;
+        case "contractAddress":
+          contract = address(parser, context);
+          break;
+        case "logs":
+          logs = logs(context.readTree(parser));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+
+    return new TransactionReceipt(
+        required(context, blockHash, "blockHash"),
+        required(context, blockNumber, "blockNumber"),
+        required(context, sender, "from"),
+        required(context, transactionHash, "transactionHash"),
+        requiredIndex(context, transactionIndex, "transactionIndex"),
+        required(context, status, "status"),
+        required(context, cumulativeGasUsed, "cumulativeGasUsed"),
+        required(context, gasUsed, "gasUsed"),
+        required(context, logsBloom, "logsBloom"),
+        recipient,
+        contract,
+        logs);
+  }
+
+  /** Logs are kept in their JSON encoding until asked for, and not at all when there are none. */
+  private static byte[] logs(final JsonNode logs) {
+    return logs.isArray() && logs.size() > 0
+        ? Json.encode(logs).getBytes(StandardCharsets.UTF_8)
+        : null;
+  }
+}
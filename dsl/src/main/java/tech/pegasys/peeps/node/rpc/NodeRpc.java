@@ -12,6 +12,7 @@
  */
 package tech.pegasys.peeps.node.rpc;
 
+import tech.pegasys.peeps.node.model.BlockHeader;
 import tech.pegasys.peeps.node.model.Hash;
 import tech.pegasys.peeps.node.model.PrivacyTransactionReceipt;
 import tech.pegasys.peeps.node.model.Transaction;
@@ -37,5 +38,15 @@ public interface NodeRpc extends QbftRpc {
 
   Wei getBalance(Address account);
 
+  Wei getBalance(Address account, long blockNumber);
+
+  BlockHeader getBlockByHash(Hash block);
+
+  BlockHeader getBlockByNumber(long blockNumber);
+
   long getBlockNumber();
+
+  NodeRpcBatch batch();
+
+  void execute(NodeRpcBatch batch);
 }
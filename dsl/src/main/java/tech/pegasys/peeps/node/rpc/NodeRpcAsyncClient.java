@@ -0,0 +1,192 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.node.rpc;
+
+import tech.pegasys.peeps.json.rpc.JsonRpcClient;
+import tech.pegasys.peeps.node.model.BlockHeader;
+import tech.pegasys.peeps.node.model.Hash;
+import tech.pegasys.peeps.node.model.PrivacyTransactionReceipt;
+import tech.pegasys.peeps.node.model.Transaction;
+import tech.pegasys.peeps.node.model.TransactionReceipt;
+import tech.pegasys.peeps.node.rpc.admin.ConnectedPeer;
+import tech.pegasys.peeps.node.rpc.admin.ConnectedPeersResponse;
+import tech.pegasys.peeps.node.rpc.admin.NodeInfo;
+import tech.pegasys.peeps.node.rpc.admin.NodeInfoResponse;
+import tech.pegasys.peeps.node.rpc.eth.GetBalanceResponse;
+import tech.pegasys.peeps.node.rpc.eth.GetBlockHeaderResponse;
+import tech.pegasys.peeps.node.rpc.eth.GetBlockNumberResponse;
+import tech.pegasys.peeps.node.rpc.eth.GetBlockTransactionHashesResponse;
+import tech.pegasys.peeps.node.rpc.eth.GetChainIdResponse;
+import tech.pegasys.peeps.node.rpc.eth.GetTransactionCountResponse;
+import tech.pegasys.peeps.node.rpc.eth.GetTransactionByHashResponse;
+import tech.pegasys.peeps.node.rpc.eth.GetTransactionReceiptResponse;
+import tech.pegasys.peeps.node.rpc.eth.SendRawTransactionResponse;
+import tech.pegasys.peeps.node.rpc.priv.GetPrivateTransactionResponse;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+import org.apache.tuweni.eth.Address;
+import org.apache.tuweni.units.ethereum.Wei;
+
+/**
+ * Non-blocking twin of the NodeRpcClient, each call returns immediately with a future that
+ * completes on the response, or exceptionally when the deadline passes without one.
+ */
+public class NodeRpcAsyncClient {
+
+  public static final Duration DEFAULT_DEADLINE = Duration.ofSeconds(10);
+
+  protected final JsonRpcClient rpcClient;
+  protected final Duration deadline;
+  protected final NodeRpcCache cache;
+
+  public NodeRpcAsyncClient(final JsonRpcClient rpcClient) {
+    this(rpcClient, DEFAULT_DEADLINE);
+  }
+
+  public NodeRpcAsyncClient(final JsonRpcClient rpcClient, final Duration deadline) {
+    this(rpcClient, deadline, NodeRpcCache.disabled());
+  }
+
+  public NodeRpcAsyncClient(
+      final JsonRpcClient rpcClient, final Duration deadline, final NodeRpcCache cache) {
+    this.rpcClient = rpcClient;
+    this.deadline = deadline;
+    this.cache = cache;
+  }
+
+  public NodeRpcAsyncClient withDeadline(final Duration deadline) {
+    return new NodeRpcAsyncClient(rpcClient, deadline, cache);
+  }
+
+  public CompletableFuture<Set<String>> getConnectedPeerEnodes() {
+    return rpcClient
+        .postAsync(deadline, "admin_peers", ConnectedPeersResponse.class)
+        .thenApply(
+            response ->
+                Arrays.stream(response.getResult())
+                    .map(ConnectedPeer::getEnode)
+                    .collect(Collectors.toSet()));
+  }
+
+  public CompletableFuture<NodeInfo> nodeInfo() {
+    return rpcClient
+        .postAsync(deadline, "admin_nodeInfo", NodeInfoResponse.class)
+        .thenApply(NodeInfoResponse::getResult);
+  }
+
+  public CompletableFuture<Optional<PrivacyTransactionReceipt>> getPrivacyTransactionReceipt(
+      final Hash receipt) {
+    return rpcClient
+        .postAsync(
+            deadline, "priv_getTransactionReceipt", GetPrivateTransactionResponse.class, receipt)
+        .thenApply(GetPrivateTransactionResponse::getResult);
+  }
+
+  public CompletableFuture<Optional<TransactionReceipt>> getTransactionReceipt(
+      final Hash receipt) {
+    return cache.getAsync(
+        NodeRpcCache.key("eth_getTransactionReceipt", receipt),
+        () ->
+            rpcClient
+                .postAsync(
+                    deadline,
+                    "eth_getTransactionReceipt",
+                    GetTransactionReceiptResponse.class,
+                    receipt)
+                .thenApply(GetTransactionReceiptResponse::getResult),
+        mined -> true);
+  }
+
+  public CompletableFuture<Optional<Transaction>> getTransactionByHash(final Hash transaction) {
+    return cache.getAsync(
+        NodeRpcCache.key("eth_getTransactionByHash", transaction),
+        () ->
+            rpcClient
+                .postAsync(
+                    deadline,
+                    "eth_getTransactionByHash",
+                    GetTransactionByHashResponse.class,
+                    transaction)
+                .thenApply(GetTransactionByHashResponse::getResult),
+        mined -> mined.getBlockHash().isPresent());
+  }
+
+  public CompletableFuture<Wei> getBalance(final Address account) {
+    return rpcClient
+        .postAsync(
+            deadline, "eth_getBalance", GetBalanceResponse.class, account.toHexString(), "latest")
+        .thenApply(GetBalanceResponse::getResult);
+  }
+
+  public CompletableFuture<Long> getChainId() {
+    return rpcClient
+        .postAsync(deadline, "eth_chainId", GetChainIdResponse.class)
+        .thenApply(GetChainIdResponse::getResult);
+  }
+
+  /** Number of transactions sent from the account, including those still pending. */
+  public CompletableFuture<Long> getTransactionCount(final Address account) {
+    return rpcClient
+        .postAsync(
+            deadline,
+            "eth_getTransactionCount",
+            GetTransactionCountResponse.class,
+            account.toHexString(),
+            "pending")
+        .thenApply(GetTransactionCountResponse::getResult);
+  }
+
+  /**
+   * Submits a transaction signed by the caller.
+   *
+   * @param signed hex encoding of the signed RLP transaction.
+   * @return completes exceptionally when the node rejects the transaction.
+   */
+  public CompletableFuture<Hash> sendRawTransaction(final String signed) {
+    return rpcClient
+        .postAsync(deadline, "eth_sendRawTransaction", SendRawTransactionResponse.class, signed)
+        .thenApply(SendRawTransactionResponse::getResult);
+  }
+
+  public CompletableFuture<Long> getBlockNumber() {
+    return rpcClient
+        .postAsync(deadline, "eth_blockNumber", GetBlockNumberResponse.class)
+        .thenApply(GetBlockNumberResponse::getResult);
+  }
+
+  /** Header of the latest block, without the transactions. */
+  public CompletableFuture<Optional<BlockHeader>> getLatestBlockHeader() {
+    return rpcClient
+        .postAsync(deadline, "eth_getBlockByNumber", GetBlockHeaderResponse.class, "latest", false)
+        .thenApply(GetBlockHeaderResponse::getResult);
+  }
+
+  /** Hashes of the transactions in the block, empty when the node does not have the block. */
+  public CompletableFuture<Optional<List<Hash>>> getBlockTransactionHashes(final Hash block) {
+    return rpcClient
+        .postAsync(
+            deadline, "eth_getBlockByHash", GetBlockTransactionHashesResponse.class, block, false)
+        .thenApply(GetBlockTransactionHashesResponse::getResult);
+  }
+
+  public CompletableFuture<Void> execute(final NodeRpcBatch batch) {
+    return batch.executeAsync(deadline);
+  }
+}
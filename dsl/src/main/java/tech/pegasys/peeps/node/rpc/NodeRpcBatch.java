@@ -0,0 +1,104 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.node.rpc;
+
+import tech.pegasys.peeps.json.rpc.JsonRpcBatch;
+import tech.pegasys.peeps.json.rpc.JsonRpcBatch.Entry;
+import tech.pegasys.peeps.node.model.Hash;
+import tech.pegasys.peeps.node.model.Transaction;
+import tech.pegasys.peeps.node.model.TransactionReceipt;
+import tech.pegasys.peeps.node.rpc.eth.GetBalanceResponse;
+import tech.pegasys.peeps.node.rpc.eth.GetTransactionByHashResponse;
+import tech.pegasys.peeps.node.rpc.eth.GetTransactionReceiptResponse;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+
+import org.apache.tuweni.eth.Address;
+import org.apache.tuweni.units.ethereum.Wei;
+
+/**
+ * Node queries that are sent together, in a single round trip, when the batch is executed.
+ *
+ * <p>Immutable results already in the node's cache are not added to the batch.
+ */
+public class NodeRpcBatch {
+
+  private final JsonRpcBatch batch;
+  private final NodeRpcCache cache;
+  private final List<BooleanSupplier> completions;
+
+  public NodeRpcBatch(final JsonRpcBatch batch) {
+    this(batch, NodeRpcCache.disabled());
+  }
+
+  public NodeRpcBatch(final JsonRpcBatch batch, final NodeRpcCache cache) {
+    this.batch = batch;
+    this.cache = cache;
+    this.completions = new ArrayList<>();
+  }
+
+  public Supplier<Wei> getBalance(final Address account) {
+    final Entry<GetBalanceResponse> entry =
+        batch.add("eth_getBalance", GetBalanceResponse.class, account.toHexString(), "latest");
+    completions.add(entry::isSuccess);
+    return () -> entry.get().getResult();
+  }
+
+  public Supplier<Optional<TransactionReceipt>> getTransactionReceipt(final Hash receipt) {
+    return cache.getBatched(
+        NodeRpcCache.key("eth_getTransactionReceipt", receipt),
+        () -> {
+          final Entry<GetTransactionReceiptResponse> entry =
+              batch.add("eth_getTransactionReceipt", GetTransactionReceiptResponse.class, receipt);
+          completions.add(() -> entry.isSuccess() && entry.get().getResult().isPresent());
+          return () -> entry.get().getResult();
+        },
+        mined -> true);
+  }
+
+  public Supplier<Optional<Transaction>> getTransactionByHash(final Hash transaction) {
+    return cache.getBatched(
+        NodeRpcCache.key("eth_getTransactionByHash", transaction),
+        () -> {
+          final Entry<GetTransactionByHashResponse> entry =
+              batch.add(
+                  "eth_getTransactionByHash", GetTransactionByHashResponse.class, transaction);
+          completions.add(() -> entry.isSuccess() && entry.get().getResult().isPresent());
+          return () -> entry.get().getResult();
+        },
+        mined -> mined.getBlockHash().isPresent());
+  }
+
+  public int size() {
+    return batch.size();
+  }
+
+  public void execute() {
+    batch.execute();
+  }
+
+  public CompletableFuture<Void> executeAsync(final Duration deadline) {
+    return batch.executeAsync(deadline);
+  }
+
+  /** Whether every query in the last execution succeeded and returned a value. */
+  public boolean isComplete() {
+    return completions.stream().allMatch(BooleanSupplier::getAsBoolean);
+  }
+}
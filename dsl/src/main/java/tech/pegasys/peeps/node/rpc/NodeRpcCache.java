@@ -0,0 +1,170 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.node.rpc;
+
+import tech.pegasys.peeps.node.model.BlockHeader;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Results of the queries that cannot change once their block is mined, e.g. receipts, blocks by
+ * hash and balances at a block number, shared by the clients of a single node.
+ *
+ * <p>Everything is invalidated when a new head does not extend the previous one, as after a re-org
+ * those blocks may no longer be part of the chain.
+ */
+public class NodeRpcCache {
+
+  private static final Logger LOG = LogManager.getLogger();
+  private static final long DEFAULT_MAXIMUM_SIZE = 10_000;
+
+  private final Cache<List<Object>, Object> results;
+  private final AtomicLong generation;
+  private BlockHeader head;
+
+  public NodeRpcCache() {
+    this(DEFAULT_MAXIMUM_SIZE);
+  }
+
+  public NodeRpcCache(final long maximumSize) {
+    this.results = CacheBuilder.newBuilder().maximumSize(maximumSize).recordStats().build();
+    this.generation = new AtomicLong();
+  }
+
+  /** For clients with no view of the chain head, and so no means of detecting a re-org. */
+  public static NodeRpcCache disabled() {
+    return new NodeRpcCache(0);
+  }
+
+  /** Hits and misses of the queries made through the cache. */
+  public CacheStats stats() {
+    return results.stats();
+  }
+
+  public long size() {
+    return results.size();
+  }
+
+  /** Invalidates every result when the head does not extend the previous head, i.e. a re-org. */
+  public synchronized void onNewHead(final BlockHeader latest) {
+    if (head != null && !extendsHead(latest) && !head.getHash().equals(latest.getHash())) {
+      LOG.info("Invalidating {} cached results, {} does not extend {}", size(), latest, head);
+      invalidateAll();
+    }
+    head = latest;
+  }
+
+  /** Drops every result along with the head, e.g. when the node stops. */
+  public synchronized void invalidateAll() {
+    generation.incrementAndGet();
+    results.invalidateAll();
+    head = null;
+  }
+
+  static List<Object> key(final String method, final Object... params) {
+    final Object[] parts = new Object[params.length + 1];
+    parts[0] = method;
+    System.arraycopy(params, 0, parts, 1, params.length);
+    return List.of(parts);
+  }
+
+  /**
+   * Cached result, otherwise the result of the query, which is cached when immutable.
+   *
+   * @param immutable whether the result of the query can no longer change.
+   */
+  <T> Optional<T> get(
+      final List<Object> key, final Supplier<Optional<T>> query, final Predicate<T> immutable) {
+    final Optional<T> cached = cached(key);
+    if (cached.isPresent()) {
+      return cached;
+    }
+
+    final long queried = generation.get();
+    final Optional<T> result = query.get();
+    result.filter(immutable).ifPresent(value -> put(key, value, queried));
+
+    return result;
+  }
+
+  /** Non-blocking twin of get, with the query only made on a miss. */
+  <T> CompletableFuture<Optional<T>> getAsync(
+      final List<Object> key,
+      final Supplier<CompletableFuture<Optional<T>>> query,
+      final Predicate<T> immutable) {
+    final Optional<T> cached = cached(key);
+    if (cached.isPresent()) {
+      return CompletableFuture.completedFuture(cached);
+    }
+
+    final long queried = generation.get();
+    return query
+        .get()
+        .thenApply(
+            result -> {
+              result.filter(immutable).ifPresent(value -> put(key, value, queried));
+              return result;
+            });
+  }
+
+  /**
+   * Batched twin of get, with the query only added to the batch on a miss.
+   *
+   * @param add adds the query to the batch, giving its result once the batch is executed.
+   */
+  <T> Supplier<Optional<T>> getBatched(
+      final List<Object> key,
+      final Supplier<Supplier<Optional<T>>> add,
+      final Predicate<T> immutable) {
+    final Optional<T> cached = cached(key);
+    if (cached.isPresent()) {
+      return () -> cached;
+    }
+
+    final long queried = generation.get();
+    final Supplier<Optional<T>> query = add.get();
+    return () -> {
+      final Optional<T> result = query.get();
+      result.filter(immutable).ifPresent(value -> put(key, value, queried));
+      return result;
+    };
+  }
+
+  @SuppressWarnings("unchecked")
+  private <T> Optional<T> cached(final List<Object> key) {
+    return Optional.ofNullable((T) results.getIfPresent(key));
+  }
+
+  /** Results of queries made before the latest re-org may be from the abandoned chain. */
+  private synchronized void put(final List<Object> key, final Object value, final long queried) {
+    if (generation.get() == queried) {
+      results.put(key, value);
+    }
+  }
+
+  private boolean extendsHead(final BlockHeader latest) {
+    return latest.getNumber() == head.getNumber() + 1
+        && latest.getParentHash().equals(head.getHash());
+  }
+}
@@ -13,6 +13,7 @@
 package tech.pegasys.peeps.node.rpc;
 
 import tech.pegasys.peeps.json.rpc.JsonRpcClient;
+import tech.pegasys.peeps.node.model.BlockHeader;
 import tech.pegasys.peeps.node.model.Hash;
 import tech.pegasys.peeps.node.model.PrivacyTransactionReceipt;
 import tech.pegasys.peeps.node.model.Transaction;
@@ -23,6 +24,7 @@ import tech.pegasys.peeps.node.rpc.admin.ConnectedPeersResponse;
 import tech.pegasys.peeps.node.rpc.admin.NodeInfo;
 import tech.pegasys.peeps.node.rpc.admin.NodeInfoResponse;
 import tech.pegasys.peeps.node.rpc.eth.GetBalanceResponse;
+import tech.pegasys.peeps.node.rpc.eth.GetBlockHeaderResponse;
 import tech.pegasys.peeps.node.rpc.eth.GetBlockNumberResponse;
 import tech.pegasys.peeps.node.rpc.eth.GetTransactionByHashResponse;
 import tech.pegasys.peeps.node.rpc.eth.GetTransactionReceiptResponse;
@@ -41,10 +43,17 @@ public class NodeRpcClient {
 
   protected final JsonRpcClient rpcClient;
   private final QbftRpc qbftRpc;
+  private final NodeRpcCache cache;
 
   public NodeRpcClient(final JsonRpcClient rpcClient, final QbftRpc qbftRpc) {
+    this(rpcClient, qbftRpc, NodeRpcCache.disabled());
+  }
+
+  public NodeRpcClient(
+      final JsonRpcClient rpcClient, final QbftRpc qbftRpc, final NodeRpcCache cache) {
     this.rpcClient = rpcClient;
     this.qbftRpc = qbftRpc;
+    this.cache = cache;
   }
 
   public Set<String> getConnectedPeerEnodes() {
@@ -66,14 +75,43 @@ public class NodeRpcClient {
   }
 
   public Optional<TransactionReceipt> getTransactionReceipt(final Hash receipt) {
-    return rpcClient
-        .post("eth_getTransactionReceipt", GetTransactionReceiptResponse.class, receipt)
-        .getResult();
+    return cache.get(
+        NodeRpcCache.key("eth_getTransactionReceipt", receipt),
+        () ->
+            rpcClient
+                .post("eth_getTransactionReceipt", GetTransactionReceiptResponse.class, receipt)
+                .getResult(),
+        mined -> true);
   }
 
   public Optional<Transaction> getTransactionByHash(final Hash transaction) {
+    return cache.get(
+        NodeRpcCache.key("eth_getTransactionByHash", transaction),
+        () ->
+            rpcClient
+                .post("eth_getTransactionByHash", GetTransactionByHashResponse.class, transaction)
+                .getResult(),
+        mined -> mined.getBlockHash().isPresent());
+  }
+
+  public Optional<BlockHeader> getBlockByHash(final Hash block) {
+    return cache.get(
+        NodeRpcCache.key("eth_getBlockByHash", block),
+        () ->
+            rpcClient
+                .post("eth_getBlockByHash", GetBlockHeaderResponse.class, block, false)
+                .getResult(),
+        mined -> true);
+  }
+
+  /** Not cached, as a re-org can replace the block at a number. */
+  public Optional<BlockHeader> getBlockByNumber(final long blockNumber) {
     return rpcClient
-        .post("eth_getTransactionByHash", GetTransactionByHashResponse.class, transaction)
+        .post(
+            "eth_getBlockByNumber",
+            GetBlockHeaderResponse.class,
+            blockParameter(blockNumber),
+            false)
         .getResult();
   }
 
@@ -83,10 +121,35 @@ public class NodeRpcClient {
         .getResult();
   }
 
+  /** Balance as of the block, not cached as a re-org can change it. */
+  public Wei getBalance(final Address account, final long blockNumber) {
+    return Optional.ofNullable(
+            rpcClient
+                .post(
+                    "eth_getBalance",
+                    GetBalanceResponse.class,
+                    account.toHexString(),
+                    blockParameter(blockNumber))
+                .getResult())
+        .orElseThrow(
+            () ->
+                new IllegalStateException(
+                    String.format("No balance of %s at block %s", account, blockNumber)));
+  }
+
+  /** Statistics and invalidation of the immutable results cached for this node. */
+  public NodeRpcCache cache() {
+    return cache;
+  }
+
   public long getBlockNumber() {
     return rpcClient.post("eth_blockNumber", GetBlockNumberResponse.class).getResult();
   }
 
+  public NodeRpcBatch batch() {
+    return new NodeRpcBatch(rpcClient.batch(), cache);
+  }
+
   public boolean qbftProposeValidatorVote(final Address validator, final VoteType vote) {
     return qbftRpc.qbftProposeValidatorVote(validator, vote);
   }
@@ -94,4 +157,8 @@ public class NodeRpcClient {
   public List<Address> qbftGetValidatorsByBlockNumber(final String blockNumber) {
     return qbftRpc.qbftGetValidatorsByBlockBlockNumber(blockNumber);
   }
+
+  private static String blockParameter(final long blockNumber) {
+    return "0x" + Long.toHexString(blockNumber);
+  }
 }
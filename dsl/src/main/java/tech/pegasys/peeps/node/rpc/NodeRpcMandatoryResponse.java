@@ -12,14 +12,18 @@
  */
 package tech.pegasys.peeps.node.rpc;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static tech.pegasys.peeps.util.Await.await;
 import static tech.pegasys.peeps.util.Await.awaitData;
 import static tech.pegasys.peeps.util.Await.awaitPresence;
 
+import tech.pegasys.peeps.node.model.BlockHeader;
 import tech.pegasys.peeps.node.model.Hash;
 import tech.pegasys.peeps.node.model.PrivacyTransactionReceipt;
 import tech.pegasys.peeps.node.model.Transaction;
 import tech.pegasys.peeps.node.model.TransactionReceipt;
 import tech.pegasys.peeps.node.rpc.admin.NodeInfo;
+import tech.pegasys.peeps.util.PollBudget;
 
 import java.util.List;
 import java.util.Set;
@@ -30,14 +34,21 @@ import org.apache.tuweni.units.ethereum.Wei;
 public class NodeRpcMandatoryResponse implements NodeRpc {
 
   private final NodeRpcClient rpc;
+  private final PollBudget budget;
 
   public NodeRpcMandatoryResponse(final NodeRpcClient rpc) {
+    this(rpc, PollBudget.perTarget());
+  }
+
+  public NodeRpcMandatoryResponse(final NodeRpcClient rpc, final PollBudget budget) {
     this.rpc = rpc;
+    this.budget = budget;
   }
 
   @Override
   public PrivacyTransactionReceipt getPrivacyTransactionReceipt(final Hash receipt) {
     return awaitPresence(
+            budget,
             () -> rpc.getPrivacyTransactionReceipt(receipt),
             "Failed to retrieve the private transaction receipt with hash: %s",
             receipt)
@@ -47,6 +58,7 @@ public class NodeRpcMandatoryResponse implements NodeRpc {
   @Override
   public TransactionReceipt getTransactionReceipt(final Hash receipt) {
     return awaitPresence(
+            budget,
             () -> rpc.getTransactionReceipt(receipt),
             "Failed to retrieve the transaction receipt with hash: %s",
             receipt)
@@ -56,6 +68,7 @@ public class NodeRpcMandatoryResponse implements NodeRpc {
   @Override
   public Transaction getTransactionByHash(final Hash transaction) {
     return awaitPresence(
+            budget,
             () -> rpc.getTransactionByHash(transaction),
             "Failed to retrieve the transaction with hash: %s",
             transaction)
@@ -65,23 +78,71 @@ public class NodeRpcMandatoryResponse implements NodeRpc {
   @Override
   public Wei getBalance(final Address account) {
     return awaitData(
-        () -> rpc.getBalance(account), "Failed to retrieve the balance for address: %s", account);
+        budget,
+        () -> rpc.getBalance(account),
+        "Failed to retrieve the balance for address: %s",
+        account);
+  }
+
+  @Override
+  public Wei getBalance(final Address account, final long blockNumber) {
+    return awaitData(
+        budget,
+        () -> rpc.getBalance(account, blockNumber),
+        "Failed to retrieve the balance for address: %s at block: %s",
+        account,
+        blockNumber);
+  }
+
+  @Override
+  public BlockHeader getBlockByHash(final Hash block) {
+    return awaitPresence(
+            budget, () -> rpc.getBlockByHash(block), "Failed to retrieve the block: %s", block)
+        .get();
+  }
+
+  @Override
+  public BlockHeader getBlockByNumber(final long blockNumber) {
+    return awaitPresence(
+            budget,
+            () -> rpc.getBlockByNumber(blockNumber),
+            "Failed to retrieve the block number: %s",
+            blockNumber)
+        .get();
   }
 
   @Override
   public long getBlockNumber() {
-    return awaitData(rpc::getBlockNumber, "Failed to retrieve block number");
+    return awaitData(budget, rpc::getBlockNumber, "Failed to retrieve block number");
+  }
+
+  @Override
+  public NodeRpcBatch batch() {
+    return rpc.batch();
+  }
+
+  @Override
+  public void execute(final NodeRpcBatch batch) {
+    await(
+        budget,
+        () -> {
+          batch.execute();
+          assertThat(batch.isComplete()).isTrue();
+        },
+        "Failed to retrieve all %s results of the batch request",
+        batch.size());
   }
 
   @Override
   public boolean qbftProposeValidatorVote(final Address validator, final VoteType vote) {
     return awaitData(
-        () -> rpc.qbftProposeValidatorVote(validator, vote), "Failed to cast qbft vote");
+        budget, () -> rpc.qbftProposeValidatorVote(validator, vote), "Failed to cast qbft vote");
   }
 
   @Override
   public List<Address> qbftGetValidatorsByBlockBlockNumber(final String blockNumber) {
     return awaitData(
+        budget,
         () -> rpc.qbftGetValidatorsByBlockNumber(blockNumber),
         "Failed to retrieve qbft validators for block %s",
         blockNumber);
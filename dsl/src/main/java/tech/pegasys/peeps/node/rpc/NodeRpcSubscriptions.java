@@ -0,0 +1,66 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.node.rpc;
+
+import tech.pegasys.peeps.json.Json;
+import tech.pegasys.peeps.json.rpc.JsonRpcWebSocketClient;
+import tech.pegasys.peeps.node.model.BlockHeader;
+import tech.pegasys.peeps.node.model.Hash;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.apache.tuweni.eth.Address;
+
+/**
+ * Push notifications from the node, delivered over the WebSocket.
+ *
+ * <p>Listeners are invoked on the Vert.x event loop, so must not block.
+ */
+public class NodeRpcSubscriptions {
+
+  private static final Duration DEADLINE = Duration.ofSeconds(10);
+
+  private final JsonRpcWebSocketClient webSocketClient;
+
+  public NodeRpcSubscriptions(final JsonRpcWebSocketClient webSocketClient) {
+    this.webSocketClient = webSocketClient;
+  }
+
+  public CompletableFuture<String> newHeads(final Consumer<BlockHeader> listener) {
+    return webSocketClient.subscribe(
+        DEADLINE, header -> listener.accept(Json.convert(header, BlockHeader.class)), "newHeads");
+  }
+
+  /** Logs emitted by the contract, with each notification being a single log object. */
+  public CompletableFuture<String> logs(final Address contract, final Consumer<JsonNode> listener) {
+    return webSocketClient.subscribe(
+        DEADLINE, listener, "logs", Map.of("address", contract.toHexString()));
+  }
+
+  public CompletableFuture<String> newPendingTransactions(final Consumer<Hash> listener) {
+    return webSocketClient.subscribe(
+        DEADLINE, hash -> listener.accept(new Hash(hash.asText())), "newPendingTransactions");
+  }
+
+  public CompletableFuture<Boolean> unsubscribe(final String subscription) {
+    return webSocketClient.unsubscribe(DEADLINE, subscription);
+  }
+
+  public boolean isConnected() {
+    return webSocketClient.isConnected();
+  }
+}
@@ -0,0 +1,35 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.node.rpc.eth;
+
+import tech.pegasys.peeps.node.model.BlockHeader;
+
+import java.util.Optional;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonSetter;
+
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class GetBlockHeaderResponse {
+
+  private BlockHeader result;
+
+  @JsonSetter("result")
+  public void setResult(final BlockHeader result) {
+    this.result = result;
+  }
+
+  public Optional<BlockHeader> getResult() {
+    return Optional.ofNullable(result);
+  }
+}
@@ -0,0 +1,33 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.node.rpc.eth;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import org.apache.tuweni.units.bigints.UInt64;
+
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class GetChainIdResponse {
+
+  private final long result;
+
+  @JsonCreator
+  public GetChainIdResponse(@JsonProperty("result") final String chainId) {
+    this.result = UInt64.fromHexString(chainId).toLong();
+  }
+
+  public long getResult() {
+    return result;
+  }
+}
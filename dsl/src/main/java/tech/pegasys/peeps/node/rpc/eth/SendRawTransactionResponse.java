@@ -0,0 +1,44 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.node.rpc.eth;
+
+import static com.google.common.base.Preconditions.checkState;
+
+import tech.pegasys.peeps.node.model.Hash;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonSetter;
+import com.fasterxml.jackson.databind.JsonNode;
+
+/** A rejected transaction has no result, only the error given by the node. */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class SendRawTransactionResponse {
+
+  private Hash result;
+  private JsonNode error;
+
+  @JsonSetter("result")
+  public void setResult(final Hash result) {
+    this.result = result;
+  }
+
+  @JsonSetter("error")
+  public void setError(final JsonNode error) {
+    this.error = error;
+  }
+
+  public Hash getResult() {
+    checkState(result != null, "JSON-RPC method: eth_sendRawTransaction, failed: %s", error);
+    return result;
+  }
+}
@@ -30,6 +30,14 @@ public class AccountValue {
   }
 
   public void verify(final NodeRpc rpc) {
-    assertThat(rpc.getBalance(account)).isEqualTo(value);
+    verify(rpc.getBalance(account));
+  }
+
+  public void verify(final Wei balance) {
+    assertThat(balance).isEqualTo(value);
+  }
+
+  public Address getAccount() {
+    return account;
   }
 }
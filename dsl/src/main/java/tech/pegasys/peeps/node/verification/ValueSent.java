@@ -18,6 +18,10 @@ import tech.pegasys.peeps.node.model.Hash;
 import tech.pegasys.peeps.node.model.Transaction;
 import tech.pegasys.peeps.node.model.TransactionReceipt;
 import tech.pegasys.peeps.node.rpc.NodeRpc;
+import tech.pegasys.peeps.node.rpc.NodeRpcBatch;
+
+import java.util.Optional;
+import java.util.function.Supplier;
 
 import org.apache.tuweni.eth.Address;
 import org.apache.tuweni.units.ethereum.Gas;
@@ -35,31 +39,37 @@ public class ValueSent implements NodeValueTransition {
     this.transactionReceipt = transactionReceipt;
   }
 
+  /** Receipt and transaction usually come from the node's cache, leaving only the balance. */
   @Override
   public void verify(final NodeRpc rpc) {
+    final NodeRpcBatch batch = rpc.batch();
+    final Supplier<Wei> after = batch.getBalance(sender);
+    final Supplier<Optional<TransactionReceipt>> receipt =
+        batch.getTransactionReceipt(transactionReceipt);
+    final Supplier<Optional<Transaction>> transaction =
+        batch.getTransactionByHash(transactionReceipt);
+    rpc.execute(batch);
 
-    final Wei after = rpc.getBalance(sender);
-    final TransactionReceipt receipt = transactionReceipt(rpc);
-    final Wei cost = transactionCost(rpc, receipt);
+    final Wei cost =
+        transactionCost(transactionReceipt(receipt.get()), transaction.get().orElse(null));
 
-    assertThat(after).isEqualTo(before.subtract(cost));
+    assertThat(after.get()).isEqualTo(before.subtract(cost));
   }
 
-  private TransactionReceipt transactionReceipt(final NodeRpc rpc) {
-    final TransactionReceipt transferReceipt = rpc.getTransactionReceipt(transactionReceipt);
-    assertThat(transferReceipt).isNotNull();
+  private TransactionReceipt transactionReceipt(final Optional<TransactionReceipt> receipt) {
+    assertThat(receipt).isPresent();
+    final TransactionReceipt transferReceipt = receipt.get();
     assertThat(transferReceipt.isSuccess()).isTrue();
     return transferReceipt;
   }
 
-  private Wei transactionCost(final NodeRpc rpc, final TransactionReceipt transferReceipt) {
-    assertThat(transferReceipt.getTransactionHash()).isNotNull();
-    final Hash transaction = transferReceipt.getTransactionHash();
+  private Wei transactionCost(
+      final TransactionReceipt transferReceipt, final Transaction transfer) {
+    assertThat(transferReceipt.getTransactionHash()).isEqualTo(transactionReceipt);
 
     assertThat(transferReceipt.getGasUsed()).isNotNull();
     final Gas used = transferReceipt.getGasUsed();
 
-    final Transaction transfer = rpc.getTransactionByHash(transaction);
     assertThat(transfer).isNotNull();
     assertThat(transfer.getGasPrice()).isNotNull();
     final Wei eachUnit = transfer.getGasPrice();
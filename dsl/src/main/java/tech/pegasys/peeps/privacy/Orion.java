@@ -12,15 +12,13 @@
  */
 package tech.pegasys.peeps.privacy;
 
-import org.testcontainers.containers.GenericContainer;
-
 public class Orion extends PrivateTransactionManager {
 
   private static final String CONTAINER_WORKING_DIRECTORY_PREFIX = "/opt/orion/";
   private static final String ORION_IMAGE = "consensys/quorum-orion:develop";
 
   public Orion(final PrivateTransactionManagerConfiguration config) {
-    super(config, new GenericContainer<>(ORION_IMAGE));
+    super(config, ORION_IMAGE);
     addContainerNetwork(config, container);
     addContainerIpAddress(config, container);
     addPrivateKeys(config, CONTAINER_WORKING_DIRECTORY_PREFIX, container);
@@ -15,6 +15,7 @@ package tech.pegasys.peeps.privacy;
 import static org.assertj.core.api.Assertions.assertThat;
 import static tech.pegasys.peeps.privacy.rpc.send.SendPayload.generateUniquePayload;
 
+import tech.pegasys.peeps.json.rpc.RpcStatistics;
 import tech.pegasys.peeps.network.NetworkMember;
 import tech.pegasys.peeps.privacy.model.PrivacyPrivateKeyResource;
 import tech.pegasys.peeps.privacy.model.PrivacyPublicKeyResource;
@@ -22,10 +23,14 @@ import tech.pegasys.peeps.privacy.model.TransactionManagerKey;
 import tech.pegasys.peeps.privacy.rpc.TransactionManagerRpc;
 import tech.pegasys.peeps.privacy.rpc.TransactionManagerRpcExpectingData;
 import tech.pegasys.peeps.util.ClasspathResources;
+import tech.pegasys.peeps.util.ContainerLog;
 import tech.pegasys.peeps.util.DockerLogs;
+import tech.pegasys.peeps.util.DockerPause;
+import tech.pegasys.peeps.util.ImageRegistry;
 
 import java.nio.file.Path;
 import java.util.Collection;
+import java.util.Optional;
 import java.util.Set;
 import java.util.function.Supplier;
 
@@ -48,6 +53,8 @@ public abstract class PrivateTransactionManager implements NetworkMember {
   protected static final String CONTAINER_CONFIG_FILE = "/etc/transaction_manager.conf";
 
   protected final GenericContainer<?> container;
+  private final ContainerLog containerLog;
+  private final String dockerImageName;
   private final TransactionManagerRpc transactionManagerRpc;
   private final TransactionManagerRpcExpectingData rpc;
 
@@ -57,8 +64,12 @@ public abstract class PrivateTransactionManager implements NetworkMember {
   protected final String id;
 
   public PrivateTransactionManager(
-      final PrivateTransactionManagerConfiguration config, final GenericContainer<?> container) {
-    this.container = container;
+      final PrivateTransactionManagerConfiguration config, final String dockerImageName) {
+    this.dockerImageName = dockerImageName;
+    this.container =
+        new GenericContainer<>(dockerImageName)
+            .withImagePullPolicy(ImageRegistry.shared().pullPolicy());
+    this.containerLog = new ContainerLog();
     this.networkP2PAddress =
         String.format("http://%s:%s", config.getIpAddress().get(), CONTAINER_PEER_TO_PEER_PORT);
     this.networkRpcAddress =
@@ -80,9 +91,7 @@ public abstract class PrivateTransactionManager implements NetworkMember {
     try {
       container.start();
 
-      container.followOutput(
-          outputFrame ->
-              LOG.info("{}: {}", getNodeName(), outputFrame.getUtf8String().stripTrailing()));
+      container.followOutput(containerLog);
 
       transactionManagerRpc.bind(
           container.getContainerId(),
@@ -112,6 +121,46 @@ public abstract class PrivateTransactionManager implements NetworkMember {
     }
   }
 
+  @Override
+  public Optional<String> containerId() {
+    return Optional.ofNullable(container.getContainerId());
+  }
+
+  @Override
+  public Optional<RpcStatistics> rpcStatistics() {
+    return Optional.of(transactionManagerRpc.statistics());
+  }
+
+  @Override
+  public void logTo(final Path file) {
+    containerLog.persistTo(file);
+  }
+
+  @Override
+  public void pause() {
+    DockerPause.pause(container);
+  }
+
+  @Override
+  public void resume() {
+    DockerPause.resume(container);
+  }
+
+  @Override
+  public boolean isPaused() {
+    return DockerPause.isPaused(container);
+  }
+
+  @Override
+  public boolean isRunning() {
+    return container != null && container.isRunning();
+  }
+
+  @Override
+  public String dockerImageName() {
+    return dockerImageName;
+  }
+
   public abstract String getNodeName();
 
   public String getPeerNetworkAddress() {
@@ -145,7 +194,7 @@ public abstract class PrivateTransactionManager implements NetworkMember {
         .forPort(CONTAINER_HTTP_RPC_PORT);
   }
 
-  private void awaitConnectivity(final PrivateTransactionManager peer) {
+  public void awaitConnectivity(final PrivateTransactionManager peer) {
     final String message = generateUniquePayload();
 
     final TransactionManagerKey key = rpc.send(peer.getId(), message);
@@ -185,7 +234,7 @@ public abstract class PrivateTransactionManager implements NetworkMember {
   }
 
   public String getLogs() {
-    return DockerLogs.format("TransactionManager", container);
+    return DockerLogs.format("TransactionManager", container, containerLog);
   }
 
   private void logTransactionManagerDetails() {
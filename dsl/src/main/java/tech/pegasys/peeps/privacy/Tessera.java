@@ -12,13 +12,9 @@
  */
 package tech.pegasys.peeps.privacy;
 
-import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 
-import org.testcontainers.containers.GenericContainer;
-import org.testcontainers.images.PullPolicy;
-
 public class Tessera extends PrivateTransactionManager {
   private static final String CONTAINER_WORKING_DIRECTORY_PREFIX = "/opt/tessera/";
 
@@ -28,11 +24,7 @@ public class Tessera extends PrivateTransactionManager {
   private static final int CONTAINER_HTTP_RPC_PORT = 8888;
 
   public Tessera(final PrivateTransactionManagerConfiguration config) {
-    super(
-        config,
-        new GenericContainer<>(TESSERA_IMAGE)
-            .withReuse(false)
-            .withImagePullPolicy(PullPolicy.ageBased(Duration.ofHours(1))));
+    super(config, TESSERA_IMAGE);
     addContainerNetwork(config, container);
     addContainerIpAddress(config, container);
     addPrivateKeys(config, CONTAINER_WORKING_DIRECTORY_PREFIX, container);
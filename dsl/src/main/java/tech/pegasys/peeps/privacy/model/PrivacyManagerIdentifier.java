@@ -33,4 +33,9 @@ public class PrivacyManagerIdentifier {
     return other instanceof PrivacyManagerIdentifier
         && id.equals(((PrivacyManagerIdentifier) other).id);
   }
+
+  @Override
+  public String toString() {
+    return id;
+  }
 }
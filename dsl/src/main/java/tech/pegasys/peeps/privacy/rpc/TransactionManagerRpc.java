@@ -36,7 +36,7 @@ public class TransactionManagerRpc extends RpcClient {
 
   public TransactionManagerRpc(
       final Vertx vertx, final String pubKey, final Set<Supplier<String>> dockerLogs) {
-    super(vertx, DEFAULT_TIMEOUT, LOG, dockerLogs);
+    super(vertx, DEFAULT_TIMEOUT, DEFAULT_REQUEST_TIMEOUT, LOG, dockerLogs);
     this.pubKey = pubKey;
   }
 
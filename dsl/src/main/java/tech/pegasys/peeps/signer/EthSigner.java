@@ -16,17 +16,26 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static tech.pegasys.peeps.util.Await.await;
 
 import tech.pegasys.peeps.json.rpc.JsonRpcClient;
+import tech.pegasys.peeps.json.rpc.RpcClient;
+import tech.pegasys.peeps.json.rpc.RpcStatistics;
 import tech.pegasys.peeps.network.NetworkMember;
 import tech.pegasys.peeps.node.Web3Provider;
 import tech.pegasys.peeps.node.model.EnodeHelpers;
 import tech.pegasys.peeps.node.rpc.BesuQbftRpcClient;
 import tech.pegasys.peeps.signer.rpc.SignerRpc;
+import tech.pegasys.peeps.signer.rpc.SignerRpcAsyncClient;
 import tech.pegasys.peeps.signer.rpc.SignerRpcClient;
 import tech.pegasys.peeps.signer.rpc.SignerRpcMandatoryResponse;
+import tech.pegasys.peeps.util.ContainerLog;
 import tech.pegasys.peeps.util.DockerLogs;
+import tech.pegasys.peeps.util.DockerPause;
+import tech.pegasys.peeps.util.ImageRegistry;
+import tech.pegasys.peeps.util.PollBudget;
 
+import java.nio.file.Path;
 import java.time.Duration;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.function.Supplier;
 
@@ -38,7 +47,6 @@ import org.testcontainers.containers.ContainerLaunchException;
 import org.testcontainers.containers.GenericContainer;
 import org.testcontainers.containers.wait.strategy.HttpWaitStrategy;
 import org.testcontainers.containers.wait.strategy.Wait;
-import org.testcontainers.images.PullPolicy;
 
 public class EthSigner implements NetworkMember {
 
@@ -54,15 +62,18 @@ public class EthSigner implements NetworkMember {
   private static final String CONTAINER_PASSWORD_FILE = "/etc/ethsigner/password_file.txt";
 
   private final GenericContainer<?> ethSigner;
+  private final ContainerLog containerLog;
   private final JsonRpcClient jsonRpcClient;
   private final SignerRpc rpc;
+  private final PollBudget pollBudget;
+  private final SignerRpcAsyncClient asyncRpc;
   private final Web3Provider downstream;
 
   public EthSigner(final EthSignerConfiguration config) {
 
     final GenericContainer<?> container =
         new GenericContainer<>(ETH_SIGNER_IMAGE)
-            .withImagePullPolicy(PullPolicy.ageBased(Duration.ofHours(1)));
+            .withImagePullPolicy(ImageRegistry.shared().pullPolicy());
     final List<String> commandLineOptions = standardCommandLineOptions();
 
     addChainId(config, commandLineOptions);
@@ -75,14 +86,24 @@ public class EthSigner implements NetworkMember {
     LOG.info("EthSigner command line: {}", commandLineOptions);
 
     this.downstream = config.getDownstream();
+    this.containerLog = new ContainerLog();
     this.ethSigner =
         container.withCommand(commandLineOptions.toArray(new String[0])).waitingFor(liveliness());
 
-    jsonRpcClient = new JsonRpcClient(config.getVertx(), DOWNSTREAM_TIMEOUT, LOG, dockerLogs());
+    jsonRpcClient =
+        new JsonRpcClient(
+            config.getVertx(),
+            DOWNSTREAM_TIMEOUT,
+            RpcClient.DEFAULT_REQUEST_TIMEOUT,
+            LOG,
+            dockerLogs());
     final BesuQbftRpcClient qbftRpc = new BesuQbftRpcClient(jsonRpcClient);
     final SignerRpcClient signerRpc =
         new SignerRpcClient(jsonRpcClient, qbftRpc, config.getMinGasPrice());
-    this.rpc = new SignerRpcMandatoryResponse(signerRpc);
+    this.pollBudget = PollBudget.perTarget();
+    this.rpc = new SignerRpcMandatoryResponse(signerRpc, pollBudget);
+    this.asyncRpc =
+        new SignerRpcAsyncClient(jsonRpcClient, config.getMinGasPrice(), DOWNSTREAM_TIMEOUT);
   }
 
   @Override
@@ -95,8 +116,7 @@ public class EthSigner implements NetworkMember {
           ethSigner.getDockerImageName(),
           ethSigner.getContainerInfo().getImageId());
 
-      ethSigner.followOutput(
-          outputFrame -> LOG.info("{}", outputFrame.getUtf8String().stripTrailing()));
+      ethSigner.followOutput(containerLog);
 
       jsonRpcClient.bind(
           ethSigner.getContainerId(),
@@ -124,12 +144,57 @@ public class EthSigner implements NetworkMember {
     }
   }
 
+  @Override
+  public Optional<String> containerId() {
+    return Optional.ofNullable(ethSigner.getContainerId());
+  }
+
+  @Override
+  public Optional<RpcStatistics> rpcStatistics() {
+    return Optional.of(jsonRpcClient.statistics());
+  }
+
+  @Override
+  public void logTo(final Path file) {
+    containerLog.persistTo(file);
+  }
+
+  @Override
+  public void pause() {
+    DockerPause.pause(ethSigner);
+  }
+
+  @Override
+  public void resume() {
+    DockerPause.resume(ethSigner);
+  }
+
+  @Override
+  public boolean isPaused() {
+    return DockerPause.isPaused(ethSigner);
+  }
+
+  @Override
+  public boolean isRunning() {
+    return ethSigner != null && ethSigner.isRunning();
+  }
+
+  @Override
+  public String dockerImageName() {
+    return ETH_SIGNER_IMAGE;
+  }
+
   public SignerRpc rpc() {
     return rpc;
   }
 
+  public SignerRpcAsyncClient asyncRpc() {
+    return asyncRpc;
+  }
+
   public void awaitConnectivityToDownstream() {
     await(
+        pollBudget,
         () ->
             assertThat(EnodeHelpers.extractPubKeyFromEnode(rpc.nodeInfo().getEnode()))
                 .isEqualTo(EnodeHelpers.extractPubKeyFromEnode(downstream.getEnodeId())),
@@ -138,7 +203,7 @@ public class EthSigner implements NetworkMember {
   }
 
   private String getLogs() {
-    return DockerLogs.format("EthSigner", ethSigner);
+    return DockerLogs.format("EthSigner", ethSigner, containerLog);
   }
 
   private HttpWaitStrategy liveliness() {
@@ -0,0 +1,154 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.signer;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import tech.pegasys.peeps.node.Account;
+import tech.pegasys.peeps.node.model.Hash;
+import tech.pegasys.peeps.node.rpc.NodeRpcAsyncClient;
+
+import java.math.BigInteger;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.apache.tuweni.eth.Address;
+import org.apache.tuweni.units.ethereum.Wei;
+import org.web3j.crypto.Credentials;
+import org.web3j.crypto.RawTransaction;
+import org.web3j.crypto.TransactionEncoder;
+import org.web3j.utils.Numeric;
+
+/**
+ * Signs transactions in-process with the key of an account, submitting them through any node with
+ * eth_sendRawTransaction, avoiding both the hop through an EthSigner and signing on the node.
+ *
+ * <p>Signing runs on a pool sized to the available processors. The chain id is fetched on first
+ * use and nonces come from the NonceManager of the sender; transactions signed out of order are
+ * ordered by the transaction pool of the node.
+ */
+public class LocalSigner {
+
+  private static final BigInteger TRANSFER_GAS_LIMIT = BigInteger.valueOf(21_000);
+  private static final BigInteger CALL_GAS_LIMIT = BigInteger.valueOf(3_000_000);
+
+  private static final ExecutorService SIGNING =
+      Executors.newFixedThreadPool(
+          Runtime.getRuntime().availableProcessors(),
+          new ThreadFactoryBuilder().setNameFormat("peeps-signing-%d").setDaemon(true).build());
+
+  private final Credentials credentials;
+  private final Address sender;
+  private final BigInteger gasPrice;
+  private final NonceManager nonces;
+  private final AtomicReference<CompletableFuture<Long>> chainId;
+
+  public LocalSigner(final Account account, final Wei gasPrice) {
+    this(account, gasPrice, new NonceManager(account.address()));
+  }
+
+  public LocalSigner(final Account account, final Wei gasPrice, final NonceManager nonces) {
+    checkArgument(
+        account.address().equals(nonces.account()),
+        "Nonces of %s cannot be used for %s",
+        nonces.account(),
+        account);
+    this.credentials = account.credentials();
+    this.sender = account.address();
+    this.gasPrice = gasPrice.toBigInteger();
+    this.nonces = nonces;
+    this.chainId = new AtomicReference<>();
+  }
+
+  public Address address() {
+    return sender;
+  }
+
+  public NonceManager nonces() {
+    return nonces;
+  }
+
+  public CompletableFuture<Hash> transfer(
+      final NodeRpcAsyncClient node, final Address receiver, final Wei amount) {
+    return submit(
+        node,
+        nonce ->
+            RawTransaction.createEtherTransaction(
+                nonce,
+                gasPrice,
+                TRANSFER_GAS_LIMIT,
+                receiver.toHexString(),
+                amount.toBigInteger()));
+  }
+
+  public CompletableFuture<Hash> call(
+      final NodeRpcAsyncClient node, final Address contract, final String data) {
+    return submit(
+        node,
+        nonce ->
+            RawTransaction.createTransaction(
+                nonce, gasPrice, CALL_GAS_LIMIT, contract.toHexString(), BigInteger.ZERO, data));
+  }
+
+  private CompletableFuture<Hash> submit(
+      final NodeRpcAsyncClient node, final UnsignedTransaction transaction) {
+    return chainId(node)
+        .thenCompose(chain -> nonces.submit(node, nonce -> send(node, transaction, nonce, chain)));
+  }
+
+  private CompletableFuture<Hash> send(
+      final NodeRpcAsyncClient node,
+      final UnsignedTransaction transaction,
+      final long nonce,
+      final long chain) {
+    final RawTransaction raw = transaction.withNonce(BigInteger.valueOf(nonce));
+    return CompletableFuture.supplyAsync(
+            () -> Numeric.toHexString(TransactionEncoder.signMessage(raw, chain, credentials)),
+            SIGNING)
+        .thenCompose(node::sendRawTransaction);
+  }
+
+  private CompletableFuture<Long> chainId(final NodeRpcAsyncClient node) {
+    final CompletableFuture<Long> known = chainId.get();
+    if (known != null) {
+      return known;
+    }
+
+    final CompletableFuture<Long> fetching = new CompletableFuture<>();
+    if (!chainId.compareAndSet(null, fetching)) {
+      return chainId.get();
+    }
+
+    node.getChainId()
+        .whenComplete(
+            (fetched, error) -> {
+              if (error == null) {
+                fetching.complete(fetched);
+              } else {
+                // Let the next submission try again
+                chainId.set(null);
+                fetching.completeExceptionally(error);
+              }
+            });
+
+    return fetching;
+  }
+
+  @FunctionalInterface
+  private interface UnsignedTransaction {
+    RawTransaction withNonce(BigInteger nonce);
+  }
+}
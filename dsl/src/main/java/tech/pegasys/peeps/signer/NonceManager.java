@@ -0,0 +1,185 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.signer;
+
+import tech.pegasys.peeps.node.model.Hash;
+import tech.pegasys.peeps.node.rpc.NodeRpcAsyncClient;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeoutException;
+import java.util.function.LongFunction;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.tuweni.eth.Address;
+
+/**
+ * Assigns the nonces of a single account locally, so many of its transactions can be in flight at
+ * once instead of racing on the nonce the node would choose.
+ *
+ * <p>Nonces start from the pending transaction count of the account, fetched on first use. The
+ * nonce of a rejected submission is reused by the next one, closing the gap it would otherwise
+ * leave, or handed back when no later nonce was used; unless the rejection shows the nonce was
+ * already taken, when the count is fetched again from the node that rejected it. A submission that
+ * timed out may still have reached the node, so its nonce is kept as submitted rather than reused.
+ *
+ * <p>Each nonce is remembered with the node it was submitted to. A resync only reissues the nonce
+ * the node is waiting on when that same node was given it, as a transaction the node dropped,
+ * whereas other nodes may simply not have received it by gossip yet.
+ */
+public class NonceManager {
+
+  private static final Logger LOG = LogManager.getLogger();
+
+  /* Rejections meaning a transaction with the nonce already exists, in Besu or GoQuorum wording. */
+  private static final List<String> NONCE_TAKEN =
+      List.of("nonce too low", "known transaction", "already known", "replacement transaction");
+  /* Vert.x wording of a request timeout, when the request may have been received. */
+  private static final String REQUEST_TIMEOUT = "timeout period";
+
+  private final Address account;
+  private final TreeSet<Long> inFlight;
+  private final TreeSet<Long> released;
+  private final TreeMap<Long, NodeRpcAsyncClient> submittedTo;
+  private long next;
+  private CompletableFuture<Void> sync;
+
+  public NonceManager(final Address account) {
+    this.account = account;
+    this.inFlight = new TreeSet<>();
+    this.released = new TreeSet<>();
+    this.submittedTo = new TreeMap<>();
+  }
+
+  public Address account() {
+    return account;
+  }
+
+  /**
+   * Submits a transaction with the next nonce of the account, syncing first when needed.
+   *
+   * @param node used to fetch the pending transaction count.
+   * @param submission sends the transaction with the nonce given.
+   */
+  public CompletableFuture<Hash> submit(
+      final NodeRpcAsyncClient node, final LongFunction<CompletableFuture<Hash>> submission) {
+    return synced(node)
+        .thenCompose(
+            ignored -> {
+              final long nonce = reserve();
+              return attempt(submission, nonce)
+                  .whenComplete(
+                      (hash, error) -> {
+                        if (error == null) {
+                          submitted(nonce, node);
+                        } else if (isNonceTaken(error)) {
+                          LOG.debug("{} nonce {} already taken, resyncing", account, nonce);
+                          submitted(nonce, node);
+                          resync(node);
+                        } else if (isTimeout(error)) {
+                          LOG.debug("{} nonce {} timed out, keeping as submitted", account, nonce);
+                          submitted(nonce, node);
+                        } else {
+                          rejected(nonce);
+                        }
+                      });
+            });
+  }
+
+  /** Fetches the pending transaction count of the account, repairing any gap it shows. */
+  public CompletableFuture<Void> resync(final NodeRpcAsyncClient node) {
+    return node.getTransactionCount(account).thenAccept(count -> resync(node, count));
+  }
+
+  private synchronized CompletableFuture<Void> synced(final NodeRpcAsyncClient node) {
+    if (sync == null || sync.isCompletedExceptionally()) {
+      sync = resync(node);
+    }
+    return sync;
+  }
+
+  private static CompletableFuture<Hash> attempt(
+      final LongFunction<CompletableFuture<Hash>> submission, final long nonce) {
+    try {
+      return submission.apply(nonce);
+    } catch (final RuntimeException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+  }
+
+  synchronized long reserve() {
+    final long nonce = released.isEmpty() ? next++ : released.pollFirst();
+    inFlight.add(nonce);
+    return nonce;
+  }
+
+  /** The node holds a transaction with the nonce, or may do when the submission timed out. */
+  synchronized void submitted(final long nonce, final NodeRpcAsyncClient node) {
+    inFlight.remove(nonce);
+    submittedTo.put(nonce, node);
+  }
+
+  synchronized void rejected(final long nonce) {
+    inFlight.remove(nonce);
+    released.add(nonce);
+
+    // Without any later nonce in use there is no gap, so the nonce can be handed back
+    while (released.remove(next - 1)) {
+      next--;
+    }
+  }
+
+  synchronized void resync(final NodeRpcAsyncClient node, final long pendingCount) {
+    released.headSet(pendingCount).clear();
+    submittedTo.headMap(pendingCount).clear();
+
+    if (pendingCount >= next) {
+      next = pendingCount;
+    } else if (submittedTo.get(pendingCount) == node) {
+      submittedTo.remove(pendingCount);
+      released.add(pendingCount);
+      LOG.info("{} missing nonce {}, reissuing", account, pendingCount);
+    }
+  }
+
+  synchronized long inFlight() {
+    return inFlight.size();
+  }
+
+  static boolean isTimeout(final Throwable error) {
+    for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+      if (cause instanceof TimeoutException
+          || (cause.getMessage() != null && cause.getMessage().contains(REQUEST_TIMEOUT))) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  static boolean isNonceTaken(final Throwable error) {
+    for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+      final String message = cause.getMessage();
+      if (message != null) {
+        final String lowerCase = message.toLowerCase(Locale.ROOT);
+        if (NONCE_TAKEN.stream().anyMatch(lowerCase::contains)) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+}
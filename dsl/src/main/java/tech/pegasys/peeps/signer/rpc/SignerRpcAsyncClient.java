@@ -0,0 +1,114 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.signer.rpc;
+
+import static com.google.common.base.Preconditions.checkState;
+
+import tech.pegasys.peeps.json.rpc.JsonRpcClient;
+import tech.pegasys.peeps.node.model.Hash;
+import tech.pegasys.peeps.node.rpc.NodeRpcAsyncClient;
+import tech.pegasys.peeps.node.rpc.NodeRpcCache;
+import tech.pegasys.peeps.privacy.model.PrivacyAddreess;
+import tech.pegasys.peeps.signer.rpc.eea.SendPrivacyTransactionRequest;
+import tech.pegasys.peeps.signer.rpc.eea.SendPrivacyTransactionResponse;
+import tech.pegasys.peeps.signer.rpc.eth.SendTransactionRequest;
+import tech.pegasys.peeps.signer.rpc.eth.SendTransactionResponse;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+import org.apache.tuweni.eth.Address;
+import org.apache.tuweni.units.ethereum.Wei;
+
+/** Non-blocking twin of the SignerRpcClient. */
+public class SignerRpcAsyncClient extends NodeRpcAsyncClient {
+
+  private static final Address NO_RECIPIENT = null;
+  private final Wei minGasPrice;
+
+  public SignerRpcAsyncClient(final JsonRpcClient jsonRpcClient, final Wei minGasPrice) {
+    this(jsonRpcClient, minGasPrice, DEFAULT_DEADLINE);
+  }
+
+  public SignerRpcAsyncClient(
+      final JsonRpcClient jsonRpcClient, final Wei minGasPrice, final Duration deadline) {
+    this(jsonRpcClient, minGasPrice, deadline, NodeRpcCache.disabled());
+  }
+
+  public SignerRpcAsyncClient(
+      final JsonRpcClient jsonRpcClient,
+      final Wei minGasPrice,
+      final Duration deadline,
+      final NodeRpcCache cache) {
+    super(jsonRpcClient, deadline, cache);
+    this.minGasPrice = minGasPrice;
+  }
+
+  @Override
+  public SignerRpcAsyncClient withDeadline(final Duration deadline) {
+    return new SignerRpcAsyncClient(rpcClient, minGasPrice, deadline, cache);
+  }
+
+  public CompletableFuture<Hash> deployContractToPrivacyGroup(
+      final Address sender,
+      final String binary,
+      final PrivacyAddreess privateSender,
+      final PrivacyAddreess... privateRecipients) {
+    return rpcClient
+        .postAsync(
+            deadline,
+            "eea_sendTransaction",
+            SendPrivacyTransactionResponse.class,
+            new SendPrivacyTransactionRequest(
+                sender, NO_RECIPIENT, binary, privateSender, privateRecipients))
+        .thenApply(SendPrivacyTransactionResponse::getResult);
+  }
+
+  public CompletableFuture<Hash> transfer(
+      final Address sender, final Address receiver, final Wei amount) {
+    return rpcClient
+        .postAsync(
+            deadline,
+            "eth_sendTransaction",
+            SendTransactionResponse.class,
+            new SendTransactionRequest(sender, receiver, null, amount, minGasPrice))
+        .thenApply(SendTransactionResponse::getResult);
+  }
+
+  /** Transfer with a nonce assigned by the caller, e.g. from a NonceManager. */
+  public CompletableFuture<Hash> transfer(
+      final Address sender, final Address receiver, final Wei amount, final long nonce) {
+    return rpcClient
+        .postAsync(
+            deadline,
+            "eth_sendTransaction",
+            SendTransactionResponse.class,
+            new SendTransactionRequest(sender, receiver, null, amount, minGasPrice, nonce))
+        .thenApply(
+            response -> {
+              checkState(response.getResult() != null, "Transfer with nonce %s rejected", nonce);
+              return response.getResult();
+            });
+  }
+
+  public CompletableFuture<Hash> call(
+      final Address sender, final Address contract, final String data) {
+    return rpcClient
+        .postAsync(
+            deadline,
+            "eth_sendTransaction",
+            SendTransactionResponse.class,
+            new SendTransactionRequest(sender, contract, data, Wei.valueOf(0), minGasPrice))
+        .thenApply(SendTransactionResponse::getResult);
+  }
+}
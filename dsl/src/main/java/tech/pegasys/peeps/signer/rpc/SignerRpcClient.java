@@ -14,6 +14,7 @@ package tech.pegasys.peeps.signer.rpc;
 
 import tech.pegasys.peeps.json.rpc.JsonRpcClient;
 import tech.pegasys.peeps.node.model.Hash;
+import tech.pegasys.peeps.node.rpc.NodeRpcCache;
 import tech.pegasys.peeps.node.rpc.NodeRpcClient;
 import tech.pegasys.peeps.node.rpc.QbftRpc;
 import tech.pegasys.peeps.privacy.model.PrivacyAddreess;
@@ -32,7 +33,15 @@ public class SignerRpcClient extends NodeRpcClient {
 
   public SignerRpcClient(
       final JsonRpcClient jsonRpcClient, final QbftRpc qbftRpc, final Wei minGasPrice) {
-    super(jsonRpcClient, qbftRpc);
+    this(jsonRpcClient, qbftRpc, minGasPrice, NodeRpcCache.disabled());
+  }
+
+  public SignerRpcClient(
+      final JsonRpcClient jsonRpcClient,
+      final QbftRpc qbftRpc,
+      final Wei minGasPrice,
+      final NodeRpcCache cache) {
+    super(jsonRpcClient, qbftRpc, cache);
     this.minGasPrice = minGasPrice;
   }
 
@@ -16,6 +16,7 @@ import tech.pegasys.peeps.node.model.Hash;
 import tech.pegasys.peeps.node.rpc.NodeRpcMandatoryResponse;
 import tech.pegasys.peeps.node.rpc.admin.NodeInfo;
 import tech.pegasys.peeps.privacy.model.PrivacyAddreess;
+import tech.pegasys.peeps.util.PollBudget;
 
 import org.apache.tuweni.eth.Address;
 import org.apache.tuweni.units.ethereum.Wei;
@@ -29,6 +30,11 @@ public class SignerRpcMandatoryResponse extends NodeRpcMandatoryResponse impleme
     this.rpc = rpc;
   }
 
+  public SignerRpcMandatoryResponse(final SignerRpcClient rpc, final PollBudget budget) {
+    super(rpc, budget);
+    this.rpc = rpc;
+  }
+
   @Override
   public Hash deployContractToPrivacyGroup(
       final Address sender,
@@ -29,6 +29,7 @@ public class SendTransactionRequest {
   private final Address recipient;
   private final String data;
   private final Wei value;
+  private final Long nonce;
 
   public SendTransactionRequest(
       final Address sender,
@@ -36,11 +37,23 @@ public class SendTransactionRequest {
       final String data,
       final Wei value,
       final Wei gasPrice) {
+    this(sender, recipient, data, value, gasPrice, null);
+  }
+
+  /** With a nonce assigned by the caller, rather than left to the node or signer. */
+  public SendTransactionRequest(
+      final Address sender,
+      final Address recipient,
+      final String data,
+      final Wei value,
+      final Wei gasPrice,
+      final Long nonce) {
     this.sender = sender;
     this.recipient = recipient;
     this.data = data;
     this.value = value;
     this.gasPrice = gasPrice;
+    this.nonce = nonce;
   }
 
   @JsonGetter("from")
@@ -82,4 +95,9 @@ public class SendTransactionRequest {
   public String getValue() {
     return value.toShortHexString();
   }
+
+  @JsonGetter("nonce")
+  public String getNonce() {
+    return nonce == null ? null : "0x" + Long.toHexString(nonce);
+  }
 }
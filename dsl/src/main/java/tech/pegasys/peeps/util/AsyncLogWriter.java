@@ -0,0 +1,123 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.util;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Appends lines to log files on a single background thread, so whoever produces the lines never
+ * waits on the file system.
+ *
+ * <p>The queue is bounded: when the writer falls behind, lines are dropped and counted rather than
+ * blocking the producer. Anything still queued is written out as the JVM shuts down.
+ */
+class AsyncLogWriter {
+
+  private static final Logger LOG = LogManager.getLogger();
+
+  private static final int QUEUE_CAPACITY = 65_536;
+  private static final int BATCH_SIZE = 4_096;
+  private static final AsyncLogWriter SHARED = new AsyncLogWriter();
+
+  private final BlockingQueue<Line> queue;
+  private final AtomicLong dropped;
+
+  static AsyncLogWriter shared() {
+    return SHARED;
+  }
+
+  private AsyncLogWriter() {
+    this.queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+    this.dropped = new AtomicLong();
+
+    final Thread writer = new Thread(this::writeContinuously, "peeps-log-writer");
+    writer.setDaemon(true);
+    writer.start();
+
+    Runtime.getRuntime().addShutdownHook(new Thread(this::writeQueued, "peeps-log-flush"));
+  }
+
+  void write(final Path file, final String line) {
+    if (!queue.offer(new Line(file, line))) {
+      dropped.incrementAndGet();
+    }
+  }
+
+  private void writeContinuously() {
+    try {
+      while (!Thread.currentThread().isInterrupted()) {
+        final Line first = queue.take();
+        synchronized (this) {
+          final List<Line> batch = new ArrayList<>();
+          batch.add(first);
+          queue.drainTo(batch, BATCH_SIZE - 1);
+          append(batch);
+        }
+      }
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private synchronized void writeQueued() {
+    final List<Line> remaining = new ArrayList<>();
+    queue.drainTo(remaining);
+    append(remaining);
+  }
+
+  private void append(final List<Line> batch) {
+    final Map<Path, List<String>> byFile = new LinkedHashMap<>();
+    batch.forEach(
+        line -> byFile.computeIfAbsent(line.file, file -> new ArrayList<>()).add(line.text));
+
+    byFile.forEach(
+        (file, lines) -> {
+          try {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            Files.write(file, lines, UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+          } catch (final IOException e) {
+            LOG.warn("Failed writing container log: {}", file, e);
+          }
+        });
+
+    final long lost = dropped.getAndSet(0);
+    if (lost > 0) {
+      LOG.warn("Container log writer fell behind, dropped {} lines", lost);
+    }
+  }
+
+  private static class Line {
+    private final Path file;
+    private final String text;
+
+    Line(final Path file, final String text) {
+      this.file = file;
+      this.text = text;
+    }
+  }
+}
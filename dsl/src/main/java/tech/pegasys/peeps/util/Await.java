@@ -15,32 +15,79 @@ package tech.pegasys.peeps.util;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.time.Duration;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.errorprone.annotations.FormatMethod;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 import org.awaitility.Awaitility;
 import org.awaitility.core.ConditionTimeoutException;
 import org.awaitility.core.ThrowingRunnable;
+import org.awaitility.pollinterval.PollInterval;
 
+/**
+ * Polls conditions until satisfied or timed out.
+ *
+ * <p>Polling begins immediately and then backs off. Awaits given the same PollBudget share its
+ * rate, which is how concurrent awaits on the same node are kept from flooding it.
+ *
+ * <p>Polls run on a shared pool rather than the calling thread, so a poll stuck on an unresponsive
+ * node still fails the await at its timeout. The pool grows as needed, as conditions may nest
+ * further awaits.
+ */
 public class Await {
 
+  private static final Logger LOG = LogManager.getLogger();
+
   public static final int DEFAULT_TIMEOUT_IN_SECONDS = 30;
 
+  private static final PollInterval POLL_INTERVAL =
+      new BackoffPollInterval(Duration.ofMillis(50), Duration.ofSeconds(1));
+
+  private static final ExecutorService POLLERS =
+      Executors.newCachedThreadPool(
+          new ThreadFactoryBuilder().setNameFormat("peeps-await-%d").setDaemon(true).build());
+
+  @FormatMethod
+  public static <T> Optional<T> awaitPresence(
+      final Supplier<Optional<T>> operation,
+      final String errorMessage,
+      final Object... errorMessageParameters) {
+    return awaitPresence(PollBudget.unlimited(), operation, errorMessage, errorMessageParameters);
+  }
+
   @FormatMethod
   public static <T> Optional<T> awaitPresence(
+      final PollBudget budget,
       final Supplier<Optional<T>> operation,
       final String errorMessage,
       final Object... errorMessageParameters) {
+    final AtomicReference<Optional<T>> result = new AtomicReference<>();
 
     await(
+        budget,
         () -> {
-          assertThat(operation.get()).isPresent();
+          final Optional<T> value = operation.get();
+          assertThat(value).isPresent();
+          result.set(value);
         },
+        DEFAULT_TIMEOUT_IN_SECONDS,
         errorMessage,
         errorMessageParameters);
 
-    return operation.get();
+    return result.get();
   }
 
   @FormatMethod
@@ -48,15 +95,29 @@ public class Await {
       final Supplier<T> operation,
       final String errorMessage,
       final Object... errorMessageParameters) {
+    return awaitData(PollBudget.unlimited(), operation, errorMessage, errorMessageParameters);
+  }
+
+  @FormatMethod
+  public static <T> T awaitData(
+      final PollBudget budget,
+      final Supplier<T> operation,
+      final String errorMessage,
+      final Object... errorMessageParameters) {
+    final AtomicReference<T> result = new AtomicReference<>();
 
     await(
+        budget,
         () -> {
-          assertThat(operation.get()).isNotNull();
+          final T value = operation.get();
+          assertThat(value).isNotNull();
+          result.set(value);
         },
+        DEFAULT_TIMEOUT_IN_SECONDS,
         errorMessage,
         errorMessageParameters);
 
-    return operation.get();
+    return result.get();
   }
 
   @FormatMethod
@@ -64,11 +125,12 @@ public class Await {
       final ThrowingRunnable condition,
       final String errorMessage,
       final Object... errorMessageParameters) {
-    try {
-      await(DEFAULT_TIMEOUT_IN_SECONDS, condition);
-    } catch (final ConditionTimeoutException e) {
-      throw new AssertionError(String.format(errorMessage, errorMessageParameters));
-    }
+    await(
+        PollBudget.unlimited(),
+        condition,
+        DEFAULT_TIMEOUT_IN_SECONDS,
+        errorMessage,
+        errorMessageParameters);
   }
 
   @FormatMethod
@@ -77,17 +139,84 @@ public class Await {
       final int timeout,
       final String errorMessage,
       final Object... errorMessageParameters) {
+    await(PollBudget.unlimited(), condition, timeout, errorMessage, errorMessageParameters);
+  }
+
+  @FormatMethod
+  public static void await(
+      final PollBudget budget,
+      final ThrowingRunnable condition,
+      final String errorMessage,
+      final Object... errorMessageParameters) {
+    await(budget, condition, DEFAULT_TIMEOUT_IN_SECONDS, errorMessage, errorMessageParameters);
+  }
+
+  @FormatMethod
+  public static void await(
+      final PollBudget budget,
+      final ThrowingRunnable condition,
+      final int timeout,
+      final String errorMessage,
+      final Object... errorMessageParameters) {
+    final AtomicInteger polls = new AtomicInteger();
+    final long start = System.nanoTime();
+
     try {
-      await(timeout, condition);
+      Awaitility.await()
+          .ignoreExceptions()
+          .pollExecutorService(POLLERS)
+          .pollDelay(Duration.ZERO)
+          .pollInterval(POLL_INTERVAL)
+          .atMost(Duration.ofSeconds(timeout))
+          .untilAsserted(
+              () -> {
+                budget.acquire();
+                polls.incrementAndGet();
+                condition.run();
+              });
     } catch (final ConditionTimeoutException e) {
-      throw new AssertionError(String.format(errorMessage, errorMessageParameters));
+      final String message = String.format(errorMessage, errorMessageParameters);
+      LOG.warn(
+          "Await failed after {} polls in {} ms: {}", polls.get(), elapsedMillis(start), message);
+      throw new AssertionError(message);
+    }
+
+    if (LOG.isDebugEnabled()) {
+      LOG.debug(
+          "Await satisfied after {} polls in {} ms: {}",
+          polls.get(),
+          elapsedMillis(start),
+          String.format(errorMessage, errorMessageParameters));
     }
   }
 
-  private static void await(final int timeout, final ThrowingRunnable condition) {
-    Awaitility.await()
-        .ignoreExceptions()
-        .atMost(Duration.ofSeconds(timeout))
-        .untilAsserted(condition);
+  /**
+   * Waits on every future completing, with any still outstanding at the timeout being cancelled.
+   *
+   * @return the results, in the same order as the futures.
+   */
+  @FormatMethod
+  public static <T> List<T> awaitAll(
+      final List<CompletableFuture<T>> futures,
+      final int timeout,
+      final String errorMessage,
+      final Object... errorMessageParameters) {
+    try {
+      CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0]))
+          .get(timeout, TimeUnit.SECONDS);
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new AssertionError(String.format(errorMessage, errorMessageParameters), e);
+    } catch (final ExecutionException | TimeoutException e) {
+      throw new AssertionError(String.format(errorMessage, errorMessageParameters), e);
+    } finally {
+      futures.forEach(future -> future.cancel(false));
+    }
+
+    return futures.stream().map(CompletableFuture::join).collect(Collectors.toList());
+  }
+
+  private static long elapsedMillis(final long startNanos) {
+    return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
   }
 }
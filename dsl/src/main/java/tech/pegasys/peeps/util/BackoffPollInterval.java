@@ -0,0 +1,60 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.util;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.DoubleSupplier;
+
+import org.awaitility.pollinterval.PollInterval;
+
+/**
+ * Exponential backoff between polls, from a short initial interval up to a ceiling, with jitter to
+ * spread out the concurrent polling of awaits that started together.
+ */
+public class BackoffPollInterval implements PollInterval {
+
+  private static final double JITTER = 0.2;
+
+  private final long initialMillis;
+  private final long maximumMillis;
+  private final DoubleSupplier random;
+
+  public BackoffPollInterval(final Duration initial, final Duration maximum) {
+    this(initial, maximum, () -> ThreadLocalRandom.current().nextDouble());
+  }
+
+  BackoffPollInterval(final Duration initial, final Duration maximum, final DoubleSupplier random) {
+    checkArgument(!initial.isNegative() && !initial.isZero(), "Initial interval must be positive");
+    checkArgument(maximum.compareTo(initial) >= 0, "Maximum interval must be at least the initial");
+
+    this.initialMillis = initial.toMillis();
+    this.maximumMillis = maximum.toMillis();
+    this.random = random;
+  }
+
+  @Override
+  public Duration next(final int pollCount, final Duration previousDuration) {
+    long backoff = initialMillis;
+    for (int poll = 1; poll < pollCount && backoff < maximumMillis; poll++) {
+      backoff *= 2;
+    }
+    backoff = Math.min(backoff, maximumMillis);
+
+    final double jitter = 1 - JITTER + 2 * JITTER * random.getAsDouble();
+
+    return Duration.ofMillis(Math.max(1, Math.round(backoff * jitter)));
+  }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.util;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+import com.google.common.annotations.VisibleForTesting;
+import org.testcontainers.containers.output.OutputFrame;
+
+/**
+ * Output of a container, with the most recent lines held in a bounded ring for failure diagnostics
+ * and every line handed to a background writer for persisting to the member's log file.
+ *
+ * <p>Diagnostics read the ring, rather than downloading the container's entire log from the Docker
+ * daemon.
+ */
+public class ContainerLog implements Consumer<OutputFrame> {
+
+  public static final String CAPACITY_PROPERTY = "peeps.logs.capacity";
+  public static final String DIRECTORY_PROPERTY = "peeps.logs.directory";
+
+  private static final int DEFAULT_CAPACITY = 2_000;
+  private static final String DEFAULT_DIRECTORY = "build/container-logs";
+
+  private final String[] ring;
+  private final BiConsumer<Path, String> persistence;
+  private final List<Consumer<String>> listeners;
+
+  private long appended;
+  private volatile Path file;
+
+  public ContainerLog() {
+    this(Integer.getInteger(CAPACITY_PROPERTY, DEFAULT_CAPACITY), AsyncLogWriter.shared()::write);
+  }
+
+  @VisibleForTesting
+  ContainerLog(final int capacity, final BiConsumer<Path, String> persistence) {
+    checkArgument(capacity > 0, "Capacity must be positive");
+    this.ring = new String[capacity];
+    this.persistence = persistence;
+    this.listeners = new CopyOnWriteArrayList<>();
+  }
+
+  /** Root directory for persisted container logs. */
+  public static Path directory() {
+    return Path.of(System.getProperty(DIRECTORY_PROPERTY, DEFAULT_DIRECTORY));
+  }
+
+  @Override
+  public void accept(final OutputFrame frame) {
+    if (frame.getType() == OutputFrame.OutputType.END) {
+      return;
+    }
+
+    for (final String line : frame.getUtf8String().split("\n")) {
+      final String stripped = line.stripTrailing();
+      if (!stripped.isEmpty()) {
+        append(stripped);
+      }
+    }
+  }
+
+  /** Lines appended from now on are also persisted to the file. */
+  public void persistTo(final Path file) {
+    this.file = file;
+  }
+
+  /** Listener to receive each line as it is appended, on the thread following the container. */
+  public void addListener(final Consumer<String> listener) {
+    listeners.add(listener);
+  }
+
+  /** Most recent lines held in memory, oldest first. */
+  public synchronized List<String> tail(final int count) {
+    final int available = (int) Math.min(appended, ring.length);
+    final int size = Math.min(Math.max(count, 0), available);
+    final List<String> lines = new ArrayList<>(size);
+
+    for (long index = appended - size; index < appended; index++) {
+      lines.add(ring[(int) (index % ring.length)]);
+    }
+
+    return lines;
+  }
+
+  @VisibleForTesting
+  void append(final String line) {
+    synchronized (this) {
+      ring[(int) (appended % ring.length)] = line;
+      appended++;
+    }
+
+    final Path destination = file;
+    if (destination != null) {
+      persistence.accept(destination, line);
+    }
+
+    listeners.forEach(listener -> listener.accept(line));
+  }
+}
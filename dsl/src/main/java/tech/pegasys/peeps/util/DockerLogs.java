@@ -15,9 +15,14 @@ package tech.pegasys.peeps.util;
 import org.testcontainers.containers.GenericContainer;
 
 public class DockerLogs {
-  public static String format(final String containerType, final GenericContainer<?> container) {
+
+  private static final int DIAGNOSTIC_LINES = 200;
+
+  /** Formats the most recent output held in memory, without querying the Docker daemon. */
+  public static String format(
+      final String containerType, final GenericContainer<?> container, final ContainerLog log) {
     return String.format(
-        "%s container: %s.\n%s",
-        containerType, container.getContainerId(), container.getLogs().replaceAll("\n\n", "\n\t"));
+        "%s container: %s.\n\t%s",
+        containerType, container.getContainerId(), String.join("\n\t", log.tail(DIAGNOSTIC_LINES)));
   }
 }
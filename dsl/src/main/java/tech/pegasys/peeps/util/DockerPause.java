@@ -0,0 +1,70 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.util;
+
+import static com.google.common.base.Preconditions.checkState;
+
+import com.github.dockerjava.api.DockerClient;
+import com.github.dockerjava.api.command.InspectContainerResponse.ContainerState;
+import com.google.common.annotations.VisibleForTesting;
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.containers.GenericContainer;
+
+/**
+ * Freezes and thaws the processes of a running container, keeping the container, its ports and file
+ * system as they were.
+ *
+ * <p>A paused container still reports as running, only its Docker state tells it is paused.
+ */
+public class DockerPause {
+
+  public static void pause(final GenericContainer<?> container) {
+    pause(DockerClientFactory.lazyClient(), container);
+  }
+
+  public static void resume(final GenericContainer<?> container) {
+    resume(DockerClientFactory.lazyClient(), container);
+  }
+
+  public static boolean isPaused(final GenericContainer<?> container) {
+    return isPaused(DockerClientFactory.lazyClient(), container);
+  }
+
+  @VisibleForTesting
+  static void pause(final DockerClient docker, final GenericContainer<?> container) {
+    checkState(
+        container != null && container.isRunning(), "Only a running container can be paused");
+    checkState(!isPaused(docker, container), "Container is already paused");
+
+    docker.pauseContainerCmd(container.getContainerId()).exec();
+  }
+
+  @VisibleForTesting
+  static void resume(final DockerClient docker, final GenericContainer<?> container) {
+    checkState(isPaused(docker, container), "Only a paused container can be resumed");
+
+    docker.unpauseContainerCmd(container.getContainerId()).exec();
+  }
+
+  @VisibleForTesting
+  static boolean isPaused(final DockerClient docker, final GenericContainer<?> container) {
+    if (container == null || !container.isRunning()) {
+      return false;
+    }
+
+    final ContainerState state =
+        docker.inspectContainerCmd(container.getContainerId()).exec().getState();
+
+    return state != null && Boolean.TRUE.equals(state.getPaused());
+  }
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.util;
+
+import tech.pegasys.peeps.network.NetworkExecutor;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import com.github.dockerjava.api.DockerClient;
+import com.github.dockerjava.api.command.InspectImageResponse;
+import com.github.dockerjava.api.exception.NotFoundException;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.images.ImagePullPolicy;
+import org.testcontainers.images.PullPolicy;
+import org.testcontainers.images.RemoteDockerImage;
+import org.testcontainers.utility.DockerImageName;
+
+/**
+ * Resolves each Docker image at most once per JVM, pulling when the local copy is missing or older
+ * than the maximum age.
+ *
+ * <p>Containers use the {@link #pullPolicy()}, which resolves through the registry and leaves no
+ * pulling for the container start, with {@link #resolve(Collection, NetworkExecutor)} letting a
+ * Network resolve all of its images in parallel before starting any container.
+ */
+public class ImageRegistry {
+
+  private static final Logger LOG = LogManager.getLogger();
+
+  private static final Duration DEFAULT_MAX_AGE = Duration.ofHours(1);
+  private static final ImageRegistry SHARED = new ImageRegistry(DEFAULT_MAX_AGE);
+
+  private final Duration maxAge;
+  private final LoadingCache<String, Instant> resolved;
+  private final DockerClient dockerClient = DockerClientFactory.lazyClient();
+
+  public static ImageRegistry shared() {
+    return SHARED;
+  }
+
+  private ImageRegistry(final Duration maxAge) {
+    this.maxAge = maxAge;
+    this.resolved = CacheBuilder.newBuilder().build(CacheLoader.from(this::resolveImage));
+  }
+
+  /** Pull policy that defers to the registry, resolving the image when not already resolved. */
+  public ImagePullPolicy pullPolicy() {
+    return imageName -> {
+      resolve(imageName.asCanonicalNameString());
+      return false;
+    };
+  }
+
+  /** Resolves every distinct image concurrently, returning once all are present locally. */
+  public void resolve(final Collection<String> imageNames, final NetworkExecutor executor) {
+    final List<String> distinct =
+        imageNames.stream()
+            .filter(Objects::nonNull)
+            .map(name -> DockerImageName.parse(name).asCanonicalNameString())
+            .distinct()
+            .filter(name -> resolved.getIfPresent(name) == null)
+            .collect(Collectors.toList());
+
+    executor.forEach(distinct, this::resolve);
+  }
+
+  /**
+   * @return when the local copy of the image was created.
+   * @throws IllegalStateException when the image is neither local nor could be pulled.
+   */
+  public Instant resolve(final String canonicalImageName) {
+    try {
+      return resolved.getUnchecked(canonicalImageName);
+    } catch (final UncheckedExecutionException e) {
+      throw new IllegalStateException(
+          "Failed to resolve image: " + canonicalImageName, e.getCause());
+    }
+  }
+
+  /** Records an image built locally, e.g. by committing a container, which is never pulled. */
+  public void adopt(final String imageName) {
+    resolved.put(DockerImageName.parse(imageName).asCanonicalNameString(), Instant.now());
+  }
+
+  private Instant resolveImage(final String canonicalImageName) {
+    final long begin = System.nanoTime();
+    final Optional<Instant> local = created(canonicalImageName);
+
+    if (local.isPresent() && !isStale(local.get())) {
+      LOG.debug("Using local image {}, created {}", canonicalImageName, local.get());
+      return local.get();
+    }
+
+    LOG.info(
+        "Pulling image {}, local copy: {}",
+        canonicalImageName,
+        local.map(Instant::toString).orElse("none"));
+    new RemoteDockerImage(DockerImageName.parse(canonicalImageName))
+        .withImagePullPolicy(PullPolicy.alwaysPull())
+        .get();
+
+    final Instant pulled =
+        created(canonicalImageName)
+            .orElseThrow(
+                () -> new IllegalStateException("Pulled image is missing: " + canonicalImageName));
+    LOG.info(
+        "Pulled image {} in {} ms",
+        canonicalImageName,
+        Duration.ofNanos(System.nanoTime() - begin).toMillis());
+
+    return pulled;
+  }
+
+  private Optional<Instant> created(final String canonicalImageName) {
+    final InspectImageResponse response;
+    try {
+      response = dockerClient.inspectImageCmd(canonicalImageName).exec();
+    } catch (final NotFoundException e) {
+      return Optional.empty();
+    }
+
+    return Optional.ofNullable(response)
+        .map(InspectImageResponse::getCreated)
+        .map(created -> ZonedDateTime.parse(created).toInstant());
+  }
+
+  private boolean isStale(final Instant created) {
+    return Duration.between(created, Instant.now()).compareTo(maxAge) > 0;
+  }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.util;
+
+import com.google.common.util.concurrent.RateLimiter;
+
+/**
+ * Rate at which polls may be made against a single target, shared by all of the concurrent awaits
+ * on that target.
+ */
+public class PollBudget {
+
+  private static final double DEFAULT_POLLS_PER_SECOND = 20;
+  private static final PollBudget UNLIMITED = new PollBudget(null);
+
+  private final RateLimiter limiter;
+
+  private PollBudget(final RateLimiter limiter) {
+    this.limiter = limiter;
+  }
+
+  public static PollBudget perTarget() {
+    return perSecond(DEFAULT_POLLS_PER_SECOND);
+  }
+
+  public static PollBudget perSecond(final double polls) {
+    return new PollBudget(RateLimiter.create(polls));
+  }
+
+  public static PollBudget unlimited() {
+    return UNLIMITED;
+  }
+
+  /** Blocks until a poll is permitted by the budget. */
+  public void acquire() {
+    if (limiter != null) {
+      limiter.acquire();
+    }
+  }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.json;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import tech.pegasys.peeps.json.rpc.JsonRpcRequest;
+import tech.pegasys.peeps.json.rpc.JsonRpcRequestId;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.junit.jupiter.api.Test;
+
+public class JsonTest {
+
+  private static final JsonRpcRequest REQUEST =
+      new JsonRpcRequest(
+          "2.0", "eth_getBalance", new Object[] {"0xfe3b", "latest"}, new JsonRpcRequestId(7));
+
+  @Test
+  public void pooledEncodingMustMatchStringEncoding() {
+    final ByteBuf encoded = Json.encodePooled(REQUEST);
+
+    try {
+      assertThat(encoded.toString(UTF_8)).isEqualTo(Json.encode(REQUEST));
+    } finally {
+      encoded.release();
+    }
+
+    assertThat(encoded.refCnt()).isZero();
+  }
+
+  @Test
+  public void heapBufferMustDecodeFromItsReaderIndex() {
+    final ByteBuf buffer = Unpooled.buffer();
+    buffer.writeBytes("ignored".getBytes(UTF_8));
+    buffer.writeBytes(Json.encode(REQUEST).getBytes(UTF_8));
+    buffer.readerIndex("ignored".length());
+
+    assertThat(Json.decode(buffer.slice(), JsonRpcRequest.class)).isEqualTo(REQUEST);
+  }
+
+  @Test
+  public void directBufferMustDecode() {
+    final ByteBuf buffer = Unpooled.directBuffer();
+    buffer.writeBytes(Json.encode(REQUEST).getBytes(UTF_8));
+
+    try {
+      assertThat(Json.decode(buffer, JsonRpcRequest.class)).isEqualTo(REQUEST);
+    } finally {
+      buffer.release();
+    }
+  }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.json.rpc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import tech.pegasys.peeps.json.rpc.JsonRpcBatch.Entry;
+import tech.pegasys.peeps.node.rpc.eth.GetBlockNumberResponse;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class JsonRpcBatchTest {
+
+  private JsonRpcBatch batch;
+
+  @BeforeEach
+  public void setUp() {
+    batch = new JsonRpcBatch(null);
+  }
+
+  @Test
+  public void responsesMustBeMatchedById() throws Exception {
+    final Entry<GetBlockNumberResponse> first =
+        batch.add("eth_blockNumber", GetBlockNumberResponse.class);
+    final Entry<GetBlockNumberResponse> second =
+        batch.add("eth_blockNumber", GetBlockNumberResponse.class);
+
+    JsonRpcBatch.complete(
+        pending(first, second),
+        json(
+            "[{\"jsonrpc\":\"2.0\",\"id\":2,\"result\":\"0x2\"},"
+                + "{\"jsonrpc\":\"2.0\",\"id\":1,\"result\":\"0x1\"}]"));
+
+    assertThat(first.get().getResult()).isEqualTo(1L);
+    assertThat(second.get().getResult()).isEqualTo(2L);
+  }
+
+  @Test
+  public void errorResponseMustOnlyFailItsEntry() throws Exception {
+    final Entry<GetBlockNumberResponse> first =
+        batch.add("eth_blockNumber", GetBlockNumberResponse.class);
+    final Entry<GetBlockNumberResponse> second =
+        batch.add("eth_blockNumber", GetBlockNumberResponse.class);
+
+    JsonRpcBatch.complete(
+        pending(first, second),
+        json(
+            "[{\"jsonrpc\":\"2.0\",\"id\":1,\"result\":\"0xa\"},"
+                + "{\"jsonrpc\":\"2.0\",\"id\":2,"
+                + "\"error\":{\"code\":-32000,\"message\":\"boom\"}}]"));
+
+    assertThat(first.isSuccess()).isTrue();
+    assertThat(first.get().getResult()).isEqualTo(10L);
+    assertThat(second.isSuccess()).isFalse();
+
+    final Exception exception = assertThrows(IllegalStateException.class, second::get);
+    assertThat(exception.getMessage()).contains("boom");
+  }
+
+  @Test
+  public void missingResponseMustFailEntry() throws Exception {
+    final Entry<GetBlockNumberResponse> first =
+        batch.add("eth_blockNumber", GetBlockNumberResponse.class);
+    final Entry<GetBlockNumberResponse> second =
+        batch.add("eth_blockNumber", GetBlockNumberResponse.class);
+
+    JsonRpcBatch.complete(
+        pending(first, second), json("[{\"jsonrpc\":\"2.0\",\"id\":1,\"result\":\"0x1\"}]"));
+
+    assertThat(first.isSuccess()).isTrue();
+    assertThat(second.isSuccess()).isFalse();
+
+    final Exception exception = assertThrows(IllegalStateException.class, second::get);
+    assertThat(exception.getMessage())
+        .isEqualTo("No JSON-RPC response for method: eth_blockNumber");
+  }
+
+  @Test
+  public void nonArrayResponseMustException() throws Exception {
+    final Entry<GetBlockNumberResponse> first =
+        batch.add("eth_blockNumber", GetBlockNumberResponse.class);
+    final JsonNode response =
+        json("{\"jsonrpc\":\"2.0\",\"id\":null,\"error\":{\"code\":-32600,\"message\":\"x\"}}");
+
+    assertThrows(
+        IllegalStateException.class, () -> JsonRpcBatch.complete(pending(first), response));
+  }
+
+  @Test
+  public void unexecutedEntryMustException() {
+    final Entry<GetBlockNumberResponse> first =
+        batch.add("eth_blockNumber", GetBlockNumberResponse.class);
+
+    final Exception exception = assertThrows(IllegalStateException.class, first::get);
+
+    assertThat(exception.getMessage())
+        .isEqualTo("Batch has not been executed for method: eth_blockNumber");
+  }
+
+  private Map<Object, Entry<?>> pending(final Entry<?>... entries) {
+    final Map<Object, Entry<?>> pending = new HashMap<>();
+    for (int i = 0; i < entries.length; i++) {
+      pending.put((long) i + 1, entries[i]);
+    }
+    return pending;
+  }
+
+  private JsonNode json(final String json) throws Exception {
+    return new ObjectMapper().readTree(json);
+  }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.json.rpc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import tech.pegasys.peeps.json.Json;
+
+import io.vertx.core.buffer.Buffer;
+import org.junit.jupiter.api.Test;
+
+public class JsonRpcRequestTest {
+
+  private static final String ENCODED =
+      "{\"id\":7,\"method\":\"eth_getBalance\",\"jsonrpc\":\"2.0\","
+          + "\"params\":[\"0xfe3b557e8fb62b89f4916b721be55ceb828dbd73\",\"latest\"]}";
+
+  private static final JsonRpcRequest REQUEST =
+      new JsonRpcRequest(
+          "2.0",
+          "eth_getBalance",
+          new Object[] {"0xfe3b557e8fb62b89f4916b721be55ceb828dbd73", "latest"},
+          new JsonRpcRequestId(7));
+
+  @Test
+  public void idMustDecodeFromItsOwnField() {
+    final JsonRpcRequest decoded = Json.decode(Buffer.buffer(ENCODED), JsonRpcRequest.class);
+
+    assertThat(decoded.getId()).isEqualTo(7);
+    assertThat(decoded).isEqualTo(REQUEST);
+  }
+
+  @Test
+  public void encodedRequestMustDecodeToItself() {
+    final String encoded = Json.encode(REQUEST);
+
+    assertThat(encoded).contains("\"id\":7");
+    assertThat(Json.decode(Buffer.buffer(encoded), JsonRpcRequest.class)).isEqualTo(REQUEST);
+  }
+}
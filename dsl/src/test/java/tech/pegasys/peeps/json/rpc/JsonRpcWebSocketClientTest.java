@@ -0,0 +1,151 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.json.rpc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import tech.pegasys.peeps.json.Json;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpServer;
+import io.vertx.core.http.ServerWebSocket;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class JsonRpcWebSocketClientTest {
+
+  private static final Logger LOG = LogManager.getLogger();
+  private static final Duration DEADLINE = Duration.ofSeconds(5);
+
+  private final List<ServerWebSocket> connections = new CopyOnWriteArrayList<>();
+  private final List<JsonNode> requests = new CopyOnWriteArrayList<>();
+
+  private Vertx vertx;
+  private HttpServer server;
+  private JsonRpcWebSocketClient client;
+
+  @BeforeEach
+  public void setUp() throws Exception {
+    vertx = Vertx.vertx();
+    final CompletableFuture<HttpServer> listening = new CompletableFuture<>();
+    vertx
+        .createHttpServer()
+        .webSocketHandler(this::onConnection)
+        .listen(
+            0,
+            "127.0.0.1",
+            result -> {
+              if (result.succeeded()) {
+                listening.complete(result.result());
+              } else {
+                listening.completeExceptionally(result.cause());
+              }
+            });
+    server = listening.get(5, TimeUnit.SECONDS);
+
+    client = new JsonRpcWebSocketClient(vertx, DEADLINE, LOG);
+    client.bind("127.0.0.1", server.actualPort());
+  }
+
+  @AfterEach
+  public void tearDown() {
+    client.close();
+    vertx.close();
+  }
+
+  @Test
+  public void subscriptionMustBeMadeAgainAfterReconnecting() {
+    final List<JsonNode> received = new CopyOnWriteArrayList<>();
+    final List<Boolean> connectivity = new CopyOnWriteArrayList<>();
+    client.addConnectionListener(connectivity::add);
+    final String subscription = client.subscribe(DEADLINE, received::add, "newHeads").join();
+
+    connections.get(0).close();
+
+    await().atMost(5, TimeUnit.SECONDS).until(() -> connections.size() == 2);
+    await().atMost(5, TimeUnit.SECONDS).until(() -> subscribes() == 2);
+    notify(connections.get(1), "0x2", "{\"number\":\"0x1\"}");
+
+    await().atMost(5, TimeUnit.SECONDS).until(() -> received.size() == 1);
+    assertThat(received.get(0).path("number").asText()).isEqualTo("0x1");
+    assertThat(connectivity).containsExactly(false, true);
+    assertThat(client.isConnected()).isTrue();
+    assertThat(subscription).isEqualTo("0x1");
+  }
+
+  @Test
+  public void unsubscribeMustUseTheCurrentSubscription() {
+    final String subscription = client.subscribe(DEADLINE, result -> {}, "newHeads").join();
+    connections.get(0).close();
+    await().atMost(5, TimeUnit.SECONDS).until(() -> subscribes() == 2);
+
+    assertThat(client.unsubscribe(DEADLINE, subscription).join()).isTrue();
+
+    final JsonNode unsubscribe = requests.get(requests.size() - 1);
+    assertThat(unsubscribe.path("method").asText()).isEqualTo("eth_unsubscribe");
+    assertThat(unsubscribe.path("params").get(0).asText()).isEqualTo("0x2");
+  }
+
+  @Test
+  public void closedClientMustNotReconnect() throws InterruptedException {
+    client.close();
+
+    Thread.sleep(500);
+
+    assertThat(connections).hasSize(1);
+    assertThat(client.isConnected()).isFalse();
+  }
+
+  private void onConnection(final ServerWebSocket connection) {
+    connections.add(connection);
+    connection.textMessageHandler(
+        message -> {
+          final JsonNode request = Json.decode(Buffer.buffer(message), JsonNode.class);
+          requests.add(request);
+          final String result =
+              "eth_subscribe".equals(request.path("method").asText())
+                  ? "\"0x" + subscribes() + "\""
+                  : "true";
+          connection.writeTextMessage(
+              String.format(
+                  "{\"jsonrpc\":\"2.0\",\"id\":%s,\"result\":%s}", request.path("id"), result));
+        });
+  }
+
+  private long subscribes() {
+    return requests.stream()
+        .filter(request -> "eth_subscribe".equals(request.path("method").asText()))
+        .count();
+  }
+
+  private void notify(
+      final ServerWebSocket connection, final String subscription, final String result) {
+    connection.writeTextMessage(
+        String.format(
+            "{\"jsonrpc\":\"2.0\",\"method\":\"eth_subscription\","
+                + "\"params\":{\"subscription\":\"%s\",\"result\":%s}}",
+            subscription, result));
+  }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.json.rpc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+public class LatencyHistogramTest {
+
+  @Test
+  public void bucketsMustCoverEveryValueInOrder() {
+    long previousHighest = -1;
+    for (int index = 0; index < LatencyHistogram.BUCKETS; index++) {
+      final long highest = LatencyHistogram.highestValue(index);
+
+      assertThat(highest).isGreaterThan(previousHighest);
+      assertThat(LatencyHistogram.index(previousHighest + 1)).isEqualTo(index);
+      assertThat(LatencyHistogram.index(highest)).isEqualTo(index);
+      previousHighest = highest;
+    }
+  }
+
+  @Test
+  public void bucketWidthMustBeWithinThreePercent() {
+    for (int index = 32; index < LatencyHistogram.BUCKETS; index++) {
+      final long lowest = LatencyHistogram.highestValue(index - 1) + 1;
+      final long highest = LatencyHistogram.highestValue(index);
+
+      assertThat((double) (highest - lowest) / lowest).isLessThanOrEqualTo(1d / 32);
+    }
+  }
+
+  @Test
+  public void percentilesMustBeWithinBucketError() {
+    final LatencyHistogram histogram = new LatencyHistogram();
+
+    for (int millis = 1; millis <= 1000; millis++) {
+      histogram.record(TimeUnit.MILLISECONDS.toNanos(millis));
+    }
+
+    assertThat(histogram.count()).isEqualTo(1000);
+    assertThat(histogram.percentile(50).toMillis()).isBetween(500L, 516L);
+    assertThat(histogram.percentile(99).toMillis()).isBetween(990L, 1000L);
+    assertThat(histogram.percentile(100)).isEqualTo(Duration.ofMillis(1000));
+    assertThat(histogram.max()).isEqualTo(Duration.ofMillis(1000));
+  }
+
+  @Test
+  public void percentileWithoutRecordingsMustBeZero() {
+    assertThat(new LatencyHistogram().percentile(99)).isEqualTo(Duration.ZERO);
+  }
+
+  @Test
+  public void latencyBeyondLastBucketMustBeKept() {
+    final LatencyHistogram histogram = new LatencyHistogram();
+
+    histogram.record(TimeUnit.DAYS.toNanos(30));
+
+    assertThat(histogram.count()).isEqualTo(1);
+    assertThat(histogram.percentile(50)).isEqualTo(Duration.ofDays(30));
+  }
+
+  @Test
+  public void addMustMergeCountsAndMax() {
+    final LatencyHistogram first = new LatencyHistogram();
+    final LatencyHistogram second = new LatencyHistogram();
+    first.record(TimeUnit.MILLISECONDS.toNanos(1));
+    second.record(TimeUnit.MILLISECONDS.toNanos(5));
+    second.record(TimeUnit.MILLISECONDS.toNanos(5));
+
+    first.add(second);
+
+    assertThat(first.count()).isEqualTo(3);
+    assertThat(first.max()).isEqualTo(Duration.ofMillis(5));
+    assertThat(second.count()).isEqualTo(2);
+  }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.json.rpc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.junit.jupiter.api.Test;
+
+public class RpcStatisticsTest {
+
+  private final RpcStatistics statistics = new RpcStatistics();
+
+  @Test
+  public void callsMustBeCountedByMethod() {
+    statistics.record("eth_blockNumber", millis(2), null);
+    statistics.record("eth_blockNumber", millis(4), new IllegalStateException("Rejected"));
+    statistics.record(
+        "eth_getBalance", millis(8), new CompletionException(new TimeoutException("Deadline")));
+
+    assertThat(statistics.snapshots())
+        .extracting(
+            RpcMethodSnapshot::getMethod,
+            RpcMethodSnapshot::getCalls,
+            RpcMethodSnapshot::getErrors,
+            RpcMethodSnapshot::getTimeouts)
+        .containsExactly(
+            tuple("eth_blockNumber", 2L, 1L, 0L), tuple("eth_getBalance", 1L, 0L, 1L));
+  }
+
+  @Test
+  public void totalMustSpanEveryMethod() {
+    statistics.record("eth_blockNumber", millis(2), null);
+    statistics.record("eth_getBalance", millis(8), new IllegalStateException("Rejected"));
+
+    final RpcMethodSnapshot total = statistics.total();
+
+    assertThat(total.getCalls()).isEqualTo(2);
+    assertThat(total.getErrors()).isEqualTo(1);
+    assertThat(total.getMax().toMillis()).isEqualTo(8);
+  }
+
+  @Test
+  public void snapshotOfUncalledMethodMustBeEmpty() {
+    assertThat(statistics.snapshot("eth_chainId")).isEmpty();
+  }
+
+  private long millis(final long millis) {
+    return TimeUnit.MILLISECONDS.toNanos(millis);
+  }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.network;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import tech.pegasys.peeps.network.AdmissionController.Admission;
+import tech.pegasys.peeps.network.AdmissionController.Resources;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.Test;
+
+public class AdmissionControllerTest {
+
+  private final AdmissionController controller =
+      new AdmissionController(new Resources(4, 4096, 4000), new Resources(1, 1024, 500));
+
+  @Test
+  public void admissionWithinCapacityMustNotQueue() {
+    final Admission first = controller.admit(2);
+    final Admission second = controller.admit(2);
+
+    assertThat(controller.inUse()).hasToString("4 containers, 4096 MB, 2000 milli-CPUs");
+
+    first.close();
+    second.close();
+    assertThat(controller.inUse()).hasToString("0 containers, 0 MB, 0 milli-CPUs");
+  }
+
+  @Test
+  public void oversubscriptionMustQueueUntilReleased() throws Exception {
+    final Admission first = controller.admit(3);
+    final CountDownLatch queued = new CountDownLatch(1);
+    controller.addReliever(
+        () -> {
+          queued.countDown();
+          return false;
+        });
+
+    final CompletableFuture<Admission> second =
+        CompletableFuture.supplyAsync(() -> controller.admit(2));
+    assertThat(queued.await(5, TimeUnit.SECONDS)).isTrue();
+    assertThat(second).isNotDone();
+
+    first.close();
+    second.get(5, TimeUnit.SECONDS).close();
+  }
+
+  @Test
+  public void networkLargerThanCapacityMustBeAdmittedWhenAlone() throws Exception {
+    final Admission whole = controller.admit(10);
+
+    assertThat(controller.inUse()).hasToString("4 containers, 4096 MB, 4000 milli-CPUs");
+    whole.close();
+  }
+
+  @Test
+  public void releasingTwiceMustOnlyReleaseOnce() {
+    final Admission first = controller.admit(1);
+    final Admission second = controller.admit(1);
+
+    first.close();
+    first.close();
+
+    assertThat(controller.inUse()).hasToString("1 containers, 1024 MB, 500 milli-CPUs");
+    second.close();
+  }
+
+  @Test
+  public void queuedAdmissionMustInvokeRelievers() throws Exception {
+    final Admission idle = controller.admit(4);
+    final AtomicBoolean relieved = new AtomicBoolean();
+    controller.addReliever(
+        () -> {
+          if (relieved.compareAndSet(false, true)) {
+            idle.close();
+            return true;
+          }
+          return false;
+        });
+
+    controller.admit(4).close();
+
+    assertThat(relieved).isTrue();
+  }
+}
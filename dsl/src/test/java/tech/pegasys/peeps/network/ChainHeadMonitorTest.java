@@ -0,0 +1,127 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.network;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import tech.pegasys.peeps.node.Besu;
+import tech.pegasys.peeps.node.model.BlockHeader;
+import tech.pegasys.peeps.node.model.Hash;
+import tech.pegasys.peeps.signer.rpc.SignerRpcAsyncClient;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class ChainHeadMonitorTest {
+
+  private static final long GENESIS_TIMESTAMP = 1_600_000_000L;
+
+  @Mock private Besu node;
+  @Mock private SignerRpcAsyncClient rpc;
+  @Captor private ArgumentCaptor<Consumer<BlockHeader>> listener;
+
+  private final AtomicLong nanoTime = new AtomicLong();
+  private ChainHeadMonitor monitor;
+
+  @BeforeEach
+  public void setUp() {
+    when(node.asyncRpc()).thenReturn(rpc);
+    when(rpc.getLatestBlockHeader())
+        .thenReturn(CompletableFuture.completedFuture(Optional.of(header(1, "0x01"))));
+
+    monitor = new ChainHeadMonitor(nanoTime::get);
+  }
+
+  @Test
+  public void firstLookupMustSeedWithLatestHead() {
+    assertThat(monitor.blockNumber(node)).isEqualTo(1);
+  }
+
+  @Test
+  public void awaitMustCompleteWhenHeadReachesBlockNumber() {
+    final CompletableFuture<ChainHead> reached = monitor.awaitBlockNumber(node, 3);
+    verify(node).addNewHeadListener(listener.capture());
+
+    listener.getValue().accept(header(2, "0x02"));
+    assertThat(reached).isNotDone();
+
+    listener.getValue().accept(header(3, "0x03"));
+    assertThat(reached).isCompleted();
+    assertThat(reached.join().getHash()).isEqualTo(new Hash("0x03"));
+  }
+
+  @Test
+  public void awaitOnReachedBlockNumberMustCompleteImmediately() {
+    assertThat(monitor.awaitBlockNumber(node, 1)).isCompleted();
+  }
+
+  @Test
+  public void pushedHeadOfLowerNumberMustReplaceAsReorg() {
+    monitor.blockNumber(node);
+    verify(node).addNewHeadListener(listener.capture());
+
+    listener.getValue().accept(header(2, "0x02"));
+    listener.getValue().accept(header(2, "0x0b"));
+
+    assertThat(monitor.head(node)).isPresent();
+    assertThat(monitor.head(node).get().getHash()).isEqualTo(new Hash("0x0b"));
+  }
+
+  @Test
+  public void timeSinceLastHeadMustResetOnNewHead() {
+    monitor.blockNumber(node);
+    verify(node).addNewHeadListener(listener.capture());
+
+    nanoTime.addAndGet(TimeUnit.SECONDS.toNanos(5));
+    assertThat(monitor.timeSinceLastHead(node)).isEqualTo(Duration.ofSeconds(5));
+
+    listener.getValue().accept(header(2, "0x02"));
+    assertThat(monitor.timeSinceLastHead(node)).isEqualTo(Duration.ZERO);
+  }
+
+  @Test
+  public void blocksPerSecondMustUseBlockTimestamps() {
+    monitor.blockNumber(node);
+    verify(node).addNewHeadListener(listener.capture());
+
+    listener.getValue().accept(header(3, "0x03"));
+    listener.getValue().accept(header(5, "0x05"));
+
+    // timestamps advance two seconds per block
+    assertThat(monitor.blocksPerSecond(node)).isEqualTo(0.5);
+  }
+
+  private BlockHeader header(final long number, final String hash) {
+    return new BlockHeader(
+        "0x" + Long.toHexString(number),
+        new Hash(hash),
+        new Hash("0x00"),
+        "0x" + Long.toHexString(GENESIS_TIMESTAMP + number * 2),
+        "0x1b23ba34ca45bb56aa67bc78be89ac00ca00da00");
+  }
+}
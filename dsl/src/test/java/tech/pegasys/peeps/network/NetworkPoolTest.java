@@ -0,0 +1,137 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.network;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import tech.pegasys.peeps.node.Web3ProviderType;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class NetworkPoolTest {
+
+  private static final NetworkTopology TOPOLOGY =
+      new NetworkTopologyBuilder()
+          .withNode("alpha", Web3ProviderType.BESU)
+          .withNode("beta", Web3ProviderType.BESU)
+          .withConsensus(ConsensusMechanism.CLIQUE, "beta")
+          .build();
+
+  @Mock private Network first;
+  @Mock private Network second;
+
+  private NetworkPool pool;
+
+  @BeforeEach
+  public void setUp() {
+    pool = new NetworkPool(1, Duration.ofMinutes(1));
+  }
+
+  @AfterEach
+  public void tearDown() {
+    pool.close();
+  }
+
+  @Test
+  public void releasedNetworkMustBeResetAndReusedWithoutSetUp() {
+    healthy(first);
+
+    pool.release(first);
+    final Network reused =
+        pool.acquire(
+            TOPOLOGY,
+            network -> {
+              throw new AssertionError("A pooled network must not be set up again");
+            });
+
+    assertThat(reused).isSameAs(first);
+    verify(first).reset();
+    verify(first).startSampling();
+    verify(first, never()).close();
+  }
+
+  @Test
+  public void unhealthyNetworkMustBeClosedOnRelease() {
+    when(first.isHealthy()).thenReturn(false);
+
+    pool.release(first);
+
+    verify(first).reset();
+    verify(first).close();
+    assertThat(pool.idleCount()).isZero();
+  }
+
+  @Test
+  public void networkFailingToResetMustBeClosed() {
+    doThrow(new IllegalStateException("Only a started network can be reset")).when(first).reset();
+
+    pool.release(first);
+
+    verify(first).close();
+    assertThat(pool.idleCount()).isZero();
+  }
+
+  @Test
+  public void idleNetworksBeyondTheLimitMustBeClosedEldestFirst() {
+    healthy(first);
+    healthy(second);
+
+    pool.release(first);
+    pool.release(second);
+
+    verify(first).close();
+    verify(second, never()).close();
+    assertThat(pool.idleCount()).isOne();
+  }
+
+  @Test
+  public void networkIdleBeyondTheTimeoutMustBeClosed() {
+    pool.close();
+    pool = new NetworkPool(1, Duration.ZERO);
+    healthy(first);
+
+    pool.release(first);
+
+    verify(first, timeout(5_000)).close();
+    assertThat(pool.idleCount()).isZero();
+  }
+
+  @Test
+  public void noNetworkMustBeKeptWhenReuseIsDisabled() {
+    pool.close();
+    pool = new NetworkPool(0, Duration.ofMinutes(1));
+
+    pool.release(first);
+
+    verify(first).reset();
+    verify(first).close();
+  }
+
+  private void healthy(final Network network) {
+    when(network.isHealthy()).thenReturn(true);
+    when(network.topology()).thenReturn(TOPOLOGY);
+  }
+}
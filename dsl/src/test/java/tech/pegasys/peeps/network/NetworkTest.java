@@ -14,20 +14,30 @@ package tech.pegasys.peeps.network;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
 
+import tech.pegasys.peeps.network.events.RoundChange;
 import tech.pegasys.peeps.network.subnet.Subnet;
 import tech.pegasys.peeps.node.Besu;
 
 import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
 
+import org.awaitility.Awaitility;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -99,8 +109,14 @@ public class NetworkTest {
     network.start();
     network.close();
 
+    verify(node).identity();
+    verify(node).logTo(any(Path.class));
+    verify(node).dockerImageName();
     verify(node).awaitConnectivity(anyCollection());
     verify(node).start();
+    verify(node).containerId();
+    verify(node).rpcStatistics();
+    verify(node).isPaused();
     verify(node).stop();
     verifyNoMoreInteractions(node);
   }
@@ -112,9 +128,78 @@ public class NetworkTest {
     network.stop();
     network.close();
 
+    verify(node).identity();
+    verify(node).logTo(any(Path.class));
+    verify(node).dockerImageName();
     verify(node).awaitConnectivity(anyCollection());
     verify(node).start();
+    verify(node).containerId();
+    verify(node).rpcStatistics();
+    verify(node).isPaused();
     verify(node).stop();
     verifyNoMoreInteractions(node);
   }
+
+  @Test
+  public void failedExportMustStillStopNode() {
+    when(node.rpcStatistics()).thenThrow(new IllegalStateException("No statistics"));
+    network.addNode(node);
+    network.start();
+    network.stop();
+
+    verify(node).stop();
+  }
+
+  @Test
+  public void failedStopMustStillCloseSubnet() {
+    doThrow(new IllegalStateException("Unstoppable")).when(node).stop();
+    network.addNode(node);
+    network.start();
+
+    assertThrows(IllegalStateException.class, network::close);
+
+    verify(subnet).close();
+  }
+
+  @Test
+  public void pausedNodeMustBeResumedBeforeStopping() {
+    network.addNode(node);
+    network.start();
+    when(node.isPaused()).thenReturn(true);
+    network.stop();
+
+    final InOrder order = inOrder(node);
+    order.verify(node).resume();
+    order.verify(node).stop();
+  }
+
+  @Test
+  public void pausedNodeMustMakeNetworkUnhealthy() {
+    network.addNode(node);
+    network.start();
+    when(node.isRunning()).thenReturn(true);
+    when(node.isPaused()).thenReturn(true);
+
+    assertThat(network.isHealthy()).isFalse();
+  }
+
+  @Test
+  public void roundChangeMustBeAwaitedForTheNode() {
+    when(node.identity()).thenReturn("besu1");
+    final CompletableFuture<RoundChange> change =
+        CompletableFuture.supplyAsync(() -> network.awaitRoundChange(node, 10));
+
+    // Publishing until the change is seen, as only events after the await began are delivered
+    Awaitility.await()
+        .atMost(Duration.ofSeconds(10))
+        .until(
+            () -> {
+              network.events().publish(new RoundChange("besu2", Instant.now(), 5, 1));
+              network.events().publish(new RoundChange("besu1", Instant.now(), 7, 2));
+              return change.isDone();
+            });
+
+    assertThat(change.join().getNode()).isEqualTo("besu1");
+    assertThat(change.join().getHeight()).isEqualTo(7);
+  }
 }
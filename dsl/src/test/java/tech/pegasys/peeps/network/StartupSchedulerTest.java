@@ -0,0 +1,136 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.network;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.Test;
+
+public class StartupSchedulerTest {
+
+  private final List<String> started = new CopyOnWriteArrayList<>();
+
+  @Test
+  public void dependenciesMustStartBeforeDependents() {
+    final NetworkMember manager = recording("manager");
+    final NetworkMember node = recording("node");
+    final NetworkMember signer = recording("signer");
+    final NetworkMember other = recording("other");
+
+    final Map<Integer, ?> stages =
+        new StartupScheduler(4)
+            .start(
+                List.of(signer, node, other, manager),
+                Map.<NetworkMember, Set<NetworkMember>>of(
+                        signer, Set.of(node), node, Set.of(manager))
+                    ::get);
+
+    assertThat(started).containsExactlyInAnyOrder("manager", "node", "signer", "other");
+    assertThat(started.indexOf("manager")).isLessThan(started.indexOf("node"));
+    assertThat(started.indexOf("node")).isLessThan(started.indexOf("signer"));
+    assertThat(stages).containsOnlyKeys(0, 1, 2);
+  }
+
+  @Test
+  public void singleThreadMustStartEveryMember() {
+    final NetworkMember first = recording("first");
+    final NetworkMember second = recording("second");
+
+    new StartupScheduler(1)
+        .start(
+            List.of(second, first),
+            Map.<NetworkMember, Set<NetworkMember>>of(second, Set.of(first))::get);
+
+    assertThat(started).containsExactly("first", "second");
+  }
+
+  @Test
+  public void failedDependencyMustNotStartDependents() {
+    final NetworkMember manager = failing("manager");
+    final NetworkMember node = recording("node");
+    final NetworkMember other = recording("other");
+
+    final Exception exception =
+        assertThrows(
+            IllegalStateException.class,
+            () ->
+                new StartupScheduler(2)
+                    .start(
+                        List.of(manager, node, other),
+                        Map.<NetworkMember, Set<NetworkMember>>of(node, Set.of(manager))::get));
+
+    assertThat(exception.getCause()).hasMessage("manager failed");
+    assertThat(started).containsExactly("other");
+  }
+
+  @Test
+  public void cyclicDependenciesMustException() {
+    final NetworkMember first = recording("first");
+    final NetworkMember second = recording("second");
+
+    final Exception exception =
+        assertThrows(
+            IllegalStateException.class,
+            () ->
+                new StartupScheduler(2)
+                    .start(
+                        List.of(first, second),
+                        Map.<NetworkMember, Set<NetworkMember>>of(
+                                first, Set.of(second), second, Set.of(first))
+                            ::get));
+
+    assertThat(exception.getMessage()).startsWith("Cyclic startup dependency");
+    assertThat(started).isEmpty();
+  }
+
+  @Test
+  public void dependencyOutsideMembersMustException() {
+    final NetworkMember first = recording("first");
+    final NetworkMember outsider = recording("outsider");
+
+    assertThrows(
+        IllegalArgumentException.class,
+        () ->
+            new StartupScheduler(2)
+                .start(
+                    List.of(first),
+                    Map.<NetworkMember, Set<NetworkMember>>of(first, Set.of(outsider))::get));
+  }
+
+  private NetworkMember recording(final String name) {
+    final NetworkMember member = mock(NetworkMember.class, name);
+    doAnswer(
+            invocation -> {
+              started.add(name);
+              return null;
+            })
+        .when(member)
+        .start();
+    return member;
+  }
+
+  private NetworkMember failing(final String name) {
+    final NetworkMember member = mock(NetworkMember.class, name);
+    doThrow(new IllegalStateException(name + " failed")).when(member).start();
+    return member;
+  }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.network;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public class ThreadPoolNetworkExecutorTest {
+
+  private final ThreadPoolNetworkExecutor executor = new ThreadPoolNetworkExecutor(4);
+  private final CountDownLatch interrupted = new CountDownLatch(1);
+
+  @AfterEach
+  public void tearDown() {
+    executor.close();
+  }
+
+  @Test
+  public void mapMustKeepTheOrderOfTheTargets() {
+    final List<Integer> results =
+        executor.map(
+            List.of(30, 10, 20),
+            delay -> {
+              sleep(delay);
+              return delay * 2;
+            });
+
+    assertThat(results).containsExactly(60, 20, 40);
+  }
+
+  @Test
+  public void mapMustBeBoundedBySlowestCallNotPoolSize() {
+    final long begin = System.nanoTime();
+
+    executor.forEach(List.of(200, 200, 200, 200), this::sleep);
+
+    assertThat(Duration.ofNanos(System.nanoTime() - begin)).isLessThan(Duration.ofMillis(600));
+  }
+
+  @Test
+  public void allMatchMustCancelStragglersOnceAnyResultFails() throws InterruptedException {
+    final boolean matched =
+        executor.allMatch(List.of(0, 60_000), this::sleepUnlessInterrupted, result -> result);
+
+    assertThat(matched).isFalse();
+    assertThat(interrupted.await(5, TimeUnit.SECONDS)).isTrue();
+  }
+
+  @Test
+  public void allMatchMustBeTrueWhenEveryResultMatches() {
+    assertThat(executor.allMatch(List.of(1, 2, 3), value -> value, value -> value > 0)).isTrue();
+  }
+
+  @Test
+  public void failedCallMustRethrowItsException() {
+    final Exception exception =
+        assertThrows(
+            IllegalArgumentException.class,
+            () ->
+                executor.forEach(
+                    List.of("good", "bad"),
+                    target -> {
+                      if (target.equals("bad")) {
+                        throw new IllegalArgumentException("bad target");
+                      }
+                    }));
+
+    assertThat(exception.getMessage()).isEqualTo("bad target");
+  }
+
+  @Test
+  public void exceedingDeadlineMustExceptionNamingOutstandingTargets() throws InterruptedException {
+    final Exception exception =
+        assertThrows(
+            IllegalStateException.class,
+            () ->
+                executor.map(
+                    List.of(0, 60_000), this::sleepUnlessInterrupted, Duration.ofMillis(200)));
+
+    assertThat(exception.getMessage()).endsWith("[60000]");
+    assertThat(interrupted.await(5, TimeUnit.SECONDS)).isTrue();
+  }
+
+  private void sleep(final int millis) {
+    try {
+      Thread.sleep(millis);
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /** @return true when slept for the whole duration, false when the call was cancelled. */
+  private boolean sleepUnlessInterrupted(final int millis) {
+    if (millis == 0) {
+      return false;
+    }
+
+    try {
+      Thread.sleep(millis);
+      return true;
+    } catch (final InterruptedException e) {
+      interrupted.countDown();
+      return false;
+    }
+  }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.network.events;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+public class BesuLogParserTest {
+
+  private static final Instant OBSERVED = Instant.ofEpochSecond(1_000);
+
+  private final BesuLogParser parser = new BesuLogParser();
+
+  @Test
+  public void importedBlockMustBeParsed() {
+    final Optional<NodeEvent> event =
+        parser.parse(
+            "besu1",
+            "2021-03-04 12:00:00.000+00:00 | EthScheduler-Workers-0 | INFO  | PersistBlockTask | "
+                + "Imported #1,234 / 0 tx / 0 om / 0 (0.0%) gas / (0x5bf4a1c2) in 0.001s. Peers: 3",
+            OBSERVED);
+
+    assertThat(event).containsInstanceOf(BlockImported.class);
+    final BlockImported block = (BlockImported) event.get();
+    assertThat(block.getNode()).isEqualTo("besu1");
+    assertThat(block.getNumber()).isEqualTo(1234);
+    assertThat(block.getHash()).isEqualTo("0x5bf4a1c2");
+    assertThat(block.getTimestamp()).isEqualTo(OBSERVED);
+  }
+
+  @Test
+  public void producedBlockMustBeParsed() {
+    final Optional<NodeEvent> event =
+        parser.parse(
+            "besu1",
+            "Produced #7 / 1 tx / 0 om / 21000 (0.3%) gas / (0xabcdef) in 0.002s",
+            OBSERVED);
+
+    assertThat(event).containsInstanceOf(BlockImported.class);
+    assertThat(((BlockImported) event.get()).getNumber()).isEqualTo(7);
+  }
+
+  @Test
+  public void expiredRoundMustBeChangeToNextRound() {
+    final Optional<NodeEvent> event =
+        parser.parse(
+            "besu1",
+            "Round has expired, creating PreparedCertificate and notifying peers. "
+                + "round=ConsensusRoundIdentifier{Sequence=12, Round=2}",
+            OBSERVED);
+
+    assertThat(event).containsInstanceOf(RoundChange.class);
+    final RoundChange change = (RoundChange) event.get();
+    assertThat(change.getHeight()).isEqualTo(12);
+    assertThat(change.getRound()).isEqualTo(3);
+  }
+
+  @Test
+  public void otherLinesMustNotBeEvents() {
+    assertThat(parser.parse("besu1", "Starting Ethereum main loop ... ", OBSERVED)).isEmpty();
+  }
+}
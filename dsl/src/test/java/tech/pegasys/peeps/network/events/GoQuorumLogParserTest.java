@@ -0,0 +1,86 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.network.events;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+public class GoQuorumLogParserTest {
+
+  private static final Instant OBSERVED = Instant.ofEpochSecond(1_000);
+
+  private final GoQuorumLogParser parser = new GoQuorumLogParser();
+
+  @Test
+  public void importedChainSegmentMustBeParsed() {
+    final Optional<NodeEvent> event =
+        parser.parse(
+            "quorum1",
+            "INFO [10-18|12:00:00.000] Imported new chain segment               blocks=1 txs=0 "
+                + "mgas=0.000 elapsed=1.234ms mgasps=0.000 number=42 hash=5bf4a1..0c2d3e",
+            OBSERVED);
+
+    assertThat(event).containsInstanceOf(BlockImported.class);
+    final BlockImported block = (BlockImported) event.get();
+    assertThat(block.getNode()).isEqualTo("quorum1");
+    assertThat(block.getNumber()).isEqualTo(42);
+    assertThat(block.getHash()).isEqualTo("5bf4a1..0c2d3e");
+  }
+
+  @Test
+  public void newRoundBeyondZeroMustBeRoundChange() {
+    final Optional<NodeEvent> event =
+        parser.parse(
+            "quorum1",
+            "INFO [10-18|12:00:05.000] QBFT: start new round    next.round=2 next.seq=13",
+            OBSERVED);
+
+    assertThat(event).containsInstanceOf(RoundChange.class);
+    final RoundChange change = (RoundChange) event.get();
+    assertThat(change.getHeight()).isEqualTo(13);
+    assertThat(change.getRound()).isEqualTo(2);
+  }
+
+  @Test
+  public void newRoundZeroMustNotBeRoundChange() {
+    assertThat(
+            parser.parse(
+                "quorum1",
+                "INFO [10-18|12:00:05.000] QBFT: start new round    round=0 seq=14",
+                OBSERVED))
+        .isEmpty();
+  }
+
+  @Test
+  public void peerChangesMustBeParsed() {
+    final Optional<NodeEvent> added =
+        parser.parse(
+            "quorum1",
+            "DEBUG[10-18|12:00:01.000] Adding p2p peer    peercount=1 id=5bf4a1c2d3e4f5a6",
+            OBSERVED);
+    final Optional<NodeEvent> removed =
+        parser.parse(
+            "quorum1",
+            "DEBUG[10-18|12:00:09.000] Removing p2p peer  peercount=0 id=5bf4a1c2d3e4f5a6",
+            OBSERVED);
+
+    assertThat(added).containsInstanceOf(PeerAdded.class);
+    assertThat(((PeerAdded) added.get()).getPeer()).isEqualTo("5bf4a1c2d3e4f5a6");
+    assertThat(removed).containsInstanceOf(PeerRemoved.class);
+    assertThat(((PeerRemoved) removed.get()).getPeer()).isEqualTo("5bf4a1c2d3e4f5a6");
+  }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.network.events;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.Test;
+
+public class NetworkEventBusTest {
+
+  private final NetworkEventBus bus = new NetworkEventBus();
+
+  @Test
+  public void subscriberMustOnlyReceiveItsEventType() {
+    final List<BlockImported> received = new ArrayList<>();
+    bus.subscribe(BlockImported.class, received::add);
+
+    bus.publish(roundChange("alpha", 1));
+    bus.publish(block("alpha", 5));
+
+    assertThat(received).extracting(BlockImported::getNumber).containsExactly(5L);
+  }
+
+  @Test
+  public void closedSubscriptionMustReceiveNothing() {
+    final List<BlockImported> received = new ArrayList<>();
+    bus.subscribe(BlockImported.class, received::add).close();
+
+    bus.publish(block("alpha", 5));
+
+    assertThat(received).isEmpty();
+  }
+
+  @Test
+  public void failingSubscriberMustNotStopDelivery() {
+    final List<BlockImported> received = new ArrayList<>();
+    bus.subscribe(
+        BlockImported.class,
+        event -> {
+          throw new IllegalStateException("Subscriber failure");
+        });
+    bus.subscribe(BlockImported.class, received::add);
+
+    bus.publish(block("alpha", 5));
+
+    assertThat(received).hasSize(1);
+  }
+
+  @Test
+  public void nextMustCompleteWithFirstMatchingEvent() {
+    final CompletableFuture<RoundChange> next =
+        bus.next(RoundChange.class, event -> event.getNode().equals("beta"));
+
+    bus.publish(roundChange("alpha", 1));
+    assertThat(next).isNotDone();
+
+    bus.publish(roundChange("beta", 2));
+    assertThat(next).isCompleted();
+    assertThat(next.join().getRound()).isEqualTo(2);
+  }
+
+  @Test
+  public void awaitWithoutEventMustException() {
+    assertThatThrownBy(() -> bus.await(RoundChange.class, event -> true, Duration.ofMillis(10)))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessage("No RoundChange event within PT0.01S");
+  }
+
+  @Test
+  public void awaitQuietMustReturnWhenNoMatchingEvents() {
+    bus.awaitQuiet(
+        BlockImported.class,
+        event -> event.getNode().equals("alpha"),
+        Duration.ofMillis(10),
+        Duration.ofSeconds(5));
+  }
+
+  @Test
+  public void awaitQuietMustExceptionWhileEventsKeepArriving() {
+    final AtomicBoolean importing = new AtomicBoolean(true);
+    CompletableFuture.runAsync(
+        () -> {
+          while (importing.get()) {
+            bus.publish(block("alpha", 1));
+          }
+        });
+
+    try {
+      assertThatThrownBy(
+              () ->
+                  bus.awaitQuiet(
+                      BlockImported.class,
+                      event -> event.getNode().equals("alpha"),
+                      Duration.ofMillis(100),
+                      Duration.ofMillis(300)))
+          .isInstanceOf(IllegalStateException.class)
+          .hasMessage("No quiet period of PT0.1S without BlockImported events within PT0.3S");
+    } finally {
+      importing.set(false);
+    }
+  }
+
+  @Test
+  public void awaitQuietMustExceptionWhenTimeoutShorterThanQuietPeriod() {
+    assertThatThrownBy(
+            () ->
+                bus.awaitQuiet(
+                    BlockImported.class, event -> true, Duration.ofSeconds(1), Duration.ZERO))
+        .isInstanceOf(IllegalStateException.class);
+  }
+
+  private BlockImported block(final String node, final long number) {
+    return new BlockImported(node, Instant.now(), number, "0x" + number);
+  }
+
+  private RoundChange roundChange(final String node, final int round) {
+    return new RoundChange(node, Instant.now(), 10, round);
+  }
+}
@@ -0,0 +1,189 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.network.load;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import tech.pegasys.peeps.node.Web3Provider;
+import tech.pegasys.peeps.node.model.BlockHeader;
+import tech.pegasys.peeps.node.model.Hash;
+import tech.pegasys.peeps.signer.rpc.SignerRpcAsyncClient;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class LoadGeneratorTest {
+
+  private static final Duration BLOCK_PERIOD = Duration.ofMillis(20);
+  private static final Duration RUN = Duration.ofMillis(300);
+
+  private Chain chain;
+  private ScheduledExecutorService producer;
+
+  @BeforeEach
+  public void setUp() {
+    chain = new Chain();
+    producer = Executors.newSingleThreadScheduledExecutor();
+    producer.scheduleAtFixedRate(chain::produce, 0, BLOCK_PERIOD.toMillis(), TimeUnit.MILLISECONDS);
+  }
+
+  @AfterEach
+  public void tearDown() {
+    producer.shutdownNow();
+  }
+
+  @Test
+  public void submissionsMustBeIncludedAndFinalOnEveryObserver() {
+    final Web3Provider first = observer(true);
+    final Web3Provider second = observer(true);
+
+    final LoadReport report =
+        new LoadGenerator(LoadProfile.closedLoop(2), chain::submit)
+            .submitTo(first)
+            .observeWith(first, second)
+            .run(RUN);
+
+    assertThat(report.getSubmitted()).isPositive();
+    assertThat(report.getErrors()).isZero();
+    assertThat(report.getIncluded()).isEqualTo(report.getSubmitted());
+    assertThat(report.getFinalized()).isEqualTo(report.getSubmitted());
+    assertThat(report.getFinalityLatency().count()).isEqualTo(report.getSubmitted());
+    assertThat(report.getInclusionLatency().max())
+        .isLessThanOrEqualTo(report.getFinalityLatency().max());
+  }
+
+  @Test
+  public void observerWithoutTheBlocksMustPreventFinality() {
+    final Web3Provider including = observer(true);
+    final Web3Provider lagging = observer(false);
+
+    final LoadReport report =
+        new LoadGenerator(LoadProfile.closedLoop(1), chain::submit)
+            .submitTo(including)
+            .observeWith(including, lagging)
+            .drainFor(Duration.ofMillis(100))
+            .run(RUN);
+
+    assertThat(report.getSubmitted()).isPositive();
+    assertThat(report.getIncluded()).isEqualTo(report.getSubmitted());
+    assertThat(report.getFinalized()).isZero();
+  }
+
+  @Test
+  public void failedSubmissionsMustCountAsErrors() {
+    final Web3Provider node = observer(true);
+
+    final LoadReport report =
+        new LoadGenerator(
+                LoadProfile.openLoop(100),
+                (target, sequence) ->
+                    CompletableFuture.failedFuture(new IllegalStateException("rejected")))
+            .submitTo(node)
+            .run(RUN);
+
+    assertThat(report.getErrors()).isPositive();
+    assertThat(report.getSubmitted()).isZero();
+    assertThat(report.getIncluded()).isZero();
+  }
+
+  @Test
+  public void listenersMustBeRemovedAfterTheRun() {
+    final Web3Provider node = observer(true);
+
+    new LoadGenerator(LoadProfile.openLoop(50), chain::submit).submitTo(node).run(RUN);
+
+    assertThat(chain.listeners).isEmpty();
+  }
+
+  /* Observers not including never receive the blocks, as with a node cut off from the others. */
+  private Web3Provider observer(final boolean including) {
+    final Web3Provider node = mock(Web3Provider.class);
+    final SignerRpcAsyncClient rpc = mock(SignerRpcAsyncClient.class);
+    when(node.asyncRpc()).thenReturn(rpc);
+    when(rpc.getBlockTransactionHashes(any()))
+        .thenAnswer(
+            invocation ->
+                completedFuture(Optional.ofNullable(chain.blocks.get(invocation.getArgument(0)))));
+
+    if (including) {
+      doAnswer(invocation -> chain.listeners.add(invocation.getArgument(0)))
+          .when(node)
+          .addNewHeadListener(any());
+      doAnswer(invocation -> chain.listeners.remove(invocation.getArgument(0)))
+          .when(node)
+          .removeNewHeadListener(any());
+    }
+    return node;
+  }
+
+  private static class Chain {
+    private final Queue<Hash> pending = new ConcurrentLinkedQueue<>();
+    private final Map<Hash, List<Hash>> blocks = new ConcurrentHashMap<>();
+    private final List<Consumer<BlockHeader>> listeners = new CopyOnWriteArrayList<>();
+    private final AtomicLong transactions = new AtomicLong();
+    private long number;
+    private Hash parent = hash(0);
+
+    CompletableFuture<Hash> submit(final SignerRpcAsyncClient target, final long sequence) {
+      final Hash transaction = new Hash(String.format("0x%064x", transactions.incrementAndGet()));
+      pending.add(transaction);
+      return completedFuture(transaction);
+    }
+
+    void produce() {
+      final List<Hash> included = new ArrayList<>();
+      for (Hash transaction = pending.poll(); transaction != null; transaction = pending.poll()) {
+        included.add(transaction);
+      }
+
+      number++;
+      final Hash block = hash(Long.MAX_VALUE - number);
+      blocks.put(block, included);
+      final BlockHeader header =
+          new BlockHeader(
+              "0x" + Long.toHexString(number),
+              block,
+              parent,
+              "0x0",
+              "0x0000000000000000000000000000000000000000");
+      parent = block;
+      listeners.forEach(listener -> listener.accept(header));
+    }
+
+    private static Hash hash(final long value) {
+      return new Hash(String.format("0x%064x", value));
+    }
+  }
+}
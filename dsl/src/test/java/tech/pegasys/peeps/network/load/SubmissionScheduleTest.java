@@ -0,0 +1,49 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.network.load;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+public class SubmissionScheduleTest {
+
+  @Test
+  public void dueMustFollowTargetRate() {
+    final SubmissionSchedule schedule = new SubmissionSchedule(100);
+
+    assertThat(schedule.due(0)).isEqualTo(0);
+    assertThat(schedule.due(TimeUnit.MILLISECONDS.toNanos(10))).isEqualTo(1);
+    assertThat(schedule.due(TimeUnit.MILLISECONDS.toNanos(15))).isEqualTo(0);
+    assertThat(schedule.due(TimeUnit.MILLISECONDS.toNanos(20))).isEqualTo(1);
+  }
+
+  @Test
+  public void lateTickMustCatchUp() {
+    final SubmissionSchedule schedule = new SubmissionSchedule(1000);
+
+    assertThat(schedule.due(TimeUnit.MILLISECONDS.toNanos(10))).isEqualTo(10);
+    assertThat(schedule.due(TimeUnit.MILLISECONDS.toNanos(250))).isEqualTo(240);
+    assertThat(schedule.issued()).isEqualTo(250);
+  }
+
+  @Test
+  public void fractionalRateMustAccumulate() {
+    final SubmissionSchedule schedule = new SubmissionSchedule(0.5);
+
+    assertThat(schedule.due(TimeUnit.SECONDS.toNanos(1))).isEqualTo(0);
+    assertThat(schedule.due(TimeUnit.SECONDS.toNanos(2))).isEqualTo(1);
+  }
+}
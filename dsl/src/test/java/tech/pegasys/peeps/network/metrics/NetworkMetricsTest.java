@@ -0,0 +1,68 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.network.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class NetworkMetricsTest {
+
+  @TempDir Path directory;
+
+  private final NetworkMetrics metrics = new NetworkMetrics(null, Duration.ZERO);
+
+  @Test
+  public void recordedSamplesMustFormTimeSeries() {
+    metrics.record("alpha", Map.of("peers", 1.0), Instant.ofEpochSecond(1));
+    metrics.record("alpha", Map.of("peers", 2.0), Instant.ofEpochSecond(2));
+
+    assertThat(metrics.nodes()).containsExactly("alpha");
+    assertThat(metrics.metrics("alpha")).containsExactly("peers");
+    assertThat(metrics.series("alpha", "peers").orElseThrow().samples())
+        .extracting(TimeSeries.Sample::getValue)
+        .containsExactly(1.0, 2.0);
+    assertThat(metrics.latest("alpha", "peers")).contains(2.0);
+    assertThat(metrics.latest("beta", "peers")).isEmpty();
+  }
+
+  @Test
+  public void exportMustWriteEverySampleAsCsv() throws IOException {
+    metrics.record("alpha", Map.of("memory{area=\"heap\",}", 5.0), Instant.ofEpochSecond(1));
+    final Path file = directory.resolve("nested").resolve("metrics.csv");
+
+    metrics.export(file);
+
+    assertThat(Files.readAllLines(file))
+        .containsExactly(
+            "timestamp,node,metric,value",
+            "1970-01-01T00:00:01Z,\"alpha\",\"memory{area=\"\"heap\"\",}\",5.0");
+  }
+
+  @Test
+  public void exportWithoutSamplesMustNotWriteFile() {
+    final Path file = directory.resolve("metrics.csv");
+
+    metrics.export(file);
+
+    assertThat(file).doesNotExist();
+  }
+}
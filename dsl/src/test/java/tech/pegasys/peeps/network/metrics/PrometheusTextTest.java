@@ -0,0 +1,50 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.network.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+public class PrometheusTextTest {
+
+  @Test
+  public void samplesMustBeKeyedByNameAndLabels() {
+    final Map<String, Double> samples =
+        PrometheusText.parse(
+            "# HELP ethereum_peer_count Current number of peers connected\n"
+                + "# TYPE ethereum_peer_count gauge\n"
+                + "ethereum_peer_count 3.0\n"
+                + "jvm_memory_bytes_used{area=\"heap\",} 1.2345678E7\n"
+                + "chain_head_block{label=\"with space\"} 42 1603000000000\n");
+
+    assertThat(samples)
+        .containsOnly(
+            entry("ethereum_peer_count", 3.0),
+            entry("jvm_memory_bytes_used{area=\"heap\",}", 1.2345678E7),
+            entry("chain_head_block{label=\"with space\"}", 42.0));
+  }
+
+  @Test
+  public void specialValuesMustBeParsed() {
+    final Map<String, Double> samples =
+        PrometheusText.parse("bucket{le=\"+Inf\"} +Inf\nratio NaN\nbroken not-a-number\n");
+
+    assertThat(samples.get("bucket{le=\"+Inf\"}")).isEqualTo(Double.POSITIVE_INFINITY);
+    assertThat(samples.get("ratio")).isNaN();
+    assertThat(samples).doesNotContainKey("broken");
+  }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.network.resources;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+import java.util.Locale;
+
+import org.junit.jupiter.api.Test;
+
+public class ResourceSeriesTest {
+
+  @Test
+  public void samplesMustBeMostRecentOldestFirst() {
+    final ResourceSeries series = new ResourceSeries(2);
+
+    series.add(sample(1, 10, 100));
+    series.add(sample(2, 20, 200));
+    series.add(sample(3, 30, 300));
+
+    assertThat(series.samples())
+        .extracting(sample -> sample.getTimestamp().getEpochSecond())
+        .containsExactly(2L, 3L);
+  }
+
+  @Test
+  public void summaryMustHavePeakAndAverageUsage() {
+    final ResourceSeries series = new ResourceSeries(10);
+
+    series.add(sample(1, 50, 100));
+    series.add(sample(2, 150, 300));
+
+    final ResourceSummary summary = series.summary().orElseThrow();
+    assertThat(summary.getSamples()).isEqualTo(2);
+    assertThat(summary.getPeakCpuPercent()).isEqualTo(150);
+    assertThat(summary.getAverageCpuPercent()).isEqualTo(100);
+    assertThat(summary.getPeakMemoryBytes()).isEqualTo(300);
+    assertThat(summary.getAverageMemoryBytes()).isEqualTo(200);
+    assertThat(summary.getBlockIoBytes()).isEqualTo(2 * (2 - 1));
+    assertThat(summary.getNetworkBytes()).isEqualTo(2 * (2 - 1));
+  }
+
+  @Test
+  public void summaryMustHaveIoBetweenOldestAndLatestSamplesHeld() {
+    final ResourceSeries series = new ResourceSeries(2);
+
+    series.add(sample(1, 10, 100));
+    series.add(sample(5, 20, 200));
+    series.add(sample(12, 30, 300));
+
+    final ResourceSummary summary = series.summary().orElseThrow();
+    assertThat(summary.getBlockIoBytes()).isEqualTo(2 * (12 - 5));
+    assertThat(summary.getNetworkBytes()).isEqualTo(2 * (12 - 5));
+  }
+
+  @Test
+  public void summaryOfSingleSampleMustHaveNoIo() {
+    final ResourceSeries series = new ResourceSeries(10);
+    series.add(sample(7, 10, 100));
+
+    final ResourceSummary summary = series.summary().orElseThrow();
+    assertThat(summary.getBlockIoBytes()).isZero();
+    assertThat(summary.getNetworkBytes()).isZero();
+  }
+
+  @Test
+  public void summaryWithoutSamplesMustBeEmpty() {
+    assertThat(new ResourceSeries(1).summary()).isEmpty();
+  }
+
+  @Test
+  public void summaryMustFormatDecimalsIndependentOfDefaultLocale() {
+    final ResourceSeries series = new ResourceSeries(10);
+    series.add(sample(1, 12.5, 100));
+    final Locale defaultLocale = Locale.getDefault();
+
+    try {
+      Locale.setDefault(Locale.GERMANY);
+      assertThat(series.summary().orElseThrow().toString())
+          .startsWith("cpu peak: 12.5%, average: 12.5%");
+    } finally {
+      Locale.setDefault(defaultLocale);
+    }
+  }
+
+  private ResourceSample sample(final long second, final double cpu, final long memory) {
+    return new ResourceSample(
+        Instant.ofEpochSecond(second), cpu, memory, second, second, second, second);
+  }
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.network.subnet;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class SubnetLeasesTest {
+
+  @TempDir Path directory;
+
+  private SubnetLeases leases;
+
+  @BeforeEach
+  public void setUp() {
+    leases = new SubnetLeases(directory);
+  }
+
+  @Test
+  public void freeOctetMustBeLowestNotUnavailable() {
+    assertThat(SubnetLeases.freeOctet(Set.of())).contains(0);
+    assertThat(SubnetLeases.freeOctet(Set.of(0, 1, 3))).contains(2);
+  }
+
+  @Test
+  public void freeOctetMustBeEmptyWhenAllUnavailable() {
+    assertThat(SubnetLeases.freeOctet(allOctets())).isEmpty();
+  }
+
+  @Test
+  public void acquireMustSkipTakenOctets() {
+    assertThat(leases.acquire(Set.of(0, 1))).isEqualTo(2);
+  }
+
+  @Test
+  public void concurrentLeasesMustBeDistinct() throws Exception {
+    final int threads = 8;
+    final ExecutorService executor = Executors.newFixedThreadPool(threads);
+    final CountDownLatch ready = new CountDownLatch(threads);
+    final CountDownLatch start = new CountDownLatch(1);
+
+    try {
+      final List<Future<Integer>> acquired = new ArrayList<>();
+      for (int i = 0; i < threads; i++) {
+        acquired.add(
+            executor.submit(
+                () -> {
+                  ready.countDown();
+                  start.await();
+                  return leases.acquire(Set.of());
+                }));
+      }
+
+      assertThat(ready.await(10, SECONDS)).isTrue();
+      start.countDown();
+
+      final Set<Integer> octets = new HashSet<>();
+      for (final Future<Integer> octet : acquired) {
+        octets.add(octet.get(10, SECONDS));
+      }
+
+      assertThat(octets).hasSize(threads);
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void leasesMustBeSharedThroughTheDirectory() {
+    final int alpha = leases.acquire(Set.of());
+    final int beta = new SubnetLeases(directory).acquire(Set.of());
+
+    assertThat(alpha).isNotEqualTo(beta);
+  }
+
+  @Test
+  public void releasedLeaseMustBeReused() {
+    final int alpha = leases.acquire(Set.of());
+    leases.release(alpha);
+
+    assertThat(leases.acquire(Set.of())).isEqualTo(alpha);
+  }
+
+  @Test
+  public void leaseOfDeadProcessMustBeReclaimed() throws IOException {
+    Files.writeString(directory.resolve("0.lease"), String.valueOf(Long.MAX_VALUE));
+
+    assertThat(leases.acquire(Set.of())).isEqualTo(0);
+  }
+
+  @Test
+  public void leaseOfLiveProcessMustBeRespected() throws IOException {
+    Files.writeString(directory.resolve("0.lease"), String.valueOf(ProcessHandle.current().pid()));
+
+    assertThat(leases.acquire(Set.of())).isEqualTo(1);
+  }
+
+  @Test
+  public void exhaustedOctetsMustException() {
+    final Exception exception =
+        assertThrows(IllegalStateException.class, () -> leases.acquire(allOctets()));
+
+    assertThat(exception.getMessage()).startsWith("No free subnet");
+  }
+
+  @Test
+  public void thirdOctetMustBeParsedFromPeepsSubnet() {
+    assertThat(Subnet.thirdOctet("172.20.7.0/24")).contains(7);
+    assertThat(Subnet.thirdOctet("172.17.0.0/16")).isEqualTo(Optional.empty());
+    assertThat(Subnet.thirdOctet(null)).isEqualTo(Optional.empty());
+  }
+
+  private Set<Integer> allOctets() {
+    return IntStream.rangeClosed(0, SubnetLeases.OCTET_MAXIMUM).boxed().collect(Collectors.toSet());
+  }
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.node;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import tech.pegasys.peeps.util.ImageRegistry;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.github.dockerjava.api.DockerClient;
+import com.github.dockerjava.api.exception.NotFoundException;
+import com.github.dockerjava.api.model.Container;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Answers;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.testcontainers.DockerClientFactory;
+
+@ExtendWith(MockitoExtension.class)
+public class GoQuorumDataDirectoriesTest {
+
+  private static final String BASE_IMAGE = "quorumengineering/quorum:21.7.1";
+  private static final String BASE_IMAGE_ID = "sha256:0123456789abcdef";
+  private static final byte[] GENESIS = "{\"config\":{}}".getBytes(StandardCharsets.UTF_8);
+
+  @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+  private DockerClient docker;
+
+  @Mock private ImageRegistry registry;
+  @TempDir Path directory;
+
+  private final AtomicInteger initialisations = new AtomicInteger();
+  private GoQuorumDataDirectories directories;
+  private Path genesisFile;
+  private String image;
+
+  @BeforeEach
+  public void setUp() throws IOException {
+    genesisFile = Files.write(directory.resolve("genesis.json"), GENESIS);
+    image =
+        GoQuorumDataDirectories.REPOSITORY
+            + ":"
+            + GoQuorumDataDirectories.genesisTag(BASE_IMAGE_ID, GENESIS);
+    directories =
+        new GoQuorumDataDirectories(
+            docker,
+            registry,
+            (baseImage, genesis, initCommand, containerId) -> {
+              initialisations.incrementAndGet();
+              containerId.accept("init-container");
+            });
+    lenient().when(docker.inspectImageCmd(BASE_IMAGE).exec().getId()).thenReturn(BASE_IMAGE_ID);
+  }
+
+  @Test
+  public void genesisTagMustDependOnImageIdAndGenesis() {
+    final String tag = GoQuorumDataDirectories.genesisTag(BASE_IMAGE_ID, GENESIS);
+
+    assertThat(GoQuorumDataDirectories.genesisTag(BASE_IMAGE_ID, GENESIS)).isEqualTo(tag);
+    assertThat(GoQuorumDataDirectories.genesisTag("sha256:fedcba9876543210", GENESIS))
+        .isNotEqualTo(tag);
+    assertThat(GoQuorumDataDirectories.genesisTag(BASE_IMAGE_ID, new byte[] {'{', '}'}))
+        .isNotEqualTo(tag);
+  }
+
+  @Test
+  public void existingImageMustBeAdoptedNotCreated() {
+    assertThat(directories.initialised(BASE_IMAGE, genesisFile, "init")).isEqualTo(image);
+
+    assertThat(initialisations).hasValue(0);
+    verify(registry).resolve(BASE_IMAGE);
+    verify(registry).adopt(image);
+    verify(docker, never()).commitCmd("init-container");
+  }
+
+  @Test
+  public void absentImageMustBeCreatedOnce() {
+    when(docker.inspectImageCmd(image).exec()).thenThrow(new NotFoundException("No such image"));
+
+    assertThat(directories.initialised(BASE_IMAGE, genesisFile, "init")).isEqualTo(image);
+    assertThat(directories.initialised(BASE_IMAGE, genesisFile, "init")).isEqualTo(image);
+
+    assertThat(initialisations).hasValue(1);
+    verify(docker).commitCmd("init-container");
+    verify(registry).adopt(image);
+  }
+
+  @Test
+  public void createdImageUsedByAnotherSessionMustBeKept() {
+    createImage();
+    usedBySession("another-session");
+
+    directories.removeCreated();
+
+    verify(docker, never()).removeImageCmd(image);
+  }
+
+  @Test
+  public void createdImageUsedOnlyByThisSessionMustBeRemoved() {
+    createImage();
+    usedBySession(DockerClientFactory.SESSION_ID);
+
+    directories.removeCreated();
+
+    verify(docker).removeImageCmd(image);
+  }
+
+  @Test
+  public void capturedDataDirectoryMustBeCommittedAfterStopping() {
+    final String captured = directories.capture("node-container", "node 1");
+
+    assertThat(captured).startsWith(GoQuorumDataDirectories.REPOSITORY + ":chain-node_1-");
+    final InOrder order = inOrder(docker);
+    order.verify(docker).stopContainerCmd("node-container");
+    order.verify(docker).commitCmd("node-container");
+    verify(registry).adopt(captured);
+  }
+
+  @Test
+  public void capturedImageMustBeRemovedOnExit() {
+    final String captured = directories.capture("node-container", "node-1");
+
+    directories.removeCreated();
+
+    verify(docker).removeImageCmd(captured);
+  }
+
+  private void createImage() {
+    when(docker.inspectImageCmd(image).exec()).thenThrow(new NotFoundException("No such image"));
+    directories.initialised(BASE_IMAGE, genesisFile, "init");
+  }
+
+  private void usedBySession(final String session) {
+    final Container container = mock(Container.class);
+    when(container.getLabels())
+        .thenReturn(Map.of(DockerClientFactory.TESTCONTAINERS_SESSION_ID_LABEL, session));
+    when(docker
+            .listContainersCmd()
+            .withShowAll(true)
+            .withAncestorFilter(List.of(image))
+            .exec())
+        .thenReturn(List.of(container));
+  }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.node.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import tech.pegasys.peeps.json.Json;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.DecodeException;
+import org.apache.tuweni.eth.Address;
+import org.junit.jupiter.api.Test;
+
+public class BlockHeaderTest {
+
+  private static final String HASH =
+      "0x9b55b3c4d7d0d1a2c8e0b1a2e3f4a5b6c7d8e9f0a1b2c3d4e5f6a7b8c9d0e1f2";
+  private static final String PARENT_HASH =
+      "0x5d3b8b8f6bb3ee7ec5e4d7c7f1a8a9b6f8a2a0d0d3c0d0e4b2f9a6e9a3b0c1d2";
+  private static final String MINER = "0xfe3b557e8fb62b89f4916b721be55ceb828dbd73";
+
+  @Test
+  public void headerMustDecode() {
+    final BlockHeader header = decode(header("0x1b4", MINER));
+
+    assertThat(header.getNumber()).isEqualTo(436);
+    assertThat(header.getHash()).isEqualTo(new Hash(HASH));
+    assertThat(header.getParentHash()).isEqualTo(new Hash(PARENT_HASH));
+    assertThat(header.getTimestamp()).isEqualTo(1_600_000_000L);
+    assertThat(header.getMiner()).isEqualTo(Address.fromHexString(MINER));
+  }
+
+  @Test
+  public void unknownFieldsMustBeSkipped() {
+    final String withExtras =
+        header("0x1b4", MINER)
+            .replace("{", "{\"transactions\":[\"0x01\",{\"hash\":\"0x02\"}],\"uncles\":[],");
+
+    assertThat(decode(withExtras).getHash()).isEqualTo(new Hash(HASH));
+  }
+
+  @Test
+  public void missingRequiredFieldMustFail() {
+    final String withoutParent = header("0x1b4", MINER).replace("\"parentHash\"", "\"x\"");
+
+    assertThatThrownBy(() -> decode(withoutParent))
+        .isInstanceOf(DecodeException.class)
+        .hasMessageContaining("parentHash");
+  }
+
+  @Test
+  public void malformedQuantityMustFail() {
+    assertThatThrownBy(() -> decode(header("0x1g4", MINER)))
+        .isInstanceOf(DecodeException.class)
+        .hasMessageContaining("number");
+  }
+
+  @Test
+  public void malformedMinerMustFail() {
+    assertThatThrownBy(() -> decode(header("0x1b4", "0xfe3b")))
+        .isInstanceOf(DecodeException.class)
+        .hasMessageContaining("miner");
+  }
+
+  private BlockHeader decode(final String json) {
+    return Json.decode(Buffer.buffer(json), BlockHeader.class);
+  }
+
+  private String header(final String number, final String miner) {
+    return "{\"number\":\""
+        + number
+        + "\",\"hash\":\""
+        + HASH
+        + "\",\"parentHash\":\""
+        + PARENT_HASH
+        + "\",\"timestamp\":\"0x5f5e1000\",\"miner\":\""
+        + miner
+        + "\",\"difficulty\":\"0x1\"}";
+  }
+}
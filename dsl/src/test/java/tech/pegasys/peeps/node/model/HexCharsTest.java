@@ -0,0 +1,66 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.node.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+public class HexCharsTest {
+
+  @Test
+  public void quantityMustParse() {
+    assertThat(quantity("0x0")).isZero();
+    assertThat(quantity("0x1b4")).isEqualTo(436);
+    assertThat(quantity("0X1B4")).isEqualTo(436);
+    assertThat(quantity("0x7fffffffffffffff")).isEqualTo(Long.MAX_VALUE);
+  }
+
+  @Test
+  public void quantityMustRejectMalformedOrOverflowing() {
+    assertThat(quantity("1b4")).isEqualTo(HexChars.INVALID);
+    assertThat(quantity("0x")).isEqualTo(HexChars.INVALID);
+    assertThat(quantity("0x1g")).isEqualTo(HexChars.INVALID);
+    assertThat(quantity("0x8000000000000000")).isEqualTo(HexChars.INVALID);
+    assertThat(quantity("0x10000000000000000")).isEqualTo(HexChars.INVALID);
+  }
+
+  @Test
+  public void quantityMustParseWithinBuffer() {
+    final char[] buffer = "\"0x1b4\",\"0x2\"".toCharArray();
+
+    assertThat(HexChars.quantity(buffer, 1, 5)).isEqualTo(436);
+    assertThat(HexChars.quantity(buffer, 9, 3)).isEqualTo(2);
+  }
+
+  @Test
+  public void bytesMustParseDataAndOddLengthQuantities() {
+    assertThat(HexChars.bytes("0x")).isEmpty();
+    assertThat(HexChars.bytes("0x00ff10")).containsExactly(0x00, 0xff, 0x10);
+    assertThat(HexChars.bytes("0xfff")).containsExactly(0x0f, 0xff);
+    assertThat(HexChars.bytes("0xzz")).isNull();
+    assertThat(HexChars.bytes("ff")).isNull();
+  }
+
+  @Test
+  public void hexStringMustRoundTrip() {
+    final String hash = "0x5d3b8b8f6bb3ee7ec5e4d7c7f1a8a9b6f8a2a0d0d3c0d0e4b2f9a6e9a3b0c1d2";
+
+    assertThat(HexChars.toHexString(HexChars.bytes(hash))).isEqualTo(hash);
+    assertThat(HexChars.toHexString(new byte[0])).isEqualTo("0x");
+  }
+
+  private long quantity(final String hex) {
+    return HexChars.quantity(hex.toCharArray(), 0, hex.length());
+  }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.node.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import tech.pegasys.peeps.json.Json;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.DecodeException;
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.eth.Address;
+import org.apache.tuweni.units.ethereum.Gas;
+import org.junit.jupiter.api.Test;
+
+public class TransactionReceiptTest {
+
+  private static final String BLOCK_HASH =
+      "0x9b55b3c4d7d0d1a2c8e0b1a2e3f4a5b6c7d8e9f0a1b2c3d4e5f6a7b8c9d0e1f2";
+  private static final String TRANSACTION_HASH =
+      "0x5d3b8b8f6bb3ee7ec5e4d7c7f1a8a9b6f8a2a0d0d3c0d0e4b2f9a6e9a3b0c1d2";
+  private static final String SENDER = "0xfe3b557e8fb62b89f4916b721be55ceb828dbd73";
+  private static final String RECIPIENT = "0x627306090abab3a6e1400e9345bc60c78a8bef57";
+  private static final String TOPIC =
+      "0xddf252ad1be2c89b69c2b068fc378daa952ba7f163c4a11628f55a4df523b3ef";
+  private static final String EMPTY_BLOOM = "0x" + "0".repeat(512);
+  private static final String BLOOM = "0x" + "0".repeat(510) + "01";
+
+  @Test
+  public void transferReceiptMustDecode() {
+    final TransactionReceipt receipt = decode(receipt("0x1", EMPTY_BLOOM, "[]"));
+
+    assertThat(receipt.getBlockHash()).isEqualTo(new Hash(BLOCK_HASH));
+    assertThat(receipt.getBlockNumber()).isEqualTo(436);
+    assertThat(receipt.getSender()).isEqualTo(Address.fromHexString(SENDER));
+    assertThat(receipt.getRecipient()).contains(Address.fromHexString(RECIPIENT));
+    assertThat(receipt.getContractAddress()).isEmpty();
+    assertThat(receipt.getTransactionHash()).isEqualTo(new Hash(TRANSACTION_HASH));
+    assertThat(receipt.getTransactionIndex()).isEqualTo(2);
+    assertThat(receipt.getCumulativeGasUsed()).isEqualTo(Gas.valueOf(63000));
+    assertThat(receipt.getGasUsed()).isEqualTo(Gas.valueOf(21000));
+    assertThat(receipt.getLogsBloom()).isEqualTo(Bytes.fromHexString(EMPTY_BLOOM));
+    assertThat(receipt.getLogs()).isEmpty();
+    assertThat(receipt.isSuccess()).isTrue();
+  }
+
+  @Test
+  public void failedStatusMustNotBeSuccess() {
+    assertThat(decode(receipt("0x0", EMPTY_BLOOM, "[]")).isSuccess()).isFalse();
+  }
+
+  @Test
+  public void logsMustDecodeWhenAskedFor() {
+    final String log =
+        String.format(
+            "[{\"address\":\"%s\",\"topics\":[\"%s\"],\"data\":\"0x01\",\"logIndex\":\"0x0\"}]",
+            RECIPIENT, TOPIC);
+
+    final TransactionReceipt receipt = decode(receipt("0x1", BLOOM, log));
+
+    assertThat(receipt.getLogsBloom()).isEqualTo(Bytes.fromHexString(BLOOM));
+    assertThat(receipt.getLogs()).hasSize(1);
+    assertThat(receipt.getLogs().get(0).getAddress()).isEqualTo(Address.fromHexString(RECIPIENT));
+    assertThat(receipt.getLogs().get(0).getTopics()).hasSize(1);
+    assertThat(receipt.getLogs().get(0).getData()).isEqualTo(Bytes.fromHexString("0x01"));
+  }
+
+  @Test
+  public void missingRequiredFieldMustFail() {
+    final String withoutStatus = receipt("0x1", EMPTY_BLOOM, "[]").replace("\"status\"", "\"x\"");
+
+    assertThatThrownBy(() -> decode(withoutStatus))
+        .isInstanceOf(DecodeException.class)
+        .hasMessageContaining("status");
+  }
+
+  @Test
+  public void malformedQuantityMustFail() {
+    final String malformed = receipt("0xno", EMPTY_BLOOM, "[]");
+
+    assertThatThrownBy(() -> decode(malformed))
+        .isInstanceOf(DecodeException.class)
+        .hasMessageContaining("status");
+  }
+
+  @Test
+  public void outOfRangeIndexMustFail() {
+    final String outOfRange =
+        receipt("0x1", EMPTY_BLOOM, "[]")
+            .replace("\"transactionIndex\":\"0x2\"", "\"transactionIndex\":\"0x80000000\"");
+
+    assertThatThrownBy(() -> decode(outOfRange))
+        .isInstanceOf(DecodeException.class)
+        .hasMessageContaining("transactionIndex");
+  }
+
+  private TransactionReceipt decode(final String json) {
+    return Json.decode(Buffer.buffer(json), TransactionReceipt.class);
+  }
+
+  private String receipt(final String status, final String bloom, final String logs) {
+    return "{\"blockHash\":\""
+        + BLOCK_HASH
+        + "\",\"blockNumber\":\"0x1b4\",\"contractAddress\":null,"
+        + "\"cumulativeGasUsed\":\"0xf618\",\"from\":\""
+        + SENDER
+        + "\",\"gasUsed\":\"0x5208\",\"logs\":"
+        + logs
+        + ",\"logsBloom\":\""
+        + bloom
+        + "\",\"status\":\""
+        + status
+        + "\",\"to\":\""
+        + RECIPIENT
+        + "\",\"transactionHash\":\""
+        + TRANSACTION_HASH
+        + "\",\"transactionIndex\":\"0x2\"}";
+  }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.node.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import tech.pegasys.peeps.json.Json;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.DecodeException;
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.eth.Address;
+import org.apache.tuweni.units.ethereum.Gas;
+import org.apache.tuweni.units.ethereum.Wei;
+import org.junit.jupiter.api.Test;
+
+public class TransactionTest {
+
+  private static final String BLOCK_HASH =
+      "0x9b55b3c4d7d0d1a2c8e0b1a2e3f4a5b6c7d8e9f0a1b2c3d4e5f6a7b8c9d0e1f2";
+  private static final String HASH =
+      "0x5d3b8b8f6bb3ee7ec5e4d7c7f1a8a9b6f8a2a0d0d3c0d0e4b2f9a6e9a3b0c1d2";
+  private static final String R =
+      "0x2a1b3c4d5e6f708192a3b4c5d6e7f8091a2b3c4d5e6f708192a3b4c5d6e7f801";
+  private static final String S =
+      "0x1f2e3d4c5b6a79880796a5b4c3d2e1f00f1e2d3c4b5a69788796a5b4c3d2e1f0";
+  private static final String SENDER = "0xfe3b557e8fb62b89f4916b721be55ceb828dbd73";
+  private static final String RECIPIENT = "0x627306090abab3a6e1400e9345bc60c78a8bef57";
+  private static final String MINED = "\"" + BLOCK_HASH + "\"";
+
+  @Test
+  public void minedTransactionMustDecode() {
+    final Transaction transaction = decode(transaction(MINED, "\"0x1b4\"", "\"0x2\"", RECIPIENT));
+
+    assertThat(transaction.getSender()).isEqualTo(Address.fromHexString(SENDER));
+    assertThat(transaction.getBlockHash()).contains(new Hash(BLOCK_HASH));
+    assertThat(transaction.getBlockNumber()).hasValue(436);
+    assertThat(transaction.getGas()).isEqualTo(Gas.valueOf(21000));
+    assertThat(transaction.getGasPrice()).isEqualTo(Wei.valueOf(1000));
+    assertThat(transaction.getHash()).isEqualTo(new Hash(HASH));
+    assertThat(transaction.getInput()).isEqualTo("0x");
+    assertThat(transaction.getNonce()).isEqualTo(7);
+    assertThat(transaction.getValue()).isEqualTo(Wei.valueOf(1_000_000_000_000_000_000L));
+    assertThat(transaction.getV()).isEqualTo(0x1b);
+    assertThat(transaction.getR()).isEqualTo(Bytes.fromHexString(R));
+    assertThat(transaction.getS()).isEqualTo(Bytes.fromHexString(S));
+    assertThat(transaction.getRecipient()).isEqualTo(Address.fromHexString(RECIPIENT));
+    assertThat(transaction.isProcessed()).isTrue();
+  }
+
+  @Test
+  public void pendingTransactionMustDecodeWithoutBlock() {
+    final Transaction transaction = decode(transaction("null", "null", "null", RECIPIENT));
+
+    assertThat(transaction.getBlockHash()).isEmpty();
+    assertThat(transaction.getBlockNumber()).isEmpty();
+    assertThat(transaction.isProcessed()).isFalse();
+    assertThat(transaction.getHash()).isEqualTo(new Hash(HASH));
+  }
+
+  @Test
+  public void contractCreationMustHaveNoRecipient() {
+    final String creation =
+        transaction(MINED, "\"0x1b4\"", "\"0x2\"", RECIPIENT)
+            .replace("\"to\":\"" + RECIPIENT + "\"", "\"to\":null");
+
+    assertThat(decode(creation).getRecipient()).isNull();
+  }
+
+  @Test
+  public void missingRequiredFieldMustFail() {
+    final String withoutNonce =
+        transaction(MINED, "\"0x1b4\"", "\"0x2\"", RECIPIENT).replace("\"nonce\"", "\"x\"");
+
+    assertThatThrownBy(() -> decode(withoutNonce))
+        .isInstanceOf(DecodeException.class)
+        .hasMessageContaining("nonce");
+  }
+
+  @Test
+  public void malformedAddressMustFail() {
+    final String shortRecipient = transaction(MINED, "\"0x1b4\"", "\"0x2\"", "0x6273");
+
+    assertThatThrownBy(() -> decode(shortRecipient))
+        .isInstanceOf(DecodeException.class)
+        .hasMessageContaining("to");
+  }
+
+  private Transaction decode(final String json) {
+    return Json.decode(Buffer.buffer(json), Transaction.class);
+  }
+
+  private String transaction(
+      final String blockHash,
+      final String blockNumber,
+      final String transactionIndex,
+      final String recipient) {
+    return "{\"blockHash\":"
+        + blockHash
+        + ",\"blockNumber\":"
+        + blockNumber
+        + ",\"from\":\""
+        + SENDER
+        + "\",\"gas\":\"0x5208\",\"gasPrice\":\"0x3e8\",\"hash\":\""
+        + HASH
+        + "\",\"input\":\"0x\",\"nonce\":\"0x7\",\"to\":\""
+        + recipient
+        + "\",\"transactionIndex\":"
+        + transactionIndex
+        + ",\"value\":\"0xde0b6b3a7640000\",\"v\":\"0x1b\",\"r\":\""
+        + R
+        + "\",\"s\":\""
+        + S
+        + "\"}";
+  }
+}
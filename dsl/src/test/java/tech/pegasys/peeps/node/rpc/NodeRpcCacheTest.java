@@ -0,0 +1,160 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.node.rpc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import tech.pegasys.peeps.node.model.BlockHeader;
+import tech.pegasys.peeps.node.model.Hash;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+
+public class NodeRpcCacheTest {
+
+  private static final List<Object> KEY = NodeRpcCache.key("eth_getTransactionReceipt", "0x01");
+
+  private final NodeRpcCache cache = new NodeRpcCache();
+  private final AtomicInteger queries = new AtomicInteger();
+
+  @Test
+  public void immutableResultMustBeQueriedOnce() {
+    assertThat(cache.get(KEY, () -> query("mined"), result -> true)).contains("mined");
+    assertThat(cache.get(KEY, () -> query("other"), result -> true)).contains("mined");
+
+    assertThat(queries).hasValue(1);
+    assertThat(cache.stats().hitCount()).isEqualTo(1);
+    assertThat(cache.stats().missCount()).isEqualTo(1);
+  }
+
+  @Test
+  public void mutableOrAbsentResultMustNotBeCached() {
+    cache.get(KEY, Optional::empty, result -> true);
+    cache.get(KEY, () -> query("pending"), result -> false);
+
+    assertThat(cache.get(KEY, () -> query("mined"), result -> true)).contains("mined");
+    assertThat(queries).hasValue(2);
+  }
+
+  @Test
+  public void asyncMissMustCacheForLaterCalls() {
+    assertThat(cache.getAsync(KEY, () -> queryAsync("mined"), result -> true).join())
+        .contains("mined");
+    assertThat(cache.get(KEY, () -> query("other"), result -> true)).contains("mined");
+
+    assertThat(queries).hasValue(1);
+  }
+
+  @Test
+  public void batchedMissMustBeAddedAndCachedOnceExecuted() {
+    final Supplier<Optional<String>> miss =
+        cache.getBatched(KEY, () -> () -> query("mined"), result -> true);
+    assertThat(cache.size()).isZero();
+
+    assertThat(miss.get()).contains("mined");
+    final AtomicInteger added = new AtomicInteger();
+    final Supplier<Optional<String>> hit =
+        cache.getBatched(
+            KEY,
+            () -> {
+              added.incrementAndGet();
+              return () -> query("other");
+            },
+            result -> true);
+
+    assertThat(hit.get()).contains("mined");
+    assertThat(added).hasValue(0);
+    assertThat(queries).hasValue(1);
+  }
+
+  @Test
+  public void headsExtendingTheChainMustKeepResults() {
+    cache.onNewHead(header(1, "0x01", "0x00"));
+    cache.get(KEY, () -> query("mined"), result -> true);
+
+    cache.onNewHead(header(2, "0x02", "0x01"));
+    cache.onNewHead(header(2, "0x02", "0x01"));
+
+    assertThat(cache.size()).isEqualTo(1);
+  }
+
+  @Test
+  public void reorgMustInvalidateResults() {
+    cache.onNewHead(header(2, "0x02", "0x01"));
+    cache.get(KEY, () -> query("mined"), result -> true);
+
+    cache.onNewHead(header(2, "0x0b", "0x01"));
+
+    assertThat(cache.size()).isZero();
+    assertThat(cache.get(KEY, () -> query("remined"), result -> true)).contains("remined");
+  }
+
+  @Test
+  public void resultQueriedAcrossReorgMustNotBeCached() {
+    cache.onNewHead(header(2, "0x02", "0x01"));
+
+    cache.get(
+        KEY,
+        () -> {
+          cache.onNewHead(header(3, "0x03", "0x0b"));
+          return query("abandoned");
+        },
+        result -> true);
+
+    assertThat(cache.size()).isZero();
+  }
+
+  @Test
+  public void invalidationMustForgetTheHead() {
+    cache.onNewHead(header(2, "0x02", "0x01"));
+    cache.invalidateAll();
+    cache.get(KEY, () -> query("mined"), result -> true);
+
+    cache.onNewHead(header(5, "0x05", "0x04"));
+
+    assertThat(cache.size()).isEqualTo(1);
+  }
+
+  @Test
+  public void disabledMustNotCache() {
+    final NodeRpcCache disabled = NodeRpcCache.disabled();
+
+    disabled.get(KEY, () -> query("mined"), result -> true);
+    disabled.get(KEY, () -> query("mined"), result -> true);
+
+    assertThat(queries).hasValue(2);
+  }
+
+  private Optional<String> query(final String result) {
+    queries.incrementAndGet();
+    return Optional.of(result);
+  }
+
+  private CompletableFuture<Optional<String>> queryAsync(final String result) {
+    return CompletableFuture.completedFuture(query(result));
+  }
+
+  private BlockHeader header(final long number, final String hash, final String parentHash) {
+    return new BlockHeader(
+        "0x" + Long.toHexString(number),
+        new Hash(hash),
+        new Hash(parentHash),
+        "0x5f5e1000",
+        "0x1b23ba34ca45bb56aa67bc78be89ac00ca00da00");
+  }
+}
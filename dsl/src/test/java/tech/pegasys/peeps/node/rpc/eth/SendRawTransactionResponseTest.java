@@ -0,0 +1,53 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.node.rpc.eth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import tech.pegasys.peeps.json.Json;
+import tech.pegasys.peeps.node.model.Hash;
+
+import io.vertx.core.buffer.Buffer;
+import org.junit.jupiter.api.Test;
+
+public class SendRawTransactionResponseTest {
+
+  private static final String TRANSACTION_HASH =
+      "0x5d3b8b8f6bb3ee7ec5e4d7c7f1a8a9b6f8a2a0d0d3c0d0e4b2f9a6e9a3b0c1d2";
+
+  @Test
+  public void acceptedTransactionMustDecodeItsHash() {
+    final SendRawTransactionResponse response =
+        decode("{\"jsonrpc\":\"2.0\",\"id\":1,\"result\":\"" + TRANSACTION_HASH + "\"}");
+
+    assertThat(response.getResult()).isEqualTo(new Hash(TRANSACTION_HASH));
+  }
+
+  @Test
+  public void rejectedTransactionMustDecodeAndFailWithTheNodeError() {
+    final SendRawTransactionResponse response =
+        decode(
+            "{\"jsonrpc\":\"2.0\",\"id\":1,\"error\":{\"code\":-32000,"
+                + "\"message\":\"Nonce too low\"}}");
+
+    assertThatThrownBy(response::getResult)
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessageContaining("eth_sendRawTransaction")
+        .hasMessageContaining("Nonce too low");
+  }
+
+  private SendRawTransactionResponse decode(final String json) {
+    return Json.decode(Buffer.buffer(json), SendRawTransactionResponse.class);
+  }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.signer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import tech.pegasys.peeps.node.Account;
+import tech.pegasys.peeps.node.model.Hash;
+import tech.pegasys.peeps.node.rpc.NodeRpcAsyncClient;
+
+import java.math.BigInteger;
+import java.security.SignatureException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+import org.apache.tuweni.units.ethereum.Wei;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.web3j.crypto.SignedRawTransaction;
+import org.web3j.crypto.TransactionDecoder;
+
+@ExtendWith(MockitoExtension.class)
+public class LocalSignerTest {
+
+  private static final long CHAIN_ID = 2018;
+  private static final Hash HASH =
+      new Hash("0x0fd6f6c2d4b9a2e8b06bd88c2dcbc3e54ba0e3a73d2d5b1e5e1f0a2c6b7d8e9f");
+
+  @Mock private NodeRpcAsyncClient node;
+
+  @Test
+  public void transfersMustBeSignedForChainWithConsecutiveNonces() throws SignatureException {
+    when(node.getChainId()).thenReturn(CompletableFuture.completedFuture(CHAIN_ID));
+    when(node.getTransactionCount(Account.ALPHA.address()))
+        .thenReturn(CompletableFuture.completedFuture(5L));
+    when(node.sendRawTransaction(anyString())).thenReturn(CompletableFuture.completedFuture(HASH));
+    final LocalSigner signer = new LocalSigner(Account.ALPHA, Wei.valueOf(1000));
+
+    assertThat(signer.transfer(node, Account.BETA.address(), Wei.valueOf(7)).join())
+        .isEqualTo(HASH);
+    assertThat(signer.transfer(node, Account.BETA.address(), Wei.valueOf(7)).join())
+        .isEqualTo(HASH);
+
+    final ArgumentCaptor<String> raw = ArgumentCaptor.forClass(String.class);
+    verify(node, times(2)).sendRawTransaction(raw.capture());
+    verify(node).getChainId();
+
+    final List<SignedRawTransaction> signed =
+        raw.getAllValues().stream()
+            .map(encoded -> (SignedRawTransaction) TransactionDecoder.decode(encoded))
+            .collect(Collectors.toList());
+    assertThat(signed)
+        .extracting(SignedRawTransaction::getNonce)
+        .containsExactlyInAnyOrder(BigInteger.valueOf(5), BigInteger.valueOf(6));
+
+    for (final SignedRawTransaction transaction : signed) {
+      assertThat(transaction.getChainId()).isEqualTo(CHAIN_ID);
+      assertThat(transaction.getFrom()).isEqualTo(Account.ALPHA.credentials().getAddress());
+      assertThat(transaction.getTo()).isEqualTo(Account.BETA.address().toHexString());
+      assertThat(transaction.getValue()).isEqualTo(BigInteger.valueOf(7));
+      assertThat(transaction.getGasPrice()).isEqualTo(BigInteger.valueOf(1000));
+    }
+  }
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.signer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import tech.pegasys.peeps.node.Account;
+import tech.pegasys.peeps.node.rpc.NodeRpcAsyncClient;
+
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeoutException;
+
+import org.junit.jupiter.api.Test;
+
+public class NonceManagerTest {
+
+  private final NonceManager nonces = new NonceManager(Account.ALPHA.address());
+  private final NodeRpcAsyncClient node = mock(NodeRpcAsyncClient.class);
+  private final NodeRpcAsyncClient otherNode = mock(NodeRpcAsyncClient.class);
+
+  @Test
+  public void reservationsMustFollowPendingCount() {
+    nonces.resync(node, 7);
+
+    assertThat(nonces.reserve()).isEqualTo(7);
+    assertThat(nonces.reserve()).isEqualTo(8);
+    assertThat(nonces.inFlight()).isEqualTo(2);
+
+    nonces.submitted(7, node);
+    nonces.submitted(8, node);
+
+    assertThat(nonces.inFlight()).isZero();
+  }
+
+  @Test
+  public void rejectedNonceMustBeReusedLowestFirst() {
+    nonces.resync(node, 0);
+    final long first = nonces.reserve();
+    final long second = nonces.reserve();
+    nonces.reserve();
+
+    nonces.rejected(second);
+    nonces.rejected(first);
+
+    assertThat(nonces.reserve()).isEqualTo(first);
+    assertThat(nonces.reserve()).isEqualTo(second);
+    assertThat(nonces.reserve()).isEqualTo(3);
+  }
+
+  @Test
+  public void submittedNonceMustNotBeReused() {
+    nonces.resync(node, 0);
+    nonces.submitted(nonces.reserve(), node);
+
+    assertThat(nonces.reserve()).isEqualTo(1);
+  }
+
+  @Test
+  public void rejectedLatestNonceMustBeHandedBack() {
+    nonces.resync(node, 0);
+    nonces.submitted(nonces.reserve(), node);
+    final long second = nonces.reserve();
+    final long third = nonces.reserve();
+
+    nonces.rejected(second);
+    nonces.rejected(third);
+
+    assertThat(nonces.inFlight()).isZero();
+    assertThat(nonces.reserve()).isEqualTo(1);
+    assertThat(nonces.reserve()).isEqualTo(2);
+    assertThat(nonces.reserve()).isEqualTo(3);
+  }
+
+  @Test
+  public void resyncAheadMustSkipToPendingCount() {
+    nonces.resync(node, 0);
+    nonces.rejected(nonces.reserve());
+
+    nonces.resync(node, 10);
+
+    assertThat(nonces.reserve()).isEqualTo(10);
+  }
+
+  @Test
+  public void resyncBehindMustReissueMissingNonce() {
+    nonces.resync(node, 0);
+    for (int i = 0; i < 4; i++) {
+      nonces.submitted(nonces.reserve(), node);
+    }
+
+    nonces.resync(node, 2);
+
+    assertThat(nonces.reserve()).isEqualTo(2);
+    assertThat(nonces.reserve()).isEqualTo(4);
+  }
+
+  @Test
+  public void resyncBehindMustNotReissueNonceSubmittedToAnotherNode() {
+    nonces.resync(node, 0);
+    nonces.submitted(nonces.reserve(), node);
+    nonces.submitted(nonces.reserve(), otherNode);
+
+    nonces.resync(node, 1);
+
+    assertThat(nonces.reserve()).isEqualTo(2);
+  }
+
+  @Test
+  public void resyncBehindMustNotReissueNonceInFlight() {
+    nonces.resync(node, 0);
+    nonces.submitted(nonces.reserve(), node);
+    nonces.reserve();
+
+    nonces.resync(node, 1);
+
+    assertThat(nonces.reserve()).isEqualTo(2);
+  }
+
+  @Test
+  public void nonceTakenMustBeRecognisedInCause() {
+    final Throwable rejection =
+        new CompletionException(new IllegalStateException("{\"message\":\"Nonce too low\"}"));
+
+    assertThat(NonceManager.isNonceTaken(rejection)).isTrue();
+    assertThat(NonceManager.isNonceTaken(new IllegalStateException("Gas price below minimum")))
+        .isFalse();
+  }
+
+  @Test
+  public void timeoutMustBeRecognisedInCause() {
+    final Throwable vertxTimeout =
+        new IllegalStateException(
+            "The timeout period of 5000ms has been exceeded while executing POST /");
+
+    assertThat(NonceManager.isTimeout(new CompletionException(vertxTimeout))).isTrue();
+    assertThat(NonceManager.isTimeout(new CompletionException(new TimeoutException()))).isTrue();
+    assertThat(NonceManager.isTimeout(new IllegalStateException("Connection refused"))).isFalse();
+  }
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+public class AwaitTest {
+
+  @Test
+  public void stalledConditionMustFailWithinTimeout() {
+    final CountDownLatch stalled = new CountDownLatch(1);
+
+    try {
+      assertTimeoutPreemptively(
+          Duration.ofSeconds(5),
+          () ->
+              assertThatThrownBy(() -> Await.await(stalled::await, 1, "Stalled %s", "node"))
+                  .isInstanceOf(AssertionError.class)
+                  .hasMessage("Stalled node"));
+    } finally {
+      stalled.countDown();
+    }
+  }
+
+  @Test
+  public void conditionMustBePolledUntilSatisfied() {
+    final AtomicInteger polls = new AtomicInteger();
+
+    Await.await(() -> assertThat(polls.incrementAndGet()).isEqualTo(3), 5, "Never satisfied");
+
+    assertThat(polls).hasValue(3);
+  }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+public class BackoffPollIntervalTest {
+
+  private static final Duration INITIAL = Duration.ofMillis(50);
+  private static final Duration MAXIMUM = Duration.ofSeconds(1);
+
+  @Test
+  public void withoutJitterMustDoubleEachPoll() {
+    final BackoffPollInterval interval = new BackoffPollInterval(INITIAL, MAXIMUM, () -> 0.5);
+
+    assertThat(interval.next(1, Duration.ZERO)).isEqualTo(Duration.ofMillis(50));
+    assertThat(interval.next(2, Duration.ZERO)).isEqualTo(Duration.ofMillis(100));
+    assertThat(interval.next(3, Duration.ZERO)).isEqualTo(Duration.ofMillis(200));
+    assertThat(interval.next(4, Duration.ZERO)).isEqualTo(Duration.ofMillis(400));
+  }
+
+  @Test
+  public void mustNotExceedMaximum() {
+    final BackoffPollInterval interval = new BackoffPollInterval(INITIAL, MAXIMUM, () -> 0.5);
+
+    assertThat(interval.next(6, Duration.ZERO)).isEqualTo(MAXIMUM);
+    assertThat(interval.next(Integer.MAX_VALUE, Duration.ZERO)).isEqualTo(MAXIMUM);
+  }
+
+  @Test
+  public void jitterMustStayWithinBounds() {
+    final BackoffPollInterval lowest = new BackoffPollInterval(INITIAL, MAXIMUM, () -> 0);
+    final BackoffPollInterval highest = new BackoffPollInterval(INITIAL, MAXIMUM, () -> 1);
+
+    assertThat(lowest.next(2, Duration.ZERO)).isEqualTo(Duration.ofMillis(80));
+    assertThat(highest.next(2, Duration.ZERO)).isEqualTo(Duration.ofMillis(120));
+  }
+
+  @Test
+  public void maximumBelowInitialMustException() {
+    assertThatThrownBy(() -> new BackoffPollInterval(MAXIMUM, INITIAL))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Maximum interval must be at least the initial");
+  }
+}
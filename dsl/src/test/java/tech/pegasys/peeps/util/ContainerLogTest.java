@@ -0,0 +1,72 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.util;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.output.OutputFrame;
+import org.testcontainers.containers.output.OutputFrame.OutputType;
+
+public class ContainerLogTest {
+
+  private final List<String> persisted = new ArrayList<>();
+
+  @Test
+  public void tailMustReturnMostRecentLinesOldestFirst() {
+    final ContainerLog log = new ContainerLog(3, (file, line) -> persisted.add(line));
+
+    log.append("one");
+    log.append("two");
+    log.append("three");
+    log.append("four");
+
+    assertThat(log.tail(2)).containsExactly("three", "four");
+    assertThat(log.tail(10)).containsExactly("two", "three", "four");
+  }
+
+  @Test
+  public void tailOfEmptyLogMustBeEmpty() {
+    final ContainerLog log = new ContainerLog(3, (file, line) -> persisted.add(line));
+
+    assertThat(log.tail(5)).isEmpty();
+  }
+
+  @Test
+  public void framesMustBeSplitIntoNonBlankLines() {
+    final ContainerLog log = new ContainerLog(5, (file, line) -> persisted.add(line));
+
+    log.accept(new OutputFrame(OutputType.STDOUT, "first  \n\nsecond\n".getBytes(UTF_8)));
+    log.accept(OutputFrame.END);
+
+    assertThat(log.tail(5)).containsExactly("first", "second");
+  }
+
+  @Test
+  public void onlyLinesAfterPersistToMustBePersisted() {
+    final ContainerLog log = new ContainerLog(5, (file, line) -> persisted.add(file + ":" + line));
+
+    log.append("before");
+    log.persistTo(Path.of("first.log"));
+    log.append("during");
+    log.persistTo(Path.of("second.log"));
+    log.append("after");
+
+    assertThat(persisted).containsExactly("first.log:during", "second.log:after");
+  }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2026 ConsenSys AG.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package tech.pegasys.peeps.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.github.dockerjava.api.DockerClient;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.testcontainers.containers.GenericContainer;
+
+@ExtendWith(MockitoExtension.class)
+public class DockerPauseTest {
+
+  private static final String CONTAINER_ID = "container";
+
+  @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+  private DockerClient docker;
+
+  @Mock private GenericContainer<?> container;
+
+  @Test
+  public void runningContainerMustBePaused() {
+    running(false);
+
+    DockerPause.pause(docker, container);
+
+    verify(docker).pauseContainerCmd(CONTAINER_ID);
+  }
+
+  @Test
+  public void pausedContainerMustNotBePausedAgain() {
+    running(true);
+
+    final Exception exception =
+        assertThrows(IllegalStateException.class, () -> DockerPause.pause(docker, container));
+
+    assertThat(exception.getMessage()).isEqualTo("Container is already paused");
+    verify(docker, never()).pauseContainerCmd(CONTAINER_ID);
+  }
+
+  @Test
+  public void stoppedContainerMustNotBePausable() {
+    final Exception exception =
+        assertThrows(IllegalStateException.class, () -> DockerPause.pause(docker, container));
+
+    assertThat(exception.getMessage()).isEqualTo("Only a running container can be paused");
+  }
+
+  @Test
+  public void pausedContainerMustBeResumed() {
+    running(true);
+
+    DockerPause.resume(docker, container);
+
+    verify(docker).unpauseContainerCmd(CONTAINER_ID);
+  }
+
+  @Test
+  public void unpausedContainerMustNotBeResumed() {
+    running(false);
+
+    final Exception exception =
+        assertThrows(IllegalStateException.class, () -> DockerPause.resume(docker, container));
+
+    assertThat(exception.getMessage()).isEqualTo("Only a paused container can be resumed");
+    verify(docker, never()).unpauseContainerCmd(CONTAINER_ID);
+  }
+
+  @Test
+  public void stoppedContainerMustNotBePaused() {
+    assertThat(DockerPause.isPaused(docker, container)).isFalse();
+  }
+
+  @Test
+  public void missingContainerMustNotBePaused() {
+    assertThat(DockerPause.isPaused(docker, null)).isFalse();
+  }
+
+  private void running(final boolean paused) {
+    when(container.isRunning()).thenReturn(true);
+    when(container.getContainerId()).thenReturn(CONTAINER_ID);
+    when(docker.inspectContainerCmd(CONTAINER_ID).exec().getState().getPaused())
+        .thenReturn(paused);
+  }
+}
@@ -14,6 +14,8 @@ package tech.pegasys.peeps;
 
 import tech.pegasys.peeps.network.Network;
 import tech.pegasys.peeps.network.NetworkAwait;
+import tech.pegasys.peeps.network.NetworkPool;
+import tech.pegasys.peeps.network.NetworkTopology;
 import tech.pegasys.peeps.network.NetworkVerify;
 import tech.pegasys.peeps.network.subnet.Subnet;
 import tech.pegasys.peeps.node.NodeVerify;
@@ -21,13 +23,17 @@ import tech.pegasys.peeps.node.Web3Provider;
 import tech.pegasys.peeps.signer.SignerConfiguration;
 import tech.pegasys.peeps.signer.rpc.SignerRpcMandatoryResponse;
 import tech.pegasys.peeps.signer.rpc.SignerRpcSenderKnown;
+import tech.pegasys.peeps.util.ContainerLog;
 
+import java.lang.reflect.Method;
 import java.nio.file.Path;
 import java.security.Security;
+import java.util.Optional;
 
 import org.bouncycastle.jce.provider.BouncyCastleProvider;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.TestInfo;
 import org.junit.jupiter.api.io.TempDir;
 
 public abstract class NetworkTest {
@@ -40,15 +46,30 @@ public abstract class NetworkTest {
   @TempDir Path configurationDirectory;
 
   public Network network;
+  private boolean pooled;
   private NetworkAwait await;
   private NetworkVerify verify;
 
   @BeforeEach
-  public void setUpNetwork() {
-    Runtime.getRuntime().addShutdownHook(new Thread(this::tearDownNetwork));
-    network = new Network(configurationDirectory, new Subnet());
-    setUpNetwork(network);
-    network.start();
+  public void setUpNetwork(final TestInfo test) {
+    final Path logDirectory =
+        ContainerLog.directory()
+            .resolve(getClass().getSimpleName())
+            .resolve(test.getTestMethod().map(Method::getName).orElse(test.getDisplayName()));
+
+    final Optional<NetworkTopology> sharedTopology = sharedTopology();
+
+    if (sharedTopology.isPresent()) {
+      network = NetworkPool.shared().acquire(sharedTopology.get(), this::setUpNetwork);
+      pooled = true;
+      network.captureLogs(logDirectory);
+    } else {
+      Runtime.getRuntime().addShutdownHook(new Thread(this::tearDownNetwork));
+      network = new Network(configurationDirectory, new Subnet());
+      network.captureLogs(logDirectory);
+      setUpNetwork(network);
+      network.start();
+    }
 
     await = new NetworkAwait(network);
     verify = new NetworkVerify(network);
@@ -56,13 +77,27 @@ public abstract class NetworkTest {
 
   @AfterEach
   public void tearDownNetwork() {
-    if (network != null) {
+    if (network != null && pooled) {
+      NetworkPool.shared().release(network);
+      network = null;
+    } else if (network != null) {
       network.close();
     }
   }
 
   protected abstract void setUpNetwork(Network network);
 
+  /**
+   * Opt in to sharing a started network with other tests of the same topology, which must describe
+   * the network created by setUpNetwork.
+   *
+   * <p>The members created in setUpNetwork may then belong to a different network instance, so the
+   * test must look them up by identity, i.e. network.node(identity).
+   */
+  protected Optional<NetworkTopology> sharedTopology() {
+    return Optional.empty();
+  }
+
   // TODO not sure about having these here, maybe somewhere else?
   protected NetworkAwait await() {
     return await;
@@ -16,13 +16,18 @@ import tech.pegasys.peeps.FixedSignerConfigs;
 import tech.pegasys.peeps.NetworkTest;
 import tech.pegasys.peeps.network.ConsensusMechanism;
 import tech.pegasys.peeps.network.Network;
+import tech.pegasys.peeps.network.NetworkTopology;
+import tech.pegasys.peeps.network.NetworkTopologyBuilder;
 import tech.pegasys.peeps.node.Account;
 import tech.pegasys.peeps.node.Web3Provider;
+import tech.pegasys.peeps.node.Web3ProviderType;
 import tech.pegasys.peeps.node.model.Hash;
 import tech.pegasys.peeps.node.verification.ValueReceived;
 import tech.pegasys.peeps.node.verification.ValueSent;
 import tech.pegasys.peeps.signer.SignerConfiguration;
 
+import java.util.Optional;
+
 import org.apache.tuweni.crypto.SECP256K1.KeyPair;
 import org.apache.tuweni.eth.Address;
 import org.apache.tuweni.units.ethereum.Wei;
@@ -30,19 +35,30 @@ import org.junit.jupiter.api.Test;
 
 public class CliqueConsensusTest extends NetworkTest {
 
-  private Web3Provider alphaNode;
   private final SignerConfiguration signer = FixedSignerConfigs.ALPHA;
 
   @Override
   protected void setUpNetwork(final Network network) {
-    alphaNode = network.addNode("alpha", KeyPair.random());
+    final Web3Provider alphaNode = network.addNode("alpha", KeyPair.random());
     final Web3Provider besuNode = network.addNode("beta", KeyPair.random());
     network.set(ConsensusMechanism.CLIQUE, besuNode);
     network.addSigner(signer.name(), signer.resources(), besuNode);
   }
 
+  @Override
+  protected Optional<NetworkTopology> sharedTopology() {
+    return Optional.of(
+        new NetworkTopologyBuilder()
+            .withNode("alpha", Web3ProviderType.BESU)
+            .withNode("beta", Web3ProviderType.BESU)
+            .withConsensus(ConsensusMechanism.CLIQUE, "beta")
+            .withSigner(signer.name(), "beta")
+            .build());
+  }
+
   @Test
   public void consensusAfterMiningMustHappen() {
+    final Web3Provider alphaNode = network.node("alpha");
     final Address sender = signer.address();
     final Address receiver = Account.BETA.address();
     final Wei transferAmount = Wei.valueOf(5000L);
@@ -12,16 +12,12 @@
  */
 package tech.pegasys.peeps.consensus.qbft.quorumbesu;
 
-import static java.time.temporal.ChronoUnit.SECONDS;
-import static org.assertj.core.api.Assertions.assertThat;
-
 import tech.pegasys.peeps.NetworkTest;
 import tech.pegasys.peeps.network.ConsensusMechanism;
 import tech.pegasys.peeps.network.Network;
 import tech.pegasys.peeps.node.Web3Provider;
 import tech.pegasys.peeps.node.Web3ProviderType;
 import tech.pegasys.peeps.node.genesis.bft.BftConfig;
-import tech.pegasys.peeps.util.Await;
 
 import java.time.Duration;
 import java.util.List;
@@ -49,32 +45,21 @@ public class QbftRoundChangeTest extends NetworkTest {
   public void roundChangesWhenNodesLessThanQuorum() {
     verify().consensusOnBlockNumberIsAtLeast(1);
 
-    besuNode1.stop();
-    quorumNode1.stop();
+    besuNode1.pause();
+    quorumNode1.pause();
 
     // network should now be stalled and creating round changes
     final List<Web3Provider> runningNodes = List.of(besuNode2, quorumNode2);
     besuNode2.awaitConnectivity(runningNodes);
     quorumNode2.awaitConnectivity(runningNodes);
 
-    runningNodes.forEach(this::verifyChainStalled);
+    final Duration quietPeriod = Duration.ofSeconds(BftConfig.DEFAULT_BLOCK_PERIOD_SECONDS * 2);
+    runningNodes.forEach(node -> verify().chainStalled(node, quietPeriod));
 
-    // network should function and start producing blocks after starting the two stopped nodes
-    final long stalledBlockNumber = quorumNode2.rpc().getBlockNumber();
-    besuNode1.start();
-    quorumNode1.start();
+    // network should function and start producing blocks after resuming the two paused nodes
+    final long stalledBlockNumber = network.chainHeads().blockNumber(quorumNode2);
+    besuNode1.resume();
+    quorumNode1.resume();
     verify().consensusOnBlockNumberIsAtLeast(stalledBlockNumber + 1);
   }
-
-  private void verifyChainStalled(final Web3Provider web3Provider) {
-    Await.await(
-        () -> {
-          final long startBlockNumber = web3Provider.rpc().getBlockNumber();
-          Thread.sleep(Duration.of(BftConfig.DEFAULT_BLOCK_PERIOD_SECONDS * 2, SECONDS).toMillis());
-          final long currentBlockNumber = web3Provider.rpc().getBlockNumber();
-          assertThat(currentBlockNumber).isEqualTo(startBlockNumber);
-        },
-        "Node %s has not stalled",
-        web3Provider.getNodeId());
-  }
 }